@@ -0,0 +1,260 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Minimal benchmark harness in the spirit of JMH: each benchmark is run for a number of warmup iterations followed
+ * by measured iterations; the throughput of the measured iterations is reported. The harness is configured with
+ * system properties:
+ * <ul>
+ * <li><tt>knime.benchmark.warmup</tt> &ndash; number of warmup iterations (default {@value #DEF_WARMUP})</li>
+ * <li><tt>knime.benchmark.iterations</tt> &ndash; number of measured iterations (default
+ * {@value #DEF_ITERATIONS})</li>
+ * <li><tt>knime.benchmark.include</tt> &ndash; regular expression, only benchmarks whose name contains a match are
+ * run (default: all)</li>
+ * </ul>
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+public final class BenchmarkRunner {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(BenchmarkRunner.class);
+
+    /** Default number of warmup iterations. */
+    public static final int DEF_WARMUP = 3;
+
+    /** Default number of measured iterations. */
+    public static final int DEF_ITERATIONS = 5;
+
+    /**
+     * A single benchmark. {@link #setUpTrial()} and {@link #tearDownTrial()} are called once before the first and
+     * after the last iteration, {@link #setUp()} and {@link #tearDown()} before and after each iteration. None of
+     * them is measured.
+     */
+    public interface Benchmark {
+
+        /** @return the name of the benchmark as shown in the report */
+        String getName();
+
+        /**
+         * Prepares the data shared by all iterations.
+         *
+         * @throws Exception if the preparation fails
+         */
+        default void setUpTrial() throws Exception {
+        }
+
+        /**
+         * Cleans up the data shared by all iterations.
+         *
+         * @throws Exception if the clean up fails
+         */
+        default void tearDownTrial() throws Exception {
+        }
+
+        /**
+         * Prepares the next iteration.
+         *
+         * @throws Exception if the preparation fails
+         */
+        default void setUp() throws Exception {
+        }
+
+        /**
+         * Runs one (measured) iteration.
+         *
+         * @return the number of operations performed, e.g. the number of rows written
+         * @throws Exception if the benchmark fails
+         */
+        long run() throws Exception;
+
+        /**
+         * Cleans up after an iteration.
+         *
+         * @throws Exception if the clean up fails
+         */
+        default void tearDown() throws Exception {
+        }
+    }
+
+    /** The result of a benchmark. */
+    public static final class Result {
+
+        private final String m_name;
+
+        private final double m_meanOpsPerSecond;
+
+        private final double m_stdDevOpsPerSecond;
+
+        private Result(final String name, final double[] opsPerSecond) {
+            m_name = name;
+            double sum = 0;
+            for (double d : opsPerSecond) {
+                sum += d;
+            }
+            m_meanOpsPerSecond = sum / opsPerSecond.length;
+            double squares = 0;
+            for (double d : opsPerSecond) {
+                squares += (d - m_meanOpsPerSecond) * (d - m_meanOpsPerSecond);
+            }
+            m_stdDevOpsPerSecond = opsPerSecond.length > 1 ? Math.sqrt(squares / (opsPerSecond.length - 1)) : 0;
+        }
+
+        /** @return the benchmark name */
+        public String getName() {
+            return m_name;
+        }
+
+        /** @return the mean number of operations per second over all measured iterations */
+        public double getMeanOpsPerSecond() {
+            return m_meanOpsPerSecond;
+        }
+
+        /** @return the standard deviation of the operations per second */
+        public double getStdDevOpsPerSecond() {
+            return m_stdDevOpsPerSecond;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public String toString() {
+            return String.format("%-60s %14.1f ops/s %12.1f", m_name, m_meanOpsPerSecond, m_stdDevOpsPerSecond);
+        }
+    }
+
+    private final int m_warmupIterations;
+
+    private final int m_iterations;
+
+    private final Pattern m_include;
+
+    /**
+     * Creates a runner configured by the system properties described in the class comment.
+     */
+    public BenchmarkRunner() {
+        this(Integer.getInteger("knime.benchmark.warmup", DEF_WARMUP),
+            Integer.getInteger("knime.benchmark.iterations", DEF_ITERATIONS),
+            System.getProperty("knime.benchmark.include"));
+    }
+
+    /**
+     * Creates a runner.
+     *
+     * @param warmupIterations the number of warmup iterations, at least 0
+     * @param iterations the number of measured iterations, at least 1
+     * @param include regular expression on the benchmark names, <code>null</code> to run all benchmarks
+     */
+    public BenchmarkRunner(final int warmupIterations, final int iterations, final String include) {
+        if (warmupIterations < 0 || iterations < 1) {
+            throw new IllegalArgumentException(
+                "Invalid iteration counts (warmup: " + warmupIterations + ", measured: " + iterations + ")");
+        }
+        m_warmupIterations = warmupIterations;
+        m_iterations = iterations;
+        m_include = include == null ? null : Pattern.compile(include);
+    }
+
+    /**
+     * Runs all benchmarks that match the include pattern and logs the results.
+     *
+     * @param benchmarks the benchmarks
+     * @return the results in the order of the benchmarks
+     * @throws Exception if any benchmark fails
+     */
+    public List<Result> run(final Collection<? extends Benchmark> benchmarks) throws Exception {
+        List<Result> results = new ArrayList<Result>();
+        for (Benchmark b : benchmarks) {
+            if (m_include != null && !m_include.matcher(b.getName()).find()) {
+                continue;
+            }
+            double[] opsPerSecond = new double[m_iterations];
+            b.setUpTrial();
+            try {
+                for (int i = 0; i < m_warmupIterations; i++) {
+                    runIteration(b);
+                }
+                for (int i = 0; i < m_iterations; i++) {
+                    opsPerSecond[i] = runIteration(b);
+                }
+            } finally {
+                b.tearDownTrial();
+            }
+            Result r = new Result(b.getName(), opsPerSecond);
+            LOGGER.info(r);
+            results.add(r);
+        }
+        StringBuilder report = new StringBuilder(String.format("%-60s %20s %12s%n", "Benchmark", "Score", "Error"));
+        for (Result r : results) {
+            report.append(r).append(String.format("%n"));
+        }
+        LOGGER.info("Benchmark results (" + m_iterations + " iterations, " + m_warmupIterations + " warmup):\n"
+            + report);
+        return Collections.unmodifiableList(results);
+    }
+
+    private static double runIteration(final Benchmark b) throws Exception {
+        System.gc();
+        b.setUp();
+        try {
+            final long start = System.nanoTime();
+            final long ops = b.run();
+            final long nanos = Math.max(1, System.nanoTime() - start);
+            return ops * 1e9 / nanos;
+        } finally {
+            b.tearDown();
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.benchmark;
+
+import java.util.Random;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.xml.XMLCellFactory;
+
+/**
+ * Table layouts used by the benchmarks. Each schema defines the column types and how the cells of a row are
+ * generated; all generators are deterministic for a given seed.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+public enum BenchmarkSchema {
+
+    /** Five numeric columns (int, long and three doubles), 5% missing values. */
+    NARROW_NUMERIC(1, IntCell.TYPE, LongCell.TYPE, DoubleCell.TYPE, DoubleCell.TYPE, DoubleCell.TYPE),
+
+    /** 40 columns cycling through int, double, short string, long and boolean. */
+    WIDE_MIXED(1, repeat(8, IntCell.TYPE, DoubleCell.TYPE, StringCell.TYPE, LongCell.TYPE, BooleanCell.TYPE)),
+
+    /** An int column followed by eight string columns with 10 to 200 characters. */
+    STRING_HEAVY(2, IntCell.TYPE, StringCell.TYPE, StringCell.TYPE, StringCell.TYPE, StringCell.TYPE,
+        StringCell.TYPE, StringCell.TYPE, StringCell.TYPE, StringCell.TYPE),
+
+    /**
+     * An int column and an XML column with blob cells of about 16kB (see {@link XMLCellFactory}), uses 1% of the
+     * configured row count.
+     */
+    BLOB_HEAVY(100, IntCell.TYPE, XMLCellFactory.TYPE);
+
+    private static final String CHARS = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789 _-";
+
+    private final int m_rowDivisor;
+
+    private final DataType[] m_types;
+
+    private BenchmarkSchema(final int rowDivisor, final DataType... types) {
+        m_rowDivisor = rowDivisor;
+        m_types = types;
+    }
+
+    private static DataType[] repeat(final int count, final DataType... types) {
+        DataType[] result = new DataType[count * types.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = types[i % types.length];
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of rows to use for this schema, blob and string heavy tables use fewer rows than requested
+     * so that all schemas write tables of similar size.
+     *
+     * @param configuredRows the configured row count
+     * @return the row count for this schema, at least 1
+     */
+    public int getRowCount(final int configuredRows) {
+        return Math.max(1, configuredRows / m_rowDivisor);
+    }
+
+    /**
+     * Creates the table spec.
+     *
+     * @param columnSuffix suffix appended to all column names, used to create specs that can be joined
+     * @return the spec
+     */
+    public DataTableSpec createSpec(final String columnSuffix) {
+        DataColumnSpec[] colSpecs = new DataColumnSpec[m_types.length];
+        for (int i = 0; i < m_types.length; i++) {
+            colSpecs[i] = new DataColumnSpecCreator("col" + i + columnSuffix, m_types[i]).createSpec();
+        }
+        return new DataTableSpec(colSpecs);
+    }
+
+    /**
+     * Creates rows matching {@link #createSpec(String)}.
+     *
+     * @param rowCount the number of rows
+     * @param keyPrefix the prefix of the row keys, keys are numbered consecutively
+     * @param seed the random seed
+     * @return the rows
+     * @throws Exception if the cells can't be created
+     */
+    public DataRow[] createRows(final int rowCount, final String keyPrefix, final long seed) throws Exception {
+        Random random = new Random(seed);
+        DataRow[] rows = new DataRow[rowCount];
+        for (int r = 0; r < rowCount; r++) {
+            DataCell[] cells = new DataCell[m_types.length];
+            for (int c = 0; c < cells.length; c++) {
+                cells[c] = createCell(m_types[c], r, random);
+            }
+            rows[r] = new DefaultRow(new RowKey(keyPrefix + r), cells);
+        }
+        return rows;
+    }
+
+    private DataCell createCell(final DataType type, final int row, final Random random) throws Exception {
+        if (random.nextInt(20) == 0 && this == NARROW_NUMERIC) {
+            return DataType.getMissingCell();
+        }
+        if (IntCell.TYPE.equals(type)) {
+            return new IntCell(random.nextInt());
+        } else if (LongCell.TYPE.equals(type)) {
+            return new LongCell(random.nextLong());
+        } else if (DoubleCell.TYPE.equals(type)) {
+            return new DoubleCell(random.nextGaussian());
+        } else if (BooleanCell.TYPE.equals(type)) {
+            return BooleanCell.get(random.nextBoolean());
+        } else if (StringCell.TYPE.equals(type)) {
+            return new StringCell(randomString(random, this == STRING_HEAVY ? 10 + random.nextInt(191) : 8));
+        } else if (XMLCellFactory.TYPE.equals(type)) {
+            StringBuilder xml = new StringBuilder("<row id=\"").append(row).append("\">");
+            while (xml.length() < 16 * 1024) {
+                xml.append("<value>").append(randomString(random, 64)).append("</value>");
+            }
+            return XMLCellFactory.create(xml.append("</row>").toString());
+        } else {
+            throw new IllegalStateException("Unsupported type " + type);
+        }
+    }
+
+    private static String randomString(final Random random, final int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = CHARS.charAt(random.nextInt(CHARS.length()));
+        }
+        return new String(chars);
+    }
+}
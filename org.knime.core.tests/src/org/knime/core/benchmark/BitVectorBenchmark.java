@@ -0,0 +1,319 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.benchmark.BenchmarkRunner.Benchmark;
+import org.knime.core.data.vector.bitvector.BitVectorUtil;
+import org.knime.core.data.vector.bitvector.DenseBitVector;
+import org.knime.core.data.vector.bitvector.DenseBitVectorCell;
+import org.knime.core.data.vector.bitvector.DenseBitVectorCellFactory;
+import org.knime.core.data.vector.bitvector.SparseBitVector;
+
+/**
+ * Benchmarks for fingerprint similarity workloads on bit vectors: Tanimoto similarity and cardinality of
+ * intersection computed via allocated intermediate vectors, via the fused methods in {@link DenseBitVector} and
+ * {@link SparseBitVector} and via the batch kernels in {@link BitVectorUtil}, as well as the allocating OR/XOR
+ * operations compared to their in-place counterparts. A random query is compared against
+ * <tt>knime.benchmark.vectors</tt> random vectors (default {@value #DEF_VECTORS}) of length
+ * <tt>knime.benchmark.bits</tt> (default {@value #DEF_BITS}) with a fraction of <tt>knime.benchmark.density</tt>
+ * (default {@value #DEF_DENSITY}) bits set, see {@link BenchmarkRunner} for further options.
+ *
+ * <p>The benchmarks are skipped unless the system property <tt>knime.benchmark</tt> is set to <code>true</code>,
+ * e.g. by adding <tt>-Dknime.benchmark=true -Dknime.benchmark.include=Tanimoto</tt> to the VM arguments of the JUnit
+ * plug-in test launch.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+public class BitVectorBenchmark {
+
+    /** Default number of vectors compared with the query. */
+    public static final int DEF_VECTORS = 100000;
+
+    /** Default length of the vectors. */
+    public static final int DEF_BITS = 1024;
+
+    /** Default fraction of set bits. */
+    public static final double DEF_DENSITY = 0.1;
+
+    private static final long SEED = 47110815L;
+
+    /** Sum of all computed results, prevents the JIT from eliminating the computations. */
+    private static final AtomicLong CHECKSUM = new AtomicLong();
+
+    private DenseBitVector m_query;
+
+    private DenseBitVector[] m_vectors;
+
+    private DenseBitVectorCell m_queryCell;
+
+    private DenseBitVectorCell[] m_cells;
+
+    private SparseBitVector m_sparseQuery;
+
+    private SparseBitVector[] m_sparseVectors;
+
+    /**
+     * Creates the random vectors.
+     */
+    @Before
+    public void setUp() {
+        Assume.assumeTrue("Benchmarks are only run with -Dknime.benchmark=true", Boolean.getBoolean("knime.benchmark"));
+        int count = Integer.getInteger("knime.benchmark.vectors", DEF_VECTORS);
+        int bits = Integer.getInteger("knime.benchmark.bits", DEF_BITS);
+        String densityProperty = System.getProperty("knime.benchmark.density");
+        double density = (densityProperty == null) ? DEF_DENSITY : Double.parseDouble(densityProperty);
+
+        Random rand = new Random(SEED);
+        m_query = createVector(rand, bits, density);
+        m_queryCell = new DenseBitVectorCellFactory(m_query).createDataCell();
+        m_sparseQuery = new SparseBitVector(bits, oneIndices(m_query));
+        m_vectors = new DenseBitVector[count];
+        m_cells = new DenseBitVectorCell[count];
+        m_sparseVectors = new SparseBitVector[count];
+        for (int i = 0; i < count; i++) {
+            m_vectors[i] = createVector(rand, bits, density);
+            m_cells[i] = new DenseBitVectorCellFactory(m_vectors[i]).createDataCell();
+            m_sparseVectors[i] = new SparseBitVector(bits, oneIndices(m_vectors[i]));
+        }
+    }
+
+    /**
+     * Runs all benchmarks.
+     *
+     * @throws Exception if any benchmark fails
+     */
+    @Test
+    public void runBenchmarks() throws Exception {
+        List<Benchmark> benchmarks = new ArrayList<Benchmark>();
+        benchmarks.add(new VectorBenchmark("Tanimoto DenseBitVector and/or", m_vectors.length) {
+            @Override
+            long compute() {
+                double sum = 0;
+                for (DenseBitVector v : m_vectors) {
+                    long union = m_query.or(v).cardinality();
+                    sum += (union == 0) ? 0 : (double)m_query.and(v).cardinality() / union;
+                }
+                return (long)sum;
+            }
+        });
+        benchmarks.add(new VectorBenchmark("Tanimoto DenseBitVector fused", m_vectors.length) {
+            @Override
+            long compute() {
+                double sum = 0;
+                for (DenseBitVector v : m_vectors) {
+                    sum += m_query.tanimotoSimilarity(v);
+                }
+                return (long)sum;
+            }
+        });
+        benchmarks.add(new VectorBenchmark("Tanimoto BitVectorUtil pairwise", m_cells.length) {
+            @Override
+            long compute() {
+                double sum = 0;
+                for (DenseBitVectorCell c : m_cells) {
+                    sum += BitVectorUtil.tanimotoSimilarity(m_queryCell, c);
+                }
+                return (long)sum;
+            }
+        });
+        benchmarks.add(new VectorBenchmark("Tanimoto BitVectorUtil batch", m_cells.length) {
+            private final double[] m_result = new double[m_cells.length];
+
+            @Override
+            long compute() {
+                BitVectorUtil.tanimotoSimilarity(m_queryCell, m_cells, m_result);
+                double sum = 0;
+                for (double d : m_result) {
+                    sum += d;
+                }
+                return (long)sum;
+            }
+        });
+        benchmarks.add(new VectorBenchmark("Tanimoto SparseBitVector and/or", m_sparseVectors.length) {
+            @Override
+            long compute() {
+                double sum = 0;
+                for (SparseBitVector v : m_sparseVectors) {
+                    long union = m_sparseQuery.or(v).cardinality();
+                    sum += (union == 0) ? 0 : (double)m_sparseQuery.and(v).cardinality() / union;
+                }
+                return (long)sum;
+            }
+        });
+        benchmarks.add(new VectorBenchmark("Tanimoto SparseBitVector fused", m_sparseVectors.length) {
+            @Override
+            long compute() {
+                double sum = 0;
+                for (SparseBitVector v : m_sparseVectors) {
+                    sum += m_sparseQuery.tanimotoSimilarity(v);
+                }
+                return (long)sum;
+            }
+        });
+        benchmarks.add(new VectorBenchmark("Intersection cardinality DenseBitVector and", m_vectors.length) {
+            @Override
+            long compute() {
+                long sum = 0;
+                for (DenseBitVector v : m_vectors) {
+                    sum += m_query.and(v).cardinality();
+                }
+                return sum;
+            }
+        });
+        benchmarks.add(new VectorBenchmark("Intersection cardinality BitVectorUtil batch", m_cells.length) {
+            private final long[] m_result = new long[m_cells.length];
+
+            @Override
+            long compute() {
+                BitVectorUtil.cardinalityOfIntersection(m_queryCell, m_cells, m_result);
+                long sum = 0;
+                for (long l : m_result) {
+                    sum += l;
+                }
+                return sum;
+            }
+        });
+        benchmarks.add(new VectorBenchmark("OR fold DenseBitVector allocating", m_vectors.length) {
+            @Override
+            long compute() {
+                DenseBitVector acc = new DenseBitVector(m_query);
+                for (DenseBitVector v : m_vectors) {
+                    acc = acc.or(v);
+                }
+                return acc.cardinality();
+            }
+        });
+        benchmarks.add(new VectorBenchmark("OR fold DenseBitVector in place", m_vectors.length) {
+            @Override
+            long compute() {
+                DenseBitVector acc = new DenseBitVector(m_query);
+                for (DenseBitVector v : m_vectors) {
+                    acc.orInPlace(v);
+                }
+                return acc.cardinality();
+            }
+        });
+        benchmarks.add(new VectorBenchmark("XOR fold DenseBitVector allocating", m_vectors.length) {
+            @Override
+            long compute() {
+                DenseBitVector acc = new DenseBitVector(m_query);
+                for (DenseBitVector v : m_vectors) {
+                    acc = acc.xor(v);
+                }
+                return acc.cardinality();
+            }
+        });
+        benchmarks.add(new VectorBenchmark("XOR fold DenseBitVector in place", m_vectors.length) {
+            @Override
+            long compute() {
+                DenseBitVector acc = new DenseBitVector(m_query);
+                for (DenseBitVector v : m_vectors) {
+                    acc.xorInPlace(v);
+                }
+                return acc.cardinality();
+            }
+        });
+        new BenchmarkRunner().run(benchmarks);
+    }
+
+    private static DenseBitVector createVector(final Random rand, final int bits, final double density) {
+        DenseBitVector bv = new DenseBitVector(bits);
+        for (int i = 0; i < bits; i++) {
+            if (rand.nextDouble() < density) {
+                bv.set(i);
+            }
+        }
+        return bv;
+    }
+
+    private static long[] oneIndices(final DenseBitVector bv) {
+        long[] result = new long[(int)bv.cardinality()];
+        int i = 0;
+        for (long idx = bv.nextSetBit(0); idx >= 0; idx = bv.nextSetBit(idx + 1)) {
+            result[i++] = idx;
+        }
+        return result;
+    }
+
+    /** Processes all vectors once per iteration, adds the result to the {@link BitVectorBenchmark#CHECKSUM}. */
+    private abstract static class VectorBenchmark implements Benchmark {
+
+        private final String m_name;
+
+        private final int m_count;
+
+        VectorBenchmark(final String name, final int count) {
+            m_name = name;
+            m_count = count;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public String getName() {
+            return m_name;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public long run() {
+            CHECKSUM.addAndGet(compute());
+            return m_count;
+        }
+
+        /** @return a value derived from all computed results */
+        abstract long compute();
+    }
+}
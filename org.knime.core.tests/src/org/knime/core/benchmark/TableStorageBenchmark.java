@@ -0,0 +1,479 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.benchmark.BenchmarkRunner.Benchmark;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowIterator;
+import org.knime.core.data.container.BufferSettings;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.container.DataContainer;
+import org.knime.core.data.container.DataContainerSettings;
+import org.knime.core.data.container.DefaultTableStoreFormat;
+import org.knime.core.data.container.DefaultTableStoreFormat.CompressionFormat;
+import org.knime.core.data.container.DefaultTableStoreFormat.DefaultTableStoreSettings;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.sort.BufferedDataTableSorter;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+import org.knime.core.util.DuplicateChecker;
+import org.knime.core.util.DuplicateKeyException;
+import org.knime.core.util.HashDuplicateChecker;
+import org.knime.core.util.IDuplicateChecker;
+
+/**
+ * Benchmarks for the data container and table storage stack: writing rows via {@link DataContainer#addRowToTable}
+ * (synchronously and asynchronously), reading tables back via {@link ContainerTable#iteratorBuilder()} for every
+ * {@link CompressionFormat}, sorting with the {@link BufferedDataTableSorter}, the {@link IDuplicateChecker}
+ * implementations and iterating concatenated and joined tables. All benchmarks are run for the {@link BenchmarkSchema
+ * schemas} given in the system property <tt>knime.benchmark.schemas</tt> (comma separated, default: all) with the
+ * number of rows given in <tt>knime.benchmark.rows</tt> (default {@value #DEF_ROWS}), see {@link BenchmarkRunner}
+ * for further options.
+ *
+ * <p>The benchmarks are skipped unless the system property <tt>knime.benchmark</tt> is set to <code>true</code>,
+ * e.g. by adding <tt>-Dknime.benchmark=true -Dknime.benchmark.include=Sorter</tt> to the VM arguments of the JUnit
+ * plug-in test launch.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+public class TableStorageBenchmark {
+
+    /** Default number of rows. */
+    public static final int DEF_ROWS = 100000;
+
+    private static final long SEED = 47110815L;
+
+    /** Sum of the cell hash codes of all iterated rows, prevents the JIT from eliminating the reads. */
+    private static final AtomicLong CHECKSUM = new AtomicLong();
+
+    private final List<BufferedDataTable> m_tablesToClear = new ArrayList<BufferedDataTable>();
+
+    private ExecutionContext m_exec;
+
+    private int m_rowCount;
+
+    private List<BenchmarkSchema> m_schemas;
+
+    /**
+     * Creates the execution context.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Before
+    public void setUp() {
+        Assume.assumeTrue("Benchmarks are only run with -Dknime.benchmark=true", Boolean.getBoolean("knime.benchmark"));
+        NodeFactory<NodeModel> dummyFactory =
+            (NodeFactory)new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0]);
+        m_exec = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(dummyFactory),
+            SingleNodeContainer.MemoryPolicy.CacheOnDisc, new HashMap<Integer, ContainerTable>());
+        m_rowCount = Integer.getInteger("knime.benchmark.rows", DEF_ROWS);
+        m_schemas = new ArrayList<BenchmarkSchema>();
+        String schemas = System.getProperty("knime.benchmark.schemas");
+        if (schemas == null) {
+            m_schemas.addAll(Arrays.asList(BenchmarkSchema.values()));
+        } else {
+            for (String s : schemas.split(",")) {
+                m_schemas.add(BenchmarkSchema.valueOf(s.trim()));
+            }
+        }
+    }
+
+    /**
+     * Clears all tables created during the benchmarks.
+     */
+    @After
+    public void tearDown() {
+        for (BufferedDataTable t : m_tablesToClear) {
+            m_exec.clearTable(t);
+        }
+        m_tablesToClear.clear();
+    }
+
+    /**
+     * Runs all benchmarks.
+     *
+     * @throws Exception if any benchmark fails
+     */
+    @Test
+    public void runBenchmarks() throws Exception {
+        Map<BenchmarkSchema, DataRow[]> rows = new EnumMap<BenchmarkSchema, DataRow[]>(BenchmarkSchema.class);
+        for (BenchmarkSchema schema : m_schemas) {
+            rows.put(schema, schema.createRows(schema.getRowCount(m_rowCount), "Row", SEED));
+        }
+
+        List<Benchmark> benchmarks = new ArrayList<Benchmark>();
+        for (BenchmarkSchema schema : m_schemas) {
+            DataTableSpec spec = schema.createSpec("");
+            DataRow[] schemaRows = rows.get(schema);
+            DataContainerSettings settings = DataContainerSettings.getDefault().withMaxCellsInMemory(0)
+                .withBufferSettings(BufferSettings.getDefault().withLRU(false));
+            benchmarks.add(new WriteBenchmark("DataContainer.addRow sync " + schema, spec, schemaRows,
+                settings.withSyncIO(true)));
+            benchmarks.add(new WriteBenchmark("DataContainer.addRow async " + schema, spec, schemaRows,
+                settings.withSyncIO(false)));
+            for (CompressionFormat format : CompressionFormat.values()) {
+                DataContainerSettings formatSettings = settings.withBufferSettings(BufferSettings.getDefault()
+                    .withLRU(false).withOutputFormat(new DefaultTableStoreFormat(
+                        DefaultTableStoreSettings.getDefault().withCompression(format))));
+                benchmarks.add(new WriteBenchmark("Buffer write " + format + " " + schema, spec, schemaRows,
+                    formatSettings.withSyncIO(true)));
+                benchmarks.add(new ReadBenchmark("Buffer read " + format + " " + schema, spec, schemaRows,
+                    formatSettings, false));
+                benchmarks.add(new ReadBenchmark("Buffer read first column " + format + " " + schema, spec,
+                    schemaRows, formatSettings, true));
+            }
+            benchmarks.add(new SortBenchmark("BufferedDataTableSorter " + schema, spec, schemaRows));
+            benchmarks.add(new IterateBenchmark("ConcatenateTable iteration " + schema, () -> {
+                BufferedDataTable first = createTable(spec, schemaRows);
+                BufferedDataTable second = createTable(spec, rowsWithPrefix(schemaRows, "Other"));
+                return m_exec.createConcatenateTable(m_exec, first, second);
+            }));
+            benchmarks.add(new IterateBenchmark("JoinedTable iteration " + schema, () -> {
+                BufferedDataTable left = createTable(spec, schemaRows);
+                BufferedDataTable right = createTable(schema.createSpec("_right"), schemaRows);
+                return m_exec.createJoinedTable(left, right, m_exec);
+            }));
+        }
+        for (boolean monotone : new boolean[]{true, false}) {
+            String[] keys = createKeys(m_rowCount, monotone);
+            String suffix = monotone ? " monotone keys" : " shuffled keys";
+            benchmarks.add(new DuplicateCheckerBenchmark("DuplicateChecker" + suffix, keys,
+                () -> new DuplicateChecker()));
+            benchmarks.add(new DuplicateCheckerBenchmark("HashDuplicateChecker" + suffix, keys,
+                () -> new HashDuplicateChecker()));
+        }
+        new BenchmarkRunner().run(benchmarks);
+    }
+
+    private BufferedDataTable createTable(final DataTableSpec spec, final DataRow[] rows) {
+        BufferedDataContainer cont = m_exec.createDataContainer(spec);
+        for (DataRow r : rows) {
+            cont.addRowToTable(r);
+        }
+        cont.close();
+        BufferedDataTable table = cont.getTable();
+        m_tablesToClear.add(table);
+        return table;
+    }
+
+    private static DataRow[] rowsWithPrefix(final DataRow[] rows, final String prefix) {
+        DataRow[] result = new DataRow[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            DataCell[] cells = new DataCell[rows[i].getNumCells()];
+            for (int c = 0; c < cells.length; c++) {
+                cells[c] = rows[i].getCell(c);
+            }
+            result[i] = new DefaultRow(prefix + i, cells);
+        }
+        return result;
+    }
+
+    private static String[] createKeys(final int count, final boolean monotone) {
+        List<String> keys = new ArrayList<String>(count);
+        for (int i = 0; i < count; i++) {
+            keys.add("Row" + i);
+        }
+        if (!monotone) {
+            Collections.shuffle(keys, new Random(SEED));
+        }
+        return keys.toArray(new String[count]);
+    }
+
+    /** Consumes all cells of the rows returned by the iterator, returns the number of rows. */
+    private static long consume(final RowIterator it) {
+        long count = 0;
+        int hash = 0;
+        while (it.hasNext()) {
+            DataRow r = it.next();
+            for (int i = 0; i < r.getNumCells(); i++) {
+                hash += r.getCell(i).hashCode();
+            }
+            count++;
+        }
+        CHECKSUM.addAndGet(hash);
+        return count;
+    }
+
+    private abstract static class AbstractBenchmark implements Benchmark {
+
+        private final String m_name;
+
+        AbstractBenchmark(final String name) {
+            m_name = name;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public String getName() {
+            return m_name;
+        }
+    }
+
+    /** Writes all rows into a new container. */
+    private static final class WriteBenchmark extends AbstractBenchmark {
+
+        private final DataTableSpec m_spec;
+
+        private final DataRow[] m_rows;
+
+        private final DataContainerSettings m_settings;
+
+        private DataContainer m_container;
+
+        WriteBenchmark(final String name, final DataTableSpec spec, final DataRow[] rows,
+            final DataContainerSettings settings) {
+            super(name);
+            m_spec = spec;
+            m_rows = rows;
+            m_settings = settings;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public long run() {
+            m_container = new DataContainer(m_spec, m_settings);
+            for (DataRow r : m_rows) {
+                m_container.addRowToTable(r);
+            }
+            m_container.close();
+            return m_rows.length;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void tearDown() {
+            if (m_container != null) {
+                m_container.dispose();
+                m_container = null;
+            }
+        }
+    }
+
+    /** Reads back a table written once per trial. */
+    private static final class ReadBenchmark extends AbstractBenchmark {
+
+        private final WriteBenchmark m_writer;
+
+        private final boolean m_isFirstColumnOnly;
+
+        private ContainerTable m_table;
+
+        ReadBenchmark(final String name, final DataTableSpec spec, final DataRow[] rows,
+            final DataContainerSettings settings, final boolean isFirstColumnOnly) {
+            super(name);
+            m_writer = new WriteBenchmark(name, spec, rows, settings);
+            m_isFirstColumnOnly = isFirstColumnOnly;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void setUpTrial() {
+            m_writer.run();
+            m_table = (ContainerTable)m_writer.m_container.getTable();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void tearDownTrial() {
+            m_writer.tearDown();
+            m_table = null;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public long run() {
+            try (CloseableRowIterator it = m_isFirstColumnOnly
+                ? m_table.iteratorBuilder().filterColumns(0).build() : m_table.iteratorBuilder().build()) {
+                return consume(it);
+            }
+        }
+    }
+
+    /** Sorts a table by its first two columns. */
+    private final class SortBenchmark extends AbstractBenchmark {
+
+        private final DataTableSpec m_spec;
+
+        private final DataRow[] m_rows;
+
+        private BufferedDataTable m_table;
+
+        private BufferedDataTable m_sorted;
+
+        SortBenchmark(final String name, final DataTableSpec spec, final DataRow[] rows) {
+            super(name);
+            m_spec = spec;
+            m_rows = rows;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void setUpTrial() {
+            m_table = createTable(m_spec, m_rows);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public long run() throws Exception {
+            String[] columns = m_spec.getNumColumns() > 1
+                ? new String[]{m_spec.getColumnNames()[1], m_spec.getColumnNames()[0]} : m_spec.getColumnNames();
+            BufferedDataTableSorter sorter =
+                new BufferedDataTableSorter(m_table, Arrays.asList(columns), new boolean[]{true, false});
+            m_sorted = sorter.sort(m_exec);
+            return m_rows.length;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void tearDown() {
+            if (m_sorted != null) {
+                m_exec.clearTable(m_sorted);
+                m_sorted = null;
+            }
+        }
+    }
+
+    /** Iterates a table created once per trial. */
+    private static final class IterateBenchmark extends AbstractBenchmark {
+
+        private final TableCreator m_tableCreator;
+
+        private BufferedDataTable m_table;
+
+        IterateBenchmark(final String name, final TableCreator tableCreator) {
+            super(name);
+            m_tableCreator = tableCreator;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void setUpTrial() throws Exception {
+            m_table = m_tableCreator.create();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public long run() {
+            try (CloseableRowIterator it = m_table.iterator()) {
+                return consume(it);
+            }
+        }
+    }
+
+    /** Creates the table iterated by an {@link IterateBenchmark}. */
+    @FunctionalInterface
+    private interface TableCreator {
+        BufferedDataTable create() throws Exception;
+    }
+
+    /** Adds all keys to a new duplicate checker. */
+    private static final class DuplicateCheckerBenchmark extends AbstractBenchmark {
+
+        private final String[] m_keys;
+
+        private final Supplier<IDuplicateChecker> m_checkerCreator;
+
+        private IDuplicateChecker m_checker;
+
+        DuplicateCheckerBenchmark(final String name, final String[] keys,
+            final Supplier<IDuplicateChecker> checkerCreator) {
+            super(name);
+            m_keys = keys;
+            m_checkerCreator = checkerCreator;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public long run() throws Exception {
+            m_checker = m_checkerCreator.get();
+            try {
+                for (String key : m_keys) {
+                    m_checker.addKey(key);
+                }
+                m_checker.checkForDuplicates();
+            } catch (DuplicateKeyException e) {
+                throw new IllegalStateException("Unexpected duplicate: " + e.getKey(), e);
+            }
+            return m_keys.length;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void tearDown() {
+            if (m_checker != null) {
+                m_checker.clear();
+                m_checker = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+import org.knime.core.data.RowIteratorBuilder.DefaultRowIteratorBuilder;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.def.DefaultTable;
+
+/**
+ * Tests the row range filters of the builders returned by {@link DataTable#iteratorBuilder()},
+ * {@link DefaultRowIteratorBuilder#forCloseableRowIterators(java.util.function.Supplier, DataTableSpec)} and the
+ * default implementation in {@link RowIteratorBuilder}.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+public final class RowIteratorBuilderTest {
+
+    private static final int ROW_COUNT = 10;
+
+    private static DataTable createTable() {
+        final int[][] data = new int[ROW_COUNT][];
+        for (int i = 0; i < ROW_COUNT; i++) {
+            data[i] = new int[]{i};
+        }
+        return new DefaultTable(data);
+    }
+
+    private static List<Integer> values(final RowIterator iterator) {
+        final List<Integer> values = new ArrayList<>();
+        while (iterator.hasNext()) {
+            values.add(((IntValue)iterator.next().getCell(0)).getIntValue());
+        }
+        return values;
+    }
+
+    private static List<Integer> range(final int from, final int to) {
+        final List<Integer> values = new ArrayList<>();
+        for (int i = from; i <= to; i++) {
+            values.add(i);
+        }
+        return values;
+    }
+
+    /** Tests the start index on a table that is not backed by a buffer. */
+    @Test
+    public void testFromIndex() {
+        final DataTable table = createTable();
+        assertThat("Rows from index 3", values(table.iteratorBuilder().filterRowsFromIndex(3).build()),
+            is(range(3, ROW_COUNT - 1)));
+        assertThat("Rows from index beyond end", values(table.iteratorBuilder().filterRowsFromIndex(20).build()),
+            is(range(0, -1)));
+    }
+
+    /** Tests the end index on a table that is not backed by a buffer. */
+    @Test
+    public void testToIndex() {
+        final DataTable table = createTable();
+        assertThat("Rows to index 4", values(table.iteratorBuilder().filterRowsToIndex(4).build()),
+            is(range(0, 4)));
+        assertThat("Rows to index 0", values(table.iteratorBuilder().filterRowsToIndex(0).build()),
+            is(range(0, 0)));
+        assertThat("Rows to index beyond end", values(table.iteratorBuilder().filterRowsToIndex(20).build()),
+            is(range(0, ROW_COUNT - 1)));
+    }
+
+    /** Tests both indices on a table that is not backed by a buffer. */
+    @Test
+    public void testFromAndToIndex() {
+        final DataTable table = createTable();
+        assertThat("Rows 2 to 6",
+            values(table.iteratorBuilder().filterRowsFromIndex(2).filterRowsToIndex(6).build()), is(range(2, 6)));
+        assertThat("Single row", values(table.iteratorBuilder().filterRowsToIndex(5).filterRowsFromIndex(5).build()),
+            is(range(5, 5)));
+        assertThat("Empty range",
+            values(table.iteratorBuilder().filterRowsFromIndex(6).filterRowsToIndex(2).build()), is(range(0, -1)));
+    }
+
+    /** Tests that the iterator ends at the end index rather than returning further rows. */
+    @Test(expected = NoSuchElementException.class)
+    public void testNextBeyondToIndex() {
+        final RowIterator iterator = createTable().iteratorBuilder().filterRowsToIndex(0).build();
+        iterator.next();
+        iterator.next();
+    }
+
+    /** Tests that closeable iterators are closed once the last row of the range was returned. */
+    @Test
+    public void testCloseableIteratorClosedAtToIndex() {
+        final DataTable table = createTable();
+        final AtomicBoolean isClosed = new AtomicBoolean();
+        final CloseableRowIterator iterator = DefaultRowIteratorBuilder.forCloseableRowIterators(() -> {
+            final RowIterator delegate = table.iterator();
+            return new CloseableRowIterator() {
+                @Override
+                public boolean hasNext() {
+                    return !isClosed.get() && delegate.hasNext();
+                }
+
+                @Override
+                public DataRow next() {
+                    return delegate.next();
+                }
+
+                @Override
+                public void close() {
+                    isClosed.set(true);
+                }
+            };
+        }, table.getDataTableSpec()).filterRowsFromIndex(1).filterRowsToIndex(3).build();
+        assertThat("Rows 1 to 3", values(iterator), is(range(1, 3)));
+        assertThat("Underlying iterator closed", isClosed.get(), is(true));
+    }
+
+    /** Tests the default implementation of {@link RowIteratorBuilder#filterRowsFromIndex(long)}. */
+    @Test
+    public void testDefaultFromIndex() {
+        final DataTable table = createTable();
+        final RowIteratorBuilder<RowIterator> builder = new RowIteratorBuilder<RowIterator>() {
+            @Override
+            public RowIteratorBuilder<RowIterator> filterColumns(final int... indices) {
+                return this;
+            }
+
+            @Override
+            public RowIteratorBuilder<RowIterator> filterColumns(final String... columns) {
+                return this;
+            }
+
+            @Override
+            public RowIterator build() {
+                return table.iterator();
+            }
+        };
+        assertThat("Rows from index 0", values(builder.filterRowsFromIndex(0).build()), is(range(0, ROW_COUNT - 1)));
+        assertThat("Rows from index 7", values(builder.filterRowsFromIndex(7).filterColumns(0).build()),
+            is(range(7, ROW_COUNT - 1)));
+        assertThat("Rows from index beyond end", values(builder.filterRowsFromIndex(ROW_COUNT).build()),
+            is(range(0, -1)));
+    }
+
+}
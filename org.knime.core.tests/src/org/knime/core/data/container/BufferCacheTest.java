@@ -53,6 +53,10 @@
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -173,6 +177,138 @@ public void testSoftRefCache() throws InterruptedException {
         }
     }
 
+    /**
+     * Tests that a cache with a memory budget keeps frequently used tables hard referenced (even when garbage
+     * collection is invoked) while infrequently used tables don't get admitted once the budget is exhausted.
+     */
+    @Test
+    public void testMemoryBudgetCache() {
+        final int k = 10;
+        List<Pair<Buffer, List<BlobSupportDataRow>>> hotTables = generateKTables(k / 2, true);
+        List<Pair<Buffer, List<BlobSupportDataRow>>> coldTables = generateKTables(4 * k, true);
+        final long tableSize = BufferCache.estimateHeapSize(hotTables.get(0).getSecond());
+        final BufferCache cache = new BufferCache(k * tableSize);
+
+        addTablesToCache(hotTables, cache, true);
+        for (Pair<Buffer, List<BlobSupportDataRow>> coldTable : coldTables) {
+            final Buffer buffer = coldTable.getFirst();
+            cache.put(buffer, coldTable.getSecond());
+            cache.clearForGarbageCollection(buffer);
+            getTablesFromCache(hotTables, cache);
+        }
+
+        final List<Pair<WeakReference<Buffer>, WeakReference<List<BlobSupportDataRow>>>> weakenedHotTables =
+            weaken(hotTables);
+        final List<Pair<WeakReference<Buffer>, WeakReference<List<BlobSupportDataRow>>>> weakenedColdTables =
+            weaken(coldTables);
+        hotTables = null;
+        coldTables = null;
+
+        MemoryAlertSystemTest.forceGC();
+
+        for (Pair<WeakReference<Buffer>, WeakReference<List<BlobSupportDataRow>>> weakenedHotTable : weakenedHotTables) {
+            final Buffer buffer = weakenedHotTable.getFirst().get();
+            Assert.assertNotNull("Reference to buffer has been dropped unexpectedly.", buffer);
+            Assert.assertTrue("List could not be retrieved from cache.", cache.get(buffer).isPresent());
+        }
+
+        final long keptColdTables =
+            weakenedColdTables.stream().filter(p -> p.getSecond().get() != null).count();
+        Assert.assertTrue("More cold tables kept than fit into the budget: " + keptColdTables,
+            keptColdTables <= k - weakenedHotTables.size());
+    }
+
+    /**
+     * Tests that tables of a cache with a memory budget that are invalidated while other threads access them are not
+     * re-admitted to the cache.
+     *
+     * @throws Exception if an accessing thread fails
+     */
+    @Test
+    public void testConcurrentInvalidation() throws Exception {
+        final int nThreads = 4;
+        final ExecutorService executor = Executors.newFixedThreadPool(nThreads);
+        try {
+            for (int round = 0; round < 10; round++) {
+                final List<Pair<Buffer, List<BlobSupportDataRow>>> tables = generateKTables(20, true);
+                final long tableSize = BufferCache.estimateHeapSize(tables.get(0).getSecond());
+                final BufferCache cache = new BufferCache(2 * tables.size() * tableSize);
+                addTablesToCache(tables, cache, true);
+
+                final AtomicBoolean invalidated = new AtomicBoolean();
+                final List<Future<?>> readers = new ArrayList<>();
+                for (int i = 0; i < nThreads; i++) {
+                    readers.add(executor.submit(() -> {
+                        while (!invalidated.get()) {
+                            getTablesFromCache(tables, cache);
+                        }
+                    }));
+                }
+                for (Pair<Buffer, List<BlobSupportDataRow>> table : tables) {
+                    cache.invalidate(table.getFirst());
+                }
+                invalidated.set(true);
+                for (Future<?> reader : readers) {
+                    reader.get();
+                }
+
+                Assert.assertEquals("Invalidated tables still kept by cache.", 0,
+                    cache.getStatistics().getEstimatedMemoryUsage());
+                for (Pair<Buffer, List<BlobSupportDataRow>> table : tables) {
+                    Assert.assertFalse("Invalidated table still in cache.", cache.get(table.getFirst()).isPresent());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Tests that tables concurrently put into and retrieved from a cache with a memory budget are evicted such that the
+     * budget is respected and that all tables can be invalidated afterwards.
+     *
+     * @throws Exception if an accessing thread fails
+     */
+    @Test
+    public void testConcurrentEviction() throws Exception {
+        final int nThreads = 4;
+        final List<Pair<Buffer, List<BlobSupportDataRow>>> tables = generateKTables(40, true);
+        final long tableSize = BufferCache.estimateHeapSize(tables.get(0).getSecond());
+        final long budget = 5 * tableSize;
+        final BufferCache cache = new BufferCache(budget);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(nThreads);
+        try {
+            final List<Future<?>> writers = new ArrayList<>();
+            for (int i = 0; i < nThreads; i++) {
+                final int offset = i;
+                writers.add(executor.submit(() -> {
+                    for (int j = offset; j < tables.size(); j += nThreads) {
+                        final Buffer buffer = tables.get(j).getFirst();
+                        cache.put(buffer, tables.get(j).getSecond());
+                        cache.clearForGarbageCollection(buffer);
+                        getTablesFromCache(tables, cache);
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        final BufferCacheMXBean statistics = cache.getStatistics();
+        Assert.assertTrue("Tables kept by cache exceed budget.", statistics.getEstimatedMemoryUsage() <= budget);
+        Assert.assertTrue("No tables evicted.", statistics.getEvictions() > 0);
+        Assert.assertEquals("Tables put into cache.", tables.size(), statistics.getTables());
+
+        for (Pair<Buffer, List<BlobSupportDataRow>> table : tables) {
+            cache.invalidate(table.getFirst());
+        }
+        Assert.assertEquals("Invalidated tables still kept by cache.", 0, statistics.getEstimatedMemoryUsage());
+    }
+
     private static List<Pair<Buffer, List<BlobSupportDataRow>>> generateKTables(final int k,
         final boolean flushToDisk) {
 
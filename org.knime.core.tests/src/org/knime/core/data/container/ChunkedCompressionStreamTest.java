@@ -0,0 +1,150 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests {@link ChunkedCompressionOutputStream} and {@link ChunkedCompressionInputStream}.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+public final class ChunkedCompressionStreamTest extends TestCase {
+
+    /** Data spanning many chunks, half of it compressible (repeating) and half random. */
+    private static byte[] createData() {
+        final byte[] data = new byte[10 * ChunkedCompressionOutputStream.CHUNK_SIZE + 123];
+        final Random random = new Random(42);
+        for (int i = 0; i < data.length; i++) {
+            final boolean isCompressible = (i / ChunkedCompressionOutputStream.CHUNK_SIZE) % 2 == 0;
+            data[i] = isCompressible ? (byte)(i % 7) : (byte)random.nextInt();
+        }
+        return data;
+    }
+
+    /** Writes the data with odd write sizes and flushes in between, which must not affect the data. */
+    private static byte[] compress(final byte[] data, final int level, final ByteArrayOutputStream expected)
+        throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ChunkedCompressionOutputStream out = new ChunkedCompressionOutputStream(bytes, level)) {
+            int pos = 0;
+            while (pos < data.length) {
+                final int length = Math.min(data.length - pos, 7919);
+                out.write(data, pos, length);
+                out.write(data[pos]);
+                expected.write(data, pos, length);
+                expected.write(data[pos]);
+                pos += length;
+                out.flush();
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    /** Write and read data with the fast and the high compression compressor. */
+    @Test
+    public void testRoundTrip() throws IOException {
+        final byte[] data = createData();
+        for (int level : new int[]{0, 9}) {
+            final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+            final byte[] compressed = compress(data, level, expected);
+            Assert.assertThat("Compressed size smaller", compressed.length < expected.size(), is(true));
+            final ByteArrayOutputStream read = new ByteArrayOutputStream();
+            try (ChunkedCompressionInputStream in =
+                new ChunkedCompressionInputStream(new ByteArrayInputStream(compressed))) {
+                final byte[] buffer = new byte[4096];
+                int count;
+                while ((count = in.read(buffer)) >= 0) {
+                    read.write(buffer, 0, count);
+                }
+            }
+            Assert.assertThat("Data read (level " + level + ")", read.toByteArray(), equalTo(expected.toByteArray()));
+        }
+    }
+
+    /** Skipping (entire chunks and within chunks) positions the stream at the right offset. */
+    @Test
+    public void testSkip() throws IOException {
+        final byte[] data = createData();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ChunkedCompressionOutputStream out = new ChunkedCompressionOutputStream(bytes)) {
+            out.write(data);
+        }
+        final byte[] compressed = bytes.toByteArray();
+        for (int offset : new int[]{0, 17, ChunkedCompressionOutputStream.CHUNK_SIZE,
+            3 * ChunkedCompressionOutputStream.CHUNK_SIZE + 5, data.length - 10}) {
+            try (ChunkedCompressionInputStream in =
+                new ChunkedCompressionInputStream(new ByteArrayInputStream(compressed))) {
+                Assert.assertThat("Skipped bytes", in.skip(offset), is((long)offset));
+                final byte[] read = new byte[10];
+                new DataInputStream(in).readFully(read);
+                Assert.assertThat("Data at offset " + offset, read,
+                    equalTo(Arrays.copyOfRange(data, offset, offset + 10)));
+            }
+        }
+        try (ChunkedCompressionInputStream in =
+            new ChunkedCompressionInputStream(new ByteArrayInputStream(compressed))) {
+            Assert.assertThat("Skip beyond end", in.skip(data.length + 100L), is((long)data.length));
+            Assert.assertThat("End of stream", in.read(), is(-1));
+        }
+    }
+
+}
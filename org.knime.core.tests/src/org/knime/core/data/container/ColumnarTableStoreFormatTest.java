@@ -0,0 +1,150 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+
+import java.util.stream.IntStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.MissingCell;
+import org.knime.core.data.MissingValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.DefaultTableStoreFormat.CompressionFormat;
+import org.knime.core.data.container.DefaultTableStoreFormat.DefaultTableStoreSettings;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.ComplexNumberCell;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests writing and reading tables using the {@link ColumnarTableStoreFormat}.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+public final class ColumnarTableStoreFormatTest extends TestCase {
+
+    /** Number of generated rows, spanning multiple (and one partial) chunks. */
+    private static final int ROW_COUNT = 2 * ColumnarTableStoreFormat.DEFAULT_CHUNK_SIZE + 17;
+
+    /**
+     * Writes a table containing natively supported columns, missing values, missing values with error message and
+     * a column that requires serialization; reads it back with all compression formats.
+     */
+    @SuppressWarnings("static-method")
+    @Test
+    public void testWriteRead() {
+        final DataTableSpec spec = new DataTableSpec(new DataColumnSpecCreator("int", IntCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("string", StringCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("long", LongCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("double", DoubleCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("boolean", BooleanCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("complex", ComplexNumberCell.TYPE).createSpec());
+        final DataRow[] rows = IntStream.range(0, ROW_COUNT).mapToObj(i -> new DefaultRow(
+            RowKey.createRowKey((long)i),
+            i % 7 == 0 ? DataType.getMissingCell() : new IntCell(i),
+            // error-carrying missing cells force the serialization fallback for the first chunk only
+            i == 5 ? new MissingCell("some error") : new StringCell("String " + i),
+            new LongCell(Long.MAX_VALUE - i),
+            i % 13 == 0 ? DataType.getMissingCell() : new DoubleCell(i + .5),
+            i % 11 == 0 ? DataType.getMissingCell() : BooleanCell.get(i % 2 == 1),
+            new ComplexNumberCell(i, -i))).toArray(DataRow[]::new);
+
+        for (final CompressionFormat cFormat : CompressionFormat.values()) {
+            final DataContainerSettings settings = DataContainerSettings.getDefault().withMaxCellsInMemory(0)
+                .withInitializedDomain(false).withBufferSettings(BufferSettings.getDefault().withOutputFormat(
+                    new ColumnarTableStoreFormat(DefaultTableStoreSettings.getDefault().withCompression(cFormat))));
+            final DataContainer cont = new DataContainer(spec, settings);
+            for (final DataRow r : rows) {
+                cont.addRowToTable(r);
+            }
+            final Buffer b = cont.getBuffer();
+            cont.close();
+            Assert.assertThat("Unexpected output format", b.getOutputFormat().getClass(),
+                equalTo(ColumnarTableStoreFormat.class));
+            read(b, rows);
+        }
+    }
+
+    private static void read(final Buffer b, final DataRow[] rows) {
+        try (final CloseableRowIterator rowIt = b.iteratorBuilder().build()) {
+            for (int i = 0; i < rows.length; i++) {
+                Assert.assertThat("Iterator has rows", rowIt.hasNext(), is(true));
+                final DataRow refRow = rows[i];
+                final DataRow dataRow = rowIt.next();
+                Assert.assertThat("Row key in row " + i, dataRow.getKey(), equalTo(refRow.getKey()));
+                for (int j = 0; j < refRow.getNumCells(); j++) {
+                    final DataCell refCell = refRow.getCell(j);
+                    final DataCell dataCell = dataRow.getCell(j);
+                    if (refCell.isMissing()) {
+                        Assert.assertThat("Cell " + j + " in Row " + i + " is missing", dataCell.isMissing(),
+                            is(true));
+                        Assert.assertThat("Error message of missing cell " + j + " in Row " + i,
+                            ((MissingValue)dataCell).getError(), equalTo(((MissingValue)refCell).getError()));
+                    } else {
+                        Assert.assertThat("Cell " + j + " in Row " + i, dataCell, equalTo(refCell));
+                    }
+                }
+            }
+            Assert.assertThat("Iterator with more than " + rows.length + " rows", rowIt.hasNext(), is(false));
+        }
+    }
+
+}
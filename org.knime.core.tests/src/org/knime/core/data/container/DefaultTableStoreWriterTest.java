@@ -0,0 +1,233 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowIterator;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.collection.CollectionCellFactory;
+import org.knime.core.data.container.DefaultTableStoreFormat.CompressionFormat;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+
+/**
+ * Tests {@link DefaultTableStoreWriter}, in particular the (parallel) encoding of batches of rows.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+public class DefaultTableStoreWriterTest {
+
+    private static final DataTableSpec SPEC = new DataTableSpec(
+        new DataColumnSpecCreator("int", IntCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("any", DataType.getType(DataCell.class)).createSpec());
+
+    private static final int BATCH = DefaultTableStoreWriter.ENCODE_BATCH_SIZE;
+
+    /** Clears the threads recorded by previous tests. */
+    @Before
+    public void setUp() {
+        RecordingCell.THREADS.clear();
+    }
+
+    /** Only rows consisting of plain primitive, string and missing cells may be encoded concurrently. */
+    @Test
+    public void testRequiresSerialEncoding() {
+        assertThat("Plain row", DefaultTableStoreWriter.requiresSerialEncoding(
+            row(0, new DoubleCell(1.0))), is(false));
+        assertThat("Missing cell", DefaultTableStoreWriter.requiresSerialEncoding(
+            row(0, DataType.getMissingCell())), is(false));
+        assertThat("Collection cell", DefaultTableStoreWriter.requiresSerialEncoding(
+            row(0, CollectionCellFactory.createListCell(Arrays.asList(new IntCell(1), new IntCell(2))))), is(true));
+        assertThat("Other cell", DefaultTableStoreWriter.requiresSerialEncoding(
+            row(0, new RecordingCell("foo", false))), is(true));
+    }
+
+    /**
+     * Writes batches of plain rows (encoded in parallel) interleaved with batches that need to be encoded by the
+     * writing thread and checks that the table reads back in order.
+     */
+    @Test
+    public void testMixedBatches() {
+        final List<DataRow> expected = new ArrayList<>();
+        for (int i = 0; i < 6 * BATCH + 17; i++) {
+            final DataCell cell;
+            if (i / BATCH == 1 && i % 50 == 0) {
+                cell = new RecordingCell("Row " + i, false);
+            } else if (i / BATCH == 3 && i % 70 == 0) {
+                cell = CollectionCellFactory.createListCell(Arrays.asList(new IntCell(i), new StringCell("Row " + i)));
+            } else if (i % 3 == 0) {
+                cell = DataType.getMissingCell();
+            } else {
+                cell = new StringCell("Row " + i);
+            }
+            expected.add(row(i, cell));
+        }
+        final DataContainer cont = new DataContainer(SPEC, DataContainerSettings.getDefault().withMaxCellsInMemory(0)
+            .withInitializedDomain(false).withBufferSettings(
+                BufferSettings.getDefault().withOutputFormat(new DefaultTableStoreFormat())));
+        expected.forEach(cont::addRowToTable);
+        cont.close();
+        int i = 0;
+        for (RowIterator it = cont.getTable().iterator(); it.hasNext(); i++) {
+            final DataRow row = it.next();
+            final DataRow exp = expected.get(i);
+            assertThat("Row key " + i, row.getKey(), is(exp.getKey()));
+            assertThat("Cell 0 in row " + i, row.getCell(0), is(exp.getCell(0)));
+            assertThat("Cell 1 in row " + i, row.getCell(1), is(exp.getCell(1)));
+        }
+        assertThat("Row count", i, is(expected.size()));
+        assertThat("Recording cells written", RecordingCell.THREADS.isEmpty(), is(false));
+        for (Thread t : RecordingCell.THREADS) {
+            assertThat("Cell encoded by codec thread " + t.getName(),
+                t.getName().startsWith("KNIME-TableChunkCodec"), is(false));
+        }
+    }
+
+    /** Cells other than plain cells are written by the thread adding the rows. */
+    @Test
+    public void testSerialCellsWrittenByCallingThread() throws IOException {
+        try (DefaultTableStoreWriter writer =
+            new DefaultTableStoreWriter(SPEC, new ByteArrayOutputStream(), true, CompressionFormat.NONE)) {
+            for (int i = 0; i < 3 * BATCH; i++) {
+                writer.writeRow(row(i, i % 100 == 0 ? new RecordingCell("Row " + i, false) : new StringCell("x")));
+            }
+        }
+        assertThat("Encoding threads", RecordingCell.THREADS, is(setOf(Thread.currentThread())));
+    }
+
+    /** A cell failing to serialize fails the write of its batch, not only a later batch or the close. */
+    @Test
+    public void testErrorPropagation() {
+        final int failingRow = BATCH + 10;
+        int i = 0;
+        try (DefaultTableStoreWriter writer =
+            new DefaultTableStoreWriter(SPEC, new ByteArrayOutputStream(), true, CompressionFormat.NONE)) {
+            for (; i < 4 * BATCH; i++) {
+                writer.writeRow(row(i, i == failingRow ? new RecordingCell("Row " + i, true) : new StringCell("x")));
+            }
+            fail("Writing a failing cell expected to fail");
+        } catch (IOException e) {
+            assertThat("Batch failing", i / BATCH, is(failingRow / BATCH));
+        }
+    }
+
+    private static DataRow row(final int index, final DataCell cell) {
+        return new DefaultRow(RowKey.createRowKey((long)index), new IntCell(index), cell);
+    }
+
+    private static Set<Thread> setOf(final Thread t) {
+        final Set<Thread> result = ConcurrentHashMap.newKeySet();
+        result.add(t);
+        return result;
+    }
+
+    /** Java serialized cell recording the threads serializing it, optionally failing. */
+    public static final class RecordingCell extends DataCell {
+
+        private static final long serialVersionUID = 1L;
+
+        static final Set<Thread> THREADS = ConcurrentHashMap.newKeySet();
+
+        private final String m_value;
+
+        private final boolean m_fail;
+
+        RecordingCell(final String value, final boolean fail) {
+            m_value = value;
+            m_fail = fail;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public String toString() {
+            return m_value;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected boolean equalsDataCell(final DataCell dc) {
+            return m_value.equals(((RecordingCell)dc).m_value);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int hashCode() {
+            return m_value.hashCode();
+        }
+
+        private void writeObject(final ObjectOutputStream out) throws IOException {
+            THREADS.add(Thread.currentThread());
+            if (m_fail) {
+                throw new IOException("Failing on purpose");
+            }
+            out.defaultWriteObject();
+        }
+    }
+
+}
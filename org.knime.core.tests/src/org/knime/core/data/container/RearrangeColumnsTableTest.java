@@ -0,0 +1,176 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.HashMap;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+
+/**
+ * Tests the parallel (block-wise) processing of cell factories in {@link RearrangeColumnsTable}.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+public class RearrangeColumnsTableTest {
+
+    private static final int ROW_COUNT = 20000;
+
+    private ExecutionContext m_exec;
+
+    /**
+     * Creates the execution context.
+     */
+    @Before
+    public void setUp() {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        NodeFactory<NodeModel> dummyFactory =
+            (NodeFactory)new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0]);
+        m_exec = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(dummyFactory),
+            SingleNodeContainer.MemoryPolicy.CacheSmallInMemory, new HashMap<Integer, ContainerTable>());
+    }
+
+    /**
+     * The rows computed in parallel are appended in the order of the input.
+     *
+     * @throws Exception if that fails
+     */
+    @Test
+    public void testParallelProcessingKeepsOrder() throws Exception {
+        final BufferedDataTable table = createTable();
+        final ColumnRearranger rearranger = new ColumnRearranger(table.getDataTableSpec());
+        rearranger.append(new SingleCellFactory(true, new DataColumnSpecCreator("square", IntCell.TYPE).createSpec()) {
+            @Override
+            public DataCell getCell(final DataRow row) {
+                final int value = ((IntValue)row.getCell(0)).getIntValue();
+                return new IntCell(value * value);
+            }
+        });
+        final BufferedDataTable result = m_exec.createColumnRearrangeTable(table, rearranger, m_exec);
+        assertThat("Wrong row count", result.size(), is((long)ROW_COUNT));
+        int i = 0;
+        for (DataRow row : result) {
+            assertThat("Wrong row key", row.getKey().getString(), is("Row" + i));
+            assertThat("Wrong value in row " + i, ((IntValue)row.getCell(1)).getIntValue(), is(i * i));
+            i++;
+        }
+    }
+
+    /**
+     * An exception in a cell factory is thrown in the caller thread.
+     *
+     * @throws Exception if that fails
+     */
+    @Test
+    public void testParallelProcessingPropagatesFailure() throws Exception {
+        final BufferedDataTable table = createTable();
+        final ColumnRearranger rearranger = new ColumnRearranger(table.getDataTableSpec());
+        rearranger.append(new SingleCellFactory(true, new DataColumnSpecCreator("fail", IntCell.TYPE).createSpec()) {
+            @Override
+            public DataCell getCell(final DataRow row) {
+                if (((IntValue)row.getCell(0)).getIntValue() == ROW_COUNT / 2) {
+                    throw new IllegalStateException("Expected failure");
+                }
+                return row.getCell(0);
+            }
+        });
+        try {
+            m_exec.createColumnRearrangeTable(table, rearranger, m_exec);
+            fail("Exception expected");
+        } catch (IllegalStateException e) {
+            assertThat("Wrong exception", e.getMessage(), containsString("Expected failure"));
+        }
+    }
+
+    /**
+     * Cheap rows get large blocks, expensive rows get blocks of a single row.
+     */
+    @Test
+    public void testAdaptiveBlockSize() {
+        assertThat("Cheap rows must use the maximum block size",
+            RearrangeColumnsTable.ChunkedNewColCalculator.computeBlockSize(10),
+            is(RearrangeColumnsTable.ChunkedNewColCalculator.MAX_BLOCK_SIZE));
+        assertThat("Expensive rows must be processed one by one",
+            RearrangeColumnsTable.ChunkedNewColCalculator.computeBlockSize(1e9), is(1));
+        assertThat("Wrong block size", RearrangeColumnsTable.ChunkedNewColCalculator.computeBlockSize(
+            RearrangeColumnsTable.ChunkedNewColCalculator.TARGET_BLOCK_NANOS / 100.0), is(100));
+    }
+
+    private BufferedDataTable createTable() {
+        final DataTableSpec spec = new DataTableSpec(new DataColumnSpecCreator("int", IntCell.TYPE).createSpec());
+        final BufferedDataContainer container = m_exec.createDataContainer(spec);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), new IntCell(i)));
+        }
+        container.close();
+        return container.getTable();
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.UnmaterializedCell;
+import org.knime.core.data.container.DefaultTableStoreFormat.CompressionFormat;
+import org.knime.core.data.container.DefaultTableStoreFormat.DefaultTableStoreSettings;
+import org.knime.core.data.container.storage.TableStoreFormat;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests that column and row range filters set on the {@link org.knime.core.data.RowIteratorBuilder} of a
+ * {@link Buffer} are applied by the table store readers.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+public final class TableStoreReaderFilterTest extends TestCase {
+
+    private static final int ROW_COUNT = 3000;
+
+    private static final DataTableSpec SPEC = new DataTableSpec(
+        new DataColumnSpecCreator("int", IntCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("string", StringCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("double", DoubleCell.TYPE).createSpec());
+
+    /** Default format, data written to disc. */
+    @Test
+    public void testDefaultFormat() {
+        testFilters(createBuffer(new DefaultTableStoreFormat()));
+    }
+
+    /** Default format without compression, rows are skipped via the row offset index. */
+    @Test
+    public void testDefaultFormatUncompressed() {
+        testFilters(createBuffer(new DefaultTableStoreFormat(
+            DefaultTableStoreSettings.getDefault().withCompression(CompressionFormat.NONE))));
+    }
+
+    /** Default format with chunked compression, rows are skipped via the row offset index. */
+    @Test
+    public void testDefaultFormatChunkedCompression() {
+        testFilters(createBuffer(new DefaultTableStoreFormat(
+            DefaultTableStoreSettings.getDefault().withCompression(CompressionFormat.CHUNKED_LZ4))));
+    }
+
+    /** Disjoint row ranges of an uncompressed table read concurrently. */
+    @Test
+    public void testConcurrentRangesUncompressed() throws Exception {
+        final Buffer b = createBuffer(new DefaultTableStoreFormat(
+            DefaultTableStoreSettings.getDefault().withCompression(CompressionFormat.NONE)));
+        final int rangeSize = 700;
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int start = 0; start < ROW_COUNT; start += rangeSize) {
+                final int from = start;
+                final int to = Math.min(start + rangeSize, ROW_COUNT) - 1;
+                futures.add(executor.submit(() -> {
+                    try (CloseableRowIterator it =
+                        b.iteratorBuilder().filterRowsFromIndex(from).filterRowsToIndex(to).build()) {
+                        for (int i = from; i <= to; i++) {
+                            final DataRow row = it.next();
+                            Assert.assertThat("Row key", row.getKey(), equalTo(RowKey.createRowKey((long)i)));
+                            Assert.assertThat("Cell", row.getCell(1), equalTo(new StringCell("Row " + i)));
+                        }
+                        Assert.assertThat("Iterator ends after row " + to, it.hasNext(), is(false));
+                    }
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /** Columnar format, data written to disc. */
+    @Test
+    public void testColumnarFormat() {
+        testFilters(createBuffer(new ColumnarTableStoreFormat()));
+    }
+
+    private static Buffer createBuffer(final TableStoreFormat format) {
+        final DataContainerSettings settings = DataContainerSettings.getDefault().withMaxCellsInMemory(0)
+            .withInitializedDomain(false)
+            .withBufferSettings(BufferSettings.getDefault().withOutputFormat(format));
+        final DataContainer cont = new DataContainer(SPEC, settings);
+        IntStream.range(0, ROW_COUNT).forEach(i -> cont.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i),
+            new IntCell(i), new StringCell("Row " + i), new DoubleCell(i / 2.0))));
+        final Buffer b = cont.getBuffer();
+        cont.close();
+        return b;
+    }
+
+    private static void testFilters(final Buffer b) {
+        final int from = 1500;
+        final int to = 2100;
+        try (CloseableRowIterator it =
+            b.iteratorBuilder().filterColumns(2).filterRowsFromIndex(from).filterRowsToIndex(to).build()) {
+            for (int i = from; i <= to; i++) {
+                Assert.assertThat("Iterator has row " + i, it.hasNext(), is(true));
+                final DataRow row = it.next();
+                Assert.assertThat("Row key", row.getKey(), equalTo(RowKey.createRowKey((long)i)));
+                Assert.assertThat("Unmaterialized cell", row.getCell(0), instanceOf(UnmaterializedCell.class));
+                Assert.assertThat("Unmaterialized cell", row.getCell(1), instanceOf(UnmaterializedCell.class));
+                Assert.assertThat("Materialized cell", row.getCell(2), equalTo(new DoubleCell(i / 2.0)));
+            }
+            Assert.assertThat("Iterator ends after row " + to, it.hasNext(), is(false));
+        }
+        // skipping beyond the end of the table
+        try (CloseableRowIterator it = b.iteratorBuilder().filterRowsFromIndex(ROW_COUNT + 10).build()) {
+            Assert.assertThat("Iterator is empty", it.hasNext(), is(false));
+        }
+    }
+
+}
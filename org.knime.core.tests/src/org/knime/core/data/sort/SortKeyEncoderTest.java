@@ -0,0 +1,190 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.sort;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DataValueComparator;
+import org.knime.core.data.def.ComplexNumberCell;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+
+/**
+ * Tests {@link SortKeyEncoder}, i.e. that comparing the normalized keys yields the same order as comparing the rows.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+public class SortKeyEncoderTest {
+
+    private static final String CHARS = "\u0000\u0001a\u00ff\u0100\uffff\ud800b";
+
+    private static final double[] DOUBLES = {0.0, -0.0, 1.0, -1.0, Double.NaN, Double.POSITIVE_INFINITY,
+        Double.NEGATIVE_INFINITY, Double.MIN_VALUE, -Double.MAX_VALUE, 3.5};
+
+    private static final DataValueComparator[] COMPARATORS = {StringCell.TYPE.getComparator(),
+        DoubleCell.TYPE.getComparator(), IntCell.TYPE.getComparator(), LongCell.TYPE.getComparator()};
+
+    /** Compares random rows (strings, doubles, ints, longs, row keys, missing values) in all sort orders. */
+    @Test
+    public void testOrderConsistentWithComparators() {
+        final Random rand = new Random(42);
+        final int[] indices = {-1, 0, 1, 2, 3};
+        final DataValueComparator[] comparators = new DataValueComparator[indices.length];
+        System.arraycopy(COMPARATORS, 0, comparators, 1, COMPARATORS.length);
+        for (int trial = 0; trial < 100000; trial++) {
+            final boolean[] ascending = new boolean[indices.length];
+            for (int i = 0; i < ascending.length; i++) {
+                ascending[i] = rand.nextBoolean();
+            }
+            final boolean sortMissingsToEnd = rand.nextBoolean();
+            // row key not first, otherwise all other columns are irrelevant
+            final int[] order = {1, 2, 0, 3, 4};
+            final int[] sortIndices = new int[indices.length];
+            final DataValueComparator[] sortComparators = new DataValueComparator[indices.length];
+            for (int i = 0; i < order.length; i++) {
+                sortIndices[i] = indices[order[i]];
+                sortComparators[i] = comparators[order[i]];
+            }
+            final SortKeyEncoder encoder =
+                SortKeyEncoder.create(sortIndices, ascending, sortMissingsToEnd, sortComparators);
+            assertTrue(encoder.isComplete());
+            final DataRow r1 = createRow(rand);
+            final DataRow r2 = createRow(rand);
+            final int expected = Integer.signum(
+                compare(r1, r2, sortIndices, ascending, sortMissingsToEnd, sortComparators));
+            final int actual = Integer.signum(SortKeyEncoder.compare(encoder.encode(r1), encoder.encode(r2)));
+            assertEquals(r1 + " vs. " + r2, expected, actual);
+        }
+    }
+
+    /** Tests that unsupported comparators limit the key to the preceding columns. */
+    @Test
+    public void testUnsupportedComparator() {
+        final DataValueComparator complexComparator = ComplexNumberCell.TYPE.getComparator();
+        assertNull(SortKeyEncoder.create(new int[]{0}, new boolean[]{true}, false,
+            new DataValueComparator[]{complexComparator}));
+        final SortKeyEncoder encoder = SortKeyEncoder.create(new int[]{0, 1}, new boolean[]{true, true}, false,
+            new DataValueComparator[]{COMPARATORS[0], complexComparator});
+        assertNotNull(encoder);
+        assertFalse(encoder.isComplete());
+    }
+
+    private static DataRow createRow(final Random rand) {
+        final DataCell[] cells = new DataCell[4];
+        for (int c = 0; c < cells.length; c++) {
+            if (rand.nextInt(6) == 0) {
+                cells[c] = DataType.getMissingCell();
+                continue;
+            }
+            switch (c) {
+                case 0:
+                    cells[c] = new StringCell(randomString(rand));
+                    break;
+                case 1:
+                    cells[c] = new DoubleCell(DOUBLES[rand.nextInt(DOUBLES.length)]);
+                    break;
+                case 2:
+                    cells[c] = new IntCell(rand.nextInt(5) - 2 + (rand.nextBoolean() ? 0 : Integer.MIN_VALUE));
+                    break;
+                default:
+                    cells[c] = new LongCell(rand.nextInt(5) - 2 + (rand.nextBoolean() ? 0 : Long.MAX_VALUE));
+            }
+        }
+        return new DefaultRow(randomString(rand), cells);
+    }
+
+    private static String randomString(final Random rand) {
+        final StringBuilder b = new StringBuilder();
+        for (int i = rand.nextInt(4); i > 0; i--) {
+            b.append(CHARS.charAt(rand.nextInt(CHARS.length())));
+        }
+        return b.toString();
+    }
+
+    /** Same as the row comparator of the table sorter. */
+    private static int compare(final DataRow r1, final DataRow r2, final int[] indices, final boolean[] ascending,
+        final boolean sortMissingsToEnd, final DataValueComparator[] comparators) {
+        for (int i = 0; i < indices.length; i++) {
+            int c;
+            if (indices[i] == -1) {
+                c = r1.getKey().getString().compareTo(r2.getKey().getString());
+            } else {
+                final DataCell c1 = r1.getCell(indices[i]);
+                final DataCell c2 = r2.getCell(indices[i]);
+                if (sortMissingsToEnd && (c1.isMissing() || c2.isMissing())) {
+                    if (c1.isMissing() && c2.isMissing()) {
+                        c = 0;
+                    } else if (c1.isMissing()) {
+                        c = ascending[i] ? 1 : -1;
+                    } else {
+                        c = ascending[i] ? -1 : 1;
+                    }
+                } else {
+                    c = comparators[i].compare(c1, c2);
+                }
+            }
+            if (c != 0) {
+                return ascending[i] ? c : -c;
+            }
+        }
+        return 0;
+    }
+}
@@ -67,9 +67,11 @@
 import org.knime.core.data.RowIterator;
 import org.knime.core.data.container.ContainerTable;
 import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
 import org.knime.core.data.def.IntCell;
 import org.knime.core.data.def.StringCell;
 import org.knime.core.data.util.memory.MemoryAlertSystem;
+import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.DefaultNodeProgressMonitor;
@@ -140,6 +142,66 @@ public final void testMultiStageMerge() throws CanceledExecutionException {
         runMemoryTest(100, 5, 8);
     }
 
+    /**
+     * Tests the parallel sort (runs sorted and written concurrently, parallel intermediate merge passes, primitive keys
+     * for the double column including missing values) against the sequential sort.
+     * @throws CanceledExecutionException
+     */
+    @Test
+    public final void testParallelSort() throws CanceledExecutionException {
+        DataTableSpec spec = new DataTableSpec(new String[]{"Value", "Index"},
+            new DataType[]{DoubleCell.TYPE, IntCell.TYPE});
+        BufferedDataContainer container = m_exec.createDataContainer(spec);
+        Random rand = new Random(42);
+        for (int i = 0; i < 10000; i++) {
+            DataCell value = rand.nextInt(20) == 0 ? DataType.getMissingCell() : new DoubleCell(rand.nextInt(50) - 25);
+            container.addRowToTable(new DefaultRow(Integer.toString(i), value, new IntCell(rand.nextInt())));
+        }
+        container.close();
+        BufferedDataTable table = container.getTable();
+
+        for (boolean sortMissingsToEnd : new boolean[]{false, true}) {
+            for (boolean ascending : new boolean[]{false, true}) {
+                BufferedDataTableSorter sequentialSorter = new BufferedDataTableSorter(table,
+                    Arrays.asList("Value", "Index"), new boolean[]{ascending, true}, sortMissingsToEnd);
+                sequentialSorter.setParallelism(1);
+                BufferedDataTable expected = sequentialSorter.sort(m_exec);
+
+                BufferedDataTableSorter parallelSorter = new BufferedDataTableSorter(table,
+                    Arrays.asList("Value", "Index"), new boolean[]{ascending, true}, sortMissingsToEnd);
+                parallelSorter.setParallelism(4);
+                parallelSorter.setMaxRows(3000);
+                parallelSorter.setMaxOpenContainers(3);
+                BufferedDataTable result = parallelSorter.sort(m_exec);
+
+                Assert.assertEquals(expected.size(), result.size());
+                RowIterator expectedIter = expected.iterator();
+                RowIterator iter = result.iterator();
+                while (expectedIter.hasNext()) {
+                    Assert.assertEquals(expectedIter.next().getKey(), iter.next().getKey());
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests that runs are only sorted in parallel by default if the rows are compared by the sort columns, comparators
+     * passed by the caller are not necessarily thread-safe.
+     */
+    @Test
+    public final void testDefaultParallelism() {
+        BufferedDataTable bdt = m_exec.createBufferedDataTable(new TestData(10, 1), m_exec);
+        BufferedDataTableSorter columnSorter =
+            new BufferedDataTableSorter(bdt, Arrays.asList("Index"), new boolean[]{true});
+        Assert.assertEquals(AbstractTableSorter.DEF_PARALLELISM, columnSorter.getParallelism());
+
+        BufferedDataTableSorter comparatorSorter =
+            new BufferedDataTableSorter(bdt, (r1, r2) -> r1.getKey().getString().compareTo(r2.getKey().getString()));
+        Assert.assertEquals(1, comparatorSorter.getParallelism());
+        comparatorSorter.setParallelism(3);
+        Assert.assertEquals(3, comparatorSorter.getParallelism());
+    }
+
     private void runMemoryTest(final int numRows,
             final int maxNumRowsPerContainer,
             final int maxOpenContainers) throws CanceledExecutionException {
@@ -142,6 +142,52 @@ public void testCardinalityOfRelativeComplementMixed() {
         assertCardinalityOfRelativeComplement(MIXED_VECTOR_FACTORY);
     }
 
+    @Test(expected = NullPointerException.class)
+    public void testTanimotoSimilarityThrowsNullpointer() {
+        BitVectorUtil.tanimotoSimilarity(EMPTY_VECTOR, null);
+    }
+
+    @Test
+    public void testTanimotoSimilarity() {
+        Assert.assertEquals(0.0, BitVectorUtil.tanimotoSimilarity(EMPTY_VECTOR, EMPTY_VECTOR), 0.0);
+
+        assertTanimotoSimilarity(DENSE_VECTOR_FACTORY);
+        assertTanimotoSimilarity(SPARSE_VECTOR_FACTORY);
+        assertTanimotoSimilarity(MIXED_VECTOR_FACTORY);
+    }
+
+    @Test
+    public void testBatchSimilarity() {
+        DenseBitVectorCell query =
+            new DenseBitVectorCellFactory(new BigInteger(800, RANDOM).toString(16)).createDataCell();
+        DenseBitVectorCell[] cells = new DenseBitVectorCell[100];
+        for (int i = 0; i < cells.length; i++) {
+            if (i % 10 != 3) {
+                cells[i] = new DenseBitVectorCellFactory(new BigInteger(RANDOM.nextInt(1000), RANDOM).toString(16))
+                    .createDataCell();
+            }
+        }
+        double[] similarities = new double[cells.length];
+        long[] intersections = new long[cells.length];
+        BitVectorUtil.tanimotoSimilarity(query, cells, similarities);
+        BitVectorUtil.cardinalityOfIntersection(query, cells, intersections);
+        for (int i = 0; i < cells.length; i++) {
+            if (cells[i] == null) {
+                Assert.assertTrue(Double.isNaN(similarities[i]));
+                Assert.assertEquals(-1, intersections[i]);
+            } else {
+                Assert.assertEquals(BitVectorUtil.tanimotoSimilarity(query, cells[i]), similarities[i], 1e-12);
+                Assert.assertEquals(BitVectorUtil.and(query, cells[i]).cardinality(), intersections[i]);
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBatchSimilarityResultTooShort() {
+        DenseBitVectorCell query = new DenseBitVectorCellFactory("F0").createDataCell();
+        BitVectorUtil.tanimotoSimilarity(query, new DenseBitVectorCell[]{query, query}, new double[1]);
+    }
+
     // Tests for bug http://bimbug.inf.uni-konstanz.de/show_bug.cgi?id=5077
     @Test
     public void testBitVectorUtilXor() {
@@ -291,6 +337,25 @@ private static void assertCardinalityOfIntersection(final TestVectorFactory vect
         }
     }
 
+    private static void assertTanimotoSimilarity(final TestVectorFactory vectorFactory) {
+        for (int i = 1; i < 1000; i++) {
+            String first = new BigInteger(RANDOM.nextInt(800), RANDOM).toString(16);
+            String second = new BigInteger(RANDOM.nextInt(i % 5 == 0 ? i * 5 : 150), RANDOM).toString(16);
+            Pair<BitVectorValue, BitVectorValue> createVectorPair = vectorFactory.createVectorPair(first, second);
+
+            BitVectorValue a = createVectorPair.getFirst();
+            BitVectorValue b = createVectorPair.getSecond();
+
+            long intersection = BitVectorUtil.and(a, b).cardinality();
+            long union = BitVectorUtil.or(a, b).cardinality();
+            double expected = (union == 0) ? 0 : (double)intersection / union;
+            Assert.assertEquals("Broken tanimoto: " + a.toHexString() + "|" + b.toHexString(), expected,
+                BitVectorUtil.tanimotoSimilarity(a, b), 1e-12);
+            Assert.assertEquals("Broken tanimoto: " + a.toHexString() + "|" + b.toHexString(), expected,
+                BitVectorUtil.tanimotoSimilarity(b, a), 1e-12);
+        }
+    }
+
     private static void assertCardinalityOfRelativeComplement(final TestVectorFactory vectorFactory) {
         Assert.assertEquals(0, BitVectorUtil.cardinalityOfRelativeComplement(EMPTY_VECTOR, EMPTY_VECTOR));
 
@@ -46,6 +46,8 @@
 
 import static org.junit.Assert.assertThat;
 
+import java.util.Random;
+
 import org.hamcrest.core.Is;
 
 import junit.framework.TestCase;
@@ -1076,6 +1078,83 @@ public void testToHexString() {
         assertEquals(hex, bv.toHexString());
     }
 
+    /**
+     * Tests the in-place operations against their allocating counterparts.
+     */
+    public void testInPlaceOperations() {
+        Random rand = new Random(47110815L);
+        for (int i = 0; i < 500; i++) {
+            int length = rand.nextInt(300);
+            DenseBitVector bv1 = createRandomVector(rand, length);
+            DenseBitVector bv2 = createRandomVector(rand, length);
+
+            DenseBitVector result = new DenseBitVector(bv1);
+            result.andInPlace(bv2);
+            assertThat("Wrong AND result", result, Is.is(bv1.and(bv2)));
+            assertThat("Wrong cardinality after AND", result.cardinality(), Is.is(bv1.and(bv2).cardinality()));
+
+            result = new DenseBitVector(bv1);
+            result.orInPlace(bv2);
+            assertThat("Wrong OR result", result, Is.is(bv1.or(bv2)));
+
+            result = new DenseBitVector(bv1);
+            result.xorInPlace(bv2);
+            assertThat("Wrong XOR result", result, Is.is(bv1.xor(bv2)));
+            assertThat("Wrong emptiness after XOR", result.isEmpty(), Is.is(bv1.equals(bv2)));
+
+            result = new DenseBitVector(bv1);
+            result.andNotInPlace(bv2);
+            assertThat("Wrong AND NOT result", result, Is.is(bv1.and(bv2.invert())));
+        }
+
+        // bits beyond the length of the target vector are ignored, the length never changes
+        DenseBitVector bv = new DenseBitVector("0F");
+        bv.orInPlace(new DenseBitVector("F0F0"));
+        assertEquals("FF", bv.toHexString());
+        bv.xorInPlace(new DenseBitVector("F00F"));
+        assertEquals("F0", bv.toHexString());
+        bv.andInPlace(new DenseBitVector("1"));
+        assertTrue(bv.isEmpty());
+        assertEquals(8, bv.length());
+        assertEquals(-1, bv.nextSetBit(0));
+    }
+
+    /**
+     * Tests the fused cardinality methods and the Tanimoto similarity against results computed from allocated vectors.
+     */
+    public void testCardinalitiesWithoutAllocation() {
+        Random rand = new Random(47110815L);
+        for (int i = 0; i < 500; i++) {
+            DenseBitVector bv1 = createRandomVector(rand, rand.nextInt(300));
+            DenseBitVector bv2 = createRandomVector(rand, rand.nextInt(300));
+
+            long intersection = bv1.and(bv2).cardinality();
+            long union = bv1.or(bv2).cardinality();
+            assertThat(bv1.cardinalityOfIntersection(bv2), Is.is(intersection));
+            assertThat(bv1.cardinalityOfUnion(bv2), Is.is(union));
+            assertThat(bv1.cardinalityOfRelativeComplement(bv2), Is.is(bv1.cardinality() - intersection));
+            assertThat(bv1.tanimotoSimilarity(bv2), Is.is((union == 0) ? 0.0 : (double)intersection / union));
+            assertThat(bv2.tanimotoSimilarity(bv1), Is.is(bv1.tanimotoSimilarity(bv2)));
+        }
+        assertThat(new DenseBitVector(100).tanimotoSimilarity(new DenseBitVector(10)), Is.is(0.0));
+    }
+
+    private static DenseBitVector createRandomVector(final Random rand, final int length) {
+        DenseBitVector bv = new DenseBitVector(length);
+        if (length > 0) {
+            // set bits only in a random range, so that the first and last address differ between vectors
+            int start = rand.nextInt(length);
+            int end = start + rand.nextInt(length - start + 1);
+            double density = rand.nextDouble();
+            for (int i = start; i < end; i++) {
+                if (rand.nextDouble() < density) {
+                    bv.set(i);
+                }
+            }
+        }
+        return bv;
+    }
+
     /**
      * Checks that the hashCode of dense and sparse bit vectors are identical.
      *
@@ -45,6 +45,7 @@
 package org.knime.core.data.vector.bitvector;
 
 import java.util.Arrays;
+import java.util.Random;
 
 import junit.framework.TestCase;
 
@@ -1013,6 +1014,61 @@ public void testBug5077(){
     }
 
 
+    /**
+     * Tests the in-place operations and the fused cardinality methods against their allocating counterparts.
+     */
+    public void testInPlaceOperations() {
+        Random rand = new Random(47110815L);
+        for (int i = 0; i < 500; i++) {
+            int length = 1 + rand.nextInt(300);
+            SparseBitVector bv1 = createRandomVector(rand, length);
+            SparseBitVector bv2 = createRandomVector(rand, length);
+
+            SparseBitVector result = new SparseBitVector(bv1);
+            result.andInPlace(bv2);
+            assertEquals(bv1.and(bv2), result);
+
+            result = new SparseBitVector(bv1);
+            result.orInPlace(bv2);
+            assertEquals(bv1.or(bv2), result);
+
+            result = new SparseBitVector(bv1);
+            result.xorInPlace(bv2);
+            assertEquals(bv1.xor(bv2), result);
+
+            result = new SparseBitVector(bv1);
+            result.andNotInPlace(bv2);
+            assertEquals(bv1.xor(bv1.and(bv2)), result);
+
+            long intersection = bv1.and(bv2).cardinality();
+            long union = bv1.or(bv2).cardinality();
+            assertEquals(intersection, bv1.cardinalityOfIntersection(bv2));
+            assertEquals(bv1.cardinality() - intersection, bv1.cardinalityOfRelativeComplement(bv2));
+            assertEquals((union == 0) ? 0.0 : (double)intersection / union, bv1.tanimotoSimilarity(bv2), 0.0);
+        }
+
+        // bits beyond the length of the target vector are ignored, the length never changes
+        SparseBitVector bv = new SparseBitVector(8, new long[]{0, 1});
+        bv.orInPlace(new SparseBitVector(200, new long[]{1, 7, 8, 100}));
+        assertTrue(Arrays.equals(new long[]{0, 1, 7}, bv.getAllOneIndices()));
+        bv.xorInPlace(new SparseBitVector(200, new long[]{0, 3, 150}));
+        assertTrue(Arrays.equals(new long[]{1, 3, 7}, bv.getAllOneIndices()));
+        assertEquals(8, bv.length());
+    }
+
+    private static SparseBitVector createRandomVector(final Random rand, final int length) {
+        SparseBitVector bv = new SparseBitVector(length, 1);
+        int start = rand.nextInt(length);
+        int end = start + rand.nextInt(length - start + 1);
+        double density = rand.nextDouble();
+        for (int i = start; i < end; i++) {
+            if (rand.nextDouble() < density) {
+                bv.set(i);
+            }
+        }
+        return bv;
+    }
+
     /**
      * tests toString
      */
@@ -0,0 +1,167 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.log4j.AppenderSkeleton;
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.apache.log4j.spi.LoggingEvent;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link AsyncLogDispatcher}.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+public class AsyncLogDispatcherTest {
+
+    private static final class CollectingAppender extends AppenderSkeleton {
+
+        private final List<LoggingEvent> m_events = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        protected void append(final LoggingEvent event) {
+            m_events.add(event);
+        }
+
+        @Override
+        public boolean requiresLayout() {
+            return false;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private Logger m_logger;
+
+    private CollectingAppender m_appender;
+
+    /** Creates a logger that only writes to the collecting appender. */
+    @Before
+    public void setUp() {
+        m_logger = Logger.getLogger(AsyncLogDispatcherTest.class.getName() + ".async");
+        m_logger.setAdditivity(false);
+        m_logger.setLevel(Level.DEBUG);
+        m_appender = new CollectingAppender();
+        m_logger.addAppender(m_appender);
+    }
+
+    /** Removes the collecting appender. */
+    @After
+    public void tearDown() {
+        m_logger.removeAppender(m_appender);
+    }
+
+    private LoggingEvent createEvent(final String msg) {
+        return new LoggingEvent(AsyncLogDispatcherTest.class.getName(), m_logger, Level.DEBUG, msg, null);
+    }
+
+    /**
+     * Tests that no events are lost if several threads log concurrently into a small buffer, and that the events of
+     * each thread keep their order and calling thread name.
+     */
+    @Test
+    public void testConcurrentDispatch() throws Exception {
+        final int threadCount = 4;
+        final int eventsPerThread = 5000;
+        final AsyncLogDispatcher dispatcher = new AsyncLogDispatcher(16, "Test Log Dispatcher");
+        try {
+            final Thread[] threads = new Thread[threadCount];
+            for (int t = 0; t < threadCount; t++) {
+                final int thread = t;
+                threads[t] = new Thread(() -> {
+                    for (int i = 0; i < eventsPerThread; i++) {
+                        dispatcher.dispatch(m_logger, createEvent(thread + ":" + i));
+                    }
+                }, "Logging Thread " + t);
+                threads[t].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            dispatcher.flush();
+
+            assertThat("Number of events", m_appender.m_events.size(), is(threadCount * eventsPerThread));
+            final int[] next = new int[threadCount];
+            for (LoggingEvent event : m_appender.m_events) {
+                final String[] parts = ((String)event.getMessage()).split(":");
+                final int thread = Integer.parseInt(parts[0]);
+                assertThat("Event of thread " + thread, Integer.parseInt(parts[1]), is(next[thread]++));
+                assertThat("Thread name", event.getThreadName(), is("Logging Thread " + thread));
+            }
+        } finally {
+            dispatcher.close(1000);
+        }
+    }
+
+    /** Tests that queued events are written on close and later events are written on the calling thread. */
+    @Test
+    public void testClose() {
+        final AsyncLogDispatcher dispatcher = new AsyncLogDispatcher(AsyncLogDispatcher.DEFAULT_CAPACITY, "Test");
+        for (int i = 0; i < 100; i++) {
+            dispatcher.dispatch(m_logger, createEvent("queued " + i));
+        }
+        dispatcher.close(10000);
+        assertThat("Number of events after close", m_appender.m_events.size(), is(100));
+
+        dispatcher.dispatch(m_logger, createEvent("after close"));
+        assertThat("Number of events", m_appender.m_events.size(), is(101));
+        assertThat("Last event", (String)m_appender.m_events.get(100).getMessage(), is("after close"));
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.knime.core.node.port.PortObject.PortObjectSerializer;
+import org.knime.core.node.port.PortObjectZipOutputStream;
+import org.knime.core.node.port.PortTypeRegistry;
+import org.knime.core.node.port.PortUtil;
+import org.knime.core.node.port.flowvariable.FlowVariablePortObject;
+import org.knime.core.node.port.flowvariable.FlowVariablePortObjectSpec;
+
+/**
+ * Tests {@link LazyPortObject}.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+public class LazyPortObjectTest {
+
+    /** Temporary folder for the port object files. */
+    @Rule
+    public TemporaryFolder m_tempFolder = new TemporaryFolder();
+
+    /** Tests that the object is read on first access only and then cached. */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    @Test
+    public void testReadOnFirstAccess() throws Exception {
+        final File objectFile = m_tempFolder.newFile("portobject.zip");
+        try (PortObjectZipOutputStream out =
+            PortUtil.getPortObjectZipOutputStream(new BufferedOutputStream(new FileOutputStream(objectFile)))) {
+            PortObjectSerializer serializer =
+                PortTypeRegistry.getInstance().getObjectSerializer(FlowVariablePortObject.class).get();
+            serializer.savePortObject(FlowVariablePortObject.INSTANCE, out, new ExecutionMonitor());
+        }
+        final LazyPortObject lazy = new LazyPortObject(FlowVariablePortObject.class, objectFile,
+            FlowVariablePortObjectSpec.INSTANCE, null);
+        assertThat("Read before access", lazy.isRead(), is(false));
+        assertThat("Available before access", lazy.isAvailable(), is(true));
+        assertThat("Spec", lazy.getSpec(), is(sameInstance(FlowVariablePortObjectSpec.INSTANCE)));
+        assertThat("Object", lazy.get(), is(sameInstance(FlowVariablePortObject.INSTANCE)));
+        assertThat("Read after access", lazy.isRead(), is(true));
+        assertThat("Object on second access", lazy.get(), is(sameInstance(FlowVariablePortObject.INSTANCE)));
+    }
+
+    /** Tests that a missing file results in a null object rather than an exception. */
+    @Test
+    public void testMissingFile() throws Exception {
+        final LazyPortObject lazy = new LazyPortObject(FlowVariablePortObject.class,
+            new File(m_tempFolder.getRoot(), "missing.zip"), FlowVariablePortObjectSpec.INSTANCE, null);
+        assertThat("Object", lazy.get(), is(nullValue()));
+        assertThat("Read after access", lazy.isRead(), is(true));
+        assertThat("Available after failed access", lazy.isAvailable(), is(false));
+    }
+}
@@ -0,0 +1,333 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node.port.database.connection;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Tests the {@link DBConnectionPool} with fake connections.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+public class DBConnectionPoolTest {
+
+    /** Fake physical connection, records its state. */
+    private static final class FakeConnection {
+        private boolean m_closed;
+
+        private boolean m_autoCommit = true;
+
+        private int m_rollbacks;
+
+        private final AtomicInteger m_preparedStatements = new AtomicInteger();
+
+        private final Connection m_conn = (Connection)Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "close":
+                        m_closed = true;
+                        return null;
+                    case "isClosed":
+                        return m_closed;
+                    case "getAutoCommit":
+                        return m_autoCommit;
+                    case "setAutoCommit":
+                        m_autoCommit = (Boolean)args[0];
+                        return null;
+                    case "rollback":
+                        m_rollbacks++;
+                        return null;
+                    case "prepareStatement":
+                        m_preparedStatements.incrementAndGet();
+                        return fakeStatement();
+                    default:
+                        return null;
+                }
+            });
+
+        /** @return a statement that keeps the values of its int settings (e.g. max rows), which default to 0 */
+        private static PreparedStatement fakeStatement() {
+            final boolean[] closed = new boolean[1];
+            final Map<String, Object> settings = new HashMap<>();
+            return (PreparedStatement)Proxy.newProxyInstance(FakeConnection.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                    final String name = method.getName();
+                    switch (name) {
+                        case "close":
+                            closed[0] = true;
+                            return null;
+                        case "isClosed":
+                            return closed[0];
+                        default:
+                            if (name.startsWith("set") && args.length == 1) {
+                                settings.put(name.substring(3), args[0]);
+                            } else if (name.startsWith("get") && method.getReturnType() == int.class) {
+                                return settings.getOrDefault(name.substring(3), 0);
+                            }
+                            return null;
+                    }
+                });
+        }
+    }
+
+    private final List<FakeConnection> m_opened = new ArrayList<>();
+
+    private Connection lease(final DBConnectionPool pool) throws Exception {
+        return pool.lease("key", this::open, conn -> true);
+    }
+
+    private Connection tryLease(final DBConnectionPool pool) throws Exception {
+        return pool.tryLease("key", this::open, conn -> true);
+    }
+
+    private Connection open() {
+        final FakeConnection conn = new FakeConnection();
+        m_opened.add(conn);
+        return conn.m_conn;
+    }
+
+    /**
+     * Closed connections are re-used, their state is reset.
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testReuseAndReset() throws Exception {
+        final DBConnectionPool pool = new DBConnectionPool(0, 2, 1000, 60000, 4);
+        final Connection first = lease(pool);
+        first.setAutoCommit(false);
+        first.close();
+        assertThat("Returned connection must appear closed", first.isClosed(), is(true));
+        assertThat("Physical connection must stay open", m_opened.get(0).m_closed, is(false));
+        assertThat("Uncommitted changes must be rolled back", m_opened.get(0).m_rollbacks, is(1));
+        assertThat("Auto-commit must be reset", m_opened.get(0).m_autoCommit, is(true));
+
+        final Connection second = lease(pool);
+        assertThat("Idle connection must be re-used", m_opened.size(), is(1));
+        assertThat("Each lease must get its own handle", second, is(not(sameInstance(first))));
+        try {
+            first.createStatement();
+            fail("Closed handle must not be usable");
+        } catch (SQLException e) {
+            // expected
+        }
+        second.close();
+        final DBConnectionPool.Statistics statistics = pool.getStatistics().get("key");
+        assertThat("Wrong number of leases", statistics.getLeases(), is(2L));
+        assertThat("Wrong number of created connections", statistics.getCreated(), is(1L));
+        assertThat("Wrong number of idle connections", statistics.getIdle(), is(1));
+    }
+
+    /**
+     * Leases beyond the maximum size time out.
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testLeaseTimeout() throws Exception {
+        final DBConnectionPool pool = new DBConnectionPool(0, 2, 50, 60000, 4);
+        final Connection c1 = lease(pool);
+        final Connection c2 = lease(pool);
+        try {
+            lease(pool);
+            fail("Lease beyond maximum pool size must time out");
+        } catch (SQLException e) {
+            // expected
+        }
+        assertThat("Wrong number of lease timeouts", pool.getStatistics().get("key").getLeaseTimeouts(), is(1L));
+        c1.close();
+        lease(pool).close();
+        c2.close();
+        assertThat("No more connections than the maximum must be opened", m_opened.size(), is(2));
+    }
+
+    /**
+     * Leases that don't wait return <code>null</code> if all connections are leased.
+     * @throws Exception if the test fails
+     */
+    @Test(timeout = 10000)
+    public void testTryLease() throws Exception {
+        final DBConnectionPool pool = new DBConnectionPool(0, 2, 60000, 60000, 4);
+        final Connection c1 = tryLease(pool);
+        final Connection c2 = tryLease(pool);
+        assertThat("Connection must be leased while below maximum size", c2, is(notNullValue()));
+        assertThat("No connection must be leased beyond maximum size", tryLease(pool), is(nullValue()));
+        c1.close();
+        final Connection c3 = tryLease(pool);
+        assertThat("Returned connection must be leased again", c3, is(notNullValue()));
+        c2.close();
+        c3.close();
+        assertThat("No more connections than the maximum must be opened", m_opened.size(), is(2));
+        assertThat("Failed leases without wait are no timeouts",
+            pool.getStatistics().get("key").getLeaseTimeouts(), is(0L));
+    }
+
+    /**
+     * Settings of prepared statements are reset when they are returned to the cache.
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testStatementSettingsReset() throws Exception {
+        final DBConnectionPool pool = new DBConnectionPool(0, 1, 1000, 60000, 2);
+        final Connection conn = lease(pool);
+        final PreparedStatement first = conn.prepareStatement("a");
+        first.setMaxRows(10);
+        first.setFetchSize(100);
+        first.setQueryTimeout(5);
+        first.setMaxRows(20);
+        first.close();
+
+        final PreparedStatement second = conn.prepareStatement("a");
+        assertThat("Cached statement must be re-used", m_opened.get(0).m_preparedStatements.get(), is(1));
+        assertThat("Max rows must be reset", second.getMaxRows(), is(0));
+        assertThat("Fetch size must be reset", second.getFetchSize(), is(0));
+        assertThat("Query timeout must be reset", second.getQueryTimeout(), is(0));
+        second.setEscapeProcessing(false);
+        second.close();
+
+        conn.prepareStatement("a").close();
+        assertThat("Statement with settings that can't be reset must not be cached",
+            m_opened.get(0).m_preparedStatements.get(), is(2));
+        conn.close();
+    }
+
+    /**
+     * Closed prepared statements are handed out again for the same SQL, the cache is bounded.
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testStatementCache() throws Exception {
+        final DBConnectionPool pool = new DBConnectionPool(0, 1, 1000, 60000, 2);
+        final Connection conn = lease(pool);
+        conn.prepareStatement("a").close();
+        conn.prepareStatement("a").close();
+        assertThat("Cached statement must be re-used", m_opened.get(0).m_preparedStatements.get(), is(1));
+
+        // statements in use are not shared
+        final PreparedStatement inUse = conn.prepareStatement("a");
+        conn.prepareStatement("a").close();
+        inUse.close();
+        assertThat("Statement in use must not be shared", m_opened.get(0).m_preparedStatements.get(), is(2));
+
+        // "a" is evicted by "b" and "c"
+        conn.prepareStatement("b").close();
+        conn.prepareStatement("c").close();
+        conn.prepareStatement("a").close();
+        assertThat("Evicted statement must be prepared again", m_opened.get(0).m_preparedStatements.get(), is(5));
+        conn.close();
+
+        // the cache survives the lease
+        final Connection again = lease(pool);
+        again.prepareStatement("c").close();
+        again.close();
+        assertThat("Cache must be kept with the connection", m_opened.get(0).m_preparedStatements.get(), is(5));
+        assertThat("Wrong number of cache hits", pool.getStatistics().get("key").getStatementCacheHits(), is(3L));
+    }
+
+    /**
+     * Maintenance closes idle and invalid connections.
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testMaintenance() throws Exception {
+        final DBConnectionPool pool = new DBConnectionPool(0, 2, 1000, 0, 4);
+        final Connection c1 = lease(pool);
+        final Connection c2 = lease(pool);
+        c1.close();
+        c2.close();
+        Thread.sleep(5);
+        pool.maintain();
+        assertThat("Idle connections must be closed", m_opened.get(0).m_closed && m_opened.get(1).m_closed, is(true));
+        assertThat("Wrong number of closed connections", pool.getStatistics().get("key").getClosed(), is(2L));
+        assertThat("Wrong number of idle connections", pool.getStatistics().get("key").getIdle(), is(0));
+    }
+
+    /**
+     * Maintenance with valid connections that haven't timed out yet validates each of them once and returns.
+     * @throws Exception if the test fails
+     */
+    @Test(timeout = 10000)
+    public void testMaintenanceKeepsValidConnections() throws Exception {
+        final DBConnectionPool pool = new DBConnectionPool(1, 2, 1000, 60000, 4);
+        final AtomicInteger validations = new AtomicInteger();
+        final DBConnectionPool.ConnectionOpener opener = () -> {
+            final FakeConnection conn = new FakeConnection();
+            m_opened.add(conn);
+            return conn.m_conn;
+        };
+        final Connection c1 = pool.lease("key", opener, conn -> validations.incrementAndGet() > 0);
+        final Connection c2 = pool.lease("key", opener, conn -> validations.incrementAndGet() > 0);
+        c1.close();
+        c2.close();
+        validations.set(0);
+        pool.maintain();
+        assertThat("Each idle connection must be validated once", validations.get(), is(2));
+        assertThat("Valid connections must not be closed", m_opened.get(0).m_closed || m_opened.get(1).m_closed,
+            is(false));
+        assertThat("Wrong number of idle connections", pool.getStatistics().get("key").getIdle(), is(2));
+
+        lease(pool).close();
+        assertThat("Idle connection must be re-used after maintenance", m_opened.size(), is(2));
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node.port.database.reader;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+
+import org.junit.Test;
+
+/**
+ * Tests the computation of the partition bounds in {@link DBReaderImpl}.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+public class DBReaderImplTest {
+
+    /**
+     * Integral ranges are split at whole numbers, minimum and maximum are retained.
+     */
+    @Test
+    public void testIntegralRangeBounds() {
+        Object[] bounds = DBReaderImpl.computeRangeBounds(Integer.valueOf(0), Integer.valueOf(10), 4);
+        assertThat("Wrong number of bounds", bounds.length, is(5));
+        assertThat("Wrong lower bound", bounds[0], is((Object)Integer.valueOf(0)));
+        assertThat("Wrong bound", bounds[1], is((Object)new BigDecimal("2")));
+        assertThat("Wrong bound", bounds[2], is((Object)new BigDecimal("5")));
+        assertThat("Wrong bound", bounds[3], is((Object)new BigDecimal("7")));
+        assertThat("Wrong upper bound", bounds[4], is((Object)Integer.valueOf(10)));
+    }
+
+    /**
+     * Long values beyond the double precision are split exactly.
+     */
+    @Test
+    public void testLargeLongRangeBounds() {
+        Object[] bounds = DBReaderImpl.computeRangeBounds(Long.valueOf(Long.MIN_VALUE), Long.MAX_VALUE, 2);
+        assertThat("Wrong middle bound", bounds[1], is((Object)new BigDecimal("-1")));
+    }
+
+    /**
+     * Timestamp ranges are split into timestamps.
+     */
+    @Test
+    public void testTimestampRangeBounds() {
+        Object[] bounds = DBReaderImpl.computeRangeBounds(new Timestamp(1000), new Timestamp(3000), 2);
+        assertThat("Wrong middle bound", bounds[1], is((Object)new Timestamp(2000)));
+    }
+
+    /**
+     * Unsupported values and NaN result in null.
+     */
+    @Test
+    public void testUnsupportedRangeBounds() {
+        assertThat("String bounds not supported", DBReaderImpl.computeRangeBounds("a", "z", 2), is(nullValue()));
+        assertThat("NaN bounds not supported", DBReaderImpl.computeRangeBounds(Double.NaN, 1.0, 2), is(nullValue()));
+    }
+
+}
@@ -0,0 +1,345 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node.port.database.reader;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.knime.core.data.BooleanValue;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.blob.BinaryObjectCellFactory;
+import org.knime.core.data.blob.BinaryObjectDataCell;
+import org.knime.core.data.blob.BinaryObjectDataValue;
+import org.knime.core.data.date.DateAndTimeCell;
+import org.knime.core.data.date.DateAndTimeValue;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.port.database.DatabaseConnectionSettings;
+
+/**
+ * Tests the per-column readers of {@link DBRowIteratorImpl} against the per-cell type dispatch they replaced.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+public class DBRowIteratorImplTest {
+
+    private static final DataType[] KNIME_TYPES = new DataType[]{BooleanCell.TYPE, IntCell.TYPE, LongCell.TYPE,
+        DoubleCell.TYPE, DateAndTimeCell.TYPE, BinaryObjectDataCell.TYPE, StringCell.TYPE};
+
+    private static final int[] SQL_TYPES = new int[]{Types.BIT, Types.BOOLEAN, Types.TINYINT, Types.SMALLINT,
+        Types.INTEGER, Types.BIGINT, Types.REAL, Types.FLOAT, Types.DOUBLE, Types.DECIMAL, Types.NUMERIC, Types.DATE,
+        Types.TIME, Types.TIMESTAMP, Types.BLOB, Types.BINARY, Types.VARBINARY, Types.LONGVARBINARY, Types.CLOB,
+        Types.NCLOB, Types.ARRAY, Types.CHAR, Types.VARCHAR, Types.LONGVARCHAR, Types.NCHAR, Types.NVARCHAR,
+        Types.LONGNVARCHAR, Types.REF, Types.DATALINK, Types.STRUCT, Types.JAVA_OBJECT, Types.OTHER};
+
+    private static final DatabaseConnectionSettings SETTINGS =
+        new DatabaseConnectionSettings("driver", "jdbc:fake://localhost/db", "user", "pass", null, "none");
+
+    /** Iterator that can also read a cell with the per-cell type dispatch used before the column readers. */
+    private static final class TestIterator extends DBRowIteratorImpl {
+
+        TestIterator(final DataTableSpec spec, final ResultSet result) {
+            super(spec, SETTINGS, new BinaryObjectCellFactory(), result, false);
+        }
+
+        DataCell readLegacy(final int i, final DataType type, final int dbType) throws SQLException, IOException {
+            if (type.isCompatible(BooleanValue.class)) {
+                return readBoolean(i);
+            } else if (type.isCompatible(IntValue.class)) {
+                switch (dbType) {
+                    case Types.TINYINT:
+                        return readByte(i);
+                    case Types.SMALLINT:
+                        return readShort(i);
+                    default:
+                        return readInt(i);
+                }
+            } else if (type.isCompatible(LongValue.class)) {
+                return readLong(i);
+            } else if (type.isCompatible(DoubleValue.class)) {
+                return dbType == Types.REAL ? readFloat(i) : readDouble(i);
+            } else if (type.isCompatible(DateAndTimeValue.class)) {
+                switch (dbType) {
+                    case Types.DATE:
+                        return readDate(i);
+                    case Types.TIME:
+                        return readTime(i);
+                    case Types.TIMESTAMP:
+                        return readTimestamp(i);
+                    default:
+                        return readString(i);
+                }
+            } else if (type.isCompatible(BinaryObjectDataValue.class)) {
+                switch (dbType) {
+                    case Types.BLOB:
+                        try {
+                            return readBlob(i);
+                        } catch (SQLException ex) {
+                            return readBytesAsBLOB(i);
+                        }
+                    case Types.LONGVARCHAR:
+                    case Types.LONGNVARCHAR:
+                        return readAsciiStream(i);
+                    case Types.BINARY:
+                    case Types.LONGVARBINARY:
+                    case Types.VARBINARY:
+                        return readBinaryStream(i);
+                    default:
+                        return readString(i);
+                }
+            } else {
+                switch (dbType) {
+                    case Types.CLOB:
+                        return readClob(i);
+                    case Types.ARRAY:
+                        return readArray(i);
+                    case Types.CHAR:
+                    case Types.VARCHAR:
+                    case Types.LONGVARCHAR:
+                        return readString(i);
+                    case Types.VARBINARY:
+                        return readBytesAsString(i);
+                    case Types.REF:
+                        return readRef(i);
+                    case Types.NCHAR:
+                    case Types.NVARCHAR:
+                    case Types.LONGNVARCHAR:
+                        return readNString(i);
+                    case Types.NCLOB:
+                        return readNClob(i);
+                    case Types.DATALINK:
+                        return readURL(i);
+                    default:
+                        return readObject(i);
+                }
+            }
+        }
+    }
+
+    private static <T> T proxy(final Class<T> iface, final Object value) {
+        return iface.cast(Proxy.newProxyInstance(DBRowIteratorImplTest.class.getClassLoader(), new Class<?>[]{iface},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "getCharacterStream":
+                        return new StringReader((String)value);
+                    case "getBinaryStream":
+                        return new ByteArrayInputStream((byte[])value);
+                    case "getArray":
+                    case "getObject":
+                        return value;
+                    default:
+                        return null;
+                }
+            }));
+    }
+
+    /**
+     * Creates a result set with one column whose SQL type is the argument type. Each getter returns a non-null value
+     * (or null/0 if the value is null). The meta data can't be read the given number of times.
+     */
+    private static ResultSet createResultSet(final int dbType, final boolean isNull, final int rowCount,
+        final int metaDataFailures) throws Exception {
+        final AtomicInteger row = new AtomicInteger();
+        final AtomicInteger metaDataCalls = new AtomicInteger();
+        final ResultSetMetaData metaData = (ResultSetMetaData)Proxy.newProxyInstance(
+            DBRowIteratorImplTest.class.getClassLoader(), new Class<?>[]{ResultSetMetaData.class},
+            (proxy, method, args) -> method.getName().equals("getColumnType") ? dbType : null);
+        final URL url = new URL("http://www.knime.com");
+        return (ResultSet)Proxy.newProxyInstance(DBRowIteratorImplTest.class.getClassLoader(),
+            new Class<?>[]{ResultSet.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "next":
+                        return row.incrementAndGet() <= rowCount;
+                    case "getMetaData":
+                        if (metaDataCalls.incrementAndGet() <= metaDataFailures) {
+                            throw new SQLException("Meta data not available");
+                        }
+                        return metaData;
+                    case "wasNull":
+                        return isNull;
+                    case "getBoolean":
+                        return !isNull;
+                    case "getByte":
+                        return isNull ? (byte)0 : (byte)1;
+                    case "getShort":
+                        return isNull ? (short)0 : (short)2;
+                    case "getInt":
+                        return isNull ? 0 : 3;
+                    case "getLong":
+                        return isNull ? 0L : 4L;
+                    case "getFloat":
+                        return isNull ? 0f : 5.5f;
+                    case "getDouble":
+                        return isNull ? 0d : 6.5d;
+                    case "getRow":
+                        return row.get();
+                    default:
+                        return isNull ? null : getObject(method.getName(), url);
+                }
+            });
+    }
+
+    private static Object getObject(final String getter, final URL url) {
+        switch (getter) {
+            case "getDate":
+                return new Date(86400000L);
+            case "getTime":
+                return new Time(3600000L);
+            case "getTimestamp":
+                return new Timestamp(86400000L + 3600000L);
+            case "getString":
+                return "string";
+            case "getNString":
+                return "nstring";
+            case "getBytes":
+                return "bytes".getBytes();
+            case "getAsciiStream":
+                return new ByteArrayInputStream("ascii".getBytes());
+            case "getBinaryStream":
+                return new ByteArrayInputStream("binary".getBytes());
+            case "getBlob":
+                return proxy(Blob.class, "blob".getBytes());
+            case "getClob":
+                return proxy(Clob.class, "clob");
+            case "getNClob":
+                return proxy(NClob.class, "nclob");
+            case "getArray":
+                return proxy(Array.class, new Object[]{"element", null});
+            case "getRef":
+                return proxy(Ref.class, "ref");
+            case "getURL":
+                return url;
+            case "getObject":
+                return "object";
+            default:
+                return null;
+        }
+    }
+
+    private static DataTableSpec createSpec(final DataType type) {
+        return new DataTableSpec(new DataColumnSpecCreator("column", type).createSpec());
+    }
+
+    /**
+     * For each KNIME type and SQL type the column reader returns the same cell as the per-cell dispatch, for values
+     * and for nulls.
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testColumnReadersMatchPerCellDispatch() throws Exception {
+        for (DataType type : KNIME_TYPES) {
+            for (int dbType : SQL_TYPES) {
+                for (boolean isNull : new boolean[]{false, true}) {
+                    final String msg = "Wrong cell for " + type + " and SQL type " + dbType + (isNull ? " (null)" : "");
+                    final TestIterator iterator = new TestIterator(createSpec(type), createResultSet(dbType, isNull,
+                        1, 0));
+                    assertThat(msg, iterator.hasNext(), is(true));
+                    final DataCell cell = iterator.next().getCell(0);
+
+                    final TestIterator legacyIterator = new TestIterator(createSpec(type), createResultSet(dbType,
+                        isNull, 1, 0));
+                    assertThat(msg, legacyIterator.hasNext(), is(true));
+                    final DataCell expected = legacyIterator.readLegacy(0, type, dbType);
+
+                    assertThat(msg, cell, is(expected));
+                    assertThat(msg, cell.isMissing(), is(isNull));
+                }
+            }
+        }
+    }
+
+    /**
+     * If the meta data can't be read once, only the affected cells are missing, all further rows are read.
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testMetaDataFailureAffectsSingleCells() throws Exception {
+        final TestIterator iterator =
+            new TestIterator(createSpec(IntCell.TYPE), createResultSet(Types.INTEGER, false, 3, 2));
+        assertThat("Row expected", iterator.hasNext(), is(true));
+        assertThat("Cell without meta data expected to be missing", iterator.next().getCell(0).isMissing(),
+            is(true));
+        for (int i = 1; i < 3; i++) {
+            assertThat("Row expected", iterator.hasNext(), is(true));
+            final DataRow row = iterator.next();
+            assertThat("Wrong cell in row " + i, row.getCell(0), is((DataCell)new IntCell(3)));
+        }
+        assertThat("No more rows expected", iterator.hasNext(), is(false));
+    }
+
+}
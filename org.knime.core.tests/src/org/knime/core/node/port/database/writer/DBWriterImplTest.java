@@ -0,0 +1,383 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node.port.database.writer;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.Test;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.port.database.DatabaseConnectionSettings;
+import org.knime.core.node.port.database.DatabaseUtility;
+import org.knime.core.node.port.database.connection.DBConnectionFactory;
+import org.knime.core.node.port.database.connection.DBDriverFactory;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.workflow.CredentialsProvider;
+
+/**
+ * Tests the pipelined write of {@link DBWriterImpl} with fake connections and a fake bulk loader.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+public class DBWriterImplTest {
+
+    private static final DataTableSpec SPEC =
+        new DataTableSpec(new DataColumnSpecCreator("value", IntCell.TYPE).createSpec());
+
+    private static final int ROW_COUNT = 20;
+
+    private static final int BATCH_SIZE = 2;
+
+    private static final int PARALLELISM = 3;
+
+    /** Fake connection, records its transaction state. */
+    private static final class FakeConnection {
+        private boolean m_closed;
+
+        private boolean m_autoCommit = true;
+
+        private int m_commits;
+
+        private int m_rollbacks;
+
+        private final Connection m_conn = (Connection)Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                synchronized (this) {
+                    switch (method.getName()) {
+                        case "close":
+                            m_closed = true;
+                            return null;
+                        case "isClosed":
+                            return m_closed;
+                        case "getAutoCommit":
+                            return m_autoCommit;
+                        case "setAutoCommit":
+                            m_autoCommit = (Boolean)args[0];
+                            return null;
+                        case "commit":
+                            m_commits++;
+                            return null;
+                        case "rollback":
+                            m_rollbacks++;
+                            return null;
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            return null;
+                    }
+                }
+            });
+    }
+
+    /** Records the rows loaded per connection, fails for the batch that starts with the given row. */
+    private static final class FakeBulkLoader implements DBBulkLoader {
+        private final Map<Connection, List<Integer>> m_loaded = new ConcurrentHashMap<>();
+
+        private final int m_failingRow;
+
+        FakeBulkLoader(final int failingRow) {
+            m_failingRow = failingRow;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void load(final Connection conn, final String table, final String columnNames,
+            final DataTableSpec spec, final int[] mapping, final DataRow[] rows, final int count,
+            final TimeZone timeZone) throws SQLException {
+            final int first = ((IntCell)rows[0].getCell(0)).getIntValue();
+            if (first == m_failingRow) {
+                throw new SQLException("Failing row " + first);
+            }
+            final List<Integer> loaded = m_loaded.computeIfAbsent(conn, c -> Collections.synchronizedList(
+                new ArrayList<>()));
+            for (int i = 0; i < count; i++) {
+                loaded.add(((IntCell)rows[i].getCell(0)).getIntValue());
+            }
+        }
+
+        List<Integer> getAllLoaded() {
+            final List<Integer> all = new ArrayList<>();
+            m_loaded.values().forEach(all::addAll);
+            Collections.sort(all);
+            return all;
+        }
+    }
+
+    /** Row input with the values 0 to ROW_COUNT - 1, cancels the monitor at the given row (if not negative). */
+    private static final class TestRowInput extends RowInput {
+        private final DefaultNodeProgressMonitor m_progress;
+
+        private final int m_cancelAt;
+
+        private int m_next;
+
+        TestRowInput(final DefaultNodeProgressMonitor progress, final int cancelAt) {
+            m_progress = progress;
+            m_cancelAt = cancelAt;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public DataTableSpec getDataTableSpec() {
+            return SPEC;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public DataRow poll() {
+            if (m_next == m_cancelAt) {
+                m_progress.setExecuteCanceled();
+            }
+            if (m_next >= ROW_COUNT) {
+                return null;
+            }
+            final DataRow row = new DefaultRow(RowKey.createRowKey((long)m_next), new IntCell(m_next));
+            m_next++;
+            return row;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void close() {
+            // nothing to close
+        }
+    }
+
+    private final FakeConnection m_nodeConnection = new FakeConnection();
+
+    private final List<FakeConnection> m_exclusiveConnections = Collections.synchronizedList(new ArrayList<>());
+
+    private final DatabaseConnectionSettings m_settings =
+        new DatabaseConnectionSettings("driver", "jdbc:fake://localhost/db", "user", "pass", null, "none") {
+            private final DatabaseUtility m_utility = new DatabaseUtility() {
+                /** {@inheritDoc} */
+                @Override
+                public DBConnectionFactory getConnectionFactory() {
+                    return m_connectionFactory;
+                }
+            };
+
+            /** {@inheritDoc} */
+            @Override
+            public DatabaseUtility getUtility() {
+                return m_utility;
+            }
+        };
+
+    private final DBConnectionFactory m_connectionFactory = new DBConnectionFactory() {
+        /** {@inheritDoc} */
+        @Override
+        public Connection getConnection(final CredentialsProvider cp, final DatabaseConnectionSettings settings) {
+            return m_nodeConnection.m_conn;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Connection getExclusiveConnection(final CredentialsProvider cp,
+            final DatabaseConnectionSettings settings) {
+            final FakeConnection conn = new FakeConnection();
+            m_exclusiveConnections.add(conn);
+            return conn.m_conn;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getMaxExclusiveConnections() {
+            return PARALLELISM;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public DBDriverFactory getDriverFactory() {
+            return null;
+        }
+    };
+
+    private String write(final ExecutionMonitor exec, final RowInput input, final FakeBulkLoader loader,
+        final boolean failOnError) throws Exception {
+        return new DBWriterImpl(m_settings).new PipelinedWriter(m_settings, exec, "test", "(value)",
+            "INSERT INTO test (value) VALUES (?)", SPEC, new int[]{0}, new HashMap<>(), loader, false, failOnError)
+                .write(null, m_nodeConnection.m_conn, input, ROW_COUNT, BATCH_SIZE, PARALLELISM);
+    }
+
+    private List<FakeConnection> getAllConnections() {
+        final List<FakeConnection> all = new ArrayList<>(m_exclusiveConnections);
+        all.add(0, m_nodeConnection);
+        return all;
+    }
+
+    private static List<Integer> range(final int from, final int to, final int... excluded) {
+        final List<Integer> list = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            list.add(i);
+        }
+        for (int i : excluded) {
+            list.remove(Integer.valueOf(i));
+        }
+        return list;
+    }
+
+    /**
+     * All rows are written exactly once, each lane commits, exclusive connections are closed.
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testWriteAll() throws Exception {
+        final FakeBulkLoader loader = new FakeBulkLoader(-1);
+        final String error = write(new ExecutionMonitor(), new TestRowInput(null, -1), loader, true);
+        assertThat("Unexpected error", error, is(nullValue()));
+        assertThat("Wrong rows written", loader.getAllLoaded(), is(range(0, ROW_COUNT)));
+        assertThat("Wrong number of connections", getAllConnections().size(), is(PARALLELISM));
+        for (FakeConnection conn : getAllConnections()) {
+            assertThat("Lane not committed", conn.m_commits, is(1));
+            assertThat("Lane rolled back", conn.m_rollbacks, is(0));
+            assertThat("Auto commit not restored", conn.m_autoCommit, is(true));
+        }
+        assertThat("Node connection closed", m_nodeConnection.m_closed, is(false));
+        for (FakeConnection conn : m_exclusiveConnections) {
+            assertThat("Exclusive connection not closed", conn.m_closed, is(true));
+        }
+    }
+
+    /**
+     * A failing batch is reported, the other batches are written and all lanes commit.
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testFailingBatchWithoutFailOnError() throws Exception {
+        final FakeBulkLoader loader = new FakeBulkLoader(4);
+        final String error = write(new ExecutionMonitor(), new TestRowInput(null, -1), loader, false);
+        assertThat("Missing error", error, is(notNullValue()));
+        assertThat("Wrong error", error, containsString("\"1\""));
+        assertThat("Wrong rows written", loader.getAllLoaded(), is(range(0, ROW_COUNT, 4, 5)));
+        for (FakeConnection conn : getAllConnections()) {
+            assertThat("Lane rolled back", conn.m_rollbacks, is(0));
+            assertThat("Lane not committed", conn.m_commits > 0, is(true));
+        }
+    }
+
+    /**
+     * A failing batch aborts the write, the failing lane rolls back while lanes that finished before may have
+     * committed (the write is not atomic).
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testFailingBatchWithFailOnError() throws Exception {
+        final FakeBulkLoader loader = new FakeBulkLoader(4);
+        try {
+            write(new ExecutionMonitor(), new TestRowInput(null, -1), loader, true);
+            fail("Expected exception not thrown");
+        } catch (Exception e) {
+            assertThat("Wrong exception", e.getMessage(), containsString("#5 - #6"));
+            assertThat("Wrong cause", e.getCause(), is(instanceOf(SQLException.class)));
+        }
+        int rolledBack = 0;
+        for (FakeConnection conn : getAllConnections()) {
+            assertThat("Lane committed and rolled back", conn.m_commits + conn.m_rollbacks > 0, is(true));
+            assertThat("Lane committed and rolled back", conn.m_commits > 0 && conn.m_rollbacks > 0, is(false));
+            if (conn.m_rollbacks > 0) {
+                rolledBack++;
+            }
+        }
+        assertThat("Failing lane not rolled back", rolledBack > 0, is(true));
+        for (FakeConnection conn : m_exclusiveConnections) {
+            assertThat("Exclusive connection not closed", conn.m_closed, is(true));
+        }
+    }
+
+    /**
+     * Canceling while reading the input rolls back all lanes.
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testCancel() throws Exception {
+        final DefaultNodeProgressMonitor progress = new DefaultNodeProgressMonitor();
+        final FakeBulkLoader loader = new FakeBulkLoader(-1);
+        try {
+            write(new ExecutionMonitor(progress), new TestRowInput(progress, 7), loader, true);
+            fail("Expected exception not thrown");
+        } catch (CanceledExecutionException e) {
+            // expected
+        }
+        for (FakeConnection conn : getAllConnections()) {
+            assertThat("Lane committed", conn.m_commits, is(0));
+            assertThat("Lane not rolled back", conn.m_rollbacks, is(1));
+            assertThat("Auto commit not restored", conn.m_autoCommit, is(true));
+        }
+        for (FakeConnection conn : m_exclusiveConnections) {
+            assertThat("Exclusive connection not closed", conn.m_closed, is(true));
+        }
+    }
+
+}
@@ -0,0 +1,150 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node.property.hilite;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+import org.knime.core.data.RowKey;
+
+/**
+ * Tests {@link RowKeyBitSet}.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+public class RowKeyBitSetTest {
+
+    private static Set<RowKey> setOf(final RowKey... keys) {
+        return new LinkedHashSet<>(Arrays.asList(keys));
+    }
+
+    /** Tests adding and removing keys, the reported changes and that earlier versions of the set don't change. */
+    @Test
+    public void testAddRemove() {
+        final RowKey k1 = new RowKey("Row1");
+        final RowKey k2 = new RowKey("Row2");
+        final RowKey k3 = new RowKey("Row3");
+        final RowKeyBitSet empty = RowKeyBitSet.empty();
+
+        final Set<RowKey> changed = new LinkedHashSet<>();
+        final RowKeyBitSet s12 = empty.add(Arrays.asList(k1, k2), changed);
+        assertThat("Changed keys", changed, is(setOf(k1, k2)));
+        assertThat("Size", s12.size(), is(2));
+        assertThat("Contains key", s12.contains(k1), is(true));
+        assertThat("Contains key", s12.contains(k3), is(false));
+        assertThat("Empty set modified", empty.isEmpty(), is(true));
+
+        changed.clear();
+        assertThat("Unchanged set", s12.add(Arrays.asList(k1), changed), is(sameInstance(s12)));
+        assertThat("Changed keys", changed.isEmpty(), is(true));
+
+        final RowKeyBitSet s2 = s12.remove(Arrays.asList(k1, k3), changed);
+        assertThat("Changed keys", changed, is(setOf(k1)));
+        assertThat("Keys", new ArrayList<>(s2), is(Arrays.asList(k2)));
+        assertThat("Previous set modified", new ArrayList<>(s12), is(Arrays.asList(k1, k2)));
+
+        changed.clear();
+        assertThat("Set after removing all keys", s2.remove(Arrays.asList(k2), changed).isEmpty(), is(true));
+        assertThat("Changed keys", changed, is(setOf(k2)));
+    }
+
+    /** Compares random modifications across several bitmap blocks with a {@link HashSet}. */
+    @Test
+    public void testRandomModifications() {
+        final Random random = new Random(42);
+        final Set<RowKey> expected = new HashSet<>();
+        RowKeyBitSet set = RowKeyBitSet.empty();
+        for (int i = 0; i < 200; i++) {
+            final List<RowKey> keys = new ArrayList<>();
+            for (int k = random.nextInt(2000); k > 0; k--) {
+                keys.add(new RowKey("Row" + random.nextInt(200000)));
+            }
+            final Set<RowKey> changed = new HashSet<>();
+            final Set<RowKey> expectedChanged = new HashSet<>();
+            if (random.nextBoolean()) {
+                set = set.add(keys, changed);
+                keys.stream().filter(expected::add).forEach(expectedChanged::add);
+            } else {
+                set = set.remove(keys, changed);
+                keys.stream().filter(expected::remove).forEach(expectedChanged::add);
+            }
+            assertThat("Changed keys in iteration " + i, changed, is(expectedChanged));
+            assertThat("Size in iteration " + i, set.size(), is(expected.size()));
+            assertThat("Keys in iteration " + i, new HashSet<>(set), is(expected));
+        }
+    }
+
+    /** Tests that the copy handed out by the handler can be modified without affecting the set. */
+    @Test
+    public void testCopy() {
+        final RowKey k1 = new RowKey("Row1");
+        final RowKey k2 = new RowKey("Row2");
+        final RowKeyBitSet set = RowKeyBitSet.empty().add(Arrays.asList(k1, k2), new HashSet<>());
+
+        final Set<RowKey> copy = set.copy();
+        assertThat("Copy", copy, is(setOf(k1, k2)));
+        final Iterator<RowKey> it = copy.iterator();
+        it.next();
+        it.remove();
+        copy.add(new RowKey("Row3"));
+        assertThat("Copy size", copy.size(), is(2));
+        assertThat("Copy contains removed key", copy.contains(k1), is(false));
+        assertThat("Set modified", new ArrayList<>(set), is(Arrays.asList(k1, k2)));
+    }
+}
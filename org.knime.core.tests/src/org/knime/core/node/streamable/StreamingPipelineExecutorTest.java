@@ -0,0 +1,406 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node.streamable;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.ColumnRearranger;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.container.SingleCellFactory;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.streamable.simple.SimpleStreamableFunctionNodeModel;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+
+/**
+ * Tests {@link StreamingPipelineExecutor} and {@link RowChannel}.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+public class StreamingPipelineExecutorTest {
+
+    private static final int ROW_COUNT = 10000;
+
+    private ExecutionContext m_exec;
+
+    /**
+     * Creates the execution context.
+     */
+    @Before
+    public void setUp() {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        NodeFactory<NodeModel> dummyFactory =
+            (NodeFactory)new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0]);
+        m_exec = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(dummyFactory),
+            SingleNodeContainer.MemoryPolicy.CacheSmallInMemory, new HashMap<Integer, ContainerTable>());
+    }
+
+    /**
+     * Rows pushed into a channel with small capacity arrive in order, <code>null</code> marks the end.
+     *
+     * @throws Exception if that fails
+     */
+    @Test
+    public void testChannelTransfersRowsInOrder() throws Exception {
+        final DataTableSpec spec = createSpec();
+        final RowChannel channel = new RowChannel(spec, 16);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread producer = new Thread(() -> {
+            try {
+                for (int i = 0; i < ROW_COUNT; i++) {
+                    channel.getOutput().push(createRow(i));
+                }
+                channel.getOutput().close();
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+        producer.start();
+        RowInput input = channel.getInput();
+        assertThat("Wrong spec", input.getDataTableSpec(), is(spec));
+        for (int i = 0; i < ROW_COUNT; i++) {
+            DataRow row = input.poll();
+            assertThat("Wrong value in row " + i, ((IntValue)row.getCell(0)).getIntValue(), is(i));
+        }
+        assertThat("End of stream expected", input.poll(), is(nullValue()));
+        producer.join();
+        assertThat("Producer failed", failure.get(), is(nullValue()));
+    }
+
+    /**
+     * Batches larger than the channel capacity are split and arrive in order.
+     *
+     * @throws Exception if that fails
+     */
+    @Test
+    public void testChannelTransfersBatchesInOrder() throws Exception {
+        final RowChannel channel = new RowChannel(createSpec(), 16);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread producer = new Thread(() -> {
+            try {
+                DataRow[] batch = new DataRow[50];
+                for (int i = 0; i < ROW_COUNT; i += batch.length) {
+                    for (int j = 0; j < batch.length; j++) {
+                        batch[j] = createRow(i + j);
+                    }
+                    channel.getOutput().push(batch, batch.length);
+                }
+                channel.getOutput().close();
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+        producer.start();
+        DataRow[] batch = new DataRow[7];
+        int next = 0;
+        int count;
+        while ((count = channel.getInput().poll(batch)) > 0) {
+            for (int j = 0; j < count; j++) {
+                assertThat("Wrong value in row " + next, ((IntValue)batch[j].getCell(0)).getIntValue(), is(next));
+                next++;
+            }
+        }
+        assertThat("Wrong number of rows", next, is(ROW_COUNT));
+        producer.join();
+        assertThat("Producer failed", failure.get(), is(nullValue()));
+    }
+
+    /**
+     * The default batch poll returns after the first row, it doesn't wait for further rows.
+     *
+     * @throws Exception if that fails
+     */
+    @Test
+    public void testDefaultBatchPollDoesNotWait() throws Exception {
+        final int[] polls = new int[1];
+        final RowInput input = new RowInput() {
+            /** {@inheritDoc} */
+            @Override
+            public DataTableSpec getDataTableSpec() {
+                return createSpec();
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public DataRow poll() {
+                // a streaming input would block on the second call until the upstream node produces another row
+                return polls[0]++ < 2 ? createRow(polls[0]) : null;
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public void close() {
+                // nothing to close
+            }
+        };
+        DataRow[] batch = new DataRow[64];
+        assertThat("Wrong number of rows", input.poll(batch), is(1));
+        assertThat("Wrong number of polls", polls[0], is(1));
+        assertThat("Wrong number of rows", input.poll(batch), is(1));
+        assertThat("Wrong number of rows", input.poll(batch), is(0));
+    }
+
+    /**
+     * Closing the input of a channel unblocks and fails the producer.
+     *
+     * @throws Exception if that fails
+     */
+    @Test
+    public void testChannelClosedByConsumer() throws Exception {
+        final RowChannel channel = new RowChannel(createSpec(), 4);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread producer = new Thread(() -> {
+            try {
+                for (int i = 0; i < ROW_COUNT; i++) {
+                    channel.getOutput().push(createRow(i));
+                }
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+        producer.start();
+        assertThat("Wrong first row", ((IntValue)channel.getInput().poll().getCell(0)).getIntValue(), is(0));
+        channel.getInput().close();
+        producer.join();
+        assertThat("Producer not notified about closed output",
+            failure.get() instanceof RowOutput.OutputClosedException, is(true));
+    }
+
+    /**
+     * Runs a chain of three nodes in one partition.
+     *
+     * @throws Exception if that fails
+     */
+    @Test
+    public void testPipelinedExecution() throws Exception {
+        runChainAndCheck(1);
+    }
+
+    /**
+     * Runs a chain of three nodes on four partitions, the output must be identical to the sequential run.
+     *
+     * @throws Exception if that fails
+     */
+    @Test
+    public void testPartitionedExecution() throws Exception {
+        runChainAndCheck(4);
+    }
+
+    /**
+     * Runs a chain on more partitions than the global thread pool has threads, operators blocked by a channel must not
+     * prevent the others from running.
+     *
+     * @throws Exception if that fails
+     */
+    @Test(timeout = 60000)
+    public void testPartitionedExecutionExceedingPoolSize() throws Exception {
+        runChainAndCheck(KNIMEConstants.GLOBAL_THREAD_POOL.getMaxThreads() + 1);
+    }
+
+    /**
+     * Runs a chain from a thread of the global thread pool, like a node does.
+     *
+     * @throws Exception if that fails
+     */
+    @Test(timeout = 60000)
+    public void testPartitionedExecutionInPoolThread() throws Exception {
+        KNIMEConstants.GLOBAL_THREAD_POOL.enqueue(() -> {
+            runChainAndCheck(4);
+            return null;
+        }).get();
+    }
+
+    /**
+     * Executes a single node on partitions of its input, small tables are not split.
+     *
+     * @throws Exception if that fails
+     */
+    @Test
+    public void testExecutePartitioned() throws Exception {
+        final int rowCount = 4 * ROW_COUNT;
+        final BufferedDataTable result =
+            StreamingPipelineExecutor.executePartitioned(new PlusOneNodeModel(-1), createTable(rowCount), m_exec, 4);
+        assertThat("Wrong row count", result.size(), is((long)rowCount));
+        int i = 0;
+        for (DataRow row : result) {
+            assertThat("Wrong row key", row.getKey(), is(RowKey.createRowKey((long)i)));
+            assertThat("Wrong value in row " + i, ((IntValue)row.getCell(0)).getIntValue(), is(i + 1));
+            i++;
+        }
+        assertThat("Small table should not be split", StreamingPipelineExecutor
+            .executePartitioned(new PlusOneNodeModel(-1), createTable(ROW_COUNT), m_exec, 4), is(nullValue()));
+    }
+
+    /**
+     * An exception thrown by an operator is propagated to the caller.
+     *
+     * @throws Exception if that fails
+     */
+    @Test
+    public void testFailureIsPropagated() throws Exception {
+        List<NodeModel> models = Arrays.asList(new PlusOneNodeModel(-1), new PlusOneNodeModel(ROW_COUNT / 2));
+        StreamingPipelineExecutor executor = new StreamingPipelineExecutor(models, 8);
+        try {
+            executor.execute(createTable(), new ExecutionContext[]{m_exec, m_exec}, 2);
+            fail("Expected exception not thrown");
+        } catch (Exception e) {
+            Throwable t = e;
+            while (t.getCause() != null && !"Failing on purpose".equals(t.getMessage())) {
+                t = t.getCause();
+            }
+            assertThat("Unexpected exception", String.valueOf(t.getMessage()), containsString("Failing on purpose"));
+        }
+    }
+
+    private void runChainAndCheck(final int maxPartitions) throws Exception {
+        List<NodeModel> models =
+            Arrays.asList(new PlusOneNodeModel(-1), new PlusOneNodeModel(-1), new PlusOneNodeModel(-1));
+        assertThat("Chain should be partitionable", new StreamingPipelineExecutor(models).isPartitionable(), is(true));
+        StreamingPipelineExecutor executor = new StreamingPipelineExecutor(models, 8);
+        BufferedDataTable result =
+            executor.execute(createTable(), new ExecutionContext[]{m_exec, m_exec, m_exec}, maxPartitions);
+        assertThat("Wrong row count", result.size(), is((long)ROW_COUNT));
+        int i = 0;
+        for (DataRow row : result) {
+            assertThat("Wrong row key", row.getKey(), is(RowKey.createRowKey((long)i)));
+            assertThat("Wrong value in row " + i, ((IntValue)row.getCell(0)).getIntValue(), is(i + 3));
+            i++;
+        }
+    }
+
+    private static DataTableSpec createSpec() {
+        return new DataTableSpec(new DataColumnSpecCreator("int", IntCell.TYPE).createSpec());
+    }
+
+    private static DataRow createRow(final int i) {
+        return new DefaultRow(RowKey.createRowKey((long)i), new IntCell(i));
+    }
+
+    private BufferedDataTable createTable() {
+        return createTable(ROW_COUNT);
+    }
+
+    private BufferedDataTable createTable(final int rowCount) {
+        BufferedDataContainer cont = m_exec.createDataContainer(createSpec());
+        for (int i = 0; i < rowCount; i++) {
+            cont.addRowToTable(createRow(i));
+        }
+        cont.close();
+        return cont.getTable();
+    }
+
+    /** Adds one to the (int) first column, optionally fails at a given value. */
+    private static final class PlusOneNodeModel extends SimpleStreamableFunctionNodeModel {
+
+        private final int m_failValue;
+
+        PlusOneNodeModel(final int failValue) {
+            m_failValue = failValue;
+        }
+
+        @Override
+        protected ColumnRearranger createColumnRearranger(final DataTableSpec spec) throws InvalidSettingsException {
+            ColumnRearranger rearranger = new ColumnRearranger(spec);
+            rearranger.replace(new SingleCellFactory(spec.getColumnSpec(0)) {
+                @Override
+                public DataCell getCell(final DataRow row) {
+                    int value = ((IntValue)row.getCell(0)).getIntValue();
+                    if (value == m_failValue) {
+                        throw new IllegalStateException("Failing on purpose");
+                    }
+                    return new IntCell(value + 1);
+                }
+            }, 0);
+            return rearranger;
+        }
+
+        @Override
+        protected void saveSettingsTo(final NodeSettingsWO settings) {
+        }
+
+        @Override
+        protected void validateSettings(final NodeSettingsRO settings) throws InvalidSettingsException {
+        }
+
+        @Override
+        protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) throws InvalidSettingsException {
+        }
+
+    }
+
+}
@@ -0,0 +1,180 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node.workflow;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+import org.junit.Test;
+import org.knime.core.node.workflow.node.adapter.AdapterNodeFactory;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Tests the cost estimation of {@link CriticalPathEstimator} and the mapping of costs to thread pool priorities. The
+ * successor costs are computed on the workflow
+ *
+ * <pre>
+ * source -&gt; A -+-&gt; B -&gt; D
+ *              +-&gt; C -&gt; E
+ * </pre>
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+public class CriticalPathEstimatorTest extends WorkflowTestCase {
+
+    /** Priorities grow logarithmically and monotonically with the cost. */
+    @Test
+    public void testToPriority() {
+        assertThat(CriticalPathEstimator.toPriority(-5), is(ThreadPool.DEFAULT_PRIORITY));
+        assertThat(CriticalPathEstimator.toPriority(0), is(ThreadPool.DEFAULT_PRIORITY));
+        assertThat(CriticalPathEstimator.toPriority(1), is(1));
+        assertThat(CriticalPathEstimator.toPriority(1000), is(CriticalPathEstimator.toPriority(1023)));
+        assertThat(CriticalPathEstimator.toPriority(Long.MAX_VALUE), is(63));
+        int last = 0;
+        for (long cost = 1; cost > 0 && cost < Long.MAX_VALUE / 3; cost *= 3) {
+            int priority = CriticalPathEstimator.toPriority(cost);
+            assertTrue("Priority must not decrease with cost", priority >= last);
+            last = priority;
+        }
+    }
+
+    /** Scales by the ratio of current and past input rows, within bounds, unknown row counts don't scale. */
+    @Test
+    public void testScaleByInputRows() {
+        assertThat("Twice the rows", CriticalPathEstimator.scaleByInputRows(100, 200, 100), is(200L));
+        assertThat("Half the rows", CriticalPathEstimator.scaleByInputRows(100, 50, 100), is(50L));
+        assertThat("Same rows", CriticalPathEstimator.scaleByInputRows(100, 100, 100), is(100L));
+        assertThat("Upper bound", CriticalPathEstimator.scaleByInputRows(100, 1000000, 1), is(10000L));
+        assertThat("Lower bound", CriticalPathEstimator.scaleByInputRows(1000, 0, 1000000), is(10L));
+        assertThat("Current rows unknown", CriticalPathEstimator.scaleByInputRows(100, -1, 100), is(100L));
+        assertThat("Past rows unknown", CriticalPathEstimator.scaleByInputRows(100, 50, -1), is(100L));
+        assertThat("No past rows", CriticalPathEstimator.scaleByInputRows(100, 50, 0), is(100L));
+    }
+
+    /**
+     * The successor cost is the cost of the most expensive downstream path, executed nodes don't add to the cost.
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testMaxSuccessorCost() throws Exception {
+        WorkflowManager wm =
+            WorkflowManager.ROOT.createAndAddProject(getClass().getSimpleName(), new WorkflowCreationHelper());
+        setManager(wm);
+        final NodeID source = wm.addNode(new AdapterNodeFactory(true));
+        final NodeID a = wm.addNode(new AdapterNodeFactory());
+        final NodeID b = wm.addNode(new AdapterNodeFactory());
+        final NodeID c = wm.addNode(new AdapterNodeFactory());
+        final NodeID d = wm.addNode(new AdapterNodeFactory());
+        final NodeID e = wm.addNode(new AdapterNodeFactory());
+        wm.addConnection(source, 1, a, 1);
+        wm.addConnection(a, 1, b, 1);
+        wm.addConnection(a, 1, c, 1);
+        wm.addConnection(b, 1, d, 1);
+        wm.addConnection(c, 1, e, 1);
+        final Map<NodeID, Long> costs = new HashMap<>();
+        costs.put(source, 1L);
+        costs.put(a, 2L);
+        costs.put(b, 5L);
+        costs.put(c, 20L);
+        costs.put(d, 4L);
+        costs.put(e, 1L);
+        final ToLongFunction<NodeContainer> costFunction = nc -> costs.get(nc.getID());
+
+        assertThat("Successors of A", getMaxSuccessorCost(a, costFunction), is(21L));
+        assertThat("Successors of source", getMaxSuccessorCost(source, costFunction), is(23L));
+        assertThat("Successors of B", getMaxSuccessorCost(b, costFunction), is(4L));
+        assertThat("Successors of D", getMaxSuccessorCost(d, costFunction), is(0L));
+
+        executeAndWait(c);
+        checkState(c, InternalNodeContainerState.EXECUTED);
+        assertThat("Successors of A with executed C", getMaxSuccessorCost(a, costFunction), is(9L));
+        assertThat("Successors of source with executed A and C", getMaxSuccessorCost(source, costFunction),
+            is(9L));
+    }
+
+    /**
+     * The cached successor costs are dropped when the workflow changes; doubling the length of the downstream path of
+     * equally expensive nodes increases the priority by one.
+     * @throws Exception if the test fails
+     */
+    @Test(timeout = 10000)
+    public void testPriorityAfterWorkflowChange() throws Exception {
+        WorkflowManager wm =
+            WorkflowManager.ROOT.createAndAddProject(getClass().getSimpleName(), new WorkflowCreationHelper());
+        setManager(wm);
+        final NodeID source = wm.addNode(new AdapterNodeFactory(true));
+        final NodeID a = wm.addNode(new AdapterNodeFactory());
+        final NodeID b = wm.addNode(new AdapterNodeFactory());
+        wm.addConnection(source, 1, a, 1);
+        wm.addConnection(a, 1, b, 1);
+        final NodeContainer nc = wm.getNodeContainer(a);
+        final int priority = CriticalPathEstimator.getPriority(nc, null);
+        assertThat("Cached priority", CriticalPathEstimator.getPriority(nc, null), is(priority));
+
+        final NodeID c = wm.addNode(new AdapterNodeFactory());
+        final NodeID d = wm.addNode(new AdapterNodeFactory());
+        wm.addConnection(b, 1, c, 1);
+        wm.addConnection(c, 1, d, 1);
+        // workflow events are delivered asynchronously
+        while (CriticalPathEstimator.getPriority(nc, null) == priority) {
+            Thread.sleep(50);
+        }
+        assertThat("Priority with doubled path", CriticalPathEstimator.getPriority(nc, null), is(priority + 1));
+    }
+
+    private long getMaxSuccessorCost(final NodeID id, final ToLongFunction<NodeContainer> costFunction) {
+        try (WorkflowLock lock = getManager().lock()) {
+            return CriticalPathEstimator.getMaxSuccessorCost(getManager(), id, costFunction);
+        }
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node.workflow;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.File;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.swing.JComponent;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.ModelContentRO;
+import org.knime.core.node.ModelContentWO;
+import org.knime.core.node.port.AbstractSimplePortObject;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.port.PortTypeRegistry;
+import org.knime.core.node.port.flowvariable.FlowVariablePortObjectSpec;
+import org.knime.core.node.workflow.NodeMessage.Type;
+import org.knime.core.node.workflow.node.adapter.AdapterNodeFactory;
+import org.knime.core.node.workflow.node.adapter.AdapterNodeModel;
+import org.knime.core.util.FileUtil;
+
+/**
+ * Saves an executed workflow (source -&gt; consumer) with non-table port objects, loads it and checks that the port
+ * objects are only read when accessed, also for the connected source node.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+public class LazyPortObjectLoadTest extends WorkflowTestCase {
+
+    private File m_workflowDirectory;
+
+    private int m_sourceIndex;
+
+    private int m_consumerIndex;
+
+    @Before
+    public void setUp() throws Exception {
+        CountingPortObject.LOAD_COUNT.set(0);
+        CountingPortObject.FAIL_LOAD = false;
+        m_workflowDirectory = FileUtil.createTempDir(getClass().getSimpleName());
+        final WorkflowCreationHelper creationHelper = new WorkflowCreationHelper();
+        creationHelper.setWorkflowContext(new WorkflowContext.Factory(m_workflowDirectory).createContext());
+        WorkflowManager wm = WorkflowManager.ROOT.createAndAddProject(getClass().getSimpleName(), creationHelper);
+        NodeID source = wm.addNode(new CountingSourceNodeFactory());
+        NodeID consumer = wm.addNode(new CountingConsumerNodeFactory());
+        wm.addConnection(source, 1, consumer, 1);
+        wm.executeAllAndWaitUntilDone();
+        assertThat(wm.printNodeSummary(wm.getID(), 0), wm.getInternalState(), is(InternalNodeContainerState.EXECUTED));
+        wm.save(m_workflowDirectory, new ExecutionMonitor(), true);
+        WorkflowManager.ROOT.removeNode(wm.getID());
+        m_sourceIndex = source.getIndex();
+        m_consumerIndex = consumer.getIndex();
+        CountingPortObject.LOAD_COUNT.set(0);
+    }
+
+    /** Port objects of executed, connected nodes are read on first access only. */
+    @Test
+    public void testReadOnAccess() throws Exception {
+        NodeID baseID = loadAndSetWorkflow(m_workflowDirectory);
+        NodeID source = baseID.createChild(m_sourceIndex);
+        NodeID consumer = baseID.createChild(m_consumerIndex);
+        checkStateOfMany(InternalNodeContainerState.EXECUTED, source, consumer);
+        assertThat("Objects read during load", CountingPortObject.LOAD_COUNT.get(), is(0));
+
+        NodeOutPort sourcePort = getManager().getNodeContainer(source).getOutPort(1);
+        assertThat("Source has data", sourcePort.hasPortObject(), is(true));
+        assertThat("Objects read after data check", CountingPortObject.LOAD_COUNT.get(), is(0));
+
+        assertThat("Source object class", sourcePort.getPortObject() instanceof CountingPortObject, is(true));
+        assertThat("Objects read after source access", CountingPortObject.LOAD_COUNT.get(), is(1));
+        sourcePort.getPortObject();
+        assertThat("Objects read after second source access", CountingPortObject.LOAD_COUNT.get(), is(1));
+
+        getManager().getNodeContainer(consumer).getOutPort(1).getPortObject();
+        assertThat("Objects read after consumer access", CountingPortObject.LOAD_COUNT.get(), is(2));
+    }
+
+    /** A port object that fails to read reports an error and no longer reports data. */
+    @Test
+    public void testReadFailure() throws Exception {
+        NodeID baseID = loadAndSetWorkflow(m_workflowDirectory);
+        NodeID source = baseID.createChild(m_sourceIndex);
+        NodeContainer sourceNC = getManager().getNodeContainer(source);
+        NodeOutPort sourcePort = sourceNC.getOutPort(1);
+        CountingPortObject.FAIL_LOAD = true;
+        assertThat("Object after failed read", sourcePort.getPortObject() == null, is(true));
+        assertThat("Source has data after failed read", sourcePort.hasPortObject(), is(false));
+        assertThat("Source message", sourceNC.getNodeMessage().getMessageType(), is(Type.ERROR));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @After
+    public void tearDown() throws Exception {
+        super.tearDown();
+        FileUtil.deleteRecursively(m_workflowDirectory);
+        CountingPortObject.FAIL_LOAD = false;
+    }
+
+    /** Port object counting how often it is read. */
+    public static final class CountingPortObject extends AbstractSimplePortObject {
+
+        static final PortType TYPE = PortTypeRegistry.getInstance().getPortType(CountingPortObject.class);
+
+        static final AtomicInteger LOAD_COUNT = new AtomicInteger();
+
+        static volatile boolean FAIL_LOAD;
+
+        /** Framework constructor. */
+        public CountingPortObject() {
+        }
+
+        @Override
+        public String getSummary() {
+            return "Counting port object";
+        }
+
+        @Override
+        public FlowVariablePortObjectSpec getSpec() {
+            return FlowVariablePortObjectSpec.INSTANCE;
+        }
+
+        @Override
+        public JComponent[] getViews() {
+            return new JComponent[0];
+        }
+
+        @Override
+        protected void save(final ModelContentWO model, final ExecutionMonitor exec)
+            throws CanceledExecutionException {
+            model.addString("content", "counting");
+        }
+
+        @Override
+        protected void load(final ModelContentRO model, final PortObjectSpec spec, final ExecutionMonitor exec)
+            throws InvalidSettingsException, CanceledExecutionException {
+            if (FAIL_LOAD) {
+                throw new InvalidSettingsException("Failing on purpose");
+            }
+            LOAD_COUNT.incrementAndGet();
+        }
+    }
+
+    /** Source node creating a {@link CountingPortObject}. */
+    public static final class CountingSourceNodeFactory extends AdapterNodeFactory {
+
+        @Override
+        public AdapterNodeModel createNodeModel() {
+            return new AdapterNodeModel(new PortType[0], new PortType[]{CountingPortObject.TYPE}) {
+                @Override
+                protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) {
+                    return new PortObjectSpec[]{FlowVariablePortObjectSpec.INSTANCE};
+                }
+
+                @Override
+                protected PortObject[] execute(final PortObject[] inObjects, final ExecutionContext exec) {
+                    return new PortObject[]{new CountingPortObject()};
+                }
+            };
+        }
+    }
+
+    /** Node passing on a {@link CountingPortObject}. */
+    public static final class CountingConsumerNodeFactory extends AdapterNodeFactory {
+
+        @Override
+        public AdapterNodeModel createNodeModel() {
+            return new AdapterNodeModel(new PortType[]{CountingPortObject.TYPE},
+                new PortType[]{CountingPortObject.TYPE});
+        }
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node.workflow;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.workflow.node.adapter.AdapterNodeFactory;
+
+/**
+ * Tests {@link NodeExecutionProfiler}.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+public class NodeExecutionProfilerTest extends WorkflowTestCase {
+
+    /** Tests a single start/finish cycle without table ports. */
+    @Test
+    public void testStartFinish() {
+        final NodeExecutionProfiler profiler = new NodeExecutionProfiler();
+        assertThat("No profile before execution", profiler.getLastProfile(), is(nullValue()));
+        profiler.finish(new PortObject[0], new PortObject[0]);
+        assertThat("Finish without start is ignored", profiler.getLastProfile(), is(nullValue()));
+
+        profiler.start();
+        profiler.finish(new PortObject[]{null}, new PortObject[]{null, null});
+        final NodeExecutionProfile profile = profiler.getLastProfile();
+        assertThat("Profile after execution", profile, is(notNullValue()));
+        assertThat("Wall time non-negative", profile.getWallNanos() >= 0, is(true));
+        assertThat("Input row counts", profile.getRowsIn(), is(new long[]{-1}));
+        assertThat("Output row counts", profile.getRowsOut(), is(new long[]{-1, -1}));
+        assertThat("Spilled bytes", profile.getSpilledBytes(), is(0L));
+        assertThat("Thread pool wait", profile.getThreadPoolWaitNanos(), is(0L));
+    }
+
+    /** Tests that counters recorded without node context are dropped silently. */
+    @Test
+    public void testRecordWithoutContext() {
+        NodeExecutionProfiler.recordThreadPoolWaitNanos(null, 100);
+        if (NodeContext.getContext() == null) {
+            NodeExecutionProfiler.recordSpilledBytes(100);
+            NodeExecutionProfiler.recordAsyncWriteBlockedNanos(100);
+        }
+    }
+
+    /**
+     * Profiles the same node twice, counts recorded between the executions must not show up in the second profile.
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testProfileSameNodeTwice() throws Exception {
+        WorkflowManager wm =
+            WorkflowManager.ROOT.createAndAddProject(getClass().getSimpleName(), new WorkflowCreationHelper());
+        setManager(wm);
+        final NodeID source = wm.addNode(new AdapterNodeFactory(true));
+        final NodeContainer nc = wm.getNodeContainer(source);
+        final long stale = TimeUnit.HOURS.toNanos(1);
+
+        executeAndWait(source);
+        checkState(source, InternalNodeContainerState.EXECUTED);
+        final NodeExecutionProfile first = nc.getNodeTimer().getLastExecutionProfile();
+        assertThat("Profile after first execution", first, is(notNullValue()));
+        assertThat("Output rows of first execution", lastRowCount(first), is(3L));
+
+        NodeContext.pushContext(nc);
+        try {
+            NodeExecutionProfiler.recordSpilledBytes(stale);
+            NodeExecutionProfiler.recordAsyncWriteBlockedNanos(stale);
+            NodeExecutionProfiler.recordThreadPoolWaitNanos(NodeContext.getContext(), stale);
+        } finally {
+            NodeContext.removeLastContext();
+        }
+
+        reset(source);
+        executeAndWait(source);
+        checkState(source, InternalNodeContainerState.EXECUTED);
+        final NodeExecutionProfile second = nc.getNodeTimer().getLastExecutionProfile();
+        assertThat("Profile after second execution", second, is(notNullValue()));
+        assertThat("New profile for second execution", second, is(not(sameInstance(first))));
+        assertThat("Output rows of second execution", lastRowCount(second), is(3L));
+        assertThat("Stale spilled bytes", second.getSpilledBytes() < stale, is(true));
+        assertThat("Stale async write wait", second.getAsyncWriteBlockedNanos() < stale, is(true));
+        assertThat("Stale thread pool wait", second.getThreadPoolWaitNanos() < stale, is(true));
+    }
+
+    /** @return the row count of the last output port (the first port is the flow variable port) */
+    private static long lastRowCount(final NodeExecutionProfile profile) {
+        final long[] rowsOut = profile.getRowsOut();
+        return rowsOut[rowsOut.length - 1];
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node.workflow;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+import org.knime.core.data.DataRow;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.WorkflowPersistor.LoadResultEntry.LoadResultEntryType;
+import org.knime.core.node.workflow.WorkflowPersistor.WorkflowLoadResult;
+import org.knime.core.node.workflow.node.adapter.AdapterNodeFactory;
+import org.knime.core.util.FileUtil;
+
+/**
+ * Tests {@link ParallelWorkflowIO}, also by saving and loading a workflow concurrently and comparing it to the
+ * sequentially loaded workflow.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+public class ParallelWorkflowIOTest extends WorkflowTestCase {
+
+    private static final int PARALLELISM = 4;
+
+    private File m_workflowDirectory;
+
+    private int m_previousParallelism = -1;
+
+    /** Tests that all tasks are run and failures are returned by task index. */
+    @Test
+    public void testInvokeAllCollectsFailures() throws Exception {
+        final AtomicInteger runCount = new AtomicInteger();
+        final IOException failure = new IOException("expected");
+        final List<ParallelWorkflowIO.IOTask> tasks = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            final int index = i;
+            tasks.add(() -> {
+                runCount.incrementAndGet();
+                if (index == 7) {
+                    throw failure;
+                }
+            });
+        }
+        final Throwable[] failures = ParallelWorkflowIO.invokeAll(tasks, false);
+        assertThat("Number of tasks run", runCount.get(), is(20));
+        assertThat("Number of results", failures.length, is(20));
+        for (int i = 0; i < failures.length; i++) {
+            if (i == 7) {
+                assertThat("Failure of task " + i, failures[i], is(sameInstance((Throwable)failure)));
+            } else {
+                assertThat("Failure of task " + i, failures[i], is(nullValue()));
+            }
+        }
+    }
+
+    /** Tests that an empty task list is accepted. */
+    @Test
+    public void testInvokeAllEmpty() throws Exception {
+        assertThat("Number of results", ParallelWorkflowIO.invokeAll(new ArrayList<>(), true).length, is(0));
+    }
+
+    /**
+     * Saves an executed workflow with connected nodes and a metanode concurrently, loads it concurrently and
+     * sequentially and checks that all loaded workflows are equal to the saved one (node states, output data and
+     * connections).
+     *
+     * @throws Exception if that fails
+     */
+    @Test
+    public void testParallelRoundTrip() throws Exception {
+        m_previousParallelism = ParallelWorkflowIO.setParallelism(PARALLELISM);
+        m_workflowDirectory = FileUtil.createTempDir(getClass().getSimpleName());
+        final WorkflowCreationHelper creationHelper = new WorkflowCreationHelper();
+        creationHelper.setWorkflowContext(new WorkflowContext.Factory(m_workflowDirectory).createContext());
+        WorkflowManager wm = WorkflowManager.ROOT.createAndAddProject(getClass().getSimpleName(), creationHelper);
+        // two independent branches, each with several nodes per level
+        for (int branch = 0; branch < 2; branch++) {
+            NodeID source = wm.addNode(new AdapterNodeFactory(true));
+            NodeID a = wm.addNode(new AdapterNodeFactory());
+            NodeID b = wm.addNode(new AdapterNodeFactory());
+            NodeID c = wm.addNode(new AdapterNodeFactory());
+            wm.addConnection(source, 1, a, 1);
+            wm.addConnection(source, 1, b, 1);
+            wm.addConnection(b, 1, c, 1);
+            // metanode containing two nodes
+            WorkflowManager meta = wm.createAndAddSubWorkflow(new PortType[]{BufferedDataTable.TYPE},
+                new PortType[]{BufferedDataTable.TYPE}, "Metanode " + branch);
+            NodeID inner1 = meta.addNode(new AdapterNodeFactory());
+            NodeID inner2 = meta.addNode(new AdapterNodeFactory());
+            meta.addConnection(meta.getID(), 0, inner1, 1);
+            meta.addConnection(inner1, 1, inner2, 1);
+            meta.addConnection(inner2, 1, meta.getID(), 0);
+            wm.addConnection(a, 1, meta.getID(), 0);
+            NodeID afterMeta = wm.addNode(new AdapterNodeFactory());
+            wm.addConnection(meta.getID(), 0, afterMeta, 1);
+        }
+        // a node that can't be executed (its input isn't connected)
+        wm.addNode(new AdapterNodeFactory());
+        wm.executeAllAndWaitUntilDone();
+        final List<String> expected = describe(wm, "");
+        wm.save(m_workflowDirectory, new ExecutionMonitor(), true);
+        WorkflowManager.ROOT.removeNode(wm.getID());
+
+        final List<String> parallel = loadAndDescribe();
+        ParallelWorkflowIO.setParallelism(1);
+        final List<String> sequential = loadAndDescribe();
+
+        assertThat("Sequentially loaded workflow", sequential, is(expected));
+        assertThat("Concurrently loaded workflow", parallel, is(expected));
+    }
+
+    private List<String> loadAndDescribe() throws Exception {
+        WorkflowLoadResult loadResult = loadWorkflow(m_workflowDirectory, new ExecutionMonitor());
+        assertThat("Load result: " + loadResult.getFilteredError("", LoadResultEntryType.Ok), loadResult.getType(),
+            is(LoadResultEntryType.Ok));
+        WorkflowManager wm = loadResult.getWorkflowManager();
+        try {
+            return describe(wm, "");
+        } finally {
+            WorkflowManager.ROOT.removeNode(wm.getID());
+        }
+    }
+
+    /** Describes the nodes (state and output data) and connections of the workflow and its metanodes. */
+    private static List<String> describe(final WorkflowManager wm, final String prefix) {
+        final List<String> lines = new ArrayList<>();
+        for (NodeContainer nc : wm.getNodeContainers()) {
+            final String id = prefix + nc.getID().getIndex();
+            lines.add(id + " " + nc.getName() + " " + nc.getInternalState());
+            for (int p = 0; p < nc.getNrOutPorts(); p++) {
+                final PortObject po = nc.getOutPort(p).getPortObject();
+                if (po instanceof BufferedDataTable) {
+                    for (DataRow row : (BufferedDataTable)po) {
+                        lines.add(id + " port " + p + " " + row);
+                    }
+                }
+            }
+            if (nc instanceof WorkflowManager) {
+                lines.addAll(describe((WorkflowManager)nc, id + ":"));
+            }
+        }
+        for (ConnectionContainer cc : wm.getConnectionContainers()) {
+            lines.add(prefix + cc.getSource().getIndex() + "/" + cc.getSourcePort() + " -> " + prefix
+                + cc.getDest().getIndex() + "/" + cc.getDestPort() + " " + cc.getType());
+        }
+        Collections.sort(lines);
+        return lines;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @After
+    public void tearDown() throws Exception {
+        super.tearDown();
+        if (m_previousParallelism > 0) {
+            ParallelWorkflowIO.setParallelism(m_previousParallelism);
+        }
+        if (m_workflowDirectory != null) {
+            FileUtil.deleteRecursively(m_workflowDirectory);
+        }
+    }
+}
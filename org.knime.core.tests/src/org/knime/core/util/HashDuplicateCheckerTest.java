@@ -0,0 +1,186 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.util;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link HashDuplicateChecker}.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+public class HashDuplicateCheckerTest {
+
+    /**
+     * Consecutive row keys and keys that break the monotone sequence.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testMonotoneRange() throws Exception {
+        HashDuplicateChecker checker = new HashDuplicateChecker();
+        for (int i = 0; i < 1000; i++) {
+            checker.addKey("Row" + i);
+        }
+        checker.addKey("Row1000a");
+        checker.addKey("Row1000");
+        checker.addKey("Row01");
+        checker.addKey("Row");
+        checker.addKey("Row-1");
+        checker.checkForDuplicates();
+        assertDuplicate(checker, "Row999");
+        assertDuplicate(checker, "Row0");
+        assertDuplicate(checker, "Row1000");
+        checker.clear();
+
+        checker.addKey("Row5");
+        checker.addKey("Row5a");
+        checker.addKey("Row6");
+        assertDuplicate(checker, "Row6");
+        checker.clear();
+    }
+
+    /**
+     * Random keys with and without duplicates, all keys are kept in memory.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testArbitraryStringsInMemory() throws Exception {
+        long seed = System.currentTimeMillis();
+        internalTestArbitraryStrings(() -> new HashDuplicateChecker(() -> false), false, seed);
+        internalTestArbitraryStrings(() -> new HashDuplicateChecker(() -> false), true, seed);
+        // invalid UTF-16 strings, see DuplicateCheckerTest
+        internalTestArbitraryStrings(() -> new HashDuplicateChecker(() -> false), true, 1343253055319L);
+    }
+
+    /**
+     * Random keys with and without duplicates, keys are written to disk whenever possible.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testArbitraryStringsSpilled() throws Exception {
+        long seed = System.currentTimeMillis();
+        internalTestArbitraryStrings(() -> new HashDuplicateChecker(() -> true), false, seed);
+        internalTestArbitraryStrings(() -> new HashDuplicateChecker(() -> true), true, seed);
+        internalTestArbitraryStrings(() -> new HashDuplicateChecker(() -> true), true, 1343253055319L);
+    }
+
+    /**
+     * Random keys with and without duplicates, keys are written to disk whenever possible and there are more suspects
+     * than kept in memory, i.e. all keys are checked on disk.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testArbitraryStringsSuspectOverflow() throws Exception {
+        long seed = System.currentTimeMillis();
+        internalTestArbitraryStrings(() -> new HashDuplicateChecker(() -> true, 10), false, seed);
+        internalTestArbitraryStrings(() -> new HashDuplicateChecker(() -> true, 10), true, seed);
+        internalTestArbitraryStrings(() -> new HashDuplicateChecker(() -> true, 10), true, 1343253055319L);
+    }
+
+    private static void internalTestArbitraryStrings(final Supplier<IDuplicateChecker> creator,
+        final boolean isAddDuplicate, final long seed) throws IOException {
+        Random r = new Random(seed);
+        LinkedHashSet<String> set = new LinkedHashSet<String>();
+        while (set.size() < 100000) {
+            char[] c = new char[1 + r.nextInt(30)];
+            for (int i = 0; i < c.length; i++) {
+                c[i] = r.nextDouble() < 0.1 ? (char)r.nextInt(Character.MAX_VALUE + 1)
+                    : (char)(' ' + r.nextInt(Byte.MAX_VALUE - ' '));
+            }
+            set.add(new String(c));
+        }
+        List<String> keys = new ArrayList<String>(set);
+        String duplicate = keys.get(r.nextInt(keys.size()));
+        if (isAddDuplicate) {
+            keys.add(duplicate);
+            Collections.shuffle(keys, r);
+        }
+        IDuplicateChecker checker = creator.get();
+        try {
+            for (String key : keys) {
+                checker.addKey(key);
+            }
+            checker.checkForDuplicates();
+            if (isAddDuplicate) {
+                fail("No duplicate detected even though one is present (seed " + seed + ")");
+            }
+        } catch (DuplicateKeyException e) {
+            if (!isAddDuplicate) {
+                fail("Duplicate detected even though no duplicates are present (seed " + seed + ")");
+            }
+            assertThat("Wrong duplicate key (seed " + seed + ")", e.getKey(), is(duplicate));
+        } finally {
+            checker.clear();
+        }
+    }
+
+    private static void assertDuplicate(final IDuplicateChecker checker, final String key) throws IOException {
+        try {
+            checker.addKey(key);
+            fail("Duplicate key " + key + " not detected");
+        } catch (DuplicateKeyException e) {
+            assertThat("Wrong duplicate key", e.getKey(), is(key));
+        }
+    }
+}
@@ -49,7 +49,12 @@
 
 import static org.junit.Assert.assertThat;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -434,4 +439,45 @@ public ClassLoader call() throws Exception {
             Thread.currentThread().setContextClassLoader(cl);
         }
     }
+
+    /**
+     * Checks that the fair scheduler starts queued jobs by priority and updates the statistics.
+     *
+     * @throws Exception if an error occurs
+     */
+    public void testFairSchedulingPriorities() throws Exception {
+        assertEquals(Arrays.asList("high", "low1", "low2", "low3"), runQueuedJobs(new ThreadPool(1, true)));
+    }
+
+    /**
+     * Checks that the default scheduler starts queued jobs in FIFO order, regardless of their priority.
+     *
+     * @throws Exception if an error occurs
+     */
+    public void testFifoSchedulingIgnoresPriorities() throws Exception {
+        assertEquals(Arrays.asList("low1", "low2", "high", "low3"), runQueuedJobs(new ThreadPool(1, false)));
+    }
+
+    private static List<String> runQueuedJobs(final ThreadPool root) throws Exception {
+        final CountDownLatch blocker = new CountDownLatch(1);
+        final List<String> order = Collections.synchronizedList(new ArrayList<String>());
+        root.enqueue(() -> {
+            blocker.await();
+            return null;
+        });
+        root.enqueue(() -> order.add("low1"));
+        root.enqueue(() -> order.add("low2"));
+        root.enqueue(() -> order.add("high"), 5);
+        root.enqueue(() -> order.add("low3"), ThreadPool.DEFAULT_PRIORITY);
+        assertEquals(4, root.getStatistics().getQueueDepth());
+        blocker.countDown();
+        root.waitForTermination();
+
+        ThreadPoolMXBean stats = root.getStatistics();
+        assertEquals(5, stats.getSubmittedJobs());
+        assertEquals(4, stats.getQueuedJobs());
+        assertEquals(4, stats.getMaxQueueDepth());
+        assertEquals(0, stats.getQueueDepth());
+        return order;
+    }
 }
@@ -95,7 +95,7 @@ public interface DataTable extends Iterable<DataRow> {
      * @since 3.7
      */
     default RowIteratorBuilder<? extends RowIterator> iteratorBuilder() {
-        return new DefaultRowIteratorBuilder<RowIterator>(() -> iterator(), getDataTableSpec());
+        return DefaultRowIteratorBuilder.forRowIterators(() -> iterator(), getDataTableSpec());
     }
 
 }
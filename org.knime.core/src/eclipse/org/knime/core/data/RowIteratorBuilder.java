@@ -48,8 +48,12 @@
  */
 package org.knime.core.data;
 
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.function.BiFunction;
 import java.util.function.Supplier;
 
+import org.knime.core.data.container.CloseableRowIterator;
 import org.knime.core.node.util.CheckUtils;
 
 /**
@@ -89,6 +93,44 @@
      */
     RowIteratorBuilder<I> filterColumns(String... columns);
 
+    /**
+     * Iterate only over rows starting at the argument index (inclusive, 0-based). Implementations that read from a
+     * storage skip the leading rows without fully materializing them, others simply iterate over them.
+     *
+     * <p>
+     * The default implementation returns a builder that delegates to this builder and skips the leading rows by
+     * iterating over them. Clients must therefore continue with the returned builder.
+     *
+     * @param index the index of the first row to be returned by the iterator
+     * @return this {@link RowIteratorBuilder} or a builder wrapping it
+     * @throws IllegalArgumentException if the index is negative
+     * @since 3.8
+     */
+    default RowIteratorBuilder<I> filterRowsFromIndex(final long index) {
+        CheckUtils.checkArgument(index >= 0, "Row index must not be negative: %d", index);
+        return index == 0 ? this : new SkippingRowIteratorBuilder<I>(this, index);
+    }
+
+    /**
+     * Declares that the client is not interested in rows after the argument index (inclusive, 0-based). Implementations
+     * that read from a storage end the iteration after that row and avoid reading and decoding any further data. The
+     * builders of {@link DataTable} and {@link org.knime.core.node.BufferedDataTable} end the iteration after that row
+     * as well.
+     *
+     * <p>
+     * The default implementation ignores the index, i.e., iterators of third-party builders may continue to return
+     * rows. Clients using such builders must not rely on the iterator to stop.
+     *
+     * @param index the index of the last row the client is interested in
+     * @return this {@link RowIteratorBuilder}
+     * @throws IllegalArgumentException if the index is negative
+     * @since 3.8
+     */
+    default RowIteratorBuilder<I> filterRowsToIndex(final long index) {
+        CheckUtils.checkArgument(index >= 0, "Row index must not be negative: %d", index);
+        return this;
+    }
+
     /**
      * Build a new row iterator with the behavior specified via methods invoked in this builder.
      *
@@ -98,7 +140,9 @@
 
     /**
      * A {@link RowIteratorBuilder} that always builds default {@link RowIterator}s, i.e., iterators iterating over all
-     * rows and columns of a table.
+     * rows and columns of a table. The leading rows are skipped by iterating over them. Builders created with
+     * {@link #forRowIterators(Supplier, DataTableSpec)} or {@link #forCloseableRowIterators(Supplier, DataTableSpec)}
+     * also end the iteration after the {@link #getToRowIndex() last row}.
      *
      * @param <I> the row iterator to be built
      *
@@ -110,6 +154,16 @@
 
         private final DataTableSpec m_spec;
 
+        /** Restricts an iterator to a number of rows, null if the iterator can't be restricted. */
+        private final BiFunction<I, Long, I> m_limiter;
+
+        /** The indices of the columns to materialize, null if all columns are to be materialized. */
+        private int[] m_materializeColumnIndices;
+
+        private long m_fromRowIndex = 0L;
+
+        private long m_toRowIndex = Long.MAX_VALUE;
+
         /**
          * Constructs a new {@link org.knime.core.data.RowIteratorBuilder.DefaultRowIteratorBuilder}.
          *
@@ -118,8 +172,42 @@
          * @param spec the specification of the table over which to iterate
          */
         public DefaultRowIteratorBuilder(final Supplier<I> iteratorSupplier, final DataTableSpec spec) {
+            this(iteratorSupplier, spec, null);
+        }
+
+        private DefaultRowIteratorBuilder(final Supplier<I> iteratorSupplier, final DataTableSpec spec,
+            final BiFunction<I, Long, I> limiter) {
             m_iteratorSupplier = CheckUtils.checkArgumentNotNull(iteratorSupplier, "Argument must not be null");
             m_spec = CheckUtils.checkArgumentNotNull(spec, "Spec must not be null");
+            m_limiter = limiter;
+        }
+
+        /**
+         * Creates a builder of iterators that skip the leading rows and end after the last row of the row range.
+         *
+         * @param iteratorSupplier the supplier of iterators over all rows of the table
+         * @param spec the specification of the table over which to iterate
+         * @return a new builder
+         * @since 3.8
+         */
+        public static DefaultRowIteratorBuilder<RowIterator> forRowIterators(
+            final Supplier<RowIterator> iteratorSupplier, final DataTableSpec spec) {
+            return new DefaultRowIteratorBuilder<RowIterator>(iteratorSupplier, spec, LimitedRowIterator::new);
+        }
+
+        /**
+         * Creates a builder of closeable iterators that skip the leading rows and end after the last row of the row
+         * range. The underlying iterator is closed as soon as the last row has been returned.
+         *
+         * @param iteratorSupplier the supplier of iterators over all rows of the table
+         * @param spec the specification of the table over which to iterate
+         * @return a new builder
+         * @since 3.8
+         */
+        public static DefaultRowIteratorBuilder<CloseableRowIterator> forCloseableRowIterators(
+            final Supplier<CloseableRowIterator> iteratorSupplier, final DataTableSpec spec) {
+            return new DefaultRowIteratorBuilder<CloseableRowIterator>(iteratorSupplier, spec,
+                LimitedCloseableRowIterator::new);
         }
 
         /**
@@ -128,6 +216,7 @@ public DefaultRowIteratorBuilder(final Supplier<I> iteratorSupplier, final DataT
         @Override
         public RowIteratorBuilder<I> filterColumns(final int... indices) {
             m_spec.verifyIndices(indices);
+            m_materializeColumnIndices = indices.clone();
             return this;
         }
 
@@ -143,8 +232,160 @@ public RowIteratorBuilder<I> filterColumns(final String... columns) {
          * {@inheritDoc}
          */
         @Override
+        public RowIteratorBuilder<I> filterRowsFromIndex(final long index) {
+            CheckUtils.checkArgument(index >= 0, "Row index must not be negative: %d", index);
+            m_fromRowIndex = index;
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public RowIteratorBuilder<I> filterRowsToIndex(final long index) {
+            CheckUtils.checkArgument(index >= 0, "Row index must not be negative: %d", index);
+            m_toRowIndex = index;
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * The default implementation returns the iterator provided by the supplier after skipping all rows before the
+         * {@link #getFromRowIndex() start index}. If the builder was created by one of the static factory methods, the
+         * iterator ends after the {@link #getToRowIndex() last row}. Subclasses that are able to push the filters down
+         * into the data source override this method.
+         */
+        @Override
         public I build() {
-            return m_iteratorSupplier.get();
+            final I iterator = m_iteratorSupplier.get();
+            if (m_limiter == null || m_toRowIndex == Long.MAX_VALUE) {
+                skip(iterator, m_fromRowIndex);
+                return iterator;
+            }
+            final long count = Math.max(0L, m_toRowIndex - m_fromRowIndex + 1);
+            if (count > 0) {
+                skip(iterator, m_fromRowIndex);
+            }
+            return m_limiter.apply(iterator, count);
+        }
+
+        /**
+         * @return the spec of the table over which to iterate
+         * @since 3.8
+         */
+        protected final DataTableSpec getSpec() {
+            return m_spec;
+        }
+
+        /**
+         * @return the indices of the columns that are to be materialized or an empty optional if all columns are
+         *         needed
+         * @since 3.8
+         */
+        protected final Optional<int[]> getMaterializeColumnIndices() {
+            return Optional.ofNullable(m_materializeColumnIndices).map(int[]::clone);
+        }
+
+        /**
+         * @return the index of the first row to be returned, 0 if not set
+         * @since 3.8
+         */
+        protected final long getFromRowIndex() {
+            return m_fromRowIndex;
+        }
+
+        /**
+         * @return the index of the last row the client is interested in, {@link Long#MAX_VALUE} if not set
+         * @since 3.8
+         */
+        protected final long getToRowIndex() {
+            return m_toRowIndex;
+        }
+
+        /**
+         * Skips rows by iterating over them.
+         *
+         * @param iterator the iterator to advance
+         * @param count the number of rows to skip
+         */
+        private static void skip(final RowIterator iterator, final long count) {
+            for (long i = 0; i < count && iterator.hasNext(); i++) {
+                iterator.next();
+            }
+        }
+
+        /** Returns at most a given number of rows of another iterator. */
+        private static final class LimitedRowIterator extends RowIterator {
+
+            private final RowIterator m_iterator;
+
+            private long m_remaining;
+
+            LimitedRowIterator(final RowIterator iterator, final long count) {
+                m_iterator = iterator;
+                m_remaining = count;
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public boolean hasNext() {
+                return m_remaining > 0 && m_iterator.hasNext();
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public DataRow next() {
+                if (m_remaining <= 0) {
+                    throw new NoSuchElementException("Iterator at end of row range");
+                }
+                m_remaining--;
+                return m_iterator.next();
+            }
+
+        }
+
+        /** Returns at most a given number of rows of another iterator and closes it once the last row was returned. */
+        private static final class LimitedCloseableRowIterator extends CloseableRowIterator {
+
+            private final CloseableRowIterator m_iterator;
+
+            private long m_remaining;
+
+            LimitedCloseableRowIterator(final CloseableRowIterator iterator, final long count) {
+                m_iterator = iterator;
+                m_remaining = count;
+                if (count <= 0) {
+                    iterator.close();
+                }
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public boolean hasNext() {
+                return m_remaining > 0 && m_iterator.hasNext();
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public DataRow next() {
+                if (m_remaining <= 0) {
+                    throw new NoSuchElementException("Iterator at end of row range");
+                }
+                final DataRow row = m_iterator.next();
+                if (--m_remaining == 0) {
+                    m_iterator.close();
+                }
+                return row;
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public void close() {
+                m_remaining = 0;
+                m_iterator.close();
+            }
+
         }
 
     }
@@ -181,7 +181,10 @@ public final boolean isParallelProcessing() {
      * certain row computation takes long the framework needs to temporarily
      * cache the results of the following rows - the cache size is determined
      * by this parameter. If this cache is full, no further row computations
-     * are queued until the long-running task finishes.)
+     * are queued until the long-running task finishes.) Since 3.8 the rows are
+     * processed in blocks of consecutive rows whose size adapts to the time
+     * per row; the queue size then limits the number of blocks (to at most
+     * twice the number of workers).
      * @since 2.5
      */
     public final void setParallelProcessing(final boolean value,
@@ -131,6 +131,7 @@
 import org.knime.core.node.NodeSettings;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.workflow.NodeExecutionProfiler;
 import org.knime.core.util.FileUtil;
 import org.knime.core.util.LRUCache;
 import org.knime.core.util.ShutdownHelper;
@@ -368,6 +369,10 @@ public class Buffer implements KNIMEStreamConstants {
     /** A cache for holding tables in memory. */
     private static final BufferCache CACHE = new BufferCache();
 
+    static {
+        CACHE.registerMBean();
+    }
+
     /** A thread pool for asynchronous disk I/O threads. */
     static final ExecutorService ASYNC_EXECUTORS = Executors.newSingleThreadExecutor(new ThreadFactory() {
         private final AtomicInteger m_threadCount = new AtomicInteger();
@@ -1136,9 +1141,11 @@ private void closeWriterAndWriteMeta() {
             m_outputWriter.writeMetaInfoAfterWrite(formatSettings);
             m_formatSettings = formatSettings;
             if (m_hasTempFile) {
-                double sizeInMB = m_binFile.length() / (double)(1 << 20);
-                String size = NumberFormat.getInstance().format(sizeInMB);
-                LOGGER.debug("Buffer file (" + m_binFile.getAbsolutePath() + ") is " + size + "MB in size");
+                final long size = m_binFile.length();
+                NodeExecutionProfiler.recordSpilledBytes(size);
+                double sizeInMB = size / (double)(1 << 20);
+                LOGGER.debug("Buffer file (" + m_binFile.getAbsolutePath() + ") is "
+                    + NumberFormat.getInstance().format(sizeInMB) + "MB in size");
                 initOutputReader(formatSettings, IVERSION);
             }
         } catch (IOException ioe) {
@@ -1506,19 +1513,34 @@ public final synchronized RowIteratorBuilder<? extends CloseableRowIterator> ite
                     new BackIntoMemoryIterator(m_outputReader.iteratorBuilder().build(), size());
                 m_backIntoMemoryIteratorRef = new WeakReference<BackIntoMemoryIterator>(backIntoMemoryIterator);
                 // we never store more than 2^31 rows in memory, therefore it's safe to cast to int
-                return new DefaultRowIteratorBuilder<>(
-                    () -> new FromListIterator(backIntoMemoryIterator.getList(), backIntoMemoryIterator),
-                    getTableSpec());
+                return createFromListIteratorBuilder(backIntoMemoryIterator.getList(), backIntoMemoryIterator);
             }
             RowIteratorBuilder<? extends TableStoreCloseableRowIterator> iteratorBuilder =
                 m_outputReader.iteratorBuilder();
             return iteratorBuilder;
         } else {
-            return new DefaultRowIteratorBuilder<>(() -> new FromListIterator(list,
-                m_backIntoMemoryIteratorRef != null ? m_backIntoMemoryIteratorRef.get() : null), getTableSpec());
+            return createFromListIteratorBuilder(list,
+                m_backIntoMemoryIteratorRef != null ? m_backIntoMemoryIteratorRef.get() : null);
         }
     }
 
+    /**
+     * Creates a builder of iterators over the in-memory list. Cells are already materialized, hence the column filter
+     * is ignored; the row range is applied by direct index access where possible.
+     */
+    private RowIteratorBuilder<? extends CloseableRowIterator> createFromListIteratorBuilder(
+        final List<BlobSupportDataRow> list, final BackIntoMemoryIterator backIntoMemoryIterator) {
+        return new DefaultRowIteratorBuilder<CloseableRowIterator>(
+            () -> new FromListIterator(list, backIntoMemoryIterator), getTableSpec()) {
+            @Override
+            public CloseableRowIterator build() {
+                FromListIterator iterator = new FromListIterator(list, backIntoMemoryIterator, getToRowIndex());
+                iterator.skipTo(getFromRowIndex());
+                return iterator;
+            }
+        };
+    }
+
     private List<BlobSupportDataRow> obtainListFromCacheOrBackIntoMemoryIterator() {
         final Optional<List<BlobSupportDataRow>> optionalList = CACHE.get(this);
         if (optionalList.isPresent()) {
@@ -1920,9 +1942,18 @@ private class FromListIterator extends CloseableRowIterator {
         // do not use iterator here, see inner class comment
         private int m_nextIndex = 0;
 
+        /** Index of the last row to return (inclusive). */
+        private final long m_toIndex;
+
         FromListIterator(final List<BlobSupportDataRow> list, final BackIntoMemoryIterator backIntoMemoryIterator) {
+            this(list, backIntoMemoryIterator, Long.MAX_VALUE);
+        }
+
+        FromListIterator(final List<BlobSupportDataRow> list, final BackIntoMemoryIterator backIntoMemoryIterator,
+            final long toIndex) {
             m_list = list;
             m_backIntoMemoryIterator = backIntoMemoryIterator;
+            m_toIndex = toIndex;
         }
 
         /**
@@ -1930,7 +1961,24 @@ private class FromListIterator extends CloseableRowIterator {
          */
         @Override
         public boolean hasNext() {
-            return m_nextIndex < size();
+            return m_nextIndex < size() && m_nextIndex <= m_toIndex;
+        }
+
+        /**
+         * Moves the iterator forward so that the next row returned is the one with the argument index.
+         *
+         * @param index the index of the next row to return
+         */
+        void skipTo(final long index) {
+            if (m_backIntoMemoryIterator == null) {
+                // all rows are in the list, allow direct access
+                m_nextIndex = (int)Math.max(m_nextIndex, Math.min(index, size()));
+            } else {
+                // rows are read back into memory in sequence
+                while (m_nextIndex < index && hasNext()) {
+                    next();
+                }
+            }
         }
 
         /**
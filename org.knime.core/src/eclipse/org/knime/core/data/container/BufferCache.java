@@ -48,16 +48,36 @@
  */
 package org.knime.core.data.container;
 
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.SoftReference;
 import java.lang.ref.WeakReference;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
-import java.util.WeakHashMap;
-
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataType;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.util.CheckUtils;
 import org.knime.core.util.LRUCache;
@@ -71,6 +91,18 @@
  * tables are cleared for garbage collection before they have been flushed to disk. How this cache is used by the
  * {@link Buffer} class is specified by means of a Lifecycle.
  *
+ * <p>
+ * The lower level is managed by one of two eviction policies: by default, the most recently used tables (up to a fixed
+ * number of tables) are softly referenced. If a memory budget is defined via
+ * {@link KNIMEConstants#PROPERTY_TABLE_CACHE_BUDGET}, tables are instead hard referenced up to that budget (based on
+ * an estimate of their heap footprint) and admitted via a W-TinyLFU policy, which makes the cache's memory usage
+ * independent of the garbage collector. In both cases tables evicted from the lower level remain weakly referenced.
+ *
+ * <p>
+ * The cache is thread-safe. Lookups of tables that have not been cleared for garbage collection don't block; all
+ * other operations only briefly lock the eviction policy. Statistics are available via JMX (see
+ * {@link BufferCacheMXBean}).
+ *
  * @author Marc Bux, KNIME GmbH, Berlin, Germany
  */
 final class BufferCache {
@@ -85,82 +117,182 @@ final class BufferCache {
      */
     private static final int STATISTICS_OUTPUT_INTERVAL = 300;
 
-    /**
-     * A map of hard references to tables held in this cache. Caution: the garbage collector will not clear these
-     * automatically. We use the buffer itself as key, since multiple buffers can have the same id. The Map has to have
-     * weak keys such that unreferenced buffers can be garbage-collected if we forget to clear them.
-     */
-    private final Map<Buffer, List<BlobSupportDataRow>> m_hardMap = new WeakHashMap<>();
+    /** The name under which the cache used by the {@link Buffer} class is registered with the platform MBean server. */
+    static final String MBEAN_NAME = "org.knime.core.data.container:type=BufferCache";
 
-    /**
-     * A number that determines how many tables are kept in the soft-references LRU cache before being weak-referenced.
-     */
-    private int m_LRUCacheSize = BufferSettings.getDefault().getLRUCacheSize();
+    /** The memory budget as defined by {@link KNIMEConstants#PROPERTY_TABLE_CACHE_BUDGET}, -1 if not set. */
+    private static final long DEFAULT_MEMORY_BUDGET = initMemoryBudget();
 
     /**
-     * An LRU-cache of soft references to tables held in this cache. Note that soft references also keep track of when
-     * they were last accessed. When memory becomes scarce, the garbage collector should clear weak-referenced tables
-     * first and then proceed with soft-referenced tables in the order in which they were least recently used.
+     * All tables held in this cache. We use the buffer itself as (weakly referenced) key, since multiple buffers can
+     * have the same id. The keys are weak such that unreferenced buffers can be garbage-collected if we forget to
+     * clear them.
      */
-    private LRUCache<Buffer, SoftReference<List<BlobSupportDataRow>>> m_LRUCache =
-        new LRUCache<>(m_LRUCacheSize, m_LRUCacheSize);
+    private final ConcurrentMap<BufferKey, CacheEntry> m_entries = new ConcurrentHashMap<>();
 
-    /**
-     * A map of weak references to tables evicted from the LRU cache.
-     */
-    private final Map<Buffer, WeakReference<List<BlobSupportDataRow>>> m_weakCache = new WeakHashMap<>();
+    /** A reference queue that holds the keys of buffers that were garbage collected. */
+    private final ReferenceQueue<Buffer> m_bufferRefQueue = new ReferenceQueue<>();
 
     /**
-     * A reference queue that holds any weak references that were cleared by the garbage collector.
+     * A reference queue that holds any weak references to tables that were cleared by the garbage collector.
      */
     private final ReferenceQueue<List<BlobSupportDataRow>> m_weakCacheRefQueue = new ReferenceQueue<>();
 
+    /** Guards the eviction policy. */
+    private final ReentrantLock m_policyLock = new ReentrantLock();
+
+    /** The policy managing the tables that are cleared for garbage collection, guarded by {@link #m_policyLock}. */
+    private final EvictionPolicy m_policy;
+
     /** Some counters for instrumentation / statistics. */
-    private long m_nTables = 0;
+    private final LongAdder m_nTables = new LongAdder();
 
-    private long m_nInvalidatedTables = 0;
+    private final LongAdder m_nInvalidatedTables = new LongAdder();
 
-    private long m_nGCedTables = 0;
+    private final LongAdder m_nGCedTables = new LongAdder();
 
-    private long m_nAccesses = 0;
+    private final LongAdder m_nHardHits = new LongAdder();
 
-    private long m_nHardHits = 0;
+    private final LongAdder m_nSoftHits = new LongAdder();
 
-    private long m_nSoftHits = 0;
+    private final LongAdder m_nWeakHits = new LongAdder();
 
-    private long m_nWeakHits = 0;
+    private final LongAdder m_nMisses = new LongAdder();
 
-    private long m_nMisses = 0;
+    private final LongAdder m_nEvictions = new LongAdder();
 
-    private long timeOfLastLog = System.currentTimeMillis();
+    private final AtomicLong m_timeOfLastLog = new AtomicLong(System.currentTimeMillis());
 
-    private void logStatistics() {
-        while (m_weakCacheRefQueue.poll() != null) {
-            m_nGCedTables++;
+    /**
+     * Creates a cache using the memory budget defined by {@link KNIMEConstants#PROPERTY_TABLE_CACHE_BUDGET} or, if not
+     * defined, a soft-references LRU cache.
+     */
+    BufferCache() {
+        this(DEFAULT_MEMORY_BUDGET);
+    }
+
+    /**
+     * Creates a cache.
+     *
+     * @param memoryBudget the number of bytes of tables cleared for garbage collection to keep in memory or a negative
+     *            number to keep the {@link BufferSettings#getLRUCacheSize() most recently used} tables softly referenced
+     */
+    BufferCache(final long memoryBudget) {
+        if (memoryBudget >= 0) {
+            m_policy = new TinyLFUPolicy(memoryBudget);
+        } else {
+            m_policy = new SoftRefLRUPolicy(BufferSettings.getDefault().getLRUCacheSize());
+        }
+    }
+
+    /**
+     * Parses {@link KNIMEConstants#PROPERTY_TABLE_CACHE_BUDGET}.
+     *
+     * @return the budget in bytes or -1 if not set (or invalid)
+     */
+    private static long initMemoryBudget() {
+        final String budget = System.getProperty(KNIMEConstants.PROPERTY_TABLE_CACHE_BUDGET);
+        if (budget == null || budget.trim().isEmpty()) {
+            return -1;
+        }
+        final String value = budget.trim();
+        try {
+            if (value.endsWith("%")) {
+                final double percent = Double.parseDouble(value.substring(0, value.length() - 1).trim());
+                CheckUtils.checkArgument(percent >= 0 && percent <= 100, "Not in [0, 100]: %s", percent);
+                return (long)(Runtime.getRuntime().maxMemory() * percent / 100);
+            }
+            final long mb = Long.parseLong(value);
+            CheckUtils.checkArgument(mb >= 0, "Negative budget: %d", mb);
+            return mb << 20;
+        } catch (IllegalArgumentException iae) {
+            LOGGER.warn("Unable to read property " + KNIMEConstants.PROPERTY_TABLE_CACHE_BUDGET + " (\"" + budget
+                + "\"): " + iae.getMessage() + "; using soft-references LRU cache.");
+            return -1;
         }
+    }
+
+    /**
+     * Registers the statistics of this cache with the platform MBean server under {@link #MBEAN_NAME}. Failures are
+     * logged but otherwise ignored.
+     */
+    void registerMBean() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(
+                new StandardMBean(getStatistics(), BufferCacheMXBean.class, true), new ObjectName(MBEAN_NAME));
+        } catch (JMException | RuntimeException e) {
+            LOGGER.debug("Unable to register buffer cache statistics with MBean server: " + e.getMessage(), e);
+        }
+    }
+
+    /** @return a view on the counters of this cache */
+    BufferCacheMXBean getStatistics() {
+        return new Statistics();
+    }
+
+    private void logStatistics() {
         final long time = System.currentTimeMillis();
-        if ((time - timeOfLastLog) / 1000 >= STATISTICS_OUTPUT_INTERVAL) {
+        final long timeOfLastLog = m_timeOfLastLog.get();
+        if ((time - timeOfLastLog) / 1000 >= STATISTICS_OUTPUT_INTERVAL
+            && m_timeOfLastLog.compareAndSet(timeOfLastLog, time)) {
 
             long nActiveTables = 0;
 
-            for (WeakReference<List<BlobSupportDataRow>> ref : m_weakCache.values()) {
-                if (ref.get() != null) {
+            for (CacheEntry entry : m_entries.values()) {
+                if (entry.m_weakRef.get() != null) {
                     nActiveTables++;
                 }
             }
 
             LOGGER.debug("KNIME Buffer cache statistics:");
             LOGGER.debugWithFormat("\t%d tables currently held in cache", nActiveTables);
-            LOGGER.debugWithFormat("\t%d distinct tables cached", m_nTables);
-            LOGGER.debugWithFormat("\t%d tables invalidated successfully", m_nInvalidatedTables);
-            LOGGER.debugWithFormat("\t%d tables dropped by garbage collector", m_nGCedTables);
-            LOGGER.debugWithFormat("\t%d cache hits (hard-referenced)", m_nHardHits);
-            LOGGER.debugWithFormat("\t%d cache hits (softly referenced)", m_nSoftHits);
-            LOGGER.debugWithFormat("\t%d cache hits (weakly referenced)", m_nWeakHits);
-            LOGGER.debugWithFormat("\t%d cache misses", m_nMisses);
+            LOGGER.debugWithFormat("\t%d distinct tables cached", m_nTables.sum());
+            LOGGER.debugWithFormat("\t%d tables invalidated successfully", m_nInvalidatedTables.sum());
+            LOGGER.debugWithFormat("\t%d tables dropped by garbage collector", getGCedTables());
+            LOGGER.debugWithFormat("\t%d tables evicted", m_nEvictions.sum());
+            LOGGER.debugWithFormat("\t%d cache hits (hard-referenced)", m_nHardHits.sum());
+            LOGGER.debugWithFormat("\t%d cache hits (%s)", m_nSoftHits.sum(), m_policy.getDescription());
+            LOGGER.debugWithFormat("\t%d cache hits (weakly referenced)", m_nWeakHits.sum());
+            LOGGER.debugWithFormat("\t%d cache misses", m_nMisses.sum());
+        }
+    }
+
+    private long getGCedTables() {
+        while (m_weakCacheRefQueue.poll() != null) {
+            m_nGCedTables.increment();
+        }
+        return m_nGCedTables.sum();
+    }
 
-            timeOfLastLog = time;
-            assert m_nAccesses == m_nHardHits + m_nSoftHits + m_nWeakHits + m_nMisses;
+    /** Removes the entries of buffers that have been garbage collected. */
+    private void expungeStaleEntries() {
+        Reference<? extends Buffer> ref;
+        while ((ref = m_bufferRefQueue.poll()) != null) {
+            final CacheEntry entry = m_entries.remove(ref);
+            if (entry != null) {
+                removeFromPolicy(entry);
+            }
+        }
+    }
+
+    /**
+     * Removes an entry that is no longer contained in {@link #m_entries} from the policy and marks it as removed, such
+     * that threads that retrieved the entry before it was removed don't re-admit it to the policy.
+     */
+    private void removeFromPolicy(final CacheEntry entry) {
+        m_policyLock.lock();
+        try {
+            entry.m_removed = true;
+            m_policy.remove(entry);
+        } finally {
+            m_policyLock.unlock();
+        }
+    }
+
+    /** Records an access to an entry in the policy unless the entry has been removed, must hold the policy lock. */
+    private void recordAccess(final CacheEntry entry, final Buffer buffer, final List<BlobSupportDataRow> list) {
+        if (!entry.m_removed) {
+            m_policy.recordAccess(entry, buffer, list);
         }
     }
 
@@ -170,23 +302,35 @@ private void logStatistics() {
      * @param buffer the buffer which the table is associated with
      * @param list a fully read table
      */
-    synchronized void put(final Buffer buffer, final List<BlobSupportDataRow> list) {
+    void put(final Buffer buffer, final List<BlobSupportDataRow> list) {
         CheckUtils.checkArgumentNotNull(buffer);
         CheckUtils.checkArgumentNotNull(list);
+        expungeStaleEntries();
 
         /** disallow modification */
         final List<BlobSupportDataRow> undmodifiableList = Collections.unmodifiableList(list);
-        m_hardMap.put(buffer, undmodifiableList);
+        final CacheEntry entry = new CacheEntry(new BufferKey(buffer, m_bufferRefQueue), undmodifiableList,
+            new WeakReference<List<BlobSupportDataRow>>(undmodifiableList, m_weakCacheRefQueue),
+            m_policy.isWeighted() ? estimateHeapSize(undmodifiableList) : 0);
+        final CacheEntry previousValue = m_entries.put(entry.m_key, entry);
+
         /**
-         * We already fill the soft cache here to keep track of how recently the table has been used. Note that soft and
+         * We already fill the policy here to keep track of how recently the table has been used. Note that soft and
          * weak references won't be cleared while there is still a hard reference on the object.
          */
-        m_LRUCache.put(buffer, new SoftReference<List<BlobSupportDataRow>>(undmodifiableList));
-        final WeakReference<List<BlobSupportDataRow>> previousValue = m_weakCache.put(buffer,
-            new WeakReference<List<BlobSupportDataRow>>(undmodifiableList, m_weakCacheRefQueue));
+        m_policyLock.lock();
+        try {
+            if (previousValue != null) {
+                previousValue.m_removed = true;
+                m_policy.remove(previousValue);
+            }
+            recordAccess(entry, buffer, undmodifiableList);
+        } finally {
+            m_policyLock.unlock();
+        }
 
         if (previousValue == null) {
-            m_nTables++;
+            m_nTables.increment();
         }
     }
 
@@ -197,12 +341,15 @@ synchronized void put(final Buffer buffer, final List<BlobSupportDataRow> list)
      *
      * @param buffer the buffer which table that is to be cleared for garbage collection is associated with
      */
-    synchronized void clearForGarbageCollection(final Buffer buffer) {
+    void clearForGarbageCollection(final Buffer buffer) {
         CheckUtils.checkArgumentNotNull(buffer);
 
         assert buffer.isFlushedToDisk();
 
-        m_hardMap.remove(buffer);
+        final CacheEntry entry = m_entries.get(new BufferKey(buffer, null));
+        if (entry != null) {
+            entry.m_hardRef = null;
+        }
     }
 
     /**
@@ -212,12 +359,12 @@ synchronized void clearForGarbageCollection(final Buffer buffer) {
      * @param buffer the buffer which the to-be-checked table is associated with
      * @return <code>true</code> iff the associated table is held in the cache and not cleared for garbage collection
      */
-    synchronized boolean contains(final Buffer buffer) {
+    boolean contains(final Buffer buffer) {
         CheckUtils.checkArgumentNotNull(buffer);
 
-        final WeakReference<List<BlobSupportDataRow>> weakRef = m_weakCache.get(buffer);
-        if (weakRef != null) {
-            return weakRef.get() != null;
+        final CacheEntry entry = m_entries.get(new BufferKey(buffer, null));
+        if (entry != null) {
+            return entry.m_weakRef.get() != null;
         }
         return false;
     }
@@ -228,7 +375,7 @@ synchronized boolean contains(final Buffer buffer) {
      * @param buffer the buffer which the to-be-retrieved table is associated with
      * @return a table represented as a list of datarows, if such a table is present in the cache
      */
-    synchronized Optional<List<BlobSupportDataRow>> get(final Buffer buffer) {
+    Optional<List<BlobSupportDataRow>> get(final Buffer buffer) {
         return getInternal(buffer, false);
     }
 
@@ -239,104 +386,626 @@ synchronized Optional<List<BlobSupportDataRow>> get(final Buffer buffer) {
      * @param buffer the buffer which the to-be-retrieved table is associated with
      * @return a table represented as a list of datarows, if such a table is present in the cache
      */
-    synchronized Optional<List<BlobSupportDataRow>> getSilent(final Buffer buffer) {
+    Optional<List<BlobSupportDataRow>> getSilent(final Buffer buffer) {
         return getInternal(buffer, true);
     }
 
     private Optional<List<BlobSupportDataRow>> getInternal(final Buffer buffer, final boolean silent) {
         CheckUtils.checkArgumentNotNull(buffer);
 
-        final WeakReference<List<BlobSupportDataRow>> weakRef = m_weakCache.get(buffer);
-        if (weakRef == null) {
+        final CacheEntry entry = m_entries.get(new BufferKey(buffer, null));
+        if (entry == null) {
             /** If we've never encountered this buffer or have deliberately invalidated it, it makes no sense to look
              * any further. */
             return Optional.empty();
         } else if (silent) {
-            return Optional.ofNullable(weakRef.get());
+            return Optional.ofNullable(entry.m_weakRef.get());
+        }
+
+        final List<BlobSupportDataRow> hardList = entry.m_hardRef;
+        if (hardList != null) {
+            m_nHardHits.increment();
+            /** Update recent access in the policy, unless another thread currently does so. */
+            if (m_policyLock.tryLock()) {
+                try {
+                    recordAccess(entry, buffer, hardList);
+                } finally {
+                    m_policyLock.unlock();
+                }
+            }
+            logStatistics();
+            return Optional.of(hardList);
+        }
+
+        Optional<List<BlobSupportDataRow>> result = Optional.empty();
+        m_policyLock.lock();
+        try {
+            final boolean isPolicyHit = m_policy.contains(entry);
+            /**
+             * If the list is held by the policy, it will also be weakly referenced, since weak references won't be
+             * dropped while a hard(er) reference on the list still exists.
+             */
+            final List<BlobSupportDataRow> list = entry.m_weakRef.get();
+            if (list != null) {
+                if (isPolicyHit) {
+                    m_nSoftHits.increment();
+                } else {
+                    m_nWeakHits.increment();
+                }
+                /** Make sure to put the accessed table back into the policy (unless invalidated meanwhile). */
+                recordAccess(entry, buffer, list);
+                result = Optional.of(list);
+            } else {
+                /** Table has been garbage collected; it should be removed from the policy to make room for other
+                 * tables. */
+                m_policy.remove(entry);
+                m_nMisses.increment();
+            }
+        } finally {
+            m_policyLock.unlock();
         }
 
-        m_nAccesses++;
-        boolean hit = false;
+        logStatistics();
+        return result;
+    }
+
+    /**
+     * Invalidate the table associated with a buffer, i.e., completely remove any trace of it from the cache.
+     *
+     * @param buffer the buffer which the to-be-invalidated table is associated with
+     */
+    void invalidate(final Buffer buffer) {
+        final CacheEntry entry = m_entries.remove(new BufferKey(buffer, null));
+        if (entry != null) {
+            entry.m_hardRef = null;
+            removeFromPolicy(entry);
+            if (entry.m_weakRef.get() != null) {
+                m_nInvalidatedTables.increment();
+            }
+        }
+        expungeStaleEntries();
+    }
 
-        if (m_hardMap.get(buffer) != null) {
-            m_nHardHits++;
-            hit = true;
+    /**
+     * Can be used to adjust the size of the LRU cache at runtime. Should only be used for benchmarking purposes. Has
+     * no effect if the cache is configured with a memory budget.
+     *
+     * @param newSize the new size of the LRU cache
+     */
+    void setLRUCacheSize(final int newSize) {
+        m_policyLock.lock();
+        try {
+            m_policy.setLRUCacheSize(newSize);
+        } finally {
+            m_policyLock.unlock();
         }
+    }
 
-        /** Update recent access in LRU cache and soft reference. */
-        final SoftReference<List<BlobSupportDataRow>> softRef = m_LRUCache.get(buffer);
-        if (softRef != null && softRef.get() != null && !hit) {
-            m_nSoftHits++;
-            hit = true;
+    /**
+     * Estimates the heap footprint of a table. The estimate is extrapolated from a sample of (at most 64) rows and
+     * accounts for the row objects, their keys and cells, whereby cells of the standard types are estimated based on
+     * their content and all other cells by a constant.
+     *
+     * @param list the table
+     * @return the estimated number of bytes occupied by the table
+     */
+    static long estimateHeapSize(final List<BlobSupportDataRow> list) {
+        final int size = list.size();
+        if (size == 0) {
+            return 64;
+        }
+        final int sampleSize = Math.min(size, 64);
+        long sampleBytes = 0;
+        for (int s = 0; s < sampleSize; s++) {
+            final BlobSupportDataRow row = list.get((int)((long)s * size / sampleSize));
+            // row object (header, key and cell array references) and the cell array
+            sampleBytes += 24 + 16 + 8L * row.getNumCells();
+            // row key and its string
+            sampleBytes += 16 + estimateStringSize(row.getKey().getString());
+            for (int i = 0; i < row.getNumCells(); i++) {
+                sampleBytes += estimateCellSize(row.getRawCell(i));
+            }
         }
+        // the list's backing array plus the rows
+        return 64 + 8L * size + sampleBytes * size / sampleSize;
+    }
 
-        Optional<List<BlobSupportDataRow>> result = Optional.empty();
+    private static long estimateCellSize(final DataCell cell) {
+        final Class<? extends DataCell> cellClass = cell.getClass();
+        if (cellClass == BooleanCell.class || cell == DataType.getMissingCell()) {
+            return 0; // singletons
+        } else if (cellClass == IntCell.class) {
+            return 16;
+        } else if (cellClass == LongCell.class || cellClass == DoubleCell.class) {
+            return 24;
+        } else if (cellClass == StringCell.class) {
+            return 16 + estimateStringSize(((StringCell)cell).getStringValue());
+        } else {
+            return 64;
+        }
+    }
+
+    private static long estimateStringSize(final String s) {
+        return 24 + 16 + 2L * s.length();
+    }
+
+    /** Weak reference to a buffer with identity semantics, used as key of {@link BufferCache#m_entries}. */
+    private static final class BufferKey extends WeakReference<Buffer> {
+
+        private final int m_hash;
+
+        BufferKey(final Buffer buffer, final ReferenceQueue<Buffer> queue) {
+            super(buffer, queue);
+            m_hash = System.identityHashCode(buffer);
+        }
+
+        @Override
+        public int hashCode() {
+            return m_hash;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof BufferKey)) {
+                return false;
+            }
+            final Buffer buffer = get();
+            return buffer != null && buffer == ((BufferKey)obj).get();
+        }
+    }
+
+    /** A table held by the cache. */
+    private static final class CacheEntry {
+
+        private final BufferKey m_key;
+
+        /** The table, as long as it's not cleared for garbage collection. */
+        private volatile List<BlobSupportDataRow> m_hardRef;
+
+        private final WeakReference<List<BlobSupportDataRow>> m_weakRef;
+
+        /** The estimated heap footprint of the table (only determined for weighted policies). */
+        private final long m_weight;
 
         /**
-         * If the list is in the hard map or the LRU cache, it will also be in the weak cache, since weak references
-         * won't be dropped while a hard(er) reference on the list still exists.
+         * The buffer, strongly referenced as long as the policy keeps the table (such that the buffer isn't garbage
+         * collected while its table is cached), guarded by the policy lock.
          */
-        final List<BlobSupportDataRow> list = weakRef.get();
-        if (list != null) {
-            /** Make sure to put the accessed table back into the LRU cache. */
-            if (!m_LRUCache.containsKey(buffer)) {
-                m_LRUCache.put(buffer, new SoftReference<List<BlobSupportDataRow>>(list));
-            }
-            if (!hit) {
-                m_nWeakHits++;
-                hit = true;
+        private Buffer m_buffer;
+
+        /**
+         * Whether the entry has been removed from {@link BufferCache#m_entries} and must not be (re-)admitted to the
+         * policy anymore, guarded by the policy lock.
+         */
+        private boolean m_removed;
+
+        CacheEntry(final BufferKey key, final List<BlobSupportDataRow> list,
+            final WeakReference<List<BlobSupportDataRow>> weakRef, final long weight) {
+            m_key = key;
+            m_hardRef = list;
+            m_weakRef = weakRef;
+            m_weight = weight;
+        }
+    }
+
+    /** Policy deciding which tables that are cleared for garbage collection are kept. Not thread-safe. */
+    private abstract class EvictionPolicy {
+
+        /** @return whether {@link CacheEntry#m_weight} is used by this policy */
+        abstract boolean isWeighted();
+
+        /** @return a short description of how this policy keeps tables */
+        abstract String getDescription();
+
+        /**
+         * Records an access to a table, (re-)admitting it if necessary.
+         *
+         * @param entry the cache entry
+         * @param buffer the buffer of the entry
+         * @param list the (strongly referenced) table of the entry
+         */
+        abstract void recordAccess(CacheEntry entry, Buffer buffer, List<BlobSupportDataRow> list);
+
+        /** @return whether the policy currently keeps the table */
+        abstract boolean contains(CacheEntry entry);
+
+        /** Removes the table from this policy (if kept). Implementations need to call {@link #unpin(CacheEntry)}. */
+        abstract void remove(CacheEntry entry);
+
+        /** @return the estimated number of bytes kept by this policy or -1 if unknown */
+        abstract long getWeightedSize();
+
+        /** @return the memory budget or -1 if the policy isn't bounded by memory */
+        abstract long getMemoryBudget();
+
+        void setLRUCacheSize(@SuppressWarnings("unused") final int newSize) {
+        }
+
+        /** Called whenever the policy starts keeping a table. */
+        final void pin(final CacheEntry entry, final Buffer buffer) {
+            entry.m_buffer = buffer;
+        }
+
+        /** Called whenever the policy stops keeping a table. */
+        final void unpin(final CacheEntry entry) {
+            entry.m_buffer = null;
+        }
+
+        /** Called whenever the policy drops a table due to its size restriction. */
+        final void onEviction(final CacheEntry entry) {
+            unpin(entry);
+            m_nEvictions.increment();
+        }
+    }
+
+    /**
+     * An LRU-cache of soft references to tables held in this cache. Note that soft references also keep track of when
+     * they were last accessed. When memory becomes scarce, the garbage collector should clear weak-referenced tables
+     * first and then proceed with soft-referenced tables in the order in which they were least recently used.
+     */
+    private final class SoftRefLRUPolicy extends EvictionPolicy {
+
+        /**
+         * A number that determines how many tables are kept in the soft-references LRU cache before being
+         * weak-referenced.
+         */
+        private int m_LRUCacheSize;
+
+        private LRUCache<CacheEntry, SoftReference<List<BlobSupportDataRow>>> m_LRUCache;
+
+        SoftRefLRUPolicy(final int size) {
+            m_LRUCacheSize = size;
+            m_LRUCache = createLRUCache(size);
+        }
+
+        private LRUCache<CacheEntry, SoftReference<List<BlobSupportDataRow>>> createLRUCache(final int size) {
+            return new LRUCache<CacheEntry, SoftReference<List<BlobSupportDataRow>>>(size, size) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(
+                    final Entry<CacheEntry, SoftReference<List<BlobSupportDataRow>>> eldest) {
+                    final boolean remove = super.removeEldestEntry(eldest);
+                    if (remove) {
+                        onEviction(eldest.getKey());
+                    }
+                    return remove;
+                }
+            };
+        }
+
+        @Override
+        boolean isWeighted() {
+            return false;
+        }
+
+        @Override
+        String getDescription() {
+            return "softly referenced";
+        }
+
+        @Override
+        void recordAccess(final CacheEntry entry, final Buffer buffer, final List<BlobSupportDataRow> list) {
+            final SoftReference<List<BlobSupportDataRow>> softRef = m_LRUCache.get(entry);
+            if (softRef == null || softRef.get() == null) {
+                pin(entry, buffer);
+                m_LRUCache.put(entry, new SoftReference<List<BlobSupportDataRow>>(list));
             }
-            result = Optional.of(list);
-        } else {
-            /** Table has been garbage collected; it should be removed from the LRU cache to make room for other
-             * tables. */
-            m_LRUCache.remove(buffer);
         }
 
-        if (!hit) {
-            m_nMisses++;
+        @Override
+        boolean contains(final CacheEntry entry) {
+            final SoftReference<List<BlobSupportDataRow>> softRef = m_LRUCache.get(entry);
+            return softRef != null && softRef.get() != null;
         }
 
-        logStatistics();
-        return result;
+        @Override
+        void remove(final CacheEntry entry) {
+            m_LRUCache.remove(entry);
+            unpin(entry);
+        }
+
+        @Override
+        long getWeightedSize() {
+            return -1;
+        }
+
+        @Override
+        long getMemoryBudget() {
+            return -1;
+        }
+
+        @Override
+        void setLRUCacheSize(final int newSize) {
+            if (newSize == m_LRUCacheSize) {
+                return;
+            }
+
+            /** Since there is no way of adjusting the cache size of an LRUCache, we have to create a new cache. */
+            final LRUCache<CacheEntry, SoftReference<List<BlobSupportDataRow>>> cache = createLRUCache(newSize);
+
+            /** If the new cache is smaller than the old one, the least-recently-accessed entries will be entered
+             * first and then also evicted first when the new cache size is reached. */
+            for (Entry<CacheEntry, SoftReference<List<BlobSupportDataRow>>> entry : m_LRUCache.entrySet()) {
+                cache.put(entry.getKey(), entry.getValue());
+            }
+
+            m_LRUCacheSize = newSize;
+            m_LRUCache = cache;
+        }
     }
 
     /**
-     * Invalidate the table associated with a buffer, i.e., completely remove any trace of it from the cache.
-     *
-     * @param buffer the buffer which the to-be-invalidated table is associated with
+     * A W-TinyLFU policy keeping tables hard referenced up to a memory budget. New tables enter a small LRU admission
+     * window (1% of the budget); tables leaving the window are only admitted to the main area (a segmented LRU with
+     * probation and protected segment) if they have been used more frequently than the table that would need to be
+     * evicted for them. Access frequencies are approximated by a count-min sketch that is periodically halved, so
+     * that tables used frequently in the past but not recently eventually lose their advantage.
      */
-    synchronized void invalidate(final Buffer buffer) {
-        m_hardMap.remove(buffer);
-        m_LRUCache.remove(buffer);
-        final WeakReference<List<BlobSupportDataRow>> previousValue = m_weakCache.remove(buffer);
+    private final class TinyLFUPolicy extends EvictionPolicy {
+
+        private final long m_budget;
+
+        private final long m_windowBudget;
+
+        private final long m_protectedBudget;
+
+        /** The three segments, all in access order, mapping to the hard referenced tables. */
+        private final LinkedHashMap<CacheEntry, List<BlobSupportDataRow>> m_window = new LinkedHashMap<>(16, .75f, true);
+
+        private final LinkedHashMap<CacheEntry, List<BlobSupportDataRow>> m_probation =
+            new LinkedHashMap<>(16, .75f, true);
+
+        private final LinkedHashMap<CacheEntry, List<BlobSupportDataRow>> m_protected =
+            new LinkedHashMap<>(16, .75f, true);
+
+        private long m_windowWeight;
+
+        private long m_probationWeight;
+
+        private long m_protectedWeight;
+
+        private final FrequencySketch m_sketch = new FrequencySketch();
+
+        TinyLFUPolicy(final long budget) {
+            m_budget = budget;
+            m_windowBudget = Math.max(1, budget / 100);
+            m_protectedBudget = (budget - m_windowBudget) * 4 / 5;
+        }
+
+        @Override
+        boolean isWeighted() {
+            return true;
+        }
 
-        if (previousValue != null && previousValue.get() != null) {
-            m_nInvalidatedTables++;
+        @Override
+        String getDescription() {
+            return "held within memory budget";
+        }
+
+        @Override
+        void recordAccess(final CacheEntry entry, final Buffer buffer, final List<BlobSupportDataRow> list) {
+            m_sketch.increment(entry.m_key.m_hash);
+            if (m_window.get(entry) != null || m_protected.get(entry) != null) {
+                return; // access order updated by get
+            }
+            if (m_probation.remove(entry) != null) {
+                // promote to protected segment, demote least recently used protected tables if necessary
+                m_probationWeight -= entry.m_weight;
+                m_protected.put(entry, list);
+                m_protectedWeight += entry.m_weight;
+                final Iterator<Map.Entry<CacheEntry, List<BlobSupportDataRow>>> it = m_protected.entrySet().iterator();
+                while (m_protectedWeight > m_protectedBudget && it.hasNext()) {
+                    final Map.Entry<CacheEntry, List<BlobSupportDataRow>> demoted = it.next();
+                    if (demoted.getKey() == entry) {
+                        break;
+                    }
+                    it.remove();
+                    m_protectedWeight -= demoted.getKey().m_weight;
+                    m_probation.put(demoted.getKey(), demoted.getValue());
+                    m_probationWeight += demoted.getKey().m_weight;
+                }
+                return;
+            }
+            pin(entry, buffer);
+            m_window.put(entry, list);
+            m_windowWeight += entry.m_weight;
+            evictFromWindow();
+        }
+
+        /** Moves tables exceeding the window budget to the main area, if admitted. */
+        private void evictFromWindow() {
+            final Iterator<Map.Entry<CacheEntry, List<BlobSupportDataRow>>> it = m_window.entrySet().iterator();
+            while (m_windowWeight > m_windowBudget && it.hasNext()) {
+                final Map.Entry<CacheEntry, List<BlobSupportDataRow>> candidate = it.next();
+                it.remove();
+                m_windowWeight -= candidate.getKey().m_weight;
+                if (admit(candidate.getKey())) {
+                    m_probation.put(candidate.getKey(), candidate.getValue());
+                    m_probationWeight += candidate.getKey().m_weight;
+                } else {
+                    onEviction(candidate.getKey());
+                }
+            }
+        }
+
+        /**
+         * Makes room for the candidate in the main area by evicting victims (least recently used tables, probation
+         * first) that are less frequently used than the candidate.
+         *
+         * @return whether the candidate is admitted
+         */
+        private boolean admit(final CacheEntry candidate) {
+            final long mainBudget = m_budget - m_windowBudget;
+            if (candidate.m_weight > mainBudget) {
+                return false;
+            }
+            final int candidateFrequency = m_sketch.frequency(candidate.m_key.m_hash);
+            while (m_probationWeight + m_protectedWeight + candidate.m_weight > mainBudget) {
+                final boolean fromProbation = !m_probation.isEmpty();
+                final LinkedHashMap<CacheEntry, List<BlobSupportDataRow>> segment =
+                    fromProbation ? m_probation : m_protected;
+                final CacheEntry victim = segment.keySet().iterator().next();
+                if (m_sketch.frequency(victim.m_key.m_hash) >= candidateFrequency) {
+                    return false;
+                }
+                segment.remove(victim);
+                if (fromProbation) {
+                    m_probationWeight -= victim.m_weight;
+                } else {
+                    m_protectedWeight -= victim.m_weight;
+                }
+                onEviction(victim);
+            }
+            return true;
+        }
+
+        @Override
+        boolean contains(final CacheEntry entry) {
+            return m_window.containsKey(entry) || m_probation.containsKey(entry) || m_protected.containsKey(entry);
+        }
+
+        @Override
+        void remove(final CacheEntry entry) {
+            if (m_window.remove(entry) != null) {
+                m_windowWeight -= entry.m_weight;
+            } else if (m_probation.remove(entry) != null) {
+                m_probationWeight -= entry.m_weight;
+            } else if (m_protected.remove(entry) != null) {
+                m_protectedWeight -= entry.m_weight;
+            }
+            unpin(entry);
+        }
+
+        @Override
+        long getWeightedSize() {
+            return m_windowWeight + m_probationWeight + m_protectedWeight;
+        }
+
+        @Override
+        long getMemoryBudget() {
+            return m_budget;
         }
     }
 
     /**
-     * Can be used to adjust the size of the LRU cache at runtime. Should only be used for benchmarking purposes.
-     *
-     * @param newSize the new size of the LRU cache
+     * A count-min sketch with four rows of saturating 4-bit counters (packed into longs) approximating how often a
+     * table has been accessed. All counters are halved after a number of increments proportional to the sketch size.
      */
-    synchronized void setLRUCacheSize(final int newSize) {
-        if (newSize == m_LRUCacheSize) {
-            return;
+    private static final class FrequencySketch {
+
+        /** Number of longs per row (each holding 16 counters). */
+        private static final int ROW_LENGTH = 64;
+
+        private static final int[] SEEDS = {0x97cb3127, 0x5a1e4c2d, 0x8f3b6e91, 0x2c9d7b45};
+
+        private final long[] m_table = new long[SEEDS.length * ROW_LENGTH];
+
+        private final int m_resetThreshold = 10 * ROW_LENGTH * 16;
+
+        private int m_increments;
+
+        private int counterIndex(final int row, final int hash) {
+            int h = (hash ^ SEEDS[row]) * 0x9E3779B9;
+            h ^= h >>> 16;
+            return h & (ROW_LENGTH * 16 - 1);
+        }
+
+        void increment(final int hash) {
+            boolean added = false;
+            for (int row = 0; row < SEEDS.length; row++) {
+                final int counter = counterIndex(row, hash);
+                final int index = row * ROW_LENGTH + (counter >>> 4);
+                final int shift = (counter & 15) << 2;
+                if (((m_table[index] >>> shift) & 0xFL) < 15) {
+                    m_table[index] += 1L << shift;
+                    added = true;
+                }
+            }
+            if (added && ++m_increments >= m_resetThreshold) {
+                for (int i = 0; i < m_table.length; i++) {
+                    m_table[i] = (m_table[i] >>> 1) & 0x7777777777777777L;
+                }
+                m_increments /= 2;
+            }
         }
 
-        /** Since there is no way of adjusting the cache size of an LRUCache, we have to create a new cache. */
-        final LRUCache<Buffer, SoftReference<List<BlobSupportDataRow>>> cache = new LRUCache<>(newSize, newSize);
+        int frequency(final int hash) {
+            int frequency = 15;
+            for (int row = 0; row < SEEDS.length; row++) {
+                final int counter = counterIndex(row, hash);
+                final long value = m_table[row * ROW_LENGTH + (counter >>> 4)] >>> ((counter & 15) << 2);
+                frequency = Math.min(frequency, (int)(value & 0xFL));
+            }
+            return frequency;
+        }
+    }
+
+    /** Exposes the cache's counters via JMX. */
+    private final class Statistics implements BufferCacheMXBean {
+
+        @Override
+        public long getTables() {
+            return m_nTables.sum();
+        }
+
+        @Override
+        public long getHardHits() {
+            return m_nHardHits.sum();
+        }
 
-        /** If the new cache is smaller than the old one, the least-recently-accessed entries will be entered first
-         * and then also evicted first when the new cache size is reached. */
-        for (Entry<Buffer, SoftReference<List<BlobSupportDataRow>>> entry : m_LRUCache.entrySet()) {
-            cache.put(entry.getKey(), entry.getValue());
+        @Override
+        public long getPolicyHits() {
+            return m_nSoftHits.sum();
         }
 
-        m_LRUCacheSize = newSize;
-        m_LRUCache = cache;
+        @Override
+        public long getWeakHits() {
+            return m_nWeakHits.sum();
+        }
+
+        @Override
+        public long getMisses() {
+            return m_nMisses.sum();
+        }
+
+        @Override
+        public long getEvictions() {
+            return m_nEvictions.sum();
+        }
+
+        @Override
+        public long getInvalidations() {
+            return m_nInvalidatedTables.sum();
+        }
+
+        @Override
+        public long getGarbageCollectedTables() {
+            return getGCedTables();
+        }
+
+        @Override
+        public long getMemoryBudget() {
+            m_policyLock.lock();
+            try {
+                return m_policy.getMemoryBudget();
+            } finally {
+                m_policyLock.unlock();
+            }
+        }
+
+        @Override
+        public long getEstimatedMemoryUsage() {
+            m_policyLock.lock();
+            try {
+                return m_policy.getWeightedSize();
+            } finally {
+                m_policyLock.unlock();
+            }
+        }
     }
 
 }
@@ -60,6 +60,7 @@
 import org.knime.core.data.DataCellSerializer;
 import org.knime.core.data.DataType;
 import org.knime.core.data.RowKey;
+import org.knime.core.data.UnmaterializedCell;
 import org.knime.core.data.container.BlobDataCell.BlobAddress;
 import org.knime.core.data.container.DCObjectInputVersion2.BlockableDCObjectInputVersion2;
 import org.knime.core.data.container.DefaultTableStoreReader.FromFileIterator;
@@ -83,7 +84,13 @@ public final class BufferFromFileIteratorVersion20 extends FromFileIterator {
     private final DefaultTableStoreReader m_tableFormatReader;
 
     /** Row pointer. */
-    private int m_pointer;
+    private long m_pointer;
+
+    /** Flags of the columns whose cells are deserialized, null if all columns are to be materialized. */
+    private final boolean[] m_materializeColumns;
+
+    /** Index of the last row to be returned (inclusive). */
+    private final long m_toRowIndex;
 
     /** Content of the rows that get returned in {@link #next()} when the
      * table is {@link #close()}'d. Will be instantiated lazy. */
@@ -106,8 +113,22 @@ public final class BufferFromFileIteratorVersion20 extends FromFileIterator {
      * @throws IOException If stream reading fails.
      */
     BufferFromFileIteratorVersion20(final DefaultTableStoreReader tableFormatReader) throws IOException {
+        this(tableFormatReader, null, Long.MAX_VALUE);
+    }
+
+    /** Inits iterator, opens input stream.
+     * @param tableFormatReader The associated buffer.
+     * @param materializeColumns flags of the columns to deserialize, cells of other columns are skipped in the stream
+     *            and returned as {@link UnmaterializedCell}; null to materialize all columns
+     * @param toRowIndex index of the last row to return (inclusive)
+     * @throws IOException If stream reading fails.
+     */
+    BufferFromFileIteratorVersion20(final DefaultTableStoreReader tableFormatReader,
+        final boolean[] materializeColumns, final long toRowIndex) throws IOException {
         // init the pointer
         m_pointer = 0;
+        m_materializeColumns = materializeColumns;
+        m_toRowIndex = toRowIndex;
 
         // check for file existence
         if (tableFormatReader.getBinFile() == null) {
@@ -128,7 +149,7 @@ public final class BufferFromFileIteratorVersion20 extends FromFileIterator {
     /** {@inheritDoc} */
     @Override
     public synchronized boolean hasNext() {
-        boolean hasNext = m_pointer < m_tableFormatReader.size();
+        boolean hasNext = m_pointer < m_tableFormatReader.size() && m_pointer <= m_toRowIndex;
         if (!hasNext && (m_inStream != null)) {
             close();
         }
@@ -169,7 +190,12 @@ public synchronized BlobSupportDataRow next() {
             DataCell nextCell;
             try {
                 try {
-                    nextCell = m_dataCellStreamReader.readDataCell(m_inStream);
+                    if (m_materializeColumns == null || m_materializeColumns[i]) {
+                        nextCell = m_dataCellStreamReader.readDataCell(m_inStream);
+                    } else {
+                        // the block is skipped in the finally clause, no cell is instantiated
+                        nextCell = UnmaterializedCell.getInstance();
+                    }
                 } finally {
                     m_inStream.endBlock();
                 }
@@ -179,6 +205,12 @@ public synchronized BlobSupportDataRow next() {
             }
             cells[i] = nextCell;
         }
+        readEndOfRow(inStream);
+        return new BlobSupportDataRow(key, cells);
+    }
+
+    /** Reads the row separator and increments the row pointer. */
+    private void readEndOfRow(final BlockableDCObjectInputVersion2 inStream) {
         try {
             byte eoRow = inStream.readControlByte();
             if (eoRow != BYTE_ROW_SEPARATOR) {
@@ -189,7 +221,72 @@ public synchronized BlobSupportDataRow next() {
         } finally {
             m_pointer++;
         }
-        return new BlobSupportDataRow(key, cells);
+    }
+
+    /**
+     * Skips rows by skipping the blocks of the row key and all cells in the stream, no cell is deserialized. If the
+     * file has a row offset index (seekable compression formats) the stream is first repositioned to the closest indexed row.
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void skipRows(final long count) {
+        final int colCount = m_tableFormatReader.getTableSpec().getNumColumns();
+        final long targetRow = count > Long.MAX_VALUE - m_pointer ? Long.MAX_VALUE : m_pointer + count;
+        if (count > 0 && m_inStream != null) {
+            seekViaRowIndex(targetRow);
+        }
+        while (m_pointer < targetRow && hasNext()) {
+            final BlockableDCObjectInputVersion2 inStream = m_inStream;
+            if (inStream == null) { // iterator was closed
+                m_pointer++;
+                continue;
+            }
+            try {
+                if (m_tableFormatReader.isReadRowKey()) {
+                    inStream.endBlock();
+                }
+                for (int c = 0; c < colCount; c++) {
+                    inStream.endBlock();
+                }
+            } catch (IOException ioe) {
+                handleReadThrowable(ioe);
+            }
+            readEndOfRow(inStream);
+        }
+    }
+
+    /**
+     * Reopens the stream at the last indexed row not after the argument row, provided the file has a row offset index
+     * and that row is ahead of the current position. Otherwise (or on failure) the stream is left untouched.
+     */
+    private void seekViaRowIndex(final long targetRow) {
+        final long[] rowOffsets;
+        try {
+            rowOffsets = m_tableFormatReader.getRowOffsets();
+        } catch (IOException ioe) {
+            LOGGER.debug("Unable to read row index of file \"" + m_tableFormatReader.getBinFile().getName()
+                + "\", skipping rows sequentially: " + ioe.getMessage(), ioe);
+            return;
+        }
+        if (rowOffsets == null || rowOffsets.length == 0) {
+            return;
+        }
+        final int interval = m_tableFormatReader.getRowIndexInterval();
+        final int checkpoint = (int)Math.min(targetRow / interval, rowOffsets.length - 1);
+        final long checkpointRow = (long)checkpoint * interval;
+        if (checkpointRow <= m_pointer) {
+            return;
+        }
+        try {
+            final BlockableDCObjectInputVersion2 newStream = new BlockableDCObjectInputVersion2(
+                m_tableFormatReader.openInputStream(rowOffsets[checkpoint]), m_dataCellStreamReader);
+            final BlockableDCObjectInputVersion2 oldStream = m_inStream;
+            m_inStream = newStream;
+            m_pointer = checkpointRow;
+            oldStream.close();
+        } catch (IOException ioe) {
+            handleReadThrowable(ioe);
+        }
     }
 
     /** Reads a row key from the stream and ends the block. In case of buffers
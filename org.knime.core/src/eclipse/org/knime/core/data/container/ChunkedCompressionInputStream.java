@@ -0,0 +1,260 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+
+/**
+ * Input stream reading the frames written by {@link ChunkedCompressionOutputStream}. While data is read, the
+ * following chunks are read ahead and decompressed concurrently by
+ * {@link ChunkedCompressionOutputStream#CODEC_EXECUTOR}. {@link #skip(long)} skips entire chunks by their frame
+ * header without decompressing (or even reading) them, which makes positioning the stream at an offset cheap.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+final class ChunkedCompressionInputStream extends InputStream {
+
+    private static final LZ4SafeDecompressor DECOMPRESSOR = LZ4Factory.fastestInstance().safeDecompressor();
+
+    private final DataInputStream m_in;
+
+    /** Chunks read ahead and decompressed in the background, in stream order. */
+    private final Deque<Future<byte[]>> m_readAhead = new ArrayDeque<>();
+
+    /** The current (decompressed) chunk, null if none has been read yet. */
+    private byte[] m_chunk;
+
+    private int m_pos;
+
+    /** Set once the end of the underlying stream has been reached. */
+    private boolean m_isEndOfFrames;
+
+    /**
+     * Creates a new stream.
+     *
+     * @param in the stream to read frames from (should support efficient skipping)
+     */
+    ChunkedCompressionInputStream(final InputStream in) {
+        m_in = new DataInputStream(in);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read() throws IOException {
+        if (!ensureData()) {
+            return -1;
+        }
+        return m_chunk[m_pos++] & 0xFF;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!ensureData()) {
+            return -1;
+        }
+        final int count = Math.min(len, m_chunk.length - m_pos);
+        System.arraycopy(m_chunk, m_pos, b, off, count);
+        m_pos += count;
+        return count;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int available() throws IOException {
+        return m_chunk == null ? 0 : m_chunk.length - m_pos;
+    }
+
+    /**
+     * Skips within the current chunk, then skips entire chunks (not yet read ahead) using their frame headers.
+     * {@inheritDoc}
+     */
+    @Override
+    public long skip(final long n) throws IOException {
+        long remaining = n;
+        while (remaining > 0) {
+            if (m_chunk != null && m_pos < m_chunk.length) {
+                final int count = (int)Math.min(remaining, m_chunk.length - m_pos);
+                m_pos += count;
+                remaining -= count;
+            } else if (!m_readAhead.isEmpty()) {
+                nextChunk();
+            } else {
+                final byte method = readFrameMethod();
+                if (method < 0) {
+                    break;
+                }
+                final int rawLength = m_in.readInt();
+                final int storedLength = m_in.readInt();
+                if (rawLength <= remaining) {
+                    skipFully(storedLength);
+                    remaining -= rawLength;
+                } else {
+                    m_chunk = decompress(method, rawLength, readPayload(storedLength));
+                    m_pos = 0;
+                }
+            }
+        }
+        return n - remaining;
+    }
+
+    /** Makes sure the current chunk has data, returns false at the end of the stream. */
+    private boolean ensureData() throws IOException {
+        while (m_chunk == null || m_pos == m_chunk.length) {
+            fillReadAhead();
+            if (m_readAhead.isEmpty()) {
+                return false;
+            }
+            nextChunk();
+        }
+        return true;
+    }
+
+    /** Reads frames and submits their decompression until enough chunks are read ahead. */
+    private void fillReadAhead() throws IOException {
+        while (!m_isEndOfFrames && m_readAhead.size() < ChunkedCompressionOutputStream.PARALLELISM) {
+            final byte method = readFrameMethod();
+            if (method < 0) {
+                break;
+            }
+            final int rawLength = m_in.readInt();
+            final byte[] payload = readPayload(m_in.readInt());
+            m_readAhead.addLast(
+                ChunkedCompressionOutputStream.CODEC_EXECUTOR.submit(() -> decompress(method, rawLength, payload)));
+        }
+    }
+
+    /** Makes the next read ahead chunk the current chunk. */
+    private void nextChunk() throws IOException {
+        try {
+            m_chunk = m_readAhead.removeFirst().get();
+            m_pos = 0;
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for chunk decompression");
+        } catch (ExecutionException ee) {
+            final Throwable cause = ee.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException)cause;
+            }
+            throw new IOException("Unable to decompress chunk: " + cause.getMessage(), cause);
+        }
+    }
+
+    /** Reads the method byte of the next frame, returns -1 at the end of the stream. */
+    private byte readFrameMethod() throws IOException {
+        if (m_isEndOfFrames) {
+            return -1;
+        }
+        final int method = m_in.read();
+        if (method < 0) {
+            m_isEndOfFrames = true;
+            return -1;
+        }
+        return (byte)method;
+    }
+
+    private byte[] readPayload(final int storedLength) throws IOException {
+        final byte[] payload = new byte[storedLength];
+        m_in.readFully(payload);
+        return payload;
+    }
+
+    private void skipFully(final int length) throws IOException {
+        int remaining = length;
+        while (remaining > 0) {
+            final int skipped = m_in.skipBytes(remaining);
+            if (skipped <= 0) {
+                throw new EOFException("Unexpected end of stream while skipping chunk");
+            }
+            remaining -= skipped;
+        }
+    }
+
+    private static byte[] decompress(final byte method, final int rawLength, final byte[] payload)
+        throws IOException {
+        switch (method) {
+            case ChunkedCompressionOutputStream.METHOD_RAW:
+                return payload;
+            case ChunkedCompressionOutputStream.METHOD_LZ4:
+                final byte[] chunk = new byte[rawLength];
+                final int length = DECOMPRESSOR.decompress(payload, 0, payload.length, chunk, 0, rawLength);
+                if (length != rawLength) {
+                    throw new IOException("Corrupt chunk, expected " + rawLength + " bytes, got " + length);
+                }
+                return chunk;
+            default:
+                throw new IOException("Unknown chunk compression method: " + method);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws IOException {
+        m_readAhead.forEach(f -> f.cancel(true));
+        m_readAhead.clear();
+        m_chunk = null;
+        m_isEndOfFrames = true;
+        m_in.close();
+    }
+
+}
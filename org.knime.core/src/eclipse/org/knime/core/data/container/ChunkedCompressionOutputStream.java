@@ -0,0 +1,297 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+
+/**
+ * Output stream that splits the data into chunks of {@link #CHUNK_SIZE} bytes and compresses each chunk
+ * independently (LZ4). Chunks are compressed concurrently by a shared pool of background threads and written in
+ * order, each prefixed by a small frame header:
+ *
+ * <pre>
+ *   method:byte (METHOD_RAW or METHOD_LZ4) rawLength:int storedLength:int payload:byte[storedLength]
+ * </pre>
+ *
+ * The framing allows {@link ChunkedCompressionInputStream} to decompress chunks in parallel and to skip over chunks
+ * without decompressing them.
+ *
+ * <p>Unlike other compressing streams, {@link #flush()} does not cut the current chunk (it only writes chunks that
+ * are complete) so that frequent flushes (e.g. by {@link java.io.ObjectOutputStream}) don't degrade the compression
+ * ratio. The last chunk is written on {@link #close()}.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+final class ChunkedCompressionOutputStream extends OutputStream {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ChunkedCompressionOutputStream.class);
+
+    /** Number of uncompressed bytes per chunk. */
+    static final int CHUNK_SIZE = 1 << 18;
+
+    /** Frame method: the chunk is stored uncompressed (if compression doesn't reduce its size). */
+    static final byte METHOD_RAW = 0;
+
+    /** Frame method: the chunk is LZ4 compressed. */
+    static final byte METHOD_LZ4 = 1;
+
+    /** Length of the frame header. */
+    static final int FRAME_HEADER_LENGTH = 9;
+
+    /** Maximum LZ4 compression level, see {@link KNIMEConstants#PROPERTY_TABLE_COMPRESSION_LEVEL}. */
+    static final int MAX_LEVEL = 17;
+
+    /** Number of threads compressing and decompressing chunks. */
+    static final int PARALLELISM = Math.max(1, Math.min(8, Runtime.getRuntime().availableProcessors()));
+
+    /** Shared pool compressing (and decompressing) chunks and encoding rows of written tables, tasks never block. */
+    static final ExecutorService CODEC_EXECUTOR = Executors.newFixedThreadPool(PARALLELISM, new ThreadFactory() {
+        private final AtomicInteger m_threadCount = new AtomicInteger();
+
+        /** {@inheritDoc} */
+        @Override
+        public Thread newThread(final Runnable r) {
+            final Thread t = new Thread(r, "KNIME-TableChunkCodec-" + m_threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }
+    });
+
+    /** The level used when no level is passed, read from {@link KNIMEConstants#PROPERTY_TABLE_COMPRESSION_LEVEL}. */
+    private static final int DEFAULT_LEVEL;
+
+    static {
+        final String levelProperty = System.getProperty(KNIMEConstants.PROPERTY_TABLE_COMPRESSION_LEVEL);
+        int level = 0;
+        if (levelProperty != null) {
+            try {
+                level = Integer.parseInt(levelProperty.trim());
+                if (level < 0 || level > MAX_LEVEL) {
+                    throw new NumberFormatException("Not in [0, " + MAX_LEVEL + "]");
+                }
+            } catch (NumberFormatException nfe) {
+                LOGGER.warn("Unable to read property " + KNIMEConstants.PROPERTY_TABLE_COMPRESSION_LEVEL + " (\""
+                    + levelProperty + "\"): " + nfe.getMessage() + "; defaulting to 0");
+                level = 0;
+            }
+        }
+        DEFAULT_LEVEL = level;
+    }
+
+    private final DataOutputStream m_out;
+
+    private final LZ4Compressor m_compressor;
+
+    /** Compression of chunks in progress, in the order they need to be written. */
+    private final Deque<Future<byte[]>> m_pending = new ArrayDeque<>();
+
+    private byte[] m_chunk = new byte[CHUNK_SIZE];
+
+    private int m_count;
+
+    private boolean m_isClosed;
+
+    /**
+     * Creates a stream using the level defined by {@link KNIMEConstants#PROPERTY_TABLE_COMPRESSION_LEVEL}.
+     *
+     * @param out the stream to write the frames to
+     */
+    ChunkedCompressionOutputStream(final OutputStream out) {
+        this(out, DEFAULT_LEVEL);
+    }
+
+    /**
+     * Creates a stream.
+     *
+     * @param out the stream to write the frames to
+     * @param level the compression level, 0 for the fast LZ4 compressor, 1 to {@link #MAX_LEVEL} for the high
+     *            compression LZ4 compressor (slower compression, decompression speed is unaffected)
+     */
+    ChunkedCompressionOutputStream(final OutputStream out, final int level) {
+        m_out = new DataOutputStream(out);
+        final LZ4Factory factory = LZ4Factory.fastestInstance();
+        m_compressor = level <= 0 ? factory.fastCompressor() : factory.highCompressor(Math.min(level, MAX_LEVEL));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void write(final int b) throws IOException {
+        if (m_count == CHUNK_SIZE) {
+            submitChunk();
+        }
+        m_chunk[m_count++] = (byte)b;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        int offset = off;
+        int remaining = len;
+        while (remaining > 0) {
+            if (m_count == CHUNK_SIZE) {
+                submitChunk();
+            }
+            final int count = Math.min(remaining, CHUNK_SIZE - m_count);
+            System.arraycopy(b, offset, m_chunk, m_count, count);
+            m_count += count;
+            offset += count;
+            remaining -= count;
+        }
+    }
+
+    /** Hands the current chunk to the compressor threads, writes finished frames if too many are pending. */
+    private void submitChunk() throws IOException {
+        if (m_isClosed) {
+            throw new IOException("Stream is closed");
+        }
+        final byte[] chunk = m_chunk;
+        final int length = m_count;
+        m_pending.addLast(CODEC_EXECUTOR.submit(() -> compress(chunk, length)));
+        m_chunk = new byte[CHUNK_SIZE];
+        m_count = 0;
+        while (m_pending.size() > 2 * PARALLELISM) {
+            writeFrame(m_pending.removeFirst());
+        }
+    }
+
+    /** Compresses the chunk into a frame (header and payload). */
+    private byte[] compress(final byte[] chunk, final int length) {
+        final byte[] frame = new byte[FRAME_HEADER_LENGTH + m_compressor.maxCompressedLength(length)];
+        final int compressedLength =
+            m_compressor.compress(chunk, 0, length, frame, FRAME_HEADER_LENGTH, frame.length - FRAME_HEADER_LENGTH);
+        final int storedLength;
+        if (compressedLength < length) {
+            frame[0] = METHOD_LZ4;
+            storedLength = compressedLength;
+        } else {
+            frame[0] = METHOD_RAW;
+            System.arraycopy(chunk, 0, frame, FRAME_HEADER_LENGTH, length);
+            storedLength = length;
+        }
+        writeInt(frame, 1, length);
+        writeInt(frame, 5, storedLength);
+        return frame.length == FRAME_HEADER_LENGTH + storedLength ? frame
+            : Arrays.copyOf(frame, FRAME_HEADER_LENGTH + storedLength);
+    }
+
+    private static void writeInt(final byte[] b, final int off, final int v) {
+        b[off] = (byte)(v >>> 24);
+        b[off + 1] = (byte)(v >>> 16);
+        b[off + 2] = (byte)(v >>> 8);
+        b[off + 3] = (byte)v;
+    }
+
+    /** Waits for the compression of a chunk and writes its frame. */
+    private void writeFrame(final Future<byte[]> future) throws IOException {
+        try {
+            m_out.write(future.get());
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for chunk compression");
+        } catch (ExecutionException ee) {
+            throw new IOException("Unable to compress chunk: " + ee.getCause().getMessage(), ee.getCause());
+        }
+    }
+
+    /**
+     * Writes all completely compressed chunks and flushes the underlying stream. The current (incomplete) chunk is
+     * not written.
+     * {@inheritDoc}
+     */
+    @Override
+    public void flush() throws IOException {
+        while (!m_pending.isEmpty() && m_pending.peekFirst().isDone()) {
+            writeFrame(m_pending.removeFirst());
+        }
+        m_out.flush();
+    }
+
+    /**
+     * Compresses and writes the last chunk, waits for all pending chunks and closes the underlying stream.
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        if (m_isClosed) {
+            return;
+        }
+        try {
+            if (m_count > 0) {
+                submitChunk();
+            }
+            while (!m_pending.isEmpty()) {
+                writeFrame(m_pending.removeFirst());
+            }
+        } finally {
+            m_isClosed = true;
+            m_chunk = null;
+            m_pending.forEach(f -> f.cancel(true));
+            m_pending.clear();
+            m_out.close();
+        }
+    }
+
+}
@@ -0,0 +1,186 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.IDataRepository;
+import org.knime.core.data.container.DefaultTableStoreFormat.CompressionFormat;
+import org.knime.core.data.container.DefaultTableStoreFormat.DefaultTableStoreSettings;
+import org.knime.core.data.container.storage.AbstractTableStoreReader;
+import org.knime.core.data.container.storage.AbstractTableStoreWriter;
+import org.knime.core.data.container.storage.TableStoreFormat;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettingsRO;
+
+/**
+ * A column oriented table store format. Rows are collected in chunks of {@link #DEFAULT_CHUNK_SIZE} rows, each chunk
+ * is written column by column. Columns of the standard primitive types ({@link org.knime.core.data.def.IntCell},
+ * {@link org.knime.core.data.def.LongCell}, {@link org.knime.core.data.def.DoubleCell},
+ * {@link org.knime.core.data.def.BooleanCell} and {@link org.knime.core.data.def.StringCell}) are stored as
+ * primitive arrays along with a missing value bitmap, all other columns (and chunks that contain unexpected cell
+ * implementations or missing cells with error message) fall back to the serialization used by the
+ * {@link DefaultTableStoreFormat}.
+ *
+ * <p>Each column block is prefixed by its length so that readers can skip over columns that are not needed. The
+ * entire stream is wrapped by the same {@link CompressionFormat} as used by the {@link DefaultTableStoreFormat}.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ * @noextend This class is not intended to be subclassed by clients.
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public final class ColumnarTableStoreFormat implements TableStoreFormat {
+
+    /** The version of the columnar format, persisted with the meta information. */
+    static final String VERSION = "columnar_1";
+
+    /** The default number of rows in a chunk. */
+    static final int DEFAULT_CHUNK_SIZE = 1024;
+
+    /** Config key for the version of the format, part of the format settings. */
+    static final String CFG_COLUMNAR_VERSION = "columnar.version";
+
+    /** Column block encoding: cells written via their serializer (or java serialization) as in the default format. */
+    static final byte ENCODING_SERIALIZED = 0;
+
+    /** Column block encoding: int values plus missing bitmap. */
+    static final byte ENCODING_INT = 1;
+
+    /** Column block encoding: long values plus missing bitmap. */
+    static final byte ENCODING_LONG = 2;
+
+    /** Column block encoding: double values plus missing bitmap. */
+    static final byte ENCODING_DOUBLE = 3;
+
+    /** Column block encoding: boolean values as bitmap plus missing bitmap. */
+    static final byte ENCODING_BOOLEAN = 4;
+
+    /** Column block encoding: UTF-8 encoded strings plus missing bitmap. */
+    static final byte ENCODING_STRING = 5;
+
+    /** The table store settings (only the compression format is used). */
+    private final DefaultTableStoreSettings m_tableStoreSettings;
+
+    /**
+     * Constructor using the default table store settings.
+     */
+    public ColumnarTableStoreFormat() {
+        this(DefaultTableStoreSettings.getDefault());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param tableStoreSettings the table store settings, used to determine the compression format
+     */
+    public ColumnarTableStoreFormat(final DefaultTableStoreSettings tableStoreSettings) {
+        m_tableStoreSettings = tableStoreSettings;
+    }
+
+    @Override
+    public String getName() {
+        return "Columnar (primitive chunks)";
+    }
+
+    @Override
+    public String getFilenameSuffix() {
+        return ".col" + m_tableStoreSettings.getCompressionFormat().getFileExtension();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean accepts(final DataTableSpec spec) {
+        // types not natively supported are written using the cell serializers
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractTableStoreWriter createWriter(final File binFile, final DataTableSpec spec,
+        final boolean writeRowKey) throws IOException {
+        return createWriter(new FileOutputStream(binFile), spec, writeRowKey);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractTableStoreWriter createWriter(final OutputStream output, final DataTableSpec spec,
+        final boolean writeRowKey) throws IOException {
+        return new ColumnarTableStoreWriter(spec, output, writeRowKey, m_tableStoreSettings.getCompressionFormat(),
+            DEFAULT_CHUNK_SIZE);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractTableStoreReader createReader(final File binFile, final DataTableSpec spec,
+        final IDataRepository dataRepository, final NodeSettingsRO settings, final int version,
+        final boolean isReadRowKey) throws IOException, InvalidSettingsException {
+        return new ColumnarTableStoreReader(binFile, spec, settings, version, isReadRowKey);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getVersion() {
+        return VERSION;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean validateVersion(final String versionString) {
+        return VERSION.equals(versionString);
+    }
+
+}
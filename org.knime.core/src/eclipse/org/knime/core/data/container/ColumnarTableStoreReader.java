@@ -0,0 +1,538 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import static org.knime.core.data.container.ColumnarTableStoreFormat.ENCODING_BOOLEAN;
+import static org.knime.core.data.container.ColumnarTableStoreFormat.ENCODING_DOUBLE;
+import static org.knime.core.data.container.ColumnarTableStoreFormat.ENCODING_INT;
+import static org.knime.core.data.container.ColumnarTableStoreFormat.ENCODING_LONG;
+import static org.knime.core.data.container.ColumnarTableStoreFormat.ENCODING_SERIALIZED;
+import static org.knime.core.data.container.ColumnarTableStoreFormat.ENCODING_STRING;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.UnmaterializedCell;
+import org.knime.core.data.container.BufferFromFileIteratorVersion20.DataCellStreamReader;
+import org.knime.core.data.container.DCObjectInputVersion2.BlockableDCObjectInputVersion2;
+import org.knime.core.data.container.DefaultTableStoreFormat.CompressionFormat;
+import org.knime.core.data.container.storage.AbstractTableStoreReader;
+import org.knime.core.data.container.storage.AbstractTableStoreWriter;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.NodeSettingsRO;
+
+/**
+ * Reader of the {@link ColumnarTableStoreFormat}, see {@link ColumnarTableStoreWriter} for the stream layout.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+final class ColumnarTableStoreReader extends AbstractTableStoreReader {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ColumnarTableStoreReader.class);
+
+    /** Pseudo encoding of columns that are skipped while reading, never written to the stream. */
+    private static final byte ENCODING_UNMATERIALIZED = -1;
+
+    private final CompressionFormat m_compressionFormat;
+
+    private final boolean m_isReadRowKey;
+
+    /**
+     * Constructs a reader for tables written by the {@link ColumnarTableStoreWriter}.
+     *
+     * @param binFile the local file from which to read
+     * @param spec the specification of the data table
+     * @param settings The settings (written by
+     *            {@link AbstractTableStoreWriter#writeMetaInfoAfterWrite(org.knime.core.node.NodeSettingsWO)})
+     * @param version The version as defined in the {@link Buffer} class
+     * @param isReadRowKey whether or not row keys are to be read
+     * @throws IOException any type of I/O problem
+     * @throws InvalidSettingsException if the settings are invalid or written by an unknown version of the format
+     */
+    ColumnarTableStoreReader(final File binFile, final DataTableSpec spec, final NodeSettingsRO settings,
+        final int version, final boolean isReadRowKey) throws IOException, InvalidSettingsException {
+        super(binFile, spec, settings, version);
+        final String columnarVersion = settings.getString(ColumnarTableStoreFormat.CFG_COLUMNAR_VERSION);
+        if (!ColumnarTableStoreFormat.VERSION.equals(columnarVersion)) {
+            throw new InvalidSettingsException("Unsupported version of columnar table format: \""
+                + columnarVersion + "\" (expected \"" + ColumnarTableStoreFormat.VERSION + "\")");
+        }
+        readCellClassInfoArrayFromMetaVersion2(settings);
+        m_compressionFormat = CompressionFormat.loadSettings(settings, version);
+        m_isReadRowKey = isReadRowKey;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TableStoreCloseableRowIterator iterator() {
+        return iterator(null, Long.MAX_VALUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Blocks of columns that are not materialized are skipped without being decoded.
+     */
+    @Override
+    protected TableStoreCloseableRowIterator iterator(final int[] materializeColumnIndices, final long toRowIndex) {
+        try {
+            return new ColumnarIterator(createMaterializeMask(materializeColumnIndices), toRowIndex);
+        } catch (IOException ioe) {
+            checkAndReportOpenFiles(ioe);
+            throw new RuntimeException("Cannot read file \"" + getFile().getName() + "\"", ioe);
+        }
+    }
+
+    /** Iterator reading one chunk at a time. */
+    private final class ColumnarIterator extends TableStoreCloseableRowIterator {
+
+        /** Number of rows in the table. */
+        private final long m_size;
+
+        /** Flags of the columns to decode, null if all columns are to be materialized. */
+        private final boolean[] m_materializeColumns;
+
+        /** Index of the last row to be returned (inclusive). */
+        private final long m_toRowIndex;
+
+        /** Stream to read from, null when closed. */
+        private DataInputStream m_inStream;
+
+        /** Helper to deserialize cells in serialized blocks. */
+        private final DataCellStreamReader m_cellReader;
+
+        /** Row pointer. */
+        private long m_pointer;
+
+        /** Row keys of the current chunk or null if not read. */
+        private RowKey[] m_chunkKeys;
+
+        /** Columns of the current chunk. */
+        private final ColumnChunk[] m_chunkColumns;
+
+        /** Number of rows in the current chunk and index of next row in current chunk. */
+        private int m_chunkRowCount, m_chunkRowIndex;
+
+        /** Reused byte array for reading blocks. */
+        private byte[] m_blockBytes = new byte[1024];
+
+        /** See {@link BufferFromFileIteratorVersion20}. */
+        private boolean m_hasThrownReadException;
+
+        /** Content of rows returned when the table is closed or broken. */
+        private DataCell[] m_missingCells;
+
+        ColumnarIterator(final boolean[] materializeColumns, final long toRowIndex) throws IOException {
+            if (getFile() == null) {
+                throw new IOException("Unable to read table from file, table has been cleared.");
+            }
+            m_size = getBuffer().size();
+            m_materializeColumns = materializeColumns;
+            m_toRowIndex = toRowIndex;
+            m_cellReader = new DataCellStreamReader(ColumnarTableStoreReader.this);
+            m_chunkColumns = new ColumnChunk[getSpec().getNumColumns()];
+            for (int c = 0; c < m_chunkColumns.length; c++) {
+                m_chunkColumns[c] = new ColumnChunk();
+            }
+            m_inStream = new DataInputStream(m_compressionFormat.getInputStream(getFile()));
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public synchronized boolean hasNext() {
+            boolean hasNext = m_pointer < m_size && m_pointer <= m_toRowIndex;
+            if (!hasNext && (m_inStream != null)) {
+                close();
+            }
+            return hasNext;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public synchronized BlobSupportDataRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("Iterator at end");
+            }
+            if (m_inStream == null) {
+                LOGGER.warn("Invalid access on table, iterator has been closed");
+                RowKey key = new RowKey("INVALID_ROW (table is closed) - (Row " + m_pointer + ")");
+                m_pointer++;
+                return new BlobSupportDataRow(key, getMissingCells());
+            }
+            if (m_chunkRowIndex == m_chunkRowCount) {
+                try {
+                    readChunk();
+                } catch (Exception e) {
+                    handleReadThrowable(e);
+                    m_chunkRowCount = 0;
+                    m_chunkRowIndex = 0;
+                    String keyS = "Read_failed__auto_generated_key_" + m_pointer;
+                    m_pointer++;
+                    return new BlobSupportDataRow(new RowKey(keyS), getMissingCells());
+                }
+            }
+            final int r = m_chunkRowIndex++;
+            final RowKey key = m_isReadRowKey ? m_chunkKeys[r] : DUMMY_ROW_KEY;
+            final DataCell[] cells = new DataCell[m_chunkColumns.length];
+            for (int c = 0; c < cells.length; c++) {
+                cells[c] = m_chunkColumns[c].getCell(r);
+            }
+            m_pointer++;
+            return new BlobSupportDataRow(key, cells);
+        }
+
+        private DataCell[] getMissingCells() {
+            if (m_missingCells == null) {
+                m_missingCells = new DataCell[m_chunkColumns.length];
+                Arrays.fill(m_missingCells, DataType.getMissingCell());
+            }
+            return m_missingCells;
+        }
+
+        /** Reads and decodes the next chunk. */
+        private void readChunk() throws IOException {
+            final int rowCount = m_inStream.readInt();
+            if (rowCount <= 0) {
+                throw new IOException("Invalid row count in chunk: " + rowCount);
+            }
+            readChunkContent(rowCount);
+        }
+
+        /** Reads and decodes the blocks of the next chunk, its row count has been read already. */
+        private void readChunkContent(final int rowCount) throws IOException {
+            m_chunkRowCount = rowCount;
+            m_chunkRowIndex = 0;
+            if (m_isReadRowKey) {
+                if (m_inStream.readByte() != ENCODING_STRING) {
+                    throw new IOException("Expected row key block");
+                }
+                final String[] keyStrings = decodeStrings(readBlock(), rowCount);
+                m_chunkKeys = new RowKey[rowCount];
+                for (int r = 0; r < rowCount; r++) {
+                    m_chunkKeys[r] = new RowKey(keyStrings[r]);
+                }
+            }
+            for (int c = 0; c < m_chunkColumns.length; c++) {
+                final byte encoding = m_inStream.readByte();
+                if (m_materializeColumns == null || m_materializeColumns[c]) {
+                    m_chunkColumns[c].decode(encoding, readBlock(), rowCount);
+                } else {
+                    skipBlock();
+                    m_chunkColumns[c].setUnmaterialized();
+                }
+            }
+        }
+
+        /**
+         * Skips rows without decoding them. Entire chunks are skipped block by block, only the chunk containing the
+         * next row to return is decoded.
+         * {@inheritDoc}
+         */
+        @Override
+        public synchronized void skipRows(final long count) {
+            long remaining = Math.min(count, m_size - m_pointer);
+            while (remaining > 0 && m_inStream != null) {
+                final int inChunk = m_chunkRowCount - m_chunkRowIndex;
+                if (inChunk > 0) {
+                    final int skip = (int)Math.min(inChunk, remaining);
+                    m_chunkRowIndex += skip;
+                    m_pointer += skip;
+                    remaining -= skip;
+                    continue;
+                }
+                try {
+                    final int rowCount = m_inStream.readInt();
+                    if (rowCount <= 0) {
+                        throw new IOException("Invalid row count in chunk: " + rowCount);
+                    }
+                    if (rowCount > remaining) {
+                        // the next row to return is in this chunk; decode it
+                        readChunkContent(rowCount);
+                        continue;
+                    }
+                    final int blockCount = m_chunkColumns.length + (m_isReadRowKey ? 1 : 0);
+                    for (int b = 0; b < blockCount; b++) {
+                        m_inStream.readByte();
+                        skipBlock();
+                    }
+                    m_pointer += rowCount;
+                    remaining -= rowCount;
+                } catch (IOException ioe) {
+                    handleReadThrowable(ioe);
+                    // can't recover the chunk structure, consider the remaining rows as skipped
+                    m_pointer += remaining;
+                    remaining = 0;
+                }
+            }
+            if (m_inStream != null) {
+                hasNext(); // closes the stream if the end has been reached
+            }
+        }
+
+        /** Skips the length-prefixed payload of a block, the encoding byte has been read already. */
+        private void skipBlock() throws IOException {
+            int length = m_inStream.readInt();
+            if (length < 0) {
+                throw new IOException("Invalid block length: " + length);
+            }
+            while (length > 0) {
+                final int skipped = m_inStream.skipBytes(length);
+                if (skipped <= 0) {
+                    throw new EOFException("Unexpected end of stream while skipping block");
+                }
+                length -= skipped;
+            }
+        }
+
+        /** Reads the length-prefixed payload of a block, the encoding byte has been read already. */
+        private ByteBuffer readBlock() throws IOException {
+            final int length = m_inStream.readInt();
+            if (length < 0) {
+                throw new IOException("Invalid block length: " + length);
+            }
+            if (m_blockBytes.length < length) {
+                m_blockBytes = new byte[Math.max(length, 2 * m_blockBytes.length)];
+            }
+            m_inStream.readFully(m_blockBytes, 0, length);
+            return ByteBuffer.wrap(m_blockBytes, 0, length);
+        }
+
+        /** Decodes a string block, missing values are represented by null. */
+        private String[] decodeStrings(final ByteBuffer buffer, final int rowCount) {
+            final long[] missing = decodeMissing(buffer, rowCount);
+            final String[] result = new String[rowCount];
+            for (int r = 0; r < rowCount; r++) {
+                if (!isMissing(missing, r)) {
+                    final int length = buffer.getInt();
+                    result[r] = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                        StandardCharsets.UTF_8);
+                    buffer.position(buffer.position() + length);
+                }
+            }
+            return result;
+        }
+
+        /** Handle exceptions, make sure to issue errors only once. */
+        private void handleReadThrowable(final Throwable throwable) {
+            String warnMessage = "Errors while reading row " + (m_pointer + 1) + " from file \""
+                + getFile().getName() + "\": " + throwable.getMessage();
+            if (!m_hasThrownReadException) {
+                LOGGER.error(warnMessage + "; Suppressing further warnings.", throwable);
+            } else {
+                LOGGER.debug(warnMessage, throwable);
+            }
+            m_hasThrownReadException = true;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public synchronized boolean performClose() throws IOException {
+            if (m_inStream == null) {
+                return false;
+            }
+            DataInputStream in = m_inStream;
+            m_inStream = null;
+            m_chunkKeys = null;
+            in.close();
+            return true;
+        }
+
+        /** The decoded content of one column in the current chunk. */
+        private final class ColumnChunk {
+
+            private byte m_encoding;
+
+            private long[] m_missing;
+
+            private int[] m_ints;
+
+            private long[] m_longs;
+
+            private double[] m_doubles;
+
+            private String[] m_strings;
+
+            private DataCell[] m_cells;
+
+            void setUnmaterialized() {
+                m_encoding = ENCODING_UNMATERIALIZED;
+            }
+
+            void decode(final byte encoding, final ByteBuffer buffer, final int rowCount) throws IOException {
+                m_encoding = encoding;
+                switch (encoding) {
+                    case ENCODING_INT:
+                        m_missing = decodeMissing(buffer, rowCount);
+                        m_ints = ensureCapacity(m_ints, rowCount);
+                        buffer.asIntBuffer().get(m_ints, 0, rowCount);
+                        break;
+                    case ENCODING_LONG:
+                        m_missing = decodeMissing(buffer, rowCount);
+                        m_longs = ensureCapacity(m_longs, rowCount);
+                        buffer.asLongBuffer().get(m_longs, 0, rowCount);
+                        break;
+                    case ENCODING_DOUBLE:
+                        m_missing = decodeMissing(buffer, rowCount);
+                        m_doubles = ensureCapacity(m_doubles, rowCount);
+                        buffer.asDoubleBuffer().get(m_doubles, 0, rowCount);
+                        break;
+                    case ENCODING_BOOLEAN:
+                        m_missing = decodeMissing(buffer, rowCount);
+                        final int words = ColumnarTableStoreWriter.bitmapWords(rowCount);
+                        m_longs = ensureCapacity(m_longs, words);
+                        buffer.asLongBuffer().get(m_longs, 0, words);
+                        break;
+                    case ENCODING_STRING:
+                        m_strings = decodeStrings(buffer, rowCount);
+                        break;
+                    case ENCODING_SERIALIZED:
+                        m_cells = decodeSerialized(buffer, rowCount);
+                        break;
+                    default:
+                        throw new IOException("Unknown column encoding: " + encoding);
+                }
+            }
+
+            private DataCell[] decodeSerialized(final ByteBuffer buffer, final int rowCount) {
+                final DataCell[] cells = new DataCell[rowCount];
+                final BlockableDCObjectInputVersion2 in = new BlockableDCObjectInputVersion2(new ByteArrayInputStream(
+                    buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining()), m_cellReader);
+                for (int r = 0; r < rowCount; r++) {
+                    try {
+                        try {
+                            cells[r] = m_cellReader.readDataCell(in);
+                        } finally {
+                            in.endBlock();
+                        }
+                    } catch (Exception e) {
+                        handleReadThrowable(e);
+                        cells[r] = DataType.getMissingCell();
+                    }
+                }
+                return cells;
+            }
+
+            DataCell getCell(final int r) {
+                switch (m_encoding) {
+                    case ENCODING_STRING:
+                        return m_strings[r] == null ? DataType.getMissingCell() : new StringCell(m_strings[r]);
+                    case ENCODING_SERIALIZED:
+                        return m_cells[r];
+                    case ENCODING_UNMATERIALIZED:
+                        return UnmaterializedCell.getInstance();
+                    default:
+                        if (isMissing(m_missing, r)) {
+                            return DataType.getMissingCell();
+                        }
+                }
+                switch (m_encoding) {
+                    case ENCODING_INT:
+                        return new IntCell(m_ints[r]);
+                    case ENCODING_LONG:
+                        return new LongCell(m_longs[r]);
+                    case ENCODING_DOUBLE:
+                        return new DoubleCell(m_doubles[r]);
+                    case ENCODING_BOOLEAN:
+                        return BooleanCell.get(isSet(m_longs, r));
+                    default:
+                        throw new IllegalStateException("Unknown column encoding: " + m_encoding);
+                }
+            }
+        }
+    }
+
+    /** Reads the missing bitmap, returns null if there are no missing values. */
+    private static long[] decodeMissing(final ByteBuffer buffer, final int rowCount) {
+        if (buffer.get() == 0) {
+            return null;
+        }
+        final long[] missing = new long[ColumnarTableStoreWriter.bitmapWords(rowCount)];
+        for (int i = 0; i < missing.length; i++) {
+            missing[i] = buffer.getLong();
+        }
+        return missing;
+    }
+
+    private static boolean isMissing(final long[] missing, final int r) {
+        return missing != null && isSet(missing, r);
+    }
+
+    private static boolean isSet(final long[] bitmap, final int r) {
+        return (bitmap[r >>> 6] & (1L << r)) != 0;
+    }
+
+    private static int[] ensureCapacity(final int[] array, final int length) {
+        return array != null && array.length >= length ? array : new int[length];
+    }
+
+    private static long[] ensureCapacity(final long[] array, final int length) {
+        return array != null && array.length >= length ? array : new long[length];
+    }
+
+    private static double[] ensureCapacity(final double[] array, final int length) {
+        return array != null && array.length >= length ? array : new double[length];
+    }
+
+}
@@ -0,0 +1,408 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import static org.knime.core.data.container.ColumnarTableStoreFormat.ENCODING_BOOLEAN;
+import static org.knime.core.data.container.ColumnarTableStoreFormat.ENCODING_DOUBLE;
+import static org.knime.core.data.container.ColumnarTableStoreFormat.ENCODING_INT;
+import static org.knime.core.data.container.ColumnarTableStoreFormat.ENCODING_LONG;
+import static org.knime.core.data.container.ColumnarTableStoreFormat.ENCODING_SERIALIZED;
+import static org.knime.core.data.container.ColumnarTableStoreFormat.ENCODING_STRING;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.DCObjectOutputVersion2.BlockableDCObjectOutputVersion2;
+import org.knime.core.data.container.DefaultTableStoreFormat.CompressionFormat;
+import org.knime.core.data.container.storage.AbstractTableStoreWriter;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.NodeSettingsWO;
+
+/**
+ * Writer of the {@link ColumnarTableStoreFormat}. Rows are collected until a chunk is full, then each column of the
+ * chunk is encoded into a separate, length-prefixed block.
+ *
+ * <p>Stream layout (all within the compressed stream):
+ * <pre>
+ * chunk := rowCount:int [rowKeyBlock] columnBlock*
+ * block := encoding:byte length:int payload:byte[length]
+ * </pre>
+ * Primitive payloads start with the missing bitmap ({@code hasMissing:byte [words:long*]}) followed by the values.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+final class ColumnarTableStoreWriter extends AbstractTableStoreWriter {
+
+    /** The (buffered, compressed) stream to write to. */
+    private final DataOutputStream m_out;
+
+    /** The compression format. */
+    private final CompressionFormat m_compFormat;
+
+    /** Number of rows in a chunk. */
+    private final int m_chunkSize;
+
+    /** The row keys of the current chunk, null if not to write row keys. */
+    private final RowKey[] m_keys;
+
+    /** The cells of the current chunk, indexed by [column][row]. */
+    private final DataCell[][] m_columns;
+
+    /** The encoding to use for each column if the chunk's content permits. */
+    private final byte[] m_preferredEncodings;
+
+    /** Number of rows in the current chunk. */
+    private int m_rowsInChunk;
+
+    /** Reused buffer for encoding primitive blocks. */
+    private ByteBuffer m_scratch;
+
+    /** Reused buffer for encoding serialized blocks. */
+    private final ByteArrayOutputStream m_serializedBuffer;
+
+    /**
+     * Constructs a writer for writing KNIME tables in columnar chunks.
+     *
+     * @param spec the specification of the KNIME table to write to disk
+     * @param outputStream the stream to write to
+     * @param writeRowKey a flag that determines whether to store the row keys
+     * @param compFormat the compression format
+     * @param chunkSize number of rows per chunk
+     * @throws IOException any type of I/O problem
+     */
+    ColumnarTableStoreWriter(final DataTableSpec spec, final OutputStream outputStream, final boolean writeRowKey,
+        final CompressionFormat compFormat, final int chunkSize) throws IOException {
+        super(spec, writeRowKey);
+        m_compFormat = compFormat;
+        m_chunkSize = chunkSize;
+        m_out = new DataOutputStream(m_compFormat.getOutputStream(new BufferedOutputStream(outputStream)));
+        final int colCount = spec.getNumColumns();
+        m_keys = writeRowKey ? new RowKey[chunkSize] : null;
+        m_columns = new DataCell[colCount][chunkSize];
+        m_preferredEncodings = new byte[colCount];
+        for (int c = 0; c < colCount; c++) {
+            m_preferredEncodings[c] = getPreferredEncoding(spec.getColumnSpec(c).getType());
+        }
+        m_scratch = ByteBuffer.allocate(1024);
+        m_serializedBuffer = new ByteArrayOutputStream(1024);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeRow(final DataRow row) throws IOException {
+        if (m_keys != null) {
+            m_keys[m_rowsInChunk] = row.getKey();
+        }
+        final boolean isBlobRow = row instanceof BlobSupportDataRow;
+        for (int c = 0; c < m_columns.length; c++) {
+            m_columns[c][m_rowsInChunk] = isBlobRow ? ((BlobSupportDataRow)row).getRawCell(c) : row.getCell(c);
+        }
+        m_rowsInChunk += 1;
+        if (m_rowsInChunk == m_chunkSize) {
+            flushChunk();
+        }
+    }
+
+    /** Encodes the current chunk and writes it to the stream. */
+    private void flushChunk() throws IOException {
+        final int rowCount = m_rowsInChunk;
+        if (rowCount == 0) {
+            return;
+        }
+        m_out.writeInt(rowCount);
+        if (m_keys != null) {
+            final String[] keyStrings = new String[rowCount];
+            for (int r = 0; r < rowCount; r++) {
+                keyStrings[r] = m_keys[r].getString();
+            }
+            writeStringBlock(keyStrings, rowCount);
+            Arrays.fill(m_keys, null);
+        }
+        for (int c = 0; c < m_columns.length; c++) {
+            final DataCell[] cells = m_columns[c];
+            final byte encoding = canEncodeAs(m_preferredEncodings[c], cells, rowCount)
+                ? m_preferredEncodings[c] : ENCODING_SERIALIZED;
+            switch (encoding) {
+                case ENCODING_INT:
+                    writeIntBlock(cells, rowCount);
+                    break;
+                case ENCODING_LONG:
+                    writeLongBlock(cells, rowCount);
+                    break;
+                case ENCODING_DOUBLE:
+                    writeDoubleBlock(cells, rowCount);
+                    break;
+                case ENCODING_BOOLEAN:
+                    writeBooleanBlock(cells, rowCount);
+                    break;
+                case ENCODING_STRING:
+                    final String[] strings = new String[rowCount];
+                    for (int r = 0; r < rowCount; r++) {
+                        strings[r] = cells[r].isMissing() ? null : ((StringCell)cells[r]).getStringValue();
+                    }
+                    writeStringBlock(strings, rowCount);
+                    break;
+                default:
+                    writeSerializedBlock(cells, rowCount);
+            }
+            Arrays.fill(cells, null);
+        }
+        m_rowsInChunk = 0;
+    }
+
+    private void writeIntBlock(final DataCell[] cells, final int rowCount) throws IOException {
+        final ByteBuffer buffer = startBlock(cells, rowCount, Integer.BYTES * rowCount);
+        for (int r = 0; r < rowCount; r++) {
+            buffer.putInt(cells[r].isMissing() ? 0 : ((IntCell)cells[r]).getIntValue());
+        }
+        endBlock(ENCODING_INT, buffer);
+    }
+
+    private void writeLongBlock(final DataCell[] cells, final int rowCount) throws IOException {
+        final ByteBuffer buffer = startBlock(cells, rowCount, Long.BYTES * rowCount);
+        for (int r = 0; r < rowCount; r++) {
+            buffer.putLong(cells[r].isMissing() ? 0L : ((LongCell)cells[r]).getLongValue());
+        }
+        endBlock(ENCODING_LONG, buffer);
+    }
+
+    private void writeDoubleBlock(final DataCell[] cells, final int rowCount) throws IOException {
+        final ByteBuffer buffer = startBlock(cells, rowCount, Double.BYTES * rowCount);
+        for (int r = 0; r < rowCount; r++) {
+            buffer.putDouble(cells[r].isMissing() ? 0.0 : ((DoubleCell)cells[r]).getDoubleValue());
+        }
+        endBlock(ENCODING_DOUBLE, buffer);
+    }
+
+    private void writeBooleanBlock(final DataCell[] cells, final int rowCount) throws IOException {
+        final long[] values = new long[bitmapWords(rowCount)];
+        for (int r = 0; r < rowCount; r++) {
+            if (!cells[r].isMissing() && ((BooleanCell)cells[r]).getBooleanValue()) {
+                values[r >>> 6] |= 1L << r;
+            }
+        }
+        final ByteBuffer buffer = startBlock(cells, rowCount, Long.BYTES * values.length);
+        for (long word : values) {
+            buffer.putLong(word);
+        }
+        endBlock(ENCODING_BOOLEAN, buffer);
+    }
+
+    /** Writes a string block, null entries in the argument array denote missing values. */
+    private void writeStringBlock(final String[] strings, final int rowCount) throws IOException {
+        final byte[][] bytes = new byte[rowCount][];
+        final long[] missing = new long[bitmapWords(rowCount)];
+        boolean hasMissing = false;
+        int length = 0;
+        for (int r = 0; r < rowCount; r++) {
+            if (strings[r] == null) {
+                missing[r >>> 6] |= 1L << r;
+                hasMissing = true;
+            } else {
+                bytes[r] = strings[r].getBytes(StandardCharsets.UTF_8);
+                length += Integer.BYTES + bytes[r].length;
+            }
+        }
+        final ByteBuffer buffer = startBlock(hasMissing ? missing : null, length);
+        for (int r = 0; r < rowCount; r++) {
+            if (bytes[r] != null) {
+                buffer.putInt(bytes[r].length);
+                buffer.put(bytes[r]);
+            }
+        }
+        endBlock(ENCODING_STRING, buffer);
+    }
+
+    /** Writes cells using the serialization of the default table format, each cell being a separate block. */
+    private void writeSerializedBlock(final DataCell[] cells, final int rowCount) throws IOException {
+        m_serializedBuffer.reset();
+        @SuppressWarnings("resource") // in-memory stream, nothing to close
+        final BlockableDCObjectOutputVersion2 outStream =
+            new BlockableDCObjectOutputVersion2(m_serializedBuffer, this);
+        for (int r = 0; r < rowCount; r++) {
+            writeDataCell(cells[r], outStream);
+            outStream.endBlock();
+        }
+        outStream.flush();
+        m_out.writeByte(ENCODING_SERIALIZED);
+        m_out.writeInt(m_serializedBuffer.size());
+        m_serializedBuffer.writeTo(m_out);
+    }
+
+    /** Prepares the scratch buffer and writes the missing bitmap of the argument cells. */
+    private ByteBuffer startBlock(final DataCell[] cells, final int rowCount, final int valueBytes) {
+        long[] missing = null;
+        for (int r = 0; r < rowCount; r++) {
+            if (cells[r].isMissing()) {
+                if (missing == null) {
+                    missing = new long[bitmapWords(rowCount)];
+                }
+                missing[r >>> 6] |= 1L << r;
+            }
+        }
+        return startBlock(missing, valueBytes);
+    }
+
+    private ByteBuffer startBlock(final long[] missing, final int valueBytes) {
+        final int size = 1 + (missing != null ? Long.BYTES * missing.length : 0) + valueBytes;
+        if (m_scratch.capacity() < size) {
+            m_scratch = ByteBuffer.allocate(Math.max(size, 2 * m_scratch.capacity()));
+        }
+        final ByteBuffer buffer = m_scratch;
+        buffer.clear();
+        buffer.put(missing != null ? (byte)1 : (byte)0);
+        if (missing != null) {
+            for (long word : missing) {
+                buffer.putLong(word);
+            }
+        }
+        return buffer;
+    }
+
+    private void endBlock(final byte encoding, final ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        m_out.writeByte(encoding);
+        m_out.writeInt(buffer.remaining());
+        m_out.write(buffer.array(), 0, buffer.remaining());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeMetaInfoAfterWrite(final NodeSettingsWO settings) {
+        m_compFormat.saveSettings(settings);
+        settings.addString(ColumnarTableStoreFormat.CFG_COLUMNAR_VERSION, ColumnarTableStoreFormat.VERSION);
+        super.writeMetaInfoAfterWrite(settings);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws IOException {
+        flushChunk();
+        m_out.close();
+    }
+
+    /**
+     * @param rowCount number of rows
+     * @return number of long words required to hold a bitmap of the given size
+     */
+    static int bitmapWords(final int rowCount) {
+        return (rowCount + Long.SIZE - 1) / Long.SIZE;
+    }
+
+    /**
+     * Determines the primitive encoding for a column type.
+     *
+     * @param type the column type
+     * @return the encoding, {@link ColumnarTableStoreFormat#ENCODING_SERIALIZED} if not natively supported
+     */
+    static byte getPreferredEncoding(final DataType type) {
+        if (IntCell.TYPE.equals(type)) {
+            return ENCODING_INT;
+        } else if (LongCell.TYPE.equals(type)) {
+            return ENCODING_LONG;
+        } else if (DoubleCell.TYPE.equals(type)) {
+            return ENCODING_DOUBLE;
+        } else if (BooleanCell.TYPE.equals(type)) {
+            return ENCODING_BOOLEAN;
+        } else if (StringCell.TYPE.equals(type)) {
+            return ENCODING_STRING;
+        }
+        return ENCODING_SERIALIZED;
+    }
+
+    /**
+     * Checks whether all cells are either the singleton missing cell or exactly of the class represented by the
+     * encoding (sub classes, blobs and missing cells carrying an error message need to be serialized).
+     */
+    private static boolean canEncodeAs(final byte encoding, final DataCell[] cells, final int rowCount) {
+        final Class<? extends DataCell> expectedClass;
+        switch (encoding) {
+            case ENCODING_INT:
+                expectedClass = IntCell.class;
+                break;
+            case ENCODING_LONG:
+                expectedClass = LongCell.class;
+                break;
+            case ENCODING_DOUBLE:
+                expectedClass = DoubleCell.class;
+                break;
+            case ENCODING_BOOLEAN:
+                expectedClass = BooleanCell.class;
+                break;
+            case ENCODING_STRING:
+                expectedClass = StringCell.class;
+                break;
+            default:
+                return false;
+        }
+        final DataCell missing = DataType.getMissingCell();
+        for (int r = 0; r < rowCount; r++) {
+            final DataCell cell = cells[r];
+            if (cell != missing && cell.getClass() != expectedClass) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
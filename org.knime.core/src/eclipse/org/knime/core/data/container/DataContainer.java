@@ -53,6 +53,7 @@
 import java.io.OutputStream;
 import java.lang.ref.WeakReference;
 import java.text.SimpleDateFormat;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -94,6 +95,7 @@
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.util.CheckUtils;
 import org.knime.core.node.workflow.NodeContext;
+import org.knime.core.node.workflow.NodeExecutionProfiler;
 import org.knime.core.node.workflow.WorkflowDataRepository;
 import org.knime.core.util.DuplicateChecker;
 import org.knime.core.util.DuplicateKeyException;
@@ -207,6 +209,9 @@ public Thread newThread(final Runnable r) {
     /** Put into write queue to trigger the buffer to flush its data. */
     private static final Object FLUSH_CACHE = new Object();
 
+    /** Maximum number of rows handed to the write thread as one batch (a {@link DataRow} array). */
+    static final int MAX_ASYNC_BATCH_SIZE = 256;
+
     /**
      * The object that instantiates the buffer, may be set right after constructor call before any rows are added.
      */
@@ -237,9 +242,15 @@ public Thread newThread(final Runnable r) {
      */
     private final boolean m_isSynchronousWrite;
 
-    /** The asynchronous queue holding the most recently added rows. */
+    /** The asynchronous queue holding the most recently added rows (in batches). */
     private final BlockingQueue<Object> m_rowBuffer;
 
+    /** The rows collected for the next batch handed to the write thread, null if writing synchronously. */
+    private DataRow[] m_pendingRows;
+
+    /** Number of valid entries in {@link #m_pendingRows}. */
+    private int m_pendingRowCount;
+
     private int m_maxRowsInMemory;
 
     /** Holds the keys of the added rows to check for duplicates. */
@@ -353,7 +364,11 @@ public DataContainer(final DataTableSpec spec, final DataContainerSettings setti
             m_writeThrowable = null;
             m_asyncAddFuture = null;
         } else {
-            m_rowBuffer = new ArrayBlockingQueue<>(settings.getAsyncCacheSize());
+            // rows are handed over in batches, which saves on queue synchronization; the number of rows in flight
+            // is (about) the same as for a queue of single rows of the configured size
+            final int batchSize = Math.max(1, Math.min(MAX_ASYNC_BATCH_SIZE, settings.getAsyncCacheSize()));
+            m_pendingRows = new DataRow[batchSize];
+            m_rowBuffer = new ArrayBlockingQueue<>(Math.max(2, settings.getAsyncCacheSize() / batchSize));
             m_writeThrowable = new AtomicReference<Throwable>();
             m_asyncAddFuture = ASYNC_EXECUTORS.submit(new ASyncWriteCallable(this, NodeContext.getContext()));
         }
@@ -520,6 +535,7 @@ public void close() {
         }
         if (!m_isSynchronousWrite) {
             try {
+                offerPendingRows();
                 offerToAsynchronousQueue(CONTAINER_CLOSE);
                 m_asyncAddFuture.get();
                 checkAsyncWriteThrowable();
@@ -548,15 +564,39 @@ public void close() {
         m_duplicateChecker.clear();
         m_duplicateChecker = null;
         m_domainCreator = null;
+        m_pendingRows = null;
         m_size = -1;
     }
 
+    /** Hands the rows collected so far to the write thread (if there are any). */
+    private void offerPendingRows() {
+        if (m_pendingRowCount > 0) {
+            offerToAsynchronousQueue(Arrays.copyOf(m_pendingRows, m_pendingRowCount));
+            Arrays.fill(m_pendingRows, 0, m_pendingRowCount, null);
+            m_pendingRowCount = 0;
+        }
+    }
+
     /**
-     * Adds the argument object (which will be a DataRow unless when called from close()) to the data row queue.
+     * Adds the argument object (which will be a DataRow array unless when called from close()) to the data row queue.
      *
      * @param object the object to add.
      */
     private void offerToAsynchronousQueue(final Object object) {
+        checkAsyncWriteThrowable();
+        if (m_rowBuffer.offer(object)) {
+            return;
+        }
+        // the write thread doesn't keep up, record the time we are blocked
+        final long start = System.nanoTime();
+        try {
+            offerToAsynchronousQueueBlocking(object);
+        } finally {
+            NodeExecutionProfiler.recordAsyncWriteBlockedNanos(System.nanoTime() - start);
+        }
+    }
+
+    private void offerToAsynchronousQueueBlocking(final Object object) {
         while (true) {
             try {
                 // check if the write thread has reported an exception
@@ -678,9 +718,15 @@ public void addRowToTable(final DataRow row) {
             addRowToTableWrite(row);
         } else {
             if (MemoryAlertSystem.getInstance().isMemoryLow()) {
+                offerPendingRows();
                 offerToAsynchronousQueue(FLUSH_CACHE);
             }
-            offerToAsynchronousQueue(row);
+            m_pendingRows[m_pendingRowCount++] = row;
+            if (m_pendingRowCount == m_pendingRows.length) {
+                offerToAsynchronousQueue(m_pendingRows);
+                m_pendingRows = new DataRow[m_pendingRows.length];
+                m_pendingRowCount = 0;
+            }
         }
         m_size += 1;
     } // addRowToTable(DataRow)
@@ -1142,9 +1188,10 @@ private Void callWithContext() throws Exception {
                         // memory consumption critical; buffer should be flushed
                         d.m_buffer.flushBuffer();
                     } else {
-                        // fetch and handle / write data row
-                        final DataRow row = (DataRow)obj;
-                        d.addRowToTableWrite(row);
+                        // fetch and handle / write batch of data rows
+                        for (DataRow row : (DataRow[])obj) {
+                            d.addRowToTableWrite(row);
+                        }
                     }
                 }
                 // m_containerRef.get() returned null -> close() was never called on the container
@@ -63,6 +63,7 @@
 import org.knime.core.node.workflow.WorkflowContext;
 import org.knime.core.node.workflow.WorkflowManager;
 import org.knime.core.util.DuplicateChecker;
+import org.knime.core.util.HashDuplicateChecker;
 import org.knime.core.util.IDuplicateChecker;
 
 /**
@@ -250,7 +251,7 @@ private DataContainerSettings() {
         m_asyncCacheSize = initAsyncCacheSize();
         m_initDomain = initDomain();
         m_maxDomainValues = initMaxDomainValues();
-        m_duplicateCheckerCreator = () -> new DuplicateChecker();
+        m_duplicateCheckerCreator = initDuplicateCheckerCreator();
         m_tableDomainCreatorFunction = (spec, initDomain) -> new DataTableDomainCreator(spec, initDomain);
         m_bufferSettings = DEFAULT_BUFFER_INSTANCE;
     }
@@ -534,6 +535,20 @@ private static boolean initSynchronousIO() {
         }
     }
 
+    /**
+     * Initializes the function creating duplicate checkers w.r.t. the defined properties.
+     *
+     * @return the function creating {@link DuplicateChecker}s unless the hash based checker is enabled
+     */
+    private static Supplier<IDuplicateChecker> initDuplicateCheckerCreator() {
+        if (Boolean.getBoolean(KNIMEConstants.PROPERTY_HASH_ROWID_DUPLICATE_CHECK)) {
+            LOGGER.debug("Using hash based row ID duplicate checker; "
+                + KNIMEConstants.PROPERTY_HASH_ROWID_DUPLICATE_CHECK + " is set");
+            return () -> new HashDuplicateChecker();
+        }
+        return () -> new DuplicateChecker();
+    }
+
     /**
      * Initializes the maximum number of asynchronous write threads depending on the OS architecture.
      *
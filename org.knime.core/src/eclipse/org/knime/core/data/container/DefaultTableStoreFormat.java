@@ -95,6 +95,21 @@ public final class DefaultTableStoreFormat implements TableStoreFormat {
     /** Compression format. */
     private static final String CFG_COMPRESSION = "container.compression";
 
+    /**
+     * Position of the row offset index in the (uncompressed) data stream, only present for
+     * {@link CompressionFormat#isSeekable() seekable} compression formats.
+     */
+    static final String CFG_ROW_INDEX_OFFSET = "container.rowindex.offset";
+
+    /** Number of rows between two entries of the row offset index. */
+    static final String CFG_ROW_INDEX_INTERVAL = "container.rowindex.interval";
+
+    /** Number of rows between two entries of the row offset index written by the current version. */
+    static final int ROW_INDEX_INTERVAL = 1024;
+
+    /** Minimum number of rows of a table to get a row offset index, skipping fewer rows sequentially is cheap. */
+    static final int ROW_INDEX_MIN_ROW_COUNT = 2 * ROW_INDEX_INTERVAL;
+
     /**
      * Checked function interface throwing an IOException.
      *
@@ -141,7 +156,16 @@ public static enum CompressionFormat {
             /** Snappy compression. */
             SNAPPY(".bin.snappy", //
                 i -> new BufferedInputStream(new SnappyInputStream(i)), //
-                o -> new BufferedOutputStream(new SnappyOutputStream(o)));
+                o -> new BufferedOutputStream(new SnappyOutputStream(o))),
+
+            /**
+             * LZ4 compression of independently framed chunks, which are compressed and decompressed in parallel. Files
+             * of this format support seeking (via a row offset index). The compression level is set via
+             * {@link KNIMEConstants#PROPERTY_TABLE_COMPRESSION_LEVEL}.
+             */
+            CHUNKED_LZ4(".bin.lz4c", //
+                i -> new ChunkedCompressionInputStream(new BufferedInputStream(i)), //
+                o -> new ChunkedCompressionOutputStream(o));
 
         /** The file name extension. */
         private final String m_fileNameExtension;
@@ -174,6 +198,16 @@ String getFileExtension() {
             return m_fileNameExtension;
         }
 
+        /**
+         * Whether streams of this format can be positioned at an arbitrary (uncompressed) offset without decompressing
+         * the preceding data, in which case a row offset index is written along with the data.
+         *
+         * @return whether the format supports seeking
+         */
+        boolean isSeekable() {
+            return this == NONE || this == CHUNKED_LZ4;
+        }
+
         void saveSettings(final NodeSettingsWO settings) {
             /* To ensure that GZIP-compressed and uncompressed workflows written with >= 3.8 can be loaded in earlier
              * versions, we have to camel-case the names of these compresssion formats (None, Gzip), since KNIME AP
@@ -47,15 +47,24 @@
  */
 package org.knime.core.data.container;
 
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+
+import org.eclipse.core.runtime.Platform;
 
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.container.DefaultTableStoreFormat.CompressionFormat;
 import org.knime.core.data.container.storage.AbstractTableStoreReader;
 import org.knime.core.data.container.storage.AbstractTableStoreWriter;
 import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
 import org.knime.core.node.NodeSettingsRO;
 
 /**
@@ -64,8 +73,43 @@
  */
 final class DefaultTableStoreReader extends AbstractTableStoreReader {
 
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(DefaultTableStoreReader.class);
+
+    /** Whether uncompressed files are read via memory mapping, see {@link KNIMEConstants#PROPERTY_TABLE_MMAP}. */
+    private static final boolean USE_MMAP;
+
+    static {
+        final String mmapProperty = System.getProperty(KNIMEConstants.PROPERTY_TABLE_MMAP);
+        if (mmapProperty == null) {
+            USE_MMAP = !Platform.OS_WIN32.equals(Platform.getOS());
+        } else {
+            USE_MMAP = Boolean.parseBoolean(mmapProperty.trim());
+        }
+    }
+
     private CompressionFormat m_compressionFormat;
 
+    /** Position of the row offset index in the stream, -1 if there is no index (non-seekable or older files). */
+    private final long m_rowIndexOffset;
+
+    /** Number of rows between two entries of the row offset index. */
+    private final int m_rowIndexInterval;
+
+    /** The row offsets, lazily read from the file (access synchronized on this). */
+    private long[] m_rowOffsets;
+
+    /** The memory-mapped file, lazily initialized (access synchronized on this). */
+    private MappedByteBuffer[] m_mappedSegments;
+
+    /** Set when mapping the file failed, in which case the file is read via ordinary streams. */
+    private boolean m_isMappingFailed;
+
+    /** Number of open streams reading from {@link #m_mappedSegments} (access synchronized on this). */
+    private int m_openMappedStreams;
+
+    /** Set when the iterators were cleared, the mapping is released then (access synchronized on this). */
+    private boolean m_isCleared;
+
     private final File m_binFile;
 
     private final DataTableSpec m_spec;
@@ -108,15 +152,34 @@ final class DefaultTableStoreReader extends AbstractTableStoreReader {
             cF = CompressionFormat.GZIP;
         }
         m_compressionFormat = cF;
+        if (cF.isSeekable() && settings.containsKey(DefaultTableStoreFormat.CFG_ROW_INDEX_OFFSET)) {
+            m_rowIndexOffset = settings.getLong(DefaultTableStoreFormat.CFG_ROW_INDEX_OFFSET);
+            m_rowIndexInterval = settings.getInt(DefaultTableStoreFormat.CFG_ROW_INDEX_INTERVAL);
+        } else {
+            m_rowIndexOffset = -1;
+            m_rowIndexInterval = -1;
+        }
     }
 
     @Override
     public TableStoreCloseableRowIterator iterator() {
+        return iterator(null, Long.MAX_VALUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Cells of columns that are not materialized are skipped in the stream without being deserialized (not supported
+     * by the pre 2.0 format, which always materializes all cells).
+     */
+    @Override
+    protected TableStoreCloseableRowIterator iterator(final int[] materializeColumnIndices, final long toRowIndex) {
         try {
             if (getReadVersion() <= 5) { // 2.0 tech preview and before
                 return new BufferFromFileIteratorVersion1x(this);
             } else {
-                return new BufferFromFileIteratorVersion20(this);
+                return new BufferFromFileIteratorVersion20(this, createMaterializeMask(materializeColumnIndices),
+                    toRowIndex);
             }
         } catch (IOException ioe) {
             StringBuilder b = new StringBuilder("Cannot read file \"");
@@ -137,6 +200,129 @@ final File getBinFile() {
         return m_binFile;
     }
 
+    /**
+     * @return number of rows between two entries of the row offset index, only meaningful if
+     *         {@link #getRowOffsets()} is non-null
+     */
+    int getRowIndexInterval() {
+        return m_rowIndexInterval;
+    }
+
+    /**
+     * Returns the file offsets of every {@link #getRowIndexInterval()}-th row, which allows to position a stream
+     * (see {@link #openInputStream(long)}) at those rows without reading the preceding data. The index is read
+     * lazily from the end of the file.
+     *
+     * @return the row offsets or null if the file has no row index (non-seekable compression formats, files written
+     *         by older versions)
+     * @throws IOException if reading the index fails
+     */
+    synchronized long[] getRowOffsets() throws IOException {
+        if (m_rowIndexOffset < 0) {
+            return null;
+        }
+        if (m_rowOffsets == null) {
+            try (DataInputStream in = new DataInputStream(openInputStream(m_rowIndexOffset))) {
+                final long[] rowOffsets = new long[in.readInt()];
+                for (int i = 0; i < rowOffsets.length; i++) {
+                    rowOffsets[i] = in.readLong();
+                }
+                m_rowOffsets = rowOffsets;
+            }
+        }
+        return m_rowOffsets;
+    }
+
+    /**
+     * Opens the (decompressed) input stream at the given position. Uncompressed files are read from a memory mapping
+     * of the file (unless disabled via {@link KNIMEConstants#PROPERTY_TABLE_MMAP}), which is shared among all streams
+     * of this reader and avoids any copying into intermediate buffers. Compressed files can only be opened at the
+     * beginning unless the format is {@link CompressionFormat#isSeekable() seekable}.
+     *
+     * @param offset the position in the uncompressed stream, must be 0 for non-seekable formats
+     * @return the (decompressed) input stream
+     * @throws IOException - If the file could not be opened or the an error occurred creating the (decompressed)
+     *             stream
+     */
+    @SuppressWarnings("resource")
+    InputStream openInputStream(final long offset) throws IOException {
+        if (m_compressionFormat != CompressionFormat.NONE) {
+            assert offset == 0 || m_compressionFormat.isSeekable() : "Stream can't be opened at an offset";
+            final InputStream in = m_compressionFormat.getInputStream(m_binFile);
+            try {
+                long remaining = offset;
+                while (remaining > 0) {
+                    final long skipped = in.skip(remaining);
+                    if (skipped <= 0) {
+                        throw new EOFException("Unable to position stream at offset " + offset);
+                    }
+                    remaining -= skipped;
+                }
+            } catch (IOException ioe) {
+                in.close();
+                throw ioe;
+            }
+            return in;
+        }
+        final InputStream mappedIn = openMappedInputStream(offset);
+        if (mappedIn != null) {
+            return mappedIn;
+        }
+        final FileInputStream fis = new FileInputStream(m_binFile);
+        try {
+            fis.getChannel().position(offset);
+        } catch (IOException ioe) {
+            fis.close();
+            throw ioe;
+        }
+        return new BufferedInputStream(fis);
+    }
+
+    /** @return a stream on the mapped file or null if mapping is disabled, failed or the iterators were cleared. */
+    private synchronized InputStream openMappedInputStream(final long offset) {
+        if (!USE_MMAP || m_isMappingFailed || m_isCleared) {
+            return null;
+        }
+        if (m_mappedSegments == null) {
+            try {
+                m_mappedSegments = MappedFileInputStream.map(m_binFile);
+            } catch (IOException ioe) {
+                LOGGER.debug("Unable to memory-map file \"" + m_binFile.getName()
+                    + "\", reading it via streams: " + ioe.getMessage(), ioe);
+                m_isMappingFailed = true;
+                return null;
+            }
+        }
+        m_openMappedStreams++;
+        return new MappedFileInputStream(m_mappedSegments, offset, this::mappedInputStreamClosed);
+    }
+
+    private synchronized void mappedInputStreamClosed() {
+        m_openMappedStreams--;
+        releaseMappingIfUnused();
+    }
+
+    /** Unmaps the file once the iterators were cleared and the last stream reading from the mapping is closed. */
+    private synchronized void releaseMappingIfUnused() {
+        if (m_isCleared && m_openMappedStreams == 0 && m_mappedSegments != null) {
+            MappedFileInputStream.unmap(m_mappedSegments);
+            m_mappedSegments = null;
+        }
+    }
+
+    /**
+     * {@inheritDoc} Also releases the memory mapping of the file (as soon as no stream reads from it anymore), which
+     * otherwise keeps the file locked on Windows until it's garbage collected. The file isn't mapped again.
+     */
+    @Override
+    public void clearIteratorInstances() {
+        super.clearIteratorInstances();
+        synchronized (this) {
+            m_isCleared = true;
+            releaseMappingIfUnused();
+        }
+    }
+
     /** @return The spec the buffer uses. */
     DataTableSpec getTableSpec() {
         return m_spec;
@@ -180,10 +366,7 @@ abstract static class FromFileIterator extends TableStoreCloseableRowIterator im
          */
         static final InputStream getInputStream(final DefaultTableStoreReader tableFormatReader)
             throws IOException {
-            // get the decompression format
-            final CompressionFormat cType = tableFormatReader.getBinFileCompressionFormat();
-            // return the (decompressed) stream
-            return cType.getInputStream(tableFormatReader.getBinFile());
+            return tableFormatReader.openInputStream(0);
         }
 
     }
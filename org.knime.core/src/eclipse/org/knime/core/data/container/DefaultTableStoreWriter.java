@@ -48,9 +48,21 @@
 package org.knime.core.data.container;
 
 import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
+import org.apache.commons.io.output.ByteArrayOutputStream;
+import org.apache.commons.io.output.CountingOutputStream;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
@@ -58,14 +70,40 @@
 import org.knime.core.data.container.DCObjectOutputVersion2.BlockableDCObjectOutputVersion2;
 import org.knime.core.data.container.DefaultTableStoreFormat.CompressionFormat;
 import org.knime.core.data.container.storage.AbstractTableStoreWriter;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeSettingsWO;
 
 /**
  * The default table store writer used to write tables to disc.
+ *
+ * <p>Unless disabled via {@link KNIMEConstants#PROPERTY_TABLE_PARALLEL_ENCODING}, rows are collected in batches of
+ * {@link #ENCODE_BATCH_SIZE} rows which are serialized concurrently by a small pool of encoder threads. Each batch is
+ * encoded into a byte array (a chunk of the final stream), the chunks are written by the calling thread in the order
+ * the rows were added. Only batches consisting of plain primitive and string cells are encoded concurrently, any other
+ * cell may have side effects when serialized (e.g. flushing file stores or writing blobs, also as part of adapter or
+ * collection cells) and causes the batch to be encoded by the calling thread. As a consequence an error encoding a
+ * row is not thrown by the {@link #writeRow(DataRow)} call of that row but by a later one or by {@link #close()}.
+ *
  * @author wiswedel
  */
 final class DefaultTableStoreWriter extends AbstractTableStoreWriter implements KNIMEStreamConstants {
 
+    /** Number of rows encoded as one chunk by an encoder thread. */
+    static final int ENCODE_BATCH_SIZE = 256;
+
+    /** Whether rows are encoded in parallel, see {@link KNIMEConstants#PROPERTY_TABLE_PARALLEL_ENCODING}. */
+    static final boolean IS_PARALLEL_ENCODING = ChunkedCompressionOutputStream.PARALLELISM > 1
+        && !"false".equalsIgnoreCase(System.getProperty(KNIMEConstants.PROPERTY_TABLE_PARALLEL_ENCODING, "").trim());
+
+    /** Cells that can be encoded concurrently as their serializers only write to the stream. */
+    private static final Set<Class<? extends DataCell>> PLAIN_CELL_CLASSES = new HashSet<>(
+        Arrays.asList(IntCell.class, LongCell.class, DoubleCell.class, BooleanCell.class, StringCell.class));
+
     /**
      * the stream that writes to the file, it's a special object output stream, in which we can mark the end of an entry
      * (to figure out when a cell implementation reads too many or too few bytes).
@@ -75,6 +113,32 @@ final class DefaultTableStoreWriter extends AbstractTableStoreWriter implements
     /** The compression format. */
     private final CompressionFormat m_compFormat;
 
+    /** Counts the (uncompressed) bytes written, only set for seekable compression formats (null otherwise). */
+    private final CountingOutputStream m_countingStream;
+
+    /** Stream offsets of every {@link DefaultTableStoreFormat#ROW_INDEX_INTERVAL}-th row, only for seekable formats. */
+    private long[] m_rowOffsets;
+
+    /** Number of rows written so far. */
+    private long m_rowCount;
+
+    /** Position of the row offset index in the (uncompressed) stream, -1 if not written. */
+    private long m_rowIndexOffset = -1;
+
+    /** The stream underneath {@link #m_outStream}, encoded chunks are written to it directly. */
+    private final OutputStream m_rawOut;
+
+    /** The rows collected for the next encoder batch, null if rows are encoded by the calling thread. */
+    private DataRow[] m_batch;
+
+    private int m_batchSize;
+
+    /** Whether the current batch needs to be encoded by the calling thread. */
+    private boolean m_isBatchSerial;
+
+    /** Batches being encoded, in the order they need to be written. */
+    private final Deque<Future<EncodedChunk>> m_pendingChunks = new ArrayDeque<>();
+
     /**
      * Constructs a writer for writing KNIME tables to disk using the given compression format.
      *
@@ -84,29 +148,150 @@ final class DefaultTableStoreWriter extends AbstractTableStoreWriter implements
      * @param compFormat the compression format
      * @throws IOException any type of I/O problem
      */
+    @SuppressWarnings("resource")
     public DefaultTableStoreWriter(final DataTableSpec spec, final OutputStream outputStream, final boolean writeRowKey,
         final CompressionFormat compFormat) throws IOException {
         super(spec, writeRowKey);
         m_compFormat = compFormat;
-        m_outStream = initOutFile(new BufferedOutputStream(outputStream));
+        final OutputStream compressedOut = compFormat.getOutputStream(new BufferedOutputStream(outputStream));
+        if (compFormat.isSeekable()) {
+            // readers can position the stream at uncompressed offsets, which allows to write a row index
+            m_countingStream = new CountingOutputStream(compressedOut);
+            m_rowOffsets = new long[16];
+            m_rawOut = m_countingStream;
+        } else {
+            m_countingStream = null;
+            m_rawOut = compressedOut;
+        }
+        m_outStream = new BlockableDCObjectOutputVersion2(m_rawOut, this);
+        m_batch = IS_PARALLEL_ENCODING ? new DataRow[ENCODE_BATCH_SIZE] : null;
     }
 
     /**
-     * Serializes a row to the output stream. This method is called from <code>addRow(DataRow)</code>.
+     * Serializes a row to the output stream. This method is called from <code>addRow(DataRow)</code>. With parallel
+     * encoding the row is only added to the current batch; an error encoding or writing it is thrown by the call that
+     * completes a later batch or, at the latest, by {@link #close()}.
      *
-     * @throws IOException If an IO error occurs while writing to the file.
+     * @throws IOException If an IO error occurs while writing to the file, possibly caused by a previous row.
      */
     @Override
     public void writeRow(final DataRow row) throws IOException {
+        if (m_batch == null) {
+            recordRowOffset(0);
+            encodeRow(row, m_outStream);
+            return;
+        }
+        m_batch[m_batchSize++] = row;
+        m_isBatchSerial = m_isBatchSerial || requiresSerialEncoding(row);
+        if (m_batchSize == ENCODE_BATCH_SIZE) {
+            submitBatch();
+        }
+    }
+
+    /** Adds the current stream position (plus the argument) to the row index if the next row is a checkpoint. */
+    private void recordRowOffset(final int offsetInChunk) {
+        if (m_countingStream != null && m_rowCount % DefaultTableStoreFormat.ROW_INDEX_INTERVAL == 0) {
+            final int checkpoint = (int)(m_rowCount / DefaultTableStoreFormat.ROW_INDEX_INTERVAL);
+            if (checkpoint == m_rowOffsets.length) {
+                m_rowOffsets = Arrays.copyOf(m_rowOffsets, 2 * m_rowOffsets.length);
+            }
+            m_rowOffsets[checkpoint] = m_countingStream.getByteCount() + offsetInChunk;
+        }
+        m_rowCount++;
+    }
+
+    /** Serializes a row (key, cells and row separator) to the argument stream. */
+    private void encodeRow(final DataRow row, final BlockableDCObjectOutputVersion2 outStream) throws IOException {
         RowKey id = row.getKey();
-        writeRowKey(id, m_outStream);
+        writeRowKey(id, outStream);
         for (int i = 0; i < row.getNumCells(); i++) {
             DataCell cell =
                 row instanceof BlobSupportDataRow ? ((BlobSupportDataRow)row).getRawCell(i) : row.getCell(i);
-            writeDataCell(cell, m_outStream);
-            m_outStream.endBlock();
+            writeDataCell(cell, outStream);
+            outStream.endBlock();
+        }
+        outStream.endRow();
+    }
+
+    /**
+     * Whether the row contains cells that are not known to be free of side effects when serialized, e.g. file store
+     * cells (also nested in adapter or collection cells) or blobs. Such rows must not be encoded concurrently.
+     */
+    static boolean requiresSerialEncoding(final DataRow row) {
+        for (int i = 0; i < row.getNumCells(); i++) {
+            final DataCell cell =
+                row instanceof BlobSupportDataRow ? ((BlobSupportDataRow)row).getRawCell(i) : row.getCell(i);
+            // missing cells (with or without error) are plain, the singleton missing cell is a private class
+            if (!cell.isMissing() && !PLAIN_CELL_CLASSES.contains(cell.getClass())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Hands the current batch to an encoder thread (or encodes it), writes finished chunks if too many are pending. */
+    private void submitBatch() throws IOException {
+        final DataRow[] rows = m_batch;
+        final int size = m_batchSize;
+        if (m_isBatchSerial) {
+            m_pendingChunks.addLast(CompletableFuture.completedFuture(encodeChunk(rows, size)));
+        } else {
+            m_pendingChunks.addLast(
+                ChunkedCompressionOutputStream.CODEC_EXECUTOR.submit(() -> encodeChunk(rows, size)));
+        }
+        m_batch = new DataRow[ENCODE_BATCH_SIZE];
+        m_batchSize = 0;
+        m_isBatchSerial = false;
+        // write what's ready (reporting encoding errors early), block only if too many chunks are pending
+        while (!m_pendingChunks.isEmpty() && (m_pendingChunks.peekFirst().isDone()
+            || m_pendingChunks.size() > 2 * ChunkedCompressionOutputStream.PARALLELISM)) {
+            writeChunk(m_pendingChunks.removeFirst());
+        }
+    }
+
+    /** Encodes the rows into a chunk of the stream, called by the encoder threads. */
+    private EncodedChunk encodeChunk(final DataRow[] rows, final int size) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 * size);
+        final int[] rowOffsets = new int[size];
+        try (BlockableDCObjectOutputVersion2 out = new BlockableDCObjectOutputVersion2(bytes, this)) {
+            for (int i = 0; i < size; i++) {
+                // the stream doesn't buffer, the byte count is exact
+                rowOffsets[i] = bytes.size();
+                encodeRow(rows[i], out);
+            }
+        }
+        return new EncodedChunk(bytes, rowOffsets);
+    }
+
+    /** Waits for a chunk to be encoded and writes it to the stream. */
+    private void writeChunk(final Future<EncodedChunk> future) throws IOException {
+        final EncodedChunk chunk;
+        try {
+            chunk = future.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for rows to be encoded");
+        } catch (ExecutionException ee) {
+            final Throwable cause = ee.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException)cause;
+            }
+            throw new IOException("Unable to encode rows: " + cause.getMessage(), cause);
+        }
+        for (int offset : chunk.m_rowOffsets) {
+            recordRowOffset(offset);
+        }
+        chunk.m_bytes.writeTo(m_rawOut);
+    }
+
+    /** Writes the rows of the current batch and all pending chunks. */
+    private void writePendingRows() throws IOException {
+        if (m_batch != null && m_batchSize > 0) {
+            submitBatch();
+        }
+        while (!m_pendingChunks.isEmpty()) {
+            writeChunk(m_pendingChunks.removeFirst());
         }
-        m_outStream.endRow();
     }
 
     /**
@@ -124,26 +309,62 @@ void writeRowKey(final RowKey key, final BlockableDCObjectOutputVersion2 outStre
         }
     }
 
-    /**
-     * Creates short cut array and wraps the argument stream in a {@link DCObjectOutputVersion2}.
-     */
-    @SuppressWarnings("resource")
-    private BlockableDCObjectOutputVersion2 initOutFile(final OutputStream outStream) throws IOException {
-        final OutputStream out = m_compFormat.getOutputStream(outStream);
-        return new BlockableDCObjectOutputVersion2(out, this);
-    }
-
     /** {@inheritDoc} */
     @Override
     public void writeMetaInfoAfterWrite(final NodeSettingsWO settings) {
         m_compFormat.saveSettings(settings);
+        if (m_rowIndexOffset >= 0) {
+            settings.addLong(DefaultTableStoreFormat.CFG_ROW_INDEX_OFFSET, m_rowIndexOffset);
+            settings.addInt(DefaultTableStoreFormat.CFG_ROW_INDEX_INTERVAL, DefaultTableStoreFormat.ROW_INDEX_INTERVAL);
+        }
         super.writeMetaInfoAfterWrite(settings);
     }
 
-    /** {@inheritDoc} */
+    /**
+     * Writes the pending rows and closes the stream. For seekable formats the row offset index is appended to the
+     * data of tables with at least {@link DefaultTableStoreFormat#ROW_INDEX_MIN_ROW_COUNT} rows (readers of older
+     * versions stop reading after the last row and ignore it). The stream is closed also if
+     * writing the pending rows fails, e.g. because a row couldn't be encoded.
+     * {@inheritDoc}
+     */
     @Override
     public void close() throws IOException {
-        m_outStream.close();
+        try (BlockableDCObjectOutputVersion2 outStream = m_outStream) {
+            try {
+                writePendingRows();
+            } finally {
+                m_pendingChunks.forEach(f -> f.cancel(true));
+                m_pendingChunks.clear();
+                m_batch = null;
+            }
+            if (m_countingStream != null && m_rowCount >= DefaultTableStoreFormat.ROW_INDEX_MIN_ROW_COUNT) {
+                outStream.flush();
+                m_rowIndexOffset = m_countingStream.getByteCount();
+                final int interval = DefaultTableStoreFormat.ROW_INDEX_INTERVAL;
+                final int checkpointCount = (int)((m_rowCount + interval - 1) / interval);
+                @SuppressWarnings("resource") // closed along with outStream
+                final DataOutputStream indexOut = new DataOutputStream(m_countingStream);
+                indexOut.writeInt(checkpointCount);
+                for (int i = 0; i < checkpointCount; i++) {
+                    indexOut.writeLong(m_rowOffsets[i]);
+                }
+                indexOut.flush();
+                m_rowOffsets = null;
+            }
+        }
+    }
+
+    /** The encoded bytes of a batch of rows along with the position of each row within the bytes. */
+    private static final class EncodedChunk {
+
+        private final ByteArrayOutputStream m_bytes;
+
+        private final int[] m_rowOffsets;
+
+        EncodedChunk(final ByteArrayOutputStream bytes, final int[] rowOffsets) {
+            m_bytes = bytes;
+            m_rowOffsets = rowOffsets;
+        }
     }
 
 }
@@ -0,0 +1,241 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Input stream reading from a memory-mapped file. The file is mapped once (in segments of at most
+ * {@link #MAX_SEGMENT_SIZE} bytes) via {@link #map(File)}; any number of streams can then read concurrently from
+ * arbitrary positions of the mapping, each stream using its own views on the shared segments. No data is copied into
+ * an intermediate buffer. Once no stream reads from the mapping anymore, it can be released via
+ * {@link #unmap(MappedByteBuffer[])}.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+final class MappedFileInputStream extends InputStream {
+
+    /** Maximum size of a single mapped segment (1GB), {@link MappedByteBuffer} is limited to 2^31-1 bytes. */
+    static final int MAX_SEGMENT_SIZE = 1 << 30;
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(MappedFileInputStream.class);
+
+    /** Releases a mapped segment, null if not supported by the JVM (the mapping is then released by the GC). */
+    private static final Unmapper UNMAPPER = initUnmapper();
+
+    private final MappedByteBuffer[] m_segments;
+
+    /** Called when the stream is closed, null if already closed. */
+    private Runnable m_onClose;
+
+    /** The view on the current segment, null if at end of file. */
+    private ByteBuffer m_current;
+
+    /** Index of the current segment. */
+    private int m_segmentIndex;
+
+    /**
+     * Creates a new stream positioned at the given offset.
+     *
+     * @param segments the mapped segments as returned by {@link #map(File)}
+     * @param offset position of the first byte to read
+     * @param onClose called (once) when the stream is closed
+     */
+    MappedFileInputStream(final MappedByteBuffer[] segments, final long offset, final Runnable onClose) {
+        m_segments = segments;
+        m_onClose = onClose;
+        m_segmentIndex = (int)(offset / MAX_SEGMENT_SIZE);
+        if (m_segmentIndex < segments.length) {
+            m_current = segments[m_segmentIndex].duplicate();
+            m_current.position((int)(offset % MAX_SEGMENT_SIZE));
+        } else {
+            m_current = null;
+        }
+    }
+
+    /** Moves to the next segment if the current one is exhausted. Returns false if at end of file. */
+    private boolean ensureRemaining() {
+        while (m_current != null && !m_current.hasRemaining()) {
+            m_segmentIndex++;
+            m_current = m_segmentIndex < m_segments.length ? m_segments[m_segmentIndex].duplicate() : null;
+        }
+        return m_current != null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read() throws IOException {
+        return ensureRemaining() ? (m_current.get() & 0xFF) : -1;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!ensureRemaining()) {
+            return -1;
+        }
+        final int count = Math.min(len, m_current.remaining());
+        m_current.get(b, off, count);
+        return count;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long skip(final long n) throws IOException {
+        long remaining = n;
+        while (remaining > 0 && ensureRemaining()) {
+            final int count = (int)Math.min(remaining, m_current.remaining());
+            m_current.position(m_current.position() + count);
+            remaining -= count;
+        }
+        return n - remaining;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int available() throws IOException {
+        return ensureRemaining() ? m_current.remaining() : 0;
+    }
+
+    /** Releases the views on the mapping, the stream doesn't access the mapping afterwards. */
+    @Override
+    public void close() throws IOException {
+        m_current = null;
+        m_segmentIndex = m_segments.length;
+        if (m_onClose != null) {
+            final Runnable onClose = m_onClose;
+            m_onClose = null;
+            onClose.run();
+        }
+    }
+
+    /**
+     * Maps the argument file read-only into memory.
+     *
+     * @param file the file to map
+     * @return the mapped segments
+     * @throws IOException if the file can't be mapped
+     */
+    static MappedByteBuffer[] map(final File file) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r"); FileChannel channel = raf.getChannel()) {
+            final long size = channel.size();
+            final int segmentCount = (int)((size + MAX_SEGMENT_SIZE - 1) / MAX_SEGMENT_SIZE);
+            final MappedByteBuffer[] segments = new MappedByteBuffer[segmentCount];
+            for (int i = 0; i < segmentCount; i++) {
+                final long position = (long)i * MAX_SEGMENT_SIZE;
+                segments[i] = channel.map(MapMode.READ_ONLY, position, Math.min(MAX_SEGMENT_SIZE, size - position));
+            }
+            // the mapping remains valid after the channel is closed
+            return segments;
+        }
+    }
+
+    /**
+     * Releases the mapping immediately rather than when the segments are garbage collected, which, among others,
+     * allows to delete the file on Windows. Any access to the segments afterwards crashes the JVM, the caller must
+     * ensure that no stream reads from them.
+     *
+     * @param segments the mapped segments as returned by {@link #map(File)}
+     */
+    static void unmap(final MappedByteBuffer[] segments) {
+        if (UNMAPPER == null) {
+            return;
+        }
+        try {
+            for (MappedByteBuffer segment : segments) {
+                UNMAPPER.unmap(segment);
+            }
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOGGER.debug("Unable to release memory-mapped file: " + e.getMessage(), e);
+        }
+    }
+
+    private static Unmapper initUnmapper() {
+        try {
+            // Java 9 and later
+            final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            final Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            final Object unsafe = theUnsafe.get(null);
+            return segment -> invokeCleaner.invoke(unsafe, segment);
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            // fall through
+        }
+        try {
+            // Java 8
+            final Method cleaner = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+            final Method clean = Class.forName("sun.misc.Cleaner").getMethod("clean");
+            return segment -> clean.invoke(cleaner.invoke(segment));
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            LOGGER.debug("Memory-mapped files can't be released explicitly: " + e.getMessage(), e);
+            return null;
+        }
+    }
+
+    /** Releases a mapped segment. */
+    @FunctionalInterface
+    private interface Unmapper {
+        void unmap(MappedByteBuffer segment) throws ReflectiveOperationException;
+    }
+
+}
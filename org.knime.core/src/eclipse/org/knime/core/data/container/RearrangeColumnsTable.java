@@ -50,6 +50,7 @@
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
@@ -58,8 +59,8 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.Vector;
-import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.stream.IntStream;
 
 import org.knime.core.data.DataCell;
@@ -82,12 +83,13 @@
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.workflow.WorkflowDataRepository;
-import org.knime.core.util.MultiThreadWorker;
 import org.knime.core.util.Pair;
+import org.knime.core.util.ThreadPool;
 
 /**
  * Table implementation that is created based on a ColumnRearranger. This class is not intended for subclassing or to be
@@ -436,7 +438,7 @@ private static void calcNewColsSynchronously(final BufferedDataTable table, fina
     }
 
     /**
-     * Processes input concurrently using a {@link ConcurrentNewColCalculator}.
+     * Processes input concurrently using a {@link ChunkedNewColCalculator}.
      */
     private static void calcNewColsASynchronously(final BufferedDataTable table, final ExecutionMonitor subProgress,
         final NewColumnsProducerMapping newColsProducerMapping, final DataContainer container)
@@ -462,21 +464,33 @@ private static void calcNewColsASynchronously(final BufferedDataTable table, fin
         assert facForProgress != null;
         assert workers > 0 : "Nr workers <= 0: " + workers;
         assert queueSize > 0 : "queue size <= 0: " + queueSize;
-        ConcurrentNewColCalculator calculator =
-            new ConcurrentNewColCalculator(queueSize, workers, container, subProgress, finalRowCount,
-                newColsProducerMapping, facForProgress);
+        ChunkedNewColCalculator calculator = new ChunkedNewColCalculator(Math.min(queueSize, 2 * workers), workers,
+            container, subProgress, finalRowCount, newColsProducerMapping, facForProgress);
         try {
-            calculator.run(table);
-        } catch (InterruptedException e) {
-            CanceledExecutionException cee = new CanceledExecutionException(e.getMessage());
-            cee.initCause(e);
-            throw cee;
+            final ThreadPool currentPool = ThreadPool.currentPool();
+            if (currentPool != null) {
+                // don't occupy a thread of the pool while waiting for the workers
+                currentPool.runInvisible(() -> {
+                    calculator.run(table);
+                    return null;
+                });
+            } else {
+                calculator.run(table);
+            }
         } catch (ExecutionException e) {
-            Throwable cause = e.getCause();
-            if (cause == null) {
-                cause = e;
+            Throwable cause = e;
+            while (cause instanceof ExecutionException && cause.getCause() != null) {
+                cause = cause.getCause();
             }
-            if (cause instanceof RuntimeException) {
+            if (cause instanceof CanceledExecutionException) {
+                throw (CanceledExecutionException)cause;
+            } else if (cause instanceof InterruptedException) {
+                CanceledExecutionException cee = new CanceledExecutionException(cause.getMessage());
+                cee.initCause(cause);
+                throw cee;
+            } else if (cause instanceof Error) {
+                throw (Error)cause;
+            } else if (cause instanceof RuntimeException) {
                 throw (RuntimeException)cause;
             }
             throw new RuntimeException(cause);
@@ -692,35 +706,46 @@ Buffer createBuffer(final File binFile, final File blobDir, final File fileStore
     }
 
     /**
-     * The MultiThreadWorker that processes the input rows concurrently. Only used if the cell factory is an
-     * {@link AbstractCellFactory} with parallel processing ( {@link AbstractCellFactory#setParallelProcessing(boolean)}
-     * )
+     * Processes the input rows concurrently in blocks of consecutive rows, one task per block. The results are added
+     * to the container in the order of the input. The block size adapts to the measured time per row: cheap cell
+     * factories get large blocks so that the per-task overhead is negligible, expensive ones get small blocks (down
+     * to one row per task) so that the work is evenly spread over the workers. Only used if the cell factory is an
+     * {@link AbstractCellFactory} with parallel processing
+     * ({@link AbstractCellFactory#setParallelProcessing(boolean)}).
      */
-    private static final class ConcurrentNewColCalculator extends MultiThreadWorker<DataRow, DataRow> {
+    static final class ChunkedNewColCalculator {
 
-        private final ExecutionMonitor m_subProgress;
+        /** The targeted computation time of a block in nanoseconds. */
+        static final long TARGET_BLOCK_NANOS = 5000000L;
+
+        /** The size of the first blocks (until the time per row is known). */
+        static final int INITIAL_BLOCK_SIZE = 16;
+
+        /** The maximum block size, limits the number of rows kept in memory. */
+        static final int MAX_BLOCK_SIZE = 1024;
 
-        private NewColumnsProducerMapping m_reducedList;
+        private final int m_maxPendingBlocks;
 
-        private DataContainer m_container;
+        private final int m_workers;
+
+        private final DataContainer m_container;
+
+        private final ExecutionMonitor m_subProgress;
 
         private final long m_totalRowCount;
 
+        private final NewColumnsProducerMapping m_reducedList;
+
         private final CellFactory m_facForProgress;
 
-        /**
-         * @param maxQueueSize
-         * @param maxActiveInstanceSize
-         * @param table
-         * @param subProgress
-         * @param reducedList
-         * @param newColCount
-         * @param container
-         */
-        private ConcurrentNewColCalculator(final int maxQueueSize, final int maxActiveInstanceSize,
-            final DataContainer container, final ExecutionMonitor subProgress, final long totalRowCount,
-            final NewColumnsProducerMapping reducedList, final CellFactory facForProgress) {
-            super(maxQueueSize, maxActiveInstanceSize);
+        /** Exponentially smoothed time per row in nanoseconds, negative until the first block is finished. */
+        private double m_nanosPerRow = -1;
+
+        private ChunkedNewColCalculator(final int maxPendingBlocks, final int workers, final DataContainer container,
+            final ExecutionMonitor subProgress, final long totalRowCount, final NewColumnsProducerMapping reducedList,
+            final CellFactory facForProgress) {
+            m_maxPendingBlocks = Math.max(1, maxPendingBlocks);
+            m_workers = workers;
             m_container = container;
             m_subProgress = subProgress;
             m_totalRowCount = totalRowCount;
@@ -728,28 +753,93 @@ private ConcurrentNewColCalculator(final int maxQueueSize, final int maxActiveIn
             m_facForProgress = facForProgress;
         }
 
-        /** {@inheritDoc} */
-        @Override
-        protected DataRow compute(final DataRow in, final long index) throws Exception {
-            return calcNewCellsForRow(in, m_reducedList);
+        /**
+         * @param nanosPerRow the measured time per row in nanoseconds
+         * @return the number of rows of a block that takes about {@link #TARGET_BLOCK_NANOS}
+         */
+        static int computeBlockSize(final double nanosPerRow) {
+            if (nanosPerRow <= 0) {
+                return MAX_BLOCK_SIZE;
+            }
+            return (int)Math.max(1, Math.min(MAX_BLOCK_SIZE, TARGET_BLOCK_NANOS / nanosPerRow));
+        }
+
+        private void run(final BufferedDataTable table) throws ExecutionException, CanceledExecutionException {
+            final ThreadPool pool = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(m_workers);
+            final ArrayDeque<Future<Block>> pending = new ArrayDeque<>(m_maxPendingBlocks);
+            boolean success = false;
+            try (CloseableRowIterator it = table.iterator()) {
+                long rowIndex = 0;
+                while (it.hasNext()) {
+                    final int blockSize = m_nanosPerRow < 0 ? INITIAL_BLOCK_SIZE : computeBlockSize(m_nanosPerRow);
+                    final DataRow[] rows = new DataRow[blockSize];
+                    int count = 0;
+                    while (count < blockSize && it.hasNext()) {
+                        rows[count++] = it.next();
+                    }
+                    final Block block = new Block(rows, count, rowIndex);
+                    rowIndex += count;
+                    pending.add(pool.enqueue(block::compute));
+                    while (pending.size() >= m_maxPendingBlocks) {
+                        addToContainer(pending.poll());
+                    }
+                }
+                while (!pending.isEmpty()) {
+                    addToContainer(pending.poll());
+                }
+                success = true;
+            } catch (InterruptedException e) {
+                throw new ExecutionException(e);
+            } finally {
+                if (!success) {
+                    pending.forEach(f -> f.cancel(true));
+                }
+            }
         }
 
-        /** {@inheritDoc} */
-        @Override
-        protected void processFinished(final ComputationTask task) throws ExecutionException, CancellationException,
-            InterruptedException {
-            int r = (int)task.getIndex(); // row count in table is integer
-            RowKey key = task.getInput().getKey();
-            DataRow append = task.get(); // exception falls through
-            m_container.addRowToTable(append);
-            m_facForProgress.setProgress(r + 1, m_totalRowCount, key, m_subProgress);
-            try {
-                m_subProgress.checkCanceled();
-            } catch (CanceledExecutionException cee) {
-                throw new CancellationException();
+        /** Waits for the block and adds its rows to the container (in the caller thread). */
+        private void addToContainer(final Future<Block> future)
+            throws InterruptedException, ExecutionException, CanceledExecutionException {
+            final Block block = future.get();
+            for (int i = 0; i < block.m_count; i++) {
+                m_container.addRowToTable(block.m_result[i]);
             }
+            final double nanosPerRow = (double)block.m_nanos / block.m_count;
+            m_nanosPerRow = m_nanosPerRow < 0 ? nanosPerRow : 0.7 * m_nanosPerRow + 0.3 * nanosPerRow;
+            m_facForProgress.setProgress(block.m_firstIndex + block.m_count, m_totalRowCount,
+                block.m_rows[block.m_count - 1].getKey(), m_subProgress);
+            m_subProgress.checkCanceled();
         }
 
+        /** A block of consecutive input rows along with the computed rows. */
+        private final class Block {
+
+            private final DataRow[] m_rows;
+
+            private final int m_count;
+
+            private final long m_firstIndex;
+
+            private final DataRow[] m_result;
+
+            private long m_nanos;
+
+            Block(final DataRow[] rows, final int count, final long firstIndex) {
+                m_rows = rows;
+                m_count = count;
+                m_firstIndex = firstIndex;
+                m_result = new DataRow[count];
+            }
+
+            Block compute() {
+                final long start = System.nanoTime();
+                for (int i = 0; i < m_count; i++) {
+                    m_result[i] = calcNewCellsForRow(m_rows[i], m_reducedList);
+                }
+                m_nanos = Math.max(1, System.nanoTime() - start);
+                return this;
+            }
+        }
     }
 
     /**
@@ -69,6 +69,7 @@
 import org.knime.core.data.IDataRepository;
 import org.knime.core.data.RowIteratorBuilder;
 import org.knime.core.data.RowIteratorBuilder.DefaultRowIteratorBuilder;
+import org.knime.core.data.UnmaterializedCell;
 import org.knime.core.data.container.BlobDataCell.BlobAddress;
 import org.knime.core.data.container.BlobWrapperDataCell;
 import org.knime.core.data.container.Buffer;
@@ -202,13 +203,49 @@ public RowIteratorBuilder<? extends TableStoreCloseableRowIterator> iteratorBuil
         return new DefaultRowIteratorBuilder<TableStoreCloseableRowIterator>(() -> iterator(), m_spec) {
             @Override
             public TableStoreCloseableRowIterator build() {
-                TableStoreCloseableRowIterator iterator = super.build();
+                TableStoreCloseableRowIterator iterator =
+                    iterator(getMaterializeColumnIndices().orElse(null), getToRowIndex());
                 registerNewIteratorInstance(iterator);
+                // skip only after registration, the iterator may close itself when reaching the end
+                iterator.skipRows(getFromRowIndex());
                 return iterator;
             }
         };
     }
 
+    /**
+     * Returns a row iterator that only materializes the cells of the argument columns and that ends after the row
+     * with the argument index. Cells of all other columns are represented by {@link UnmaterializedCell}. The default
+     * implementation ignores the filters and returns {@link #iterator()}; subclasses override this method to avoid
+     * reading and decoding data that is not needed.
+     *
+     * @param materializeColumnIndices the indices of the columns to materialize, null for all columns
+     * @param toRowIndex the index of the last row to return (inclusive), {@link Long#MAX_VALUE} for all rows
+     * @return a new row iterator
+     * @since 3.8
+     */
+    protected TableStoreCloseableRowIterator iterator(final int[] materializeColumnIndices, final long toRowIndex) {
+        return iterator();
+    }
+
+    /**
+     * Converts the argument column indices into a flag array, one entry for each column of the table.
+     *
+     * @param materializeColumnIndices the indices of the columns to materialize, may be null
+     * @return a flag array, null if the argument is null (all columns are to be materialized)
+     * @since 3.8
+     */
+    protected final boolean[] createMaterializeMask(final int[] materializeColumnIndices) {
+        if (materializeColumnIndices == null) {
+            return null;
+        }
+        final boolean[] mask = new boolean[m_spec.getNumColumns()];
+        for (int index : materializeColumnIndices) {
+            mask[index] = true;
+        }
+        return mask;
+    }
+
     /**
      * Reads the cell class info shortcuts array from the node settings for container versions 6 and lower.
      *
@@ -413,6 +450,19 @@ public final void close() {
         }
 
         public abstract boolean performClose() throws IOException;
+
+        /**
+         * Skips the argument number of rows (or until the end of the table is reached). The default implementation
+         * iterates over the rows; subclasses override this method to skip rows without materializing them.
+         *
+         * @param count the number of rows to skip
+         * @since 3.8
+         */
+        public void skipRows(final long count) {
+            for (long i = 0; i < count && hasNext(); i++) {
+                next();
+            }
+        }
     }
 
 }
@@ -48,8 +48,8 @@
 package org.knime.core.data.container.storage;
 
 import java.io.IOException;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataCellSerializer;
@@ -81,9 +81,10 @@ public abstract class AbstractTableStoreWriter implements AutoCloseable, KNIMESt
 
     /**
      * Map for all DataCells' type, which have been added to this buffer, they will be separately written to to the
-     * meta.xml in a zip file.
+     * meta.xml in a zip file. Concurrent as rows may be encoded by multiple threads (new entries are added while
+     * synchronized on this writer).
      */
-    private HashMap<CellClassInfo, Byte> m_typeShortCuts;
+    private final Map<CellClassInfo, Byte> m_typeShortCuts = new ConcurrentHashMap<CellClassInfo, Byte>();
 
     private CellClassInfo[] m_shortCutsLookup;
 
@@ -136,10 +137,6 @@ protected final DataTableSpec getSpec() {
      *            {@link AbstractTableStoreReader#readMetaFromFile(org.knime.core.node.NodeSettingsRO, int)})
      */
     public void writeMetaInfoAfterWrite(final NodeSettingsWO settings) {
-        // unreported bug fix: NPE when the table only contains missing values.
-        if (m_typeShortCuts == null) {
-            m_typeShortCuts = new HashMap<CellClassInfo, Byte>();
-        }
         CellClassInfo[] shortCutsLookup = new CellClassInfo[m_typeShortCuts.size()];
         for (Map.Entry<CellClassInfo, Byte> e : m_typeShortCuts.entrySet()) {
             byte shortCut = e.getValue();
@@ -179,18 +176,19 @@ public Byte getTypeShortCut(final CellClassInfo cellClass) {
      *             supported)
      */
     public DataCellSerializer<DataCell> getSerializerForDataCell(final CellClassInfo cellClass) throws IOException {
-        if (m_typeShortCuts == null) {
-            m_typeShortCuts = new HashMap<CellClassInfo, Byte>();
-        }
         @SuppressWarnings("unchecked")
         DataCellSerializer<DataCell> serializer = (DataCellSerializer<DataCell>)cellClass.getSerializer();
         if (!m_typeShortCuts.containsKey(cellClass)) {
-            int size = m_typeShortCuts.size();
-            if (size + BYTE_TYPE_START > Byte.MAX_VALUE) {
-                throw new IOException("Too many different cell implementations");
+            synchronized (this) {
+                if (!m_typeShortCuts.containsKey(cellClass)) {
+                    int size = m_typeShortCuts.size();
+                    if (size + BYTE_TYPE_START > Byte.MAX_VALUE) {
+                        throw new IOException("Too many different cell implementations");
+                    }
+                    Byte identifier = (byte)(size + BYTE_TYPE_START);
+                    m_typeShortCuts.put(cellClass, identifier);
+                }
             }
-            Byte identifier = (byte)(size + BYTE_TYPE_START);
-            m_typeShortCuts.put(cellClass, identifier);
         }
         return serializer;
     }
@@ -370,12 +370,19 @@ private static SortingDescription[] toSortDescriptions(final DataTableSpec dataT
             DataColumnSpec columnSpec = checkSettingNotNull(//
                 dataTableSpec.getColumnSpec(so), "Column: '%s' does not exist in input table.", so);
             final DataValueComparator comparator = columnSpec.getType().getComparator();
+            final SortKeyEncoder keyEncoder = SortKeyEncoder.create(new int[]{0}, new boolean[]{true}, false,
+                new DataValueComparator[]{comparator});
             toReturn[index++] = new SortingDescription(so) {
 
                 @Override
                 public int compare(final DataRow o1, final DataRow o2) {
                     return comparator.compare(o1.getCell(0), o2.getCell(0));
                 }
+
+                @Override
+                SortKeyEncoder getSortKeyEncoder() {
+                    return keyEncoder;
+                }
             };
         }
         return toReturn;
@@ -420,7 +427,7 @@ private void sortBufferInParallel() {
                 futures.add(m_executor.enqueue(new Runnable() {
                     @Override
                     public void run() {
-                        Collections.sort(descr.getValue(), descr.getKey());
+                        AbstractTableSorter.sortRowsSequentially(descr.getValue(), descr.getKey());
                     }
                 }));
             }
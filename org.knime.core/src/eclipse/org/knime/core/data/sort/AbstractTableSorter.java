@@ -49,8 +49,8 @@
 package org.knime.core.data.sort;
 
 import java.text.NumberFormat;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -58,11 +58,15 @@
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
-import java.util.PriorityQueue;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
+import org.knime.core.data.BlobDataCell;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataColumnSpecCreator;
@@ -73,12 +77,15 @@
 import org.knime.core.data.DataValueComparator;
 import org.knime.core.data.container.DataContainer;
 import org.knime.core.data.def.StringCell;
+import org.knime.core.data.filestore.FileStoreCell;
 import org.knime.core.data.util.memory.MemoryAlertSystem;
 import org.knime.core.data.util.memory.MemoryAlertSystem.MemoryActionIndicator;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeLogger;
+import org.knime.core.util.ThreadPool;
 
 /**
  * Class to sort a table. See <a href="package.html">package description</a> for details.
@@ -98,6 +105,17 @@ abstract class AbstractTableSorter {
      */
     public static final int DEF_MAX_OPENCONTAINER = 40;
 
+    /**
+     * The default number of threads sorting and merging runs concurrently if the rows are compared by the sort columns
+     * (see {@link #setSortColumns(Collection, boolean[], boolean)}). See {@link #setParallelism(int)} for details.
+     *
+     * @since 3.8
+     */
+    public static final int DEF_PARALLELISM = Math.max(1, Math.min(8, Runtime.getRuntime().availableProcessors()));
+
+    /** Minimum number of rows of a run that is sorted by a separate thread. */
+    static final int MIN_ROWS_PER_PARALLEL_RUN = 1024;
+
     private MemoryAlertSystem m_memService = MemoryAlertSystem.getInstance();
 
     private final DataTable m_inputTable;
@@ -131,6 +149,18 @@ abstract class AbstractTableSorter {
 
     private long m_itemCount;
 
+    /** Number of threads used to sort and merge runs, 1 for a sequential sort, -1 if not set (see getParallelism). */
+    private int m_parallelism = -1;
+
+    /** The pool sorting and merging runs, created lazily. */
+    private ThreadPool m_executor;
+
+    /**
+     * Creating, closing and clearing temporary tables is synchronized on this lock as the sorting threads share the
+     * (not thread-safe) table repositories of the execution context.
+     */
+    private final Object m_containerLock = new Object();
+
     /**
      * Private constructor. Assigns input table, checks argument.
      *
@@ -362,6 +392,45 @@ public void setMaxOpenContainers(final int value) {
         m_maxOpenContainers = value;
     }
 
+    /**
+     * Get the number of threads used to sort and merge runs. See {@link #setParallelism(int)} for details.
+     *
+     * @return the parallelism
+     * @since 3.8
+     */
+    public int getParallelism() {
+        if (m_parallelism > 0) {
+            return m_parallelism;
+        }
+        // comparators set by the caller are not necessarily thread-safe
+        return m_rowComparator instanceof RowComparator ? DEF_PARALLELISM : 1;
+    }
+
+    /**
+     * Sets the number of threads used to sort and merge runs. If larger than 1, the rows read into memory are split
+     * into runs that are sorted and written to temporary tables concurrently (using a sub pool of the
+     * {@link KNIMEConstants#GLOBAL_THREAD_POOL global thread pool}) and intermediate merge passes of the k-way merge
+     * are run concurrently. The result is the same as for the sequential sort (the sort is stable in both cases).
+     * Tables containing file store cells, blobs or collections are always sorted sequentially.
+     *
+     * <p>
+     * The comparator (see {@link #setRowComparator(Comparator)}) must be thread-safe if the parallelism is larger
+     * than 1. Unless set explicitly, the parallelism is {@link #DEF_PARALLELISM} (the number of available processors,
+     * at most 8) if the rows are compared by the sort columns (see {@link #setSortColumns(Collection, boolean[],
+     * boolean)}) and 1 if a comparator was set by the caller.
+     *
+     * @param parallelism the number of threads, 1 to sort sequentially
+     * @throws IllegalArgumentException If argument is smaller than 1.
+     * @since 3.8
+     */
+    public void setParallelism(final int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Invalid parallelism: " + parallelism);
+        }
+        m_parallelism = parallelism;
+        m_executor = null;
+    }
+
     /**
      * Set the maximum number of rows per chunk, defaults to {@link Integer#MAX_VALUE}. This field is modified from the
      * testing framework.
@@ -451,7 +520,7 @@ private DataTable sortInMemory(final ExecutionMonitor exec) throws CanceledExecu
         }
 
         exec.setMessage("Sorting");
-        Collections.sort(rowList, m_rowComparator);
+        sortRows(rowList, exec);
 
         exec.setMessage("Creating sorted table");
 
@@ -547,13 +616,21 @@ Iterator<DataRow> mergeChunks(final ExecutionMonitor exec, final boolean mergeCo
                 }
             }
 
-            Queue<MergeEntry> containersToMerge = new ArrayDeque<>();
+            // intermediate passes can merge several groups of chunks concurrently
+            final int groupCount =
+                isParallel() ? Math.min(getParallelism(), m_chunksContainer.size() / m_maxOpenContainers) : 1;
+            if (groupCount > 1) {
+                mergeGroupsInParallel(groupCount, exec);
+                continue;
+            }
+
+            List<Iterable<DataRow>> containersToMerge = new ArrayList<>();
 
             for (int i = 0; !m_chunksContainer.isEmpty() && i < m_maxOpenContainers; i++) {
-                containersToMerge.add(new MergeEntry(m_chunksContainer.poll(), i, m_rowComparator));
+                containersToMerge.add(m_chunksContainer.poll());
             }
 
-            MergingIterator mergingIterator = new MergingIterator(containersToMerge);
+            Iterator<DataRow> mergingIterator = createMergingIterator(containersToMerge);
 
             if (m_chunksContainer.isEmpty() && (!mergeCompletely || containersToMerge.size() == 1)) {
                 return mergingIterator;
@@ -610,25 +687,36 @@ private long createInitialChunks(final ExecutionMonitor exec, final DataTable da
                     m_incProgress = (0.5 - m_progress) / estimatedIncrements;
                 }
                 exec.setMessage("Sorting temporary buffer");
-                // sort buffer
-                Collections.sort(buffer, m_rowComparator);
-                // write buffer to disk
-                openChunk();
                 final int totalBufferSize = buffer.size();
-                for (int i = 0; i < totalBufferSize; i++) {
-                    exec.setMessage("Writing temporary table -- " + i + "/" + totalBufferSize);
-                    // must not use Iterator#remove as it causes
-                    // array copies
-                    DataRow next = buffer.set(i, null);
-                    addRowToChunk(next);
-                    exec.checkCanceled();
+                if (isParallel()) {
+                    // sort runs of the buffer and write them to disk concurrently
+                    for (Iterable<DataRow> run : sortRunsInParallel(buffer, true, exec)) {
+                        m_chunksContainer.offer(run);
+                    }
                     if (m_rowsInInputTable > 0) {
-                        m_progress += m_incProgress;
+                        m_progress += totalBufferSize * m_incProgress;
                         exec.setProgress(m_progress);
                     }
+                } else {
+                    // sort buffer
+                    sortRows(buffer, exec);
+                    // write buffer to disk
+                    openChunk();
+                    for (int i = 0; i < totalBufferSize; i++) {
+                        exec.setMessage("Writing temporary table -- " + i + "/" + totalBufferSize);
+                        // must not use Iterator#remove as it causes
+                        // array copies
+                        DataRow next = buffer.set(i, null);
+                        addRowToChunk(next);
+                        exec.checkCanceled();
+                        if (m_rowsInInputTable > 0) {
+                            m_progress += m_incProgress;
+                            exec.setProgress(m_progress);
+                        }
+                    }
+                    closeChunk();
                 }
                 buffer.clear();
-                closeChunk();
 
                 LOGGER.debug("Wrote chunk [" + chunkStartRow + ":" + counter + "] - mem usage: " + getMemUsage());
                 chunkStartRow = counter + 1;
@@ -638,7 +726,7 @@ private long createInitialChunks(final ExecutionMonitor exec, final DataTable da
         // Add buffer to the chunks
         if (!buffer.isEmpty()) {
             // sort buffer
-            Collections.sort(buffer, m_rowComparator);
+            sortRows(buffer, exec);
             m_chunksContainer.add(buffer);
         }
         outerCounter = counter;
@@ -693,176 +781,308 @@ private String getMemUsage() {
         return "avail: " + availS + "MB, total: " + totalS + "MB, free: " + freeS + "MB";
     }
 
-    private final class MergeEntry implements Comparable<MergeEntry>, Iterator<DataRow> {
-        private DataRow m_row;
-
-        private Iterable<DataRow> m_iterable;
-
-        private Iterator<DataRow> m_iterator;
-
-        private int m_index;
+    /** Whether the runs are sorted and merged concurrently, see {@link #setParallelism(int)}. */
+    private boolean isParallel() {
+        if (getParallelism() <= 1) {
+            return false;
+        }
+        // the handling of file stores and blobs isn't thread-safe; collections may contain either
+        for (DataColumnSpec colSpec : m_dataTableSpec) {
+            final DataType type = colSpec.getType();
+            final Class<? extends DataCell> cellClass = type.getCellClass();
+            if (cellClass == null || type.isCollectionType() || FileStoreCell.class.isAssignableFrom(cellClass)
+                || BlobDataCell.class.isAssignableFrom(cellClass)) {
+                return false;
+            }
+        }
+        return true;
+    }
 
-        private Comparator<DataRow> m_comparator;
+    /**
+     * Sorts the argument list in place, see {@link #sortRowsSequentially(List, Comparator)}. In parallel mode, runs of
+     * the list are sorted concurrently and then merged.
+     */
+    private void sortRows(final List<DataRow> rows, final ExecutionMonitor exec) throws CanceledExecutionException {
+        if (!isParallel() || rows.size() < 2 * MIN_ROWS_PER_PARALLEL_RUN) {
+            sortRowsSequentially(rows, m_rowComparator);
+            return;
+        }
+        final Iterator<DataRow> merged = createMergingIterator(sortRunsInParallel(rows, false, exec));
+        for (int i = 0; merged.hasNext(); i++) {
+            rows.set(i, merged.next());
+        }
+    }
 
-        /**
-         * @param iterator
-         * @param index
-         * @param comparator
-         */
-        MergeEntry(final Iterable<DataRow> iterable, final int index, final Comparator<DataRow> comparator) {
-            m_iterable = iterable;
-            m_index = index;
-            m_comparator = comparator;
+    /**
+     * Sorts the argument list in place (stable). If the comparator supports normalized keys (see
+     * {@link SortKeyEncoder}) the rows are compared by their keys, which are computed once per row.
+     *
+     * @param rows the rows to sort
+     * @param rowComparator the comparator
+     */
+    static void sortRowsSequentially(final List<DataRow> rows, final Comparator<DataRow> rowComparator) {
+        final KeyedRowComparator comparator = new KeyedRowComparator(rowComparator);
+        if (!comparator.hasKeyEncoder()) {
+            rows.sort(rowComparator);
+            return;
+        }
+        final KeyedRow[] keyedRows = new KeyedRow[rows.size()];
+        for (int i = 0; i < keyedRows.length; i++) {
+            keyedRows[i] = comparator.toKeyedRow(rows.get(i));
+        }
+        Arrays.sort(keyedRows, comparator);
+        for (int i = 0; i < keyedRows.length; i++) {
+            rows.set(i, keyedRows[i].m_row);
         }
+    }
 
-        private void open() {
-            if (m_iterator == null) {
-                m_iterator = m_iterable.iterator();
-                if (m_iterator.hasNext()) {
-                    m_row = m_iterator.next();
+    /**
+     * Splits the rows into consecutive runs, which are sorted concurrently and optionally written to temporary tables.
+     *
+     * @param rows the rows, modified in place
+     * @param writeToDisk whether the sorted runs are written to temporary tables
+     * @param exec for cancellation checks
+     * @return the sorted runs (lists or tables), in order
+     */
+    private List<Iterable<DataRow>> sortRunsInParallel(final List<DataRow> rows, final boolean writeToDisk,
+        final ExecutionMonitor exec) throws CanceledExecutionException {
+        final int size = rows.size();
+        final int runCount = Math.max(1, Math.min(getParallelism(), size / MIN_ROWS_PER_PARALLEL_RUN));
+        final List<Callable<Iterable<DataRow>>> tasks = new ArrayList<>(runCount);
+        for (int r = 0; r < runCount; r++) {
+            final List<DataRow> run = rows.subList((int)((long)size * r / runCount),
+                (int)((long)size * (r + 1) / runCount));
+            tasks.add(() -> {
+                sortRowsSequentially(run, m_rowComparator);
+                if (!writeToDisk) {
+                    return new ArrayList<>(run);
                 }
-            }
+                return writeRun(run.listIterator(), exec);
+            });
         }
+        final List<Iterable<DataRow>> runs = invokeAll(tasks);
+        runs.removeIf(r -> r == null);
+        return runs;
+    }
 
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public boolean hasNext() {
-            // open the file lazily
-            if (m_row == null) {
-                if (m_iterable instanceof DataTable) {
-                    clearTable((DataTable)m_iterable);
-                }
-                return false;
+    /** Merges groups of chunks concurrently, each into a new chunk that is appended to the chunk queue. */
+    private void mergeGroupsInParallel(final int groupCount, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        final List<Callable<Iterable<DataRow>>> tasks = new ArrayList<>(groupCount);
+        for (int g = 0; g < groupCount; g++) {
+            final List<Iterable<DataRow>> group = new ArrayList<>();
+            for (int i = 0; !m_chunksContainer.isEmpty() && i < m_maxOpenContainers; i++) {
+                group.add(m_chunksContainer.poll());
             }
-            return true;
+            tasks.add(() -> writeRun(createMergingIterator(group), exec));
         }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public DataRow next() {
-            // open the file lazily
-            if (m_row == null) {
-                throw new NoSuchElementException();
+        for (Iterable<DataRow> run : invokeAll(tasks)) {
+            if (run != null) {
+                m_chunksContainer.offer(run);
             }
-            DataRow toReturn = m_row;
-            m_row = m_iterator.hasNext() ? m_iterator.next() : null;
-            return toReturn;
         }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public void remove() {
-            throw new UnsupportedOperationException();
+        if (m_rowsInInputTable > 0) {
+            m_progress += groupCount * m_incProgress;
+            exec.setProgress(m_progress);
         }
+    }
 
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public int compareTo(final MergeEntry that) {
-            int value = m_comparator.compare(this.m_row, that.m_row);
-            if (value == 0) {
-                return this.m_index - that.m_index;
-            } else {
-                return value;
+    /**
+     * Writes the rows to a new temporary table, called concurrently by the sorting threads. Rows are released from
+     * the argument iterator (if it supports {@link ListIterator#set(Object)}) once written.
+     *
+     * @return the table or null if there were no rows
+     */
+    private DataTable writeRun(final Iterator<DataRow> rows, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        final DataContainer container;
+        synchronized (m_containerLock) {
+            container = createDataContainer(m_dataTableSpec, true);
+        }
+        container.setMaxPossibleValues(0);
+        boolean isSuccess = false;
+        try {
+            while (rows.hasNext()) {
+                container.addRowToTable(rows.next());
+                if (rows instanceof ListIterator) {
+                    ((ListIterator<DataRow>)rows).set(null);
+                }
+                exec.checkCanceled();
+            }
+            isSuccess = true;
+        } finally {
+            synchronized (m_containerLock) {
+                container.close();
+                if (!isSuccess || container.size() == 0) {
+                    clearTable(container.getTable());
+                }
             }
         }
+        return container.size() == 0 ? null : container.getTable();
+    }
 
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public int hashCode() {
-            final int prime = 31;
-            int result = 1;
-            result = prime * result + m_index;
-            result = prime * result + ((m_row == null) ? 0 : m_row.hashCode());
-            return result;
+    /** Runs the tasks on the sorter's thread pool and waits for their results. */
+    private <T> List<T> invokeAll(final List<Callable<T>> tasks) throws CanceledExecutionException {
+        if (m_executor == null) {
+            m_executor = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(getParallelism());
         }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public boolean equals(final Object obj) {
-            if (this == obj) {
-                return true;
+        final ThreadPool executor = m_executor;
+        final List<Future<T>> futures = new ArrayList<>(tasks.size());
+        final Callable<List<T>> submitAndWait = () -> {
+            for (Callable<T> task : tasks) {
+                futures.add(executor.enqueue(task));
             }
-            if (obj == null) {
-                return false;
+            final List<T> results = new ArrayList<>(tasks.size());
+            for (Future<T> future : futures) {
+                results.add(future.get());
             }
-            if (getClass() != obj.getClass()) {
-                return false;
+            return results;
+        };
+        try {
+            // don't occupy a thread of the pool while waiting (the caller is usually a node's execution thread)
+            final ThreadPool currentPool = ThreadPool.currentPool();
+            return currentPool != null ? currentPool.runInvisible(submitAndWait) : submitAndWait.call();
+        } catch (Exception e) {
+            futures.forEach(f -> f.cancel(true));
+            Throwable cause = e;
+            while (cause instanceof ExecutionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof CanceledExecutionException) {
+                throw (CanceledExecutionException)cause;
+            } else if (cause instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+                throw new CanceledExecutionException("Sorting has been interrupted");
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
             }
-            MergeEntry other = (MergeEntry)obj;
-            return (this.compareTo(other) == 0);
+            throw new RuntimeException("Sorting temporary tables failed: " + cause.getMessage(), cause);
         }
     }
 
+    /** Creates an iterator merging the sorted runs (lazily opened, temporary tables are cleared once read). */
+    private Iterator<DataRow> createMergingIterator(final List<Iterable<DataRow>> runs) {
+        final KeyedRowComparator comparator = new KeyedRowComparator(m_rowComparator);
+        final List<RunIterator> sources = new ArrayList<>(runs.size());
+        for (Iterable<DataRow> run : runs) {
+            sources.add(new RunIterator(run, comparator));
+        }
+        final LoserTree<KeyedRow> loserTree = new LoserTree<>(sources, comparator);
+        return new Iterator<DataRow>() {
+            @Override
+            public boolean hasNext() {
+                return loserTree.hasNext();
+            }
+
+            @Override
+            public DataRow next() {
+                return loserTree.next().m_row;
+            }
+        };
+    }
+
     /**
-     * Lazily opens the given MergeEntry's (The runs of this merging step) and returns the rows.
-     *
-     * @author Marcel Hanser
+     * A sorted run of a merge step. Lazily opens the run and clears it if it's a temporary table that has been read
+     * completely.
      */
-    private static final class MergingIterator implements Iterator<DataRow> {
-        private Queue<MergeEntry> m_containerToMerge;
+    private final class RunIterator implements Iterator<KeyedRow> {
 
-        private boolean m_opened = false;
+        private final Iterable<DataRow> m_run;
 
-        /**
-         * @param containerToMerge
-         */
-        private MergingIterator(final Queue<MergeEntry> containerToMerge) {
-            super();
-            m_containerToMerge = containerToMerge;
+        private final KeyedRowComparator m_comparator;
+
+        private Iterator<DataRow> m_iterator;
+
+        private boolean m_isCleared;
+
+        RunIterator(final Iterable<DataRow> run, final KeyedRowComparator comparator) {
+            m_run = run;
+            m_comparator = comparator;
         }
 
-        /**
-         * {@inheritDoc}
-         */
+        /** {@inheritDoc} */
         @Override
         public boolean hasNext() {
-            if (!m_opened) {
-                Queue<MergeEntry> sortedEntries = new PriorityQueue<>();
-                for (MergeEntry entry : m_containerToMerge) {
-                    entry.open();
-                    sortedEntries.add(entry);
+            // open the file lazily
+            if (m_iterator == null) {
+                m_iterator = m_run.iterator();
+            }
+            if (m_iterator.hasNext()) {
+                return true;
+            }
+            if (!m_isCleared && m_run instanceof DataTable) {
+                m_isCleared = true;
+                synchronized (m_containerLock) {
+                    clearTable((DataTable)m_run);
                 }
-                m_containerToMerge = sortedEntries;
-                m_opened = true;
             }
-            return !m_containerToMerge.isEmpty();
+            return false;
         }
 
-        /**
-         * {@inheritDoc}
-         */
+        /** {@inheritDoc} */
         @Override
-        public DataRow next() {
-            if (hasNext()) {
-                MergeEntry first = m_containerToMerge.poll();
-                DataRow currentCell = first.next();
-                if (first.hasNext()) {
-                    m_containerToMerge.offer(first);
-                }
-                return currentCell;
-            } else {
+        public KeyedRow next() {
+            if (!hasNext()) {
                 throw new NoSuchElementException();
             }
+            return m_comparator.toKeyedRow(m_iterator.next());
         }
+    }
 
-        /**
-         * {@inheritDoc}
-         */
+    /** A row along with its normalized sort key (null if not available), see {@link SortKeyEncoder}. */
+    private static final class KeyedRow {
+
+        private final DataRow m_row;
+
+        private final byte[] m_key;
+
+        KeyedRow(final DataRow row, final byte[] key) {
+            m_row = row;
+            m_key = key;
+        }
+    }
+
+    /**
+     * Compares {@link KeyedRow}s by their normalized keys if the row comparator supports them (a {@link RowComparator}
+     * or one of the internal {@link SortingDescription}s), otherwise (or on ties of incomplete keys) by the row
+     * comparator.
+     */
+    private static final class KeyedRowComparator implements Comparator<KeyedRow> {
+
+        private final Comparator<DataRow> m_rowComparator;
+
+        /** The key encoder of the row comparator, null if not supported. */
+        private final SortKeyEncoder m_keyEncoder;
+
+        KeyedRowComparator(final Comparator<DataRow> rowComparator) {
+            m_rowComparator = rowComparator;
+            if (rowComparator instanceof RowComparator) {
+                m_keyEncoder = ((RowComparator)rowComparator).getSortKeyEncoder();
+            } else if (rowComparator instanceof SortingDescription) {
+                m_keyEncoder = ((SortingDescription)rowComparator).getSortKeyEncoder();
+            } else {
+                m_keyEncoder = null;
+            }
+        }
+
+        boolean hasKeyEncoder() {
+            return m_keyEncoder != null;
+        }
+
+        KeyedRow toKeyedRow(final DataRow row) {
+            return new KeyedRow(row, m_keyEncoder != null ? m_keyEncoder.encode(row) : null);
+        }
+
+        /** {@inheritDoc} */
         @Override
-        public void remove() {
-            throw new UnsupportedOperationException();
+        public int compare(final KeyedRow r1, final KeyedRow r2) {
+            if (m_keyEncoder != null) {
+                final int c = SortKeyEncoder.compare(r1.m_key, r2.m_key);
+                if (c != 0 || m_keyEncoder.isComplete()) {
+                    return c;
+                }
+            }
+            return m_rowComparator.compare(r1.m_row, r2.m_row);
         }
     }
 
@@ -893,6 +1113,9 @@ private static final class RowComparator implements Comparator<DataRow> {
          */
         private final boolean m_sortMissingsToEnd;
 
+        /** Encodes the sort columns into normalized keys, null if the first column isn't supported. */
+        private final SortKeyEncoder m_keyEncoder;
+
         /**
          * @param indices Array of sort column indices.
          * @param sortAscending Sort order.
@@ -914,6 +1137,12 @@ private static final class RowComparator implements Comparator<DataRow> {
             }
             m_sortAscending = sortAscending;
             m_sortMissingsToEnd = sortMissingsToEnd;
+            m_keyEncoder = SortKeyEncoder.create(m_indices, m_sortAscending, m_sortMissingsToEnd, m_colComparators);
+        }
+
+        /** @return the encoder of normalized sort keys or null if not supported by the sort columns. */
+        SortKeyEncoder getSortKeyEncoder() {
+            return m_keyEncoder;
         }
 
         /** {@inheritDoc} */
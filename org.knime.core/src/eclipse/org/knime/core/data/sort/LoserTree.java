@@ -0,0 +1,171 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.sort;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Merges a number of sorted iterators using a tournament tree of losers ("loser tree"). Each inner node of the tree
+ * holds the index of the source that lost the match at that node, the overall winner is kept at position 0. Replacing
+ * the winner requires a single pass from a leaf to the root, i.e. log(k) comparisons (compared to about 2 log(k) in a
+ * binary heap). The merge is stable: of two equal elements the one from the source with the smaller index is returned
+ * first.
+ *
+ * <p>The sources are opened lazily, i.e. their {@link Iterator#hasNext()} is first called when this iterator is
+ * queried.
+ *
+ * @param <T> the type of the elements
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+final class LoserTree<T> implements Iterator<T> {
+
+    private final List<? extends Iterator<? extends T>> m_sources;
+
+    private final Comparator<? super T> m_comparator;
+
+    /** The current head of each source, undefined if exhausted. */
+    private final Object[] m_heads;
+
+    private final boolean[] m_isExhausted;
+
+    /** The losers of the inner nodes (indices of sources), the overall winner at position 0. */
+    private final int[] m_tree;
+
+    private boolean m_isInitialized;
+
+    /**
+     * @param sources the sorted sources
+     * @param comparator the comparator the sources are sorted by
+     */
+    LoserTree(final List<? extends Iterator<? extends T>> sources, final Comparator<? super T> comparator) {
+        m_sources = sources;
+        m_comparator = comparator;
+        m_heads = new Object[sources.size()];
+        m_isExhausted = new boolean[sources.size()];
+        m_tree = new int[sources.size()];
+    }
+
+    private void initialize() {
+        final int k = m_sources.size();
+        for (int i = 0; i < k; i++) {
+            advance(i);
+        }
+        // index k is a virtual source that beats all others, it is pushed out of the tree by the real sources
+        Arrays.fill(m_tree, k);
+        for (int i = k - 1; i >= 0; i--) {
+            adjust(i);
+        }
+        m_isInitialized = true;
+    }
+
+    /** Reads the next element of the given source. */
+    private void advance(final int source) {
+        final Iterator<? extends T> it = m_sources.get(source);
+        if (it.hasNext()) {
+            m_heads[source] = it.next();
+        } else {
+            m_heads[source] = null;
+            m_isExhausted[source] = true;
+        }
+    }
+
+    /** Replays the matches from the leaf of the argument source up to the root. */
+    private void adjust(final int source) {
+        int winner = source;
+        for (int node = (source + m_tree.length) >> 1; node > 0; node >>= 1) {
+            if (beats(m_tree[node], winner)) {
+                final int loser = winner;
+                winner = m_tree[node];
+                m_tree[node] = loser;
+            }
+        }
+        m_tree[0] = winner;
+    }
+
+    /** Whether source a precedes source b. */
+    @SuppressWarnings("unchecked")
+    private boolean beats(final int a, final int b) {
+        final int k = m_sources.size();
+        if (a == k || b == k) {
+            return a == k && b != k;
+        }
+        if (m_isExhausted[a] || m_isExhausted[b]) {
+            return !m_isExhausted[a];
+        }
+        final int c = m_comparator.compare((T)m_heads[a], (T)m_heads[b]);
+        return c < 0 || (c == 0 && a < b);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasNext() {
+        if (!m_isInitialized) {
+            initialize();
+        }
+        return m_tree.length > 0 && !m_isExhausted[m_tree[0]];
+    }
+
+    /** {@inheritDoc} */
+    @SuppressWarnings("unchecked")
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final int winner = m_tree[0];
+        final T result = (T)m_heads[winner];
+        advance(winner);
+        adjust(winner);
+        return result;
+    }
+
+}
@@ -0,0 +1,296 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.sort;
+
+import java.util.Arrays;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataValueComparator;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.DoubleValueComparator;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.IntValueComparator;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.LongValueComparator;
+import org.knime.core.data.StringValue;
+import org.knime.core.data.StringValueComparator;
+
+/**
+ * Encodes the sort columns of a row into a normalized, order preserving binary key: comparing the keys of two rows
+ * byte by byte (as unsigned values, see {@link #compare(byte[], byte[])}) yields the same result as comparing the rows
+ * with the corresponding row comparator. The key of a row is computed once, which saves the virtual calls,
+ * missing value checks and string comparisons of the {@link DataValueComparator}s in the sort and merge phases.
+ *
+ * <p>Each column is encoded as a position byte (missing values sorted to the top, non-missing values, missing values
+ * sorted to the bottom) followed by the value (non-missing values only):
+ * <ul>
+ * <li>doubles as 8 bytes: the IEEE bits with all but the sign bit flipped for negative numbers, the sign bit flipped
+ * for positive numbers (the order of {@link Double#compare(double, double)});</li>
+ * <li>ints and longs as 4 and 8 bytes, respectively, with the sign bit flipped;</li>
+ * <li>strings (and row keys) as UTF-16 code units (the order of {@link String#compareTo(String)}), whereby zero bytes
+ * are escaped as <code>0x00 0x01</code> and the string is terminated by <code>0x00 0x00</code>.</li>
+ * </ul>
+ * Values of columns sorted in descending order are bitwise inverted. Only the standard comparators of these types are
+ * supported; if a sort column uses any other comparator, the key comprises the columns before it only and ties of the
+ * keys need to be resolved by the row comparator (see {@link #isComplete()}).
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+final class SortKeyEncoder {
+
+    /** Position byte of a missing value sorted before all other values. */
+    private static final byte MISSING_FIRST = 0x00;
+
+    /** Position byte of a non-missing value. */
+    private static final byte VALUE = 0x01;
+
+    /** Position byte of a missing value sorted after all other values. */
+    private static final byte MISSING_LAST = 0x02;
+
+    private static final int TYPE_STRING = 0;
+
+    private static final int TYPE_DOUBLE = 1;
+
+    private static final int TYPE_INT = 2;
+
+    private static final int TYPE_LONG = 3;
+
+    /** The column indices of the encoded columns, -1 for the row key. */
+    private final int[] m_indices;
+
+    /** The encoding of the columns, one of the TYPE_XYZ constants. */
+    private final int[] m_types;
+
+    private final boolean[] m_sortAscending;
+
+    private final boolean m_sortMissingsToEnd;
+
+    private final boolean m_isComplete;
+
+    private SortKeyEncoder(final int[] indices, final int[] types, final boolean[] sortAscending,
+        final boolean sortMissingsToEnd, final boolean isComplete) {
+        m_indices = indices;
+        m_types = types;
+        m_sortAscending = sortAscending;
+        m_sortMissingsToEnd = sortMissingsToEnd;
+        m_isComplete = isComplete;
+    }
+
+    /**
+     * Creates an encoder for the sort columns as defined by the (default) row comparator.
+     *
+     * @param indices the column indices, -1 for the row key
+     * @param sortAscending the sort order of each column
+     * @param sortMissingsToEnd whether missing values are sorted to the end independent of the sort order
+     * @param comparators the comparator of each column (ignored for the row key)
+     * @return the encoder or null if the first sort column can't be encoded
+     */
+    static SortKeyEncoder create(final int[] indices, final boolean[] sortAscending, final boolean sortMissingsToEnd,
+        final DataValueComparator[] comparators) {
+        final int[] types = new int[indices.length];
+        int encodable = 0;
+        while (encodable < indices.length) {
+            final Class<?> comparatorClass =
+                indices[encodable] == -1 ? StringValueComparator.class : comparators[encodable].getClass();
+            // the key must be consistent with the comparator, hence the exact classes
+            if (comparatorClass == StringValueComparator.class) {
+                types[encodable] = TYPE_STRING;
+            } else if (comparatorClass == DoubleValueComparator.class) {
+                types[encodable] = TYPE_DOUBLE;
+            } else if (comparatorClass == IntValueComparator.class) {
+                types[encodable] = TYPE_INT;
+            } else if (comparatorClass == LongValueComparator.class) {
+                types[encodable] = TYPE_LONG;
+            } else {
+                break;
+            }
+            encodable++;
+        }
+        if (encodable == 0) {
+            return null;
+        }
+        return new SortKeyEncoder(Arrays.copyOf(indices, encodable), Arrays.copyOf(types, encodable),
+            Arrays.copyOf(sortAscending, encodable), sortMissingsToEnd, encodable == indices.length);
+    }
+
+    /**
+     * @return whether all sort columns are encoded, i.e. equal keys imply that the row comparator returns 0
+     */
+    boolean isComplete() {
+        return m_isComplete;
+    }
+
+    /**
+     * Encodes the sort columns of the argument row.
+     *
+     * @param row the row
+     * @return the key
+     */
+    byte[] encode(final DataRow row) {
+        final KeyBuilder builder = new KeyBuilder();
+        for (int i = 0; i < m_indices.length; i++) {
+            final boolean ascending = m_sortAscending[i];
+            final int index = m_indices[i];
+            if (index == -1) {
+                builder.appendByte(VALUE);
+                builder.appendString(row.getKey().getString(), ascending);
+                continue;
+            }
+            final DataCell cell = row.getCell(index);
+            if (cell.isMissing()) {
+                // missing values are smaller than any other value unless sorted to the end
+                builder.appendByte(m_sortMissingsToEnd || !ascending ? MISSING_LAST : MISSING_FIRST);
+                continue;
+            }
+            builder.appendByte(VALUE);
+            switch (m_types[i]) {
+                case TYPE_STRING:
+                    builder.appendString(((StringValue)cell).getStringValue(), ascending);
+                    break;
+                case TYPE_DOUBLE:
+                    final long bits = Double.doubleToLongBits(((DoubleValue)cell).getDoubleValue());
+                    builder.appendLong(bits ^ ((bits >> 63) & Long.MAX_VALUE), ascending);
+                    break;
+                case TYPE_INT:
+                    builder.appendInt(((IntValue)cell).getIntValue(), ascending);
+                    break;
+                case TYPE_LONG:
+                    builder.appendLong(((LongValue)cell).getLongValue(), ascending);
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown key type: " + m_types[i]);
+            }
+        }
+        return builder.toByteArray();
+    }
+
+    /**
+     * Compares two keys byte by byte, whereby bytes are compared as unsigned values and a key that is a prefix of the
+     * other is smaller.
+     *
+     * @param key1 first key
+     * @param key2 second key
+     * @return a negative number, zero or a positive number if the first key is smaller, equal or larger
+     */
+    static int compare(final byte[] key1, final byte[] key2) {
+        final int length = Math.min(key1.length, key2.length);
+        for (int i = 0; i < length; i++) {
+            final int b1 = key1[i] & 0xFF;
+            final int b2 = key2[i] & 0xFF;
+            if (b1 != b2) {
+                return b1 - b2;
+            }
+        }
+        return key1.length - key2.length;
+    }
+
+    /** A growing byte array. */
+    private static final class KeyBuilder {
+
+        private byte[] m_bytes = new byte[32];
+
+        private int m_length;
+
+        private void ensureCapacity(final int additional) {
+            if (m_length + additional > m_bytes.length) {
+                m_bytes = Arrays.copyOf(m_bytes, Math.max(2 * m_bytes.length, m_length + additional));
+            }
+        }
+
+        void appendByte(final int b) {
+            ensureCapacity(1);
+            m_bytes[m_length++] = (byte)b;
+        }
+
+        void appendInt(final int value, final boolean ascending) {
+            final int v = ascending ? value ^ Integer.MIN_VALUE : ~(value ^ Integer.MIN_VALUE);
+            ensureCapacity(4);
+            for (int shift = 24; shift >= 0; shift -= 8) {
+                m_bytes[m_length++] = (byte)(v >>> shift);
+            }
+        }
+
+        void appendLong(final long value, final boolean ascending) {
+            final long v = ascending ? value ^ Long.MIN_VALUE : ~(value ^ Long.MIN_VALUE);
+            ensureCapacity(8);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                m_bytes[m_length++] = (byte)(v >>> shift);
+            }
+        }
+
+        void appendString(final String value, final boolean ascending) {
+            final int mask = ascending ? 0 : 0xFF;
+            ensureCapacity(2 * value.length() + 2);
+            for (int i = 0; i < value.length(); i++) {
+                final char c = value.charAt(i);
+                appendStringByte(c >>> 8, mask);
+                appendStringByte(c & 0xFF, mask);
+            }
+            appendByte(mask);
+            appendByte(mask);
+        }
+
+        /** Appends a byte of a string, zero bytes are escaped so that the terminator is the smallest sequence. */
+        private void appendStringByte(final int b, final int mask) {
+            if (b == 0) {
+                ensureCapacity(2);
+                m_bytes[m_length++] = (byte)mask;
+                m_bytes[m_length++] = (byte)(1 ^ mask);
+            } else {
+                ensureCapacity(1);
+                m_bytes[m_length++] = (byte)(b ^ mask);
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(m_bytes, m_length);
+        }
+    }
+
+}
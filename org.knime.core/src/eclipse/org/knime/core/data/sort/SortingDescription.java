@@ -77,6 +77,16 @@ public DataTableSpec createDataTableSpec(final DataTableSpec spec) {
         return specCreator.createSpec();
     }
 
+    /**
+     * Encoder of normalized sort keys consistent with {@link #compare(Object, Object)}, used to speed up the sorting.
+     * Descriptions created internally for the default comparators of the columns override this method.
+     *
+     * @return the encoder or null (the default) if not supported
+     */
+    SortKeyEncoder getSortKeyEncoder() {
+        return null;
+    }
+
     /**
      * @param originalRow the original row
      * @return a row just comprising the cells of the set columns
@@ -218,6 +218,94 @@ public static long cardinalityOfRelativeComplement(final BitVectorValue bv1, fin
         return toReturn;
     }
 
+    /**
+     * Computes the Tanimoto (Jaccard) similarity of the given vectors, i.e. the cardinality of their intersection
+     * divided by the cardinality of their union. If both vectors are of the same type, no intermediate vectors are
+     * created. If both vectors are empty, the similarity is defined as 0.
+     *
+     * @param bv1 first vector
+     * @param bv2 second vector
+     * @return the Tanimoto similarity, a value between 0 and 1
+     * @throws NullPointerException if any argument is <code>null</code>
+     * @since 3.8
+     */
+    public static double tanimotoSimilarity(final BitVectorValue bv1, final BitVectorValue bv2) {
+        CheckUtils.checkNotNull(bv1, NPE_MESSAGE);
+        CheckUtils.checkNotNull(bv2, NPE_MESSAGE);
+
+        if (bv1 instanceof DenseBitVectorCell && bv2 instanceof DenseBitVectorCell) {
+            return ((DenseBitVectorCell)bv1).tanimotoSimilarity((DenseBitVectorCell)bv2);
+        } else if (bv1 instanceof SparseBitVectorCell && bv2 instanceof SparseBitVectorCell) {
+            return ((SparseBitVectorCell)bv1).tanimotoSimilarity((SparseBitVectorCell)bv2);
+        }
+
+        long intersection = cardinalityOfIntersection(bv1, bv2);
+        long union = bv1.cardinality() + bv2.cardinality() - intersection;
+        return (union == 0) ? 0 : (double)intersection / union;
+    }
+
+    /**
+     * Computes the Tanimoto similarity between the query and each of the given cells and stores it in the result array
+     * at the same index. The cardinality of the query is computed only once and the cardinality of each cell is cached
+     * in the cell, so that only the intersection has to be computed for each pair. This is significantly faster than
+     * calling {@link #tanimotoSimilarity(BitVectorValue, BitVectorValue)} in a loop when the same cells are compared
+     * against many queries. Elements of the cells array may be <code>null</code> (e.g. for missing values), in which
+     * case the result is {@link Double#NaN}.
+     *
+     * @param query the vector to compare all cells with
+     * @param cells the cells to compare with the query
+     * @param result the array the similarities are written to, must be at least as long as the cells array
+     * @throws NullPointerException if any argument is <code>null</code>
+     * @throws IllegalArgumentException if the result array is shorter than the cells array
+     * @since 3.8
+     */
+    public static void tanimotoSimilarity(final DenseBitVectorCell query, final DenseBitVectorCell[] cells,
+        final double[] result) {
+        CheckUtils.checkNotNull(query, NPE_MESSAGE);
+        CheckUtils.checkNotNull(cells, NPE_MESSAGE);
+        CheckUtils.checkNotNull(result, "Result array must not be null");
+        CheckUtils.checkArgument(result.length >= cells.length, "Result array is shorter (%d) than cell array (%d)",
+            result.length, cells.length);
+
+        final long queryCardinality = query.cardinality();
+        for (int i = 0; i < cells.length; i++) {
+            final DenseBitVectorCell cell = cells[i];
+            if (cell == null) {
+                result[i] = Double.NaN;
+            } else {
+                final long intersection = query.cardinalityOfIntersection(cell);
+                final long union = queryCardinality + cell.cardinality() - intersection;
+                result[i] = (union == 0) ? 0 : (double)intersection / union;
+            }
+        }
+    }
+
+    /**
+     * Computes the cardinality of the intersection between the query and each of the given cells and stores it in the
+     * result array at the same index. No intermediate vectors are created. Elements of the cells array may be
+     * <code>null</code> (e.g. for missing values), in which case the result is -1.
+     *
+     * @param query the vector to intersect all cells with
+     * @param cells the cells to intersect with the query
+     * @param result the array the cardinalities are written to, must be at least as long as the cells array
+     * @throws NullPointerException if any argument is <code>null</code>
+     * @throws IllegalArgumentException if the result array is shorter than the cells array
+     * @since 3.8
+     */
+    public static void cardinalityOfIntersection(final DenseBitVectorCell query, final DenseBitVectorCell[] cells,
+        final long[] result) {
+        CheckUtils.checkNotNull(query, NPE_MESSAGE);
+        CheckUtils.checkNotNull(cells, NPE_MESSAGE);
+        CheckUtils.checkNotNull(result, "Result array must not be null");
+        CheckUtils.checkArgument(result.length >= cells.length, "Result array is shorter (%d) than cell array (%d)",
+            result.length, cells.length);
+
+        for (int i = 0; i < cells.length; i++) {
+            final DenseBitVectorCell cell = cells[i];
+            result[i] = (cell == null) ? -1 : query.cardinalityOfIntersection(cell);
+        }
+    }
+
     private static int sparseBitVectorCellCount(final BitVectorValue bv1, final BitVectorValue bv2) {
         int count = 0;
         if (bv1 instanceof SparseBitVectorCell) {
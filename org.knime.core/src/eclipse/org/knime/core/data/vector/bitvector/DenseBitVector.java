@@ -884,6 +884,164 @@ public DenseBitVector xor(final DenseBitVector bv) {
         return result;
     }
 
+    /**
+     * Sets the bits of this vector to the result of the AND operation with the argument vector, i.e. only those bits
+     * remain set that are also set in the argument. In contrast to {@link #and(DenseBitVector)} no new vector is
+     * created and the length of this vector does not change.
+     *
+     * @param bv the vector to AND this one with
+     * @since 3.8
+     */
+    public void andInPlace(final DenseBitVector bv) {
+        if (isEmpty()) {
+            return;
+        }
+        if (bv.isEmpty()) {
+            clearStorage();
+            return;
+        }
+        int startAddr = Math.max(m_firstAddr, bv.m_firstAddr);
+        int endAddr = Math.min(m_lastAddr, bv.m_lastAddr);
+        if (endAddr < startAddr) {
+            // no intersection of ones
+            clearStorage();
+            return;
+        }
+        final long[] storage = m_storage;
+        final long[] otherStorage = bv.m_storage;
+        Arrays.fill(storage, m_firstAddr, startAddr, 0L);
+        Arrays.fill(storage, endAddr + 1, m_lastAddr + 1, 0L);
+        for (int i = startAddr; i <= endAddr; i++) {
+            storage[i] &= otherStorage[i];
+        }
+        updateAddresses(startAddr, endAddr);
+        assert (checkConsistency() == null);
+    }
+
+    /**
+     * Sets the bits of this vector to the result of the OR operation with the argument vector. In contrast to
+     * {@link #or(DenseBitVector)} no new vector is created and the length of this vector does not change; bits of the
+     * argument beyond the length of this vector are ignored.
+     *
+     * @param bv the vector to OR this one with
+     * @since 3.8
+     */
+    public void orInPlace(final DenseBitVector bv) {
+        if (bv.isEmpty()) {
+            return;
+        }
+        int startAddr = bv.m_firstAddr;
+        int endAddr = Math.min(bv.m_lastAddr, m_storage.length - 1);
+        if (endAddr < startAddr) {
+            // all ones of the argument are beyond the end of this vector
+            return;
+        }
+        final long[] storage = m_storage;
+        final long[] otherStorage = bv.m_storage;
+        for (int i = startAddr; i <= endAddr; i++) {
+            storage[i] |= otherStorage[i];
+        }
+        maskOffBitsAfterEndOfVector();
+        if (isEmpty()) {
+            updateAddresses(startAddr, endAddr);
+        } else {
+            updateAddresses(Math.min(m_firstAddr, startAddr), Math.max(m_lastAddr, endAddr));
+        }
+        assert (checkConsistency() == null);
+    }
+
+    /**
+     * Sets the bits of this vector to the result of the XOR operation with the argument vector. In contrast to
+     * {@link #xor(DenseBitVector)} no new vector is created and the length of this vector does not change; bits of
+     * the argument beyond the length of this vector are ignored.
+     *
+     * @param bv the vector to XOR this one with
+     * @since 3.8
+     */
+    public void xorInPlace(final DenseBitVector bv) {
+        if (bv.isEmpty()) {
+            return;
+        }
+        int startAddr = bv.m_firstAddr;
+        int endAddr = Math.min(bv.m_lastAddr, m_storage.length - 1);
+        if (endAddr < startAddr) {
+            // all ones of the argument are beyond the end of this vector
+            return;
+        }
+        final long[] storage = m_storage;
+        final long[] otherStorage = bv.m_storage;
+        for (int i = startAddr; i <= endAddr; i++) {
+            storage[i] ^= otherStorage[i];
+        }
+        maskOffBitsAfterEndOfVector();
+        if (isEmpty()) {
+            updateAddresses(startAddr, endAddr);
+        } else {
+            updateAddresses(Math.min(m_firstAddr, startAddr), Math.max(m_lastAddr, endAddr));
+        }
+        assert (checkConsistency() == null);
+    }
+
+    /**
+     * Clears all bits in this vector that are set in the argument vector (i.e. this AND NOT argument). No new vector
+     * is created and the length of this vector does not change.
+     *
+     * @param bv the vector whose bits are cleared in this one
+     * @since 3.8
+     */
+    public void andNotInPlace(final DenseBitVector bv) {
+        if (isEmpty() || bv.isEmpty()) {
+            return;
+        }
+        int startAddr = Math.max(m_firstAddr, bv.m_firstAddr);
+        int endAddr = Math.min(m_lastAddr, bv.m_lastAddr);
+        if (endAddr < startAddr) {
+            // no intersection of ones
+            return;
+        }
+        final long[] storage = m_storage;
+        final long[] otherStorage = bv.m_storage;
+        for (int i = startAddr; i <= endAddr; i++) {
+            storage[i] &= ~otherStorage[i];
+        }
+        updateAddresses(m_firstAddr, m_lastAddr);
+        assert (checkConsistency() == null);
+    }
+
+    /**
+     * Clears all bits between m_firstAddr and m_lastAddr and marks the vector as empty.
+     */
+    private void clearStorage() {
+        Arrays.fill(m_storage, m_firstAddr, m_lastAddr + 1, 0L);
+        m_firstAddr = -1;
+        m_lastAddr = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Sets m_firstAddr and m_lastAddr by scanning the given range of storage addresses. All storage locations outside
+     * the range must be zero.
+     *
+     * @param fromAddr the first address that may contain a one
+     * @param toAddr the last address that may contain a one
+     */
+    private void updateAddresses(final int fromAddr, final int toAddr) {
+        int first = fromAddr;
+        while (first <= toAddr && m_storage[first] == 0) {
+            first++;
+        }
+        if (first > toAddr) {
+            m_firstAddr = -1;
+            m_lastAddr = Integer.MAX_VALUE;
+            return;
+        }
+        int last = toAddr;
+        while (m_storage[last] == 0) {
+            last--;
+        }
+        m_firstAddr = first;
+        m_lastAddr = last;
+    }
+
     /**
      * Creates and returns a new bit vector whose bits are inverted compared to
      * this vector. The bits of the result are set at positions where this
@@ -1252,13 +1410,15 @@ public String dumpBits() {
     }
 
     /**
-     * Computes the cardinality of the intersection with the given bitVector.
+     * Computes the cardinality of the intersection with the given bitVector. In contrast to
+     * <code>and(bitVector).cardinality()</code> no intermediate vector is created.
      *
      * @see BitVectorUtil#cardinalityOfIntersection(BitVectorValue, BitVectorValue)
      * @param bitVector the other operand for the AND operator
      * @return the cardinality of the intersection
+     * @since 3.8
      */
-    long cardinalityOfIntersection(final DenseBitVector bitVector) {
+    public long cardinalityOfIntersection(final DenseBitVector bitVector) {
         if (isEmpty() || bitVector.isEmpty()) {
             return 0;
         }
@@ -1267,33 +1427,104 @@ long cardinalityOfIntersection(final DenseBitVector bitVector) {
         int endAddr = Math.min(m_lastAddr, bitVector.m_lastAddr);
 
         long result = 0;
-        long[] otherStorage = bitVector.m_storage;
+        final long[] storage = m_storage;
+        final long[] otherStorage = bitVector.m_storage;
         for (int i = startAddr; i <= endAddr; i++) {
-                result += Long.bitCount(m_storage[i] & otherStorage[i]);
+            result += Long.bitCount(storage[i] & otherStorage[i]);
         }
         return result;
     }
 
     /**
-     * Computes the cardinality of the complement relative to the given bitVector.
+     * Computes the cardinality of the complement relative to the given bitVector, i.e. the number of bits set in this
+     * vector but not in the argument. No intermediate vector is created.
      *
      * @see BitVectorUtil#cardinalityOfRelativeComplement(BitVectorValue, BitVectorValue)
      * @param bitVector the other operand
-     * @return the cardinality of the intersection
+     * @return the cardinality of the relative complement
+     * @since 3.8
      */
-    long cardinalityOfRelativeComplement(final DenseBitVector bitVector) {
+    public long cardinalityOfRelativeComplement(final DenseBitVector bitVector) {
         if (isEmpty()) {
             return 0;
         }
         long result = 0;
-        long[] otherStorage = bitVector.m_storage;
-        for (int i = m_firstAddr; i <= m_lastAddr; i++) {
-            if (i < otherStorage.length) {
-                result += Long.bitCount(m_storage[i] & ~otherStorage[i]);
-            } else {
-                result += Long.bitCount(m_storage[i]);
-            }
+        final long[] storage = m_storage;
+        final long[] otherStorage = bitVector.m_storage;
+        // split the loop so that neither part contains a branch
+        int commonEndAddr = Math.min(m_lastAddr, otherStorage.length - 1);
+        for (int i = m_firstAddr; i <= commonEndAddr; i++) {
+            result += Long.bitCount(storage[i] & ~otherStorage[i]);
+        }
+        for (int i = Math.max(m_firstAddr, commonEndAddr + 1); i <= m_lastAddr; i++) {
+            result += Long.bitCount(storage[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Computes the cardinality of the union with the given bitVector. In contrast to
+     * <code>or(bitVector).cardinality()</code> no intermediate vector is created.
+     *
+     * @param bitVector the other operand for the OR operator
+     * @return the cardinality of the union
+     * @since 3.8
+     */
+    public long cardinalityOfUnion(final DenseBitVector bitVector) {
+        if (isEmpty()) {
+            return bitVector.cardinality();
+        } else if (bitVector.isEmpty()) {
+            return cardinality();
+        }
+        final long[] storage = m_storage;
+        final long[] otherStorage = bitVector.m_storage;
+        int startAddr = Math.min(m_firstAddr, bitVector.m_firstAddr);
+        int endAddr = Math.max(m_lastAddr, bitVector.m_lastAddr);
+        int commonEndAddr = Math.min(endAddr, Math.min(storage.length, otherStorage.length) - 1);
+
+        long result = 0;
+        for (int i = startAddr; i <= commonEndAddr; i++) {
+            result += Long.bitCount(storage[i] | otherStorage[i]);
+        }
+        // beyond the shorter storage only the longer one can contain ones
+        final long[] longerStorage = storage.length > otherStorage.length ? storage : otherStorage;
+        for (int i = Math.max(startAddr, commonEndAddr + 1); i <= endAddr; i++) {
+            result += Long.bitCount(longerStorage[i]);
         }
         return result;
     }
+
+    /**
+     * Computes the Tanimoto (Jaccard) similarity between this and the given bitVector, which is the cardinality of
+     * the intersection divided by the cardinality of the union. Both cardinalities are computed in a single pass over
+     * the storage without creating intermediate vectors. If both vectors are empty, the similarity is defined as 0.
+     *
+     * @param bitVector the vector to compare this one with
+     * @return the Tanimoto similarity, a value between 0 and 1
+     * @since 3.8
+     */
+    public double tanimotoSimilarity(final DenseBitVector bitVector) {
+        if (isEmpty() || bitVector.isEmpty()) {
+            return 0;
+        }
+        final long[] storage = m_storage;
+        final long[] otherStorage = bitVector.m_storage;
+        int startAddr = Math.min(m_firstAddr, bitVector.m_firstAddr);
+        int endAddr = Math.max(m_lastAddr, bitVector.m_lastAddr);
+        int commonEndAddr = Math.min(endAddr, Math.min(storage.length, otherStorage.length) - 1);
+
+        long intersection = 0;
+        long union = 0;
+        for (int i = startAddr; i <= commonEndAddr; i++) {
+            final long a = storage[i];
+            final long b = otherStorage[i];
+            intersection += Long.bitCount(a & b);
+            union += Long.bitCount(a | b);
+        }
+        final long[] longerStorage = storage.length > otherStorage.length ? storage : otherStorage;
+        for (int i = Math.max(startAddr, commonEndAddr + 1); i <= endAddr; i++) {
+            union += Long.bitCount(longerStorage[i]);
+        }
+        return (double)intersection / union;
+    }
 }
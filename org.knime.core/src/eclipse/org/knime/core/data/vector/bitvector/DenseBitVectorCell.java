@@ -91,6 +91,10 @@ public static final DataCellSerializer<DenseBitVectorCell> getCellSerializer() {
 
     private final DenseBitVector m_bitVector;
 
+    // the cardinality plus one, zero if it hasn't been computed yet; volatile as a plain long may be read torn,
+    // concurrent threads computing it at the same time store the same value
+    private transient volatile long m_cardinalityPlusOne;
+
     /**
      * Use the {@link DenseBitVectorCellFactory} to create instances of this cell.
      *
@@ -162,7 +166,12 @@ public DenseBitVector getBitVectorCopy() {
      */
     @Override
     public long cardinality() {
-        return m_bitVector.cardinality();
+        long c = m_cardinalityPlusOne;
+        if (c == 0) {
+            c = m_bitVector.cardinality() + 1;
+            m_cardinalityPlusOne = c;
+        }
+        return c - 1;
     }
 
     /**
@@ -224,6 +233,15 @@ long cardinalityOfRelativeComplement(final DenseBitVectorCell bitVectorCell) {
         return m_bitVector.cardinalityOfRelativeComplement(bitVectorCell.m_bitVector);
     }
 
+    /**
+     * @see BitVectorUtil#tanimotoSimilarity(BitVectorValue, BitVectorValue)
+     * @param bitVectorCell the other cell containing the operand
+     * @return the Tanimoto similarity
+     */
+    double tanimotoSimilarity(final DenseBitVectorCell bitVectorCell) {
+        return m_bitVector.tanimotoSimilarity(bitVectorCell.m_bitVector);
+    }
+
     /**
      * Factory for {@link DenseBitVectorCell}s.
      *
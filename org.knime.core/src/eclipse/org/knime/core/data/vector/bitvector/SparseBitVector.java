@@ -742,6 +742,152 @@ public SparseBitVector xor(final SparseBitVector bv) {
         return result;
     }
 
+    /**
+     * Sets the bits of this vector to the result of the AND operation with the argument vector, i.e. only those bits
+     * remain set that are also set in the argument. In contrast to {@link #and(SparseBitVector)} no new vector is
+     * created and the length of this vector does not change.
+     *
+     * @param bv the vector to AND this one with
+     * @since 3.8
+     */
+    public void andInPlace(final SparseBitVector bv) {
+        final long[] storage = m_idxStorage;
+        final long[] otherStorage = bv.m_idxStorage;
+        final int otherLastIdx = bv.m_lastIdx;
+        int thisIdx = 0;
+        int bvIdx = 0;
+        int resultIdx = 0;
+        while (thisIdx <= m_lastIdx && bvIdx <= otherLastIdx) {
+            final long a = storage[thisIdx];
+            final long b = otherStorage[bvIdx];
+            // the result is never ahead of the read position, so it can be written unconditionally
+            storage[resultIdx] = a;
+            resultIdx += a == b ? 1 : 0;
+            thisIdx += a <= b ? 1 : 0;
+            bvIdx += b <= a ? 1 : 0;
+        }
+        m_lastIdx = resultIdx - 1;
+        assert checkConsistency() == null;
+    }
+
+    /**
+     * Clears all bits in this vector that are set in the argument vector (i.e. this AND NOT argument). No new vector
+     * is created and the length of this vector does not change.
+     *
+     * @param bv the vector whose bits are cleared in this one
+     * @since 3.8
+     */
+    public void andNotInPlace(final SparseBitVector bv) {
+        final long[] storage = m_idxStorage;
+        final long[] otherStorage = bv.m_idxStorage;
+        final int otherLastIdx = bv.m_lastIdx;
+        int bvIdx = 0;
+        int resultIdx = 0;
+        for (int thisIdx = 0; thisIdx <= m_lastIdx; thisIdx++) {
+            final long a = storage[thisIdx];
+            while (bvIdx <= otherLastIdx && otherStorage[bvIdx] < a) {
+                bvIdx++;
+            }
+            storage[resultIdx] = a;
+            resultIdx += (bvIdx > otherLastIdx || otherStorage[bvIdx] != a) ? 1 : 0;
+        }
+        m_lastIdx = resultIdx - 1;
+        assert checkConsistency() == null;
+    }
+
+    /**
+     * Sets the bits of this vector to the result of the OR operation with the argument vector. In contrast to
+     * {@link #or(SparseBitVector)} no new vector is created (the index storage only grows if needed) and the length
+     * of this vector does not change; bits of the argument beyond the length of this vector are ignored.
+     *
+     * @param bv the vector to OR this one with
+     * @since 3.8
+     */
+    public void orInPlace(final SparseBitVector bv) {
+        mergeInPlace(bv, true);
+    }
+
+    /**
+     * Sets the bits of this vector to the result of the XOR operation with the argument vector. In contrast to
+     * {@link #xor(SparseBitVector)} no new vector is created (the index storage only grows if needed) and the length
+     * of this vector does not change; bits of the argument beyond the length of this vector are ignored.
+     *
+     * @param bv the vector to XOR this one with
+     * @since 3.8
+     */
+    public void xorInPlace(final SparseBitVector bv) {
+        mergeInPlace(bv, false);
+    }
+
+    /**
+     * Merges the indices of the argument into the index storage of this vector. The merge runs backwards from the end
+     * of the (possibly enlarged) storage, so it never overwrites indices of this vector that haven't been read yet;
+     * the merged indices are moved down behind the untouched lower indices afterwards.
+     *
+     * @param bv the other operand
+     * @param keepCommon true for OR (indices set in both vectors are kept), false for XOR (they are dropped)
+     */
+    private void mergeInPlace(final SparseBitVector bv, final boolean keepCommon) {
+        final long[] otherStorage = bv.m_idxStorage;
+        int bvIdx = bv.m_lastIdx;
+        while (bvIdx >= 0 && otherStorage[bvIdx] >= m_length) {
+            bvIdx--;
+        }
+        if (bvIdx < 0) {
+            return;
+        }
+        final int endIdx = m_lastIdx + bvIdx + 1;
+        ensureCapacity(endIdx + 1L);
+        final long[] storage = m_idxStorage;
+        int thisIdx = m_lastIdx;
+        int resultIdx = endIdx;
+        while (thisIdx >= 0 && bvIdx >= 0) {
+            final long a = storage[thisIdx];
+            final long b = otherStorage[bvIdx];
+            if (a > b) {
+                storage[resultIdx--] = a;
+                thisIdx--;
+            } else if (a < b) {
+                storage[resultIdx--] = b;
+                bvIdx--;
+            } else {
+                if (keepCommon) {
+                    storage[resultIdx--] = a;
+                }
+                thisIdx--;
+                bvIdx--;
+            }
+        }
+        while (bvIdx >= 0) {
+            storage[resultIdx--] = otherStorage[bvIdx--];
+        }
+        // any remaining lower indices of this vector are already in place, move the merged ones down to them
+        final int mergedLength = endIdx - resultIdx;
+        if (resultIdx > thisIdx) {
+            System.arraycopy(storage, resultIdx + 1, storage, thisIdx + 1, mergedLength);
+        }
+        m_lastIdx = thisIdx + mergedLength;
+        assert checkConsistency() == null;
+    }
+
+    /**
+     * Makes sure the index storage can hold at least the given number of indices. The storage length stays a power
+     * of two (unless it would exceed the maximum array length).
+     *
+     * @param capacity the number of indices to store
+     */
+    private void ensureCapacity(final long capacity) {
+        if (capacity <= m_idxStorage.length) {
+            return;
+        }
+        convertLongCapacity(capacity);
+        long newLength = m_idxStorage.length;
+        while (newLength < capacity) {
+            newLength <<= 1;
+        }
+        m_idxStorage = Arrays.copyOf(m_idxStorage, (int)Math.min(newLength, Integer.MAX_VALUE));
+    }
+
     /**
      * Creates and returns a new bit vector that contains copies of both (this
      * and the argument vector). The argument vector is appended at the end of
@@ -1004,54 +1150,62 @@ public long[] getAllOneIndices() {
     }
 
     /**
-     * Computes the cardinality of the intersection with the given bitVector.
+     * Computes the cardinality of the intersection with the given bitVector. In contrast to
+     * <code>and(bitVector).cardinality()</code> no intermediate vector is created.
      *
      * @see BitVectorUtil#cardinalityOfIntersection(BitVectorValue, BitVectorValue)
      * @param bitVector the other operand for the AND operator
      * @return the cardinality of the intersection
+     * @since 3.8
      */
-    long cardinalityOfIntersection(final SparseBitVector bitVector) {
+    public long cardinalityOfIntersection(final SparseBitVector bitVector) {
         if (isEmpty() || bitVector.isEmpty()) {
             return 0;
         }
+        final long[] storage = m_idxStorage;
+        final long[] otherStorage = bitVector.m_idxStorage;
+        final int otherLastIdx = bitVector.m_lastIdx;
         long result = 0;
         int thisIdx = 0;
         int bvIdx = 0;
-        while (thisIdx <= m_lastIdx && bvIdx <= bitVector.m_lastIdx) {
-            if (m_idxStorage[thisIdx] == bitVector.m_idxStorage[bvIdx]) {
-                // index is set in both arguments
-                result++;
-            }
-            if (m_idxStorage[thisIdx] < bitVector.m_idxStorage[bvIdx]) {
-                thisIdx++;
-            } else {
-                bvIdx++;
-            }
+        while (thisIdx <= m_lastIdx && bvIdx <= otherLastIdx) {
+            final long a = storage[thisIdx];
+            final long b = otherStorage[bvIdx];
+            // conditional increments instead of branches, the comparison outcome is not predictable
+            result += a == b ? 1 : 0;
+            thisIdx += a <= b ? 1 : 0;
+            bvIdx += b <= a ? 1 : 0;
         }
         return result;
     }
 
     /**
-     * Computes the cardinality of the complement relative to the given bitVector.
+     * Computes the cardinality of the complement relative to the given bitVector, i.e. the number of bits set in this
+     * vector but not in the argument. No intermediate vector is created.
      *
      * @see BitVectorUtil#cardinalityOfRelativeComplement(BitVectorValue, BitVectorValue)
      * @param bitVector the other operand
-     * @return the cardinality of the intersection
+     * @return the cardinality of the relative complement
+     * @since 3.8
      */
-    long cardinalityOfRelativeComplement(final SparseBitVector bitVector) {
-        long result = 0;
-        int bvIdx = 0;
-        // the algorithm omits all smaller characters from the given bitvector until one bit index is equal
-        // or greater than the current one.
-        for (int thisIdx = 0; thisIdx <= m_lastIdx; thisIdx++) {
+    public long cardinalityOfRelativeComplement(final SparseBitVector bitVector) {
+        return cardinality() - cardinalityOfIntersection(bitVector);
+    }
 
-            while (bvIdx < bitVector.m_lastIdx && bitVector.m_idxStorage[bvIdx] < m_idxStorage[thisIdx]) {
-                bvIdx++;
-            }
-            if (bvIdx > bitVector.m_lastIdx || !(m_idxStorage[thisIdx] == bitVector.m_idxStorage[bvIdx])) {
-                result++;
-            }
+    /**
+     * Computes the Tanimoto (Jaccard) similarity between this and the given bitVector, which is the cardinality of
+     * the intersection divided by the cardinality of the union. No intermediate vectors are created. If both vectors
+     * are empty, the similarity is defined as 0.
+     *
+     * @param bitVector the vector to compare this one with
+     * @return the Tanimoto similarity, a value between 0 and 1
+     * @since 3.8
+     */
+    public double tanimotoSimilarity(final SparseBitVector bitVector) {
+        if (isEmpty() || bitVector.isEmpty()) {
+            return 0;
         }
-        return result;
+        long intersection = cardinalityOfIntersection(bitVector);
+        return (double)intersection / (cardinality() + bitVector.cardinality() - intersection);
     }
 }
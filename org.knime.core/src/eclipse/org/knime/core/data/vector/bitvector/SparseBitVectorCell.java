@@ -213,6 +213,15 @@ public long nextSetBit(final long startIdx) {
         return m_bitVector.nextSetBit(startIdx);
     }
 
+    /**
+     * @see BitVectorUtil#tanimotoSimilarity(BitVectorValue, BitVectorValue)
+     * @param bitVectorCell the other cell containing the operand
+     * @return the Tanimoto similarity
+     */
+    double tanimotoSimilarity(final SparseBitVectorCell bitVectorCell) {
+        return m_bitVector.tanimotoSimilarity(bitVectorCell.m_bitVector);
+    }
+
     /**
      * @see BitVectorUtil#cardinalityOfIntersection(BitVectorValue, BitVectorValue)
      * @param bitVectorCell the other cell containing the operand
@@ -0,0 +1,293 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.log4j.Logger;
+import org.apache.log4j.helpers.LogLog;
+import org.apache.log4j.spi.LoggingEvent;
+import org.knime.core.util.LogfileAppender;
+
+/**
+ * Hands log events from the logging threads over to a single background thread, which passes them on to the Log4J
+ * appenders. Used by the {@link NodeLogger} if {@link KNIMEConstants#PROPERTY_ASYNC_LOGGING} is set.
+ *
+ * <p>Events are stored in a bounded, lock-free ring buffer: producers claim a slot by a CAS on the tail sequence, the
+ * dispatcher thread is the only consumer and takes up to {@link #BATCH_SIZE} events at a time. Registered log file
+ * appenders are flushed once per batch rather than once per event. If the buffer is full, the logging thread waits
+ * until the dispatcher has made room so that no event is dropped and the order of events of each thread is retained.
+ * Events logged by the dispatcher thread itself (e.g. by an appender) and events logged after {@link #close(long)}
+ * are passed to the appenders directly.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+final class AsyncLogDispatcher {
+
+    /** Default number of events the ring buffer can hold. */
+    static final int DEFAULT_CAPACITY = 8192;
+
+    /** Maximum number of events passed to the appenders before they are flushed. */
+    static final int BATCH_SIZE = 256;
+
+    /** Time the dispatcher sleeps if there are no events (it's woken up earlier by new events). */
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    /** Time a logging thread waits if the buffer is full. */
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private static final class Entry {
+        private final Logger m_logger;
+
+        private final LoggingEvent m_event;
+
+        private Entry(final Logger logger, final LoggingEvent event) {
+            m_logger = logger;
+            m_event = event;
+        }
+    }
+
+    private final AtomicReferenceArray<Entry> m_ring;
+
+    private final int m_mask;
+
+    /** Sequence of the next slot to be claimed by a producer. */
+    private final AtomicLong m_tail = new AtomicLong();
+
+    /** Sequence of the next slot to be read by the dispatcher; only written by the dispatcher thread. */
+    private final AtomicLong m_head = new AtomicLong();
+
+    /** Number of events that have been passed to the appenders; only written by the dispatcher thread. */
+    private volatile long m_delivered;
+
+    private volatile boolean m_idle;
+
+    private volatile boolean m_closed;
+
+    private final List<LogfileAppender> m_flushAppenders = new CopyOnWriteArrayList<>();
+
+    private final Thread m_thread;
+
+    /**
+     * Creates and starts a new dispatcher.
+     *
+     * @param capacity the minimum number of events the buffer can hold, rounded up to the next power of two
+     * @param threadName the name of the dispatcher thread
+     */
+    AsyncLogDispatcher(final int capacity, final String threadName) {
+        final int size = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1);
+        m_ring = new AtomicReferenceArray<>(size);
+        m_mask = size - 1;
+        m_thread = new Thread(this::run, threadName);
+        m_thread.setDaemon(true);
+        m_thread.start();
+    }
+
+    /**
+     * Queues the event for the given logger. Thread-dependent information of the event (thread name, NDC and MDC) is
+     * captured on the calling thread; the message object should be immutable or already rendered.
+     *
+     * @param logger the logger whose appenders should receive the event
+     * @param event the event
+     */
+    void dispatch(final Logger logger, final LoggingEvent event) {
+        if (m_closed || Thread.currentThread() == m_thread) {
+            deliver(logger, event);
+            return;
+        }
+        event.getThreadName();
+        event.getNDC();
+        event.getMDCCopy();
+        final Entry entry = new Entry(logger, event);
+        while (!offer(entry)) {
+            if (m_closed || !m_thread.isAlive()) {
+                deliver(logger, event);
+                return;
+            }
+            // buffer full: back pressure on the logging thread instead of dropping events
+            LockSupport.unpark(m_thread);
+            LockSupport.parkNanos(this, FULL_PARK_NANOS);
+        }
+        if (m_idle) {
+            LockSupport.unpark(m_thread);
+        }
+    }
+
+    private boolean offer(final Entry entry) {
+        while (true) {
+            final long tail = m_tail.get();
+            if (tail - m_head.get() >= m_ring.length()) {
+                return false;
+            }
+            if (m_tail.compareAndSet(tail, tail + 1)) {
+                m_ring.set((int)tail & m_mask, entry);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Registers a log file appender that is flushed after each batch. Its immediate flush is disabled.
+     *
+     * @param appender the appender
+     */
+    void addFlushAppender(final LogfileAppender appender) {
+        appender.setImmediateFlush(false);
+        m_flushAppenders.add(appender);
+    }
+
+    /**
+     * Unregisters an appender previously added by {@link #addFlushAppender(LogfileAppender)}.
+     *
+     * @param appender the appender
+     */
+    void removeFlushAppender(final LogfileAppender appender) {
+        if (m_flushAppenders.remove(appender)) {
+            appender.flush();
+        }
+    }
+
+    /**
+     * Waits until all events that were queued before this call have been passed to the appenders. Returns immediately
+     * if called by the dispatcher thread.
+     */
+    void flush() {
+        if (Thread.currentThread() == m_thread) {
+            return;
+        }
+        final long target = m_tail.get();
+        while (m_delivered < target && m_thread.isAlive()) {
+            LockSupport.unpark(m_thread);
+            LockSupport.parkNanos(this, FULL_PARK_NANOS);
+        }
+    }
+
+    /**
+     * Stops the dispatcher after all queued events have been passed to the appenders. Events dispatched afterwards
+     * are passed to the appenders on the calling thread.
+     *
+     * @param timeoutMillis the maximum time to wait for the remaining events to be written
+     */
+    void close(final long timeoutMillis) {
+        m_closed = true;
+        LockSupport.unpark(m_thread);
+        try {
+            m_thread.join(timeoutMillis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        final Entry[] batch = new Entry[BATCH_SIZE];
+        while (true) {
+            final int count = drain(batch);
+            if (count > 0) {
+                for (int i = 0; i < count; i++) {
+                    deliver(batch[i].m_logger, batch[i].m_event);
+                }
+                Arrays.fill(batch, 0, count, null);
+                flushAppenders();
+                m_delivered += count;
+            } else if (m_closed) {
+                if (m_tail.get() == m_head.get()) {
+                    return;
+                }
+                // a slot has been claimed but not yet filled by its producer
+                Thread.yield();
+            } else {
+                m_idle = true;
+                if (m_ring.get((int)m_head.get() & m_mask) == null) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                m_idle = false;
+            }
+        }
+    }
+
+    private int drain(final Entry[] batch) {
+        long head = m_head.get();
+        int count = 0;
+        while (count < batch.length) {
+            final int index = (int)head & m_mask;
+            final Entry entry = m_ring.get(index);
+            if (entry == null) {
+                break;
+            }
+            m_ring.lazySet(index, null);
+            batch[count++] = entry;
+            head++;
+        }
+        m_head.lazySet(head);
+        return count;
+    }
+
+    private void flushAppenders() {
+        for (LogfileAppender appender : m_flushAppenders) {
+            try {
+                appender.flush();
+            } catch (RuntimeException ex) {
+                LogLog.error("Could not flush log appender " + appender.getName(), ex);
+            }
+        }
+    }
+
+    private static void deliver(final Logger logger, final LoggingEvent event) {
+        try {
+            logger.callAppenders(event);
+        } catch (RuntimeException ex) {
+            LogLog.error("Could not write log event: " + ex.getMessage(), ex);
+        }
+    }
+}
@@ -940,7 +940,7 @@ void saveToFile(final File f, final NodeSettingsWO settings,
          */
         @Override
         default RowIteratorBuilder<? extends CloseableRowIterator> iteratorBuilder() {
-            return new DefaultRowIteratorBuilder<CloseableRowIterator>(() -> iterator(), getDataTableSpec());
+            return DefaultRowIteratorBuilder.forCloseableRowIterators(() -> iterator(), getDataTableSpec());
         }
 
         /** Reference to the underlying tables, if any. A reference
@@ -122,6 +122,11 @@ public class FileNodePersistor implements NodePersistor {
         PMML_PORTOBJECT_CLASSES.add("org.knime.base.node.mine.svm.PMMLSVMPortObject");
     }
 
+    /** Whether non-table port objects are read on first access, see
+     * {@link KNIMEConstants#PROPERTY_LAZY_PORT_OBJECTS}. */
+    private static final boolean LAZY_PORT_OBJECTS =
+        !"false".equalsIgnoreCase(System.getProperty(KNIMEConstants.PROPERTY_LAZY_PORT_OBJECTS));
+
     /** @noreference Not public API. */
     public static final String FILESTORE_FOLDER_PREFIX = "filestore";
 
@@ -160,6 +165,9 @@ public class FileNodePersistor implements NodePersistor {
 
     private String[] m_portObjectSummaries;
 
+    /** Output objects that are read on first access, elements are null for objects read during load. */
+    private LazyPortObject[] m_lazyPortObjects;
+
     private PortObject[] m_internalHeldObjects;
 
     private IFileStoreHandler m_fileStoreHandler;
@@ -344,6 +352,7 @@ void loadPort(final Node node, final ReferencedFile portDir, final NodeSettingsR
         PortType designatedType = node.getOutputType(portIdx);
         PortObjectSpec spec = null;
         PortObject object = null;
+        LazyPortObject lazyObject = null;
         // this cannot be simplified as BDT must be loaded as BDT even if
         // the port type is not BDT (but general PortObject)
         boolean isBDT =
@@ -369,8 +378,13 @@ void loadPort(final Node node, final ReferencedFile portDir, final NodeSettingsR
                 spec = BufferedDataTable.loadSpec(portDir);
             }
         } else {
-            object = loadPortObject(portDir, settings, exec, dataRepository).orElse(null);
-            spec = object != null ? object.getSpec() : null;
+            lazyObject = createLazyPortObject(portDir, settings, designatedType, isInactive).orElse(null);
+            if (lazyObject != null) {
+                spec = lazyObject.getSpec();
+            } else {
+                object = loadPortObject(portDir, settings, exec, dataRepository).orElse(null);
+                spec = object != null ? object.getSpec() : null;
+            }
         }
         if (spec != null) {
             if (!designatedType.getPortObjectSpecClass().isInstance(spec) && !isInactive) {
@@ -390,9 +404,12 @@ void loadPort(final Node node, final ReferencedFile portDir, final NodeSettingsR
             if (summary == null) {
                 summary = object.getSummary();
             }
+        } else if (lazyObject != null) {
+            summary = settings.getString("port_object_summary", null);
         }
         setPortObjectSpec(portIdx, spec);
         setPortObject(portIdx, object);
+        m_lazyPortObjects[portIdx] = lazyObject;
         setPortObjectSummary(portIdx, summary);
     }
 
@@ -411,42 +428,14 @@ private Optional<PortObject> loadPortObject(final ReferencedFile portDir, final
         final ExecutionMonitor exec, final WorkflowDataRepository dataRepository)
             throws IOException, InvalidSettingsException, FileNotFoundException, CanceledExecutionException {
         exec.setMessage("Loading port object");
-        final String specClass = settings.getString("port_spec_class");
         final String objectClass = loadPortObjectClassName(settings);
         PortObject object = null;
-        PortObjectSpec spec = null;
-        if (specClass != null) {
-            Class<? extends PortObjectSpec> cl = PortTypeRegistry.getInstance().getSpecClass(specClass)
-                    .orElseThrow(() ->  new IOException("Invalid spec class \"" + specClass + "\""));
-            ReferencedFile specDirRef = new ReferencedFile(portDir, settings.getString("port_spec_location"));
-            File specFile = specDirRef.getFile();
-            if (!specFile.isFile()) {
-                throw new IOException("Can't read spec file " + specFile.getAbsolutePath());
-            }
-            try (PortObjectSpecZipInputStream in = PortUtil.getPortObjectSpecZipInputStream(
-                new BufferedInputStream(new FileInputStream(specFile)))) {
-                PortObjectSpecSerializer<?> serializer = PortTypeRegistry.getInstance().getSpecSerializer(cl).get();
-                spec = serializer.loadPortObjectSpec(in);
-                if (spec == null) {
-                    throw new IOException("Serializer \"" + serializer.getClass().getName()
-                        + "\" restored null spec ");
-                }
-            }
-        }
+        PortObjectSpec spec = readPortObjectSpec(portDir, settings);
         if (spec != null && objectClass != null) {
             Class<? extends PortObject> cl = PortTypeRegistry.getInstance().getObjectClass(objectClass)
                     .orElseThrow(() -> new IOException("Invalid object class \"" + objectClass + "\""));
-            ReferencedFile objectFileRef = new ReferencedFile(portDir, settings.getString("port_object_location"));
-            File objectFile = objectFileRef.getFile();
-            if (!objectFile.isFile()) {
-                throw new IOException("Can't read file " + objectFile.getAbsolutePath());
-            }
-            // buffering both disc I/O and the gzip stream pays off
-            try (PortObjectZipInputStream in = PortUtil.getPortObjectZipInputStream(
-                new BufferedInputStream(new FileInputStream(objectFile)))) {
-                PortObjectSerializer<?> serializer = PortTypeRegistry.getInstance().getObjectSerializer(cl).get();
-                object = serializer.loadPortObject(in, spec, exec);
-            }
+            File objectFile = getPortObjectFile(portDir, settings);
+            object = readPortObject(cl, objectFile, spec, exec);
             if (object instanceof FileStorePortObject) {
                 File fileStoreXML = new File(objectFile.getParent(), "filestore.xml");
                 final ModelContentRO fileStoreModelContent =
@@ -470,6 +459,89 @@ private Optional<PortObject> loadPortObject(final ReferencedFile portDir, final
         return Optional.ofNullable(object);
     }
 
+    /** Reads the spec of a (non-table) port object from its spec.zip, <code>null</code> if no spec was saved. */
+    private static PortObjectSpec readPortObjectSpec(final ReferencedFile portDir, final NodeSettingsRO settings)
+        throws IOException, InvalidSettingsException {
+        final String specClass = settings.getString("port_spec_class");
+        if (specClass == null) {
+            return null;
+        }
+        Class<? extends PortObjectSpec> cl = PortTypeRegistry.getInstance().getSpecClass(specClass)
+                .orElseThrow(() ->  new IOException("Invalid spec class \"" + specClass + "\""));
+        ReferencedFile specDirRef = new ReferencedFile(portDir, settings.getString("port_spec_location"));
+        File specFile = specDirRef.getFile();
+        if (!specFile.isFile()) {
+            throw new IOException("Can't read spec file " + specFile.getAbsolutePath());
+        }
+        try (PortObjectSpecZipInputStream in = PortUtil.getPortObjectSpecZipInputStream(
+            new BufferedInputStream(new FileInputStream(specFile)))) {
+            PortObjectSpecSerializer<?> serializer = PortTypeRegistry.getInstance().getSpecSerializer(cl).get();
+            PortObjectSpec spec = serializer.loadPortObjectSpec(in);
+            if (spec == null) {
+                throw new IOException("Serializer \"" + serializer.getClass().getName()
+                    + "\" restored null spec ");
+            }
+            return spec;
+        }
+    }
+
+    /** The portobject.zip of a (non-table) port object, fails if it doesn't exist. */
+    private static File getPortObjectFile(final ReferencedFile portDir, final NodeSettingsRO settings)
+        throws IOException, InvalidSettingsException {
+        ReferencedFile objectFileRef = new ReferencedFile(portDir, settings.getString("port_object_location"));
+        File objectFile = objectFileRef.getFile();
+        if (!objectFile.isFile()) {
+            throw new IOException("Can't read file " + objectFile.getAbsolutePath());
+        }
+        return objectFile;
+    }
+
+    /**
+     * Reads a (non-table) port object from its portobject.zip. Used during load and by {@link LazyPortObject}.
+     *
+     * @param cl the class of the port object
+     * @param objectFile the portobject.zip
+     * @param spec the spec of the port object, read before
+     * @param exec for progress/cancelation
+     * @return the port object as restored by its serializer
+     * @throws IOException if reading fails
+     * @throws CanceledExecutionException if canceled
+     */
+    static PortObject readPortObject(final Class<? extends PortObject> cl, final File objectFile,
+        final PortObjectSpec spec, final ExecutionMonitor exec) throws IOException, CanceledExecutionException {
+        // buffering both disc I/O and the gzip stream pays off
+        try (PortObjectZipInputStream in = PortUtil.getPortObjectZipInputStream(
+            new BufferedInputStream(new FileInputStream(objectFile)))) {
+            PortObjectSerializer<?> serializer = PortTypeRegistry.getInstance().getObjectSerializer(cl).get();
+            return serializer.loadPortObject(in, spec, exec);
+        }
+    }
+
+    /**
+     * Creates a {@link LazyPortObject} for an output port if its object can be read on first access rather than
+     * during load. That's the case for non-table port objects whose summary was saved, which don't reference file
+     * stores and which match the port type (otherwise the errors are to be reported during load).
+     *
+     * @return the lazy object or an empty optional if the object is to be read immediately
+     */
+    private Optional<LazyPortObject> createLazyPortObject(final ReferencedFile portDir,
+        final NodeSettingsRO settings, final PortType designatedType, final boolean isInactive)
+        throws IOException, InvalidSettingsException {
+        final String objectClass = loadPortObjectClassName(settings);
+        if (!LAZY_PORT_OBJECTS || isInactive || objectClass == null || settings.getString("port_spec_class") == null
+            || settings.getString("port_object_summary", null) == null) {
+            return Optional.empty();
+        }
+        final Optional<Class<? extends PortObject>> cl = PortTypeRegistry.getInstance().getObjectClass(objectClass);
+        if (!cl.isPresent() || FileStorePortObject.class.isAssignableFrom(cl.get())
+            || !designatedType.getPortObjectClass().isAssignableFrom(cl.get())) {
+            return Optional.empty();
+        }
+        final PortObjectSpec spec = readPortObjectSpec(portDir, settings);
+        return Optional.of(new LazyPortObject(cl.get(), getPortObjectFile(portDir, settings), spec,
+            NodeContext.getContext()));
+    }
+
     private BufferedDataTable loadBufferedDataTable(final ReferencedFile objectDir, final ExecutionMonitor exec,
         final Map<Integer, BufferedDataTable> loadTblRep, final WorkflowDataRepository dataRepository)
         throws CanceledExecutionException, IOException, InvalidSettingsException {
@@ -665,6 +737,11 @@ void loadInternalHeldObjects(final Node node, final ExecutionMonitor execMon, fi
                 int outputPortIndex = singlePortSetting.getInt("outport");
                 CheckUtils.checkSetting(outputPortIndex >= 0, "Port index must not < 0: $d", outputPortIndex);
                 object = getPortObject(outputPortIndex);
+                if (object == null && getLazyPortObject(outputPortIndex) != null) {
+                    // the node model holds on to the object, no point in deferring it
+                    object = getLazyPortObject(outputPortIndex).get();
+                    setPortObject(outputPortIndex, object);
+                }
             } else if ("non-table".equals(type)) {
                 String location = singlePortSetting.getString("port_dir_location");
                 ReferencedFile portDirRef = new ReferencedFile(subDirFile, location);
@@ -954,6 +1031,7 @@ public final void load(final Node node, final WorkflowPersistor parentPersistor,
         m_portObjects = new PortObject[node.getNrOutPorts()];
         m_portObjectSpecs = new PortObjectSpec[node.getNrOutPorts()];
         m_portObjectSummaries = new String[node.getNrOutPorts()];
+        m_lazyPortObjects = new LazyPortObject[node.getNrOutPorts()];
         String nodeName = node.getName();
 
         // load internals
@@ -1076,6 +1154,15 @@ void setPortObject(final int idx, final PortObject portObject) {
         m_portObjects[idx] = portObject;
     }
 
+    /**
+     * @param outportIndex the outport index
+     * @return the object of that port if it is read on first access (then {@link #getPortObject(int)} returns
+     *         <code>null</code>), otherwise <code>null</code>
+     */
+    LazyPortObject getLazyPortObject(final int outportIndex) {
+        return outportIndex == 0 || m_lazyPortObjects == null ? null : m_lazyPortObjects[outportIndex];
+    }
+
     private void checkPortIndexOnSet(final int index) {
         CheckUtils.checkState(index > 0, "Must not set content of port 0; it's the framework port: " + index);
     }
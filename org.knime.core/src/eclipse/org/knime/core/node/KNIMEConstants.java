@@ -106,6 +106,33 @@ public final class KNIMEConstants {
     public static final String PROPERTY_MAX_THREAD_COUNT =
         "org.knime.core.maxThreads";
 
+    /**
+     * Java property to select how the {@link #GLOBAL_THREAD_POOL} orders queued jobs. The default value
+     * {@code fifo} runs jobs in the order in which they were queued, {@code fair} runs jobs with higher priority first
+     * and otherwise prefers jobs of workflows that currently have fewer running jobs.
+     * @since 3.8
+     */
+    public static final String PROPERTY_THREAD_POOL_SCHEDULER = "knime.threadpool.scheduler";
+
+    /**
+     * Java property to enable critical path aware scheduling of node executions. If set to {@code true}, node jobs
+     * are submitted to the thread pool with a priority derived from the estimated remaining downstream execution time
+     * so that nodes on the longest remaining path are started first. Enabling this property also enables the
+     * {@code fair} {@link #PROPERTY_THREAD_POOL_SCHEDULER scheduler} of the {@link #GLOBAL_THREAD_POOL} (and its sub
+     * pools), which is required for priorities to take effect. Other thread pools are not affected.
+     * @since 3.8
+     */
+    public static final String PROPERTY_CRITICAL_PATH_SCHEDULING = "knime.workflow.criticalpath";
+
+    /**
+     * Java property to set the number of partitions in which a node with a distributed streamable input and a
+     * distributed output (see {@link org.knime.core.node.streamable.InputPortRole#DISTRIBUTED_STREAMABLE}) processes
+     * its input table in parallel, using jobs of the {@link #GLOBAL_THREAD_POOL}. Only tables with at least 10000 rows
+     * per partition are split. Defaults to 1, i.e. all nodes are executed by a single call of their execute method.
+     * @since 3.8
+     */
+    public static final String PROPERTY_PARTITIONED_EXECUTION = "knime.node.execute.partitions";
+
     /** Java property name to specify the default temp directory for
      * KNIME temp files (such as data files). This can be changed in the
      * preference pages and is by default the same as the java.io.tmpdir */
@@ -169,6 +196,17 @@ public final class KNIMEConstants {
      */
     public static final String PROPERTY_TABLE_CACHE = "knime.table.cache";
 
+    /**
+     * Java property to set a memory budget for tables that are cached (see {@link #PROPERTY_TABLE_CACHE}) after they
+     * have been written to disk, either in MB (e.g. {@code 4096}) or as percentage of the maximum heap size (e.g.
+     * {@code 25%}). If set, such tables are kept in memory up to the budget (based on an estimate of their heap
+     * footprint), whereby frequently and recently used tables are preferred. If not set (the default), a fixed number
+     * of recently used tables is softly referenced, i.e. dropped by the garbage collector when memory becomes scarce.
+     *
+     * @since 3.8
+     */
+    public static final String PROPERTY_TABLE_CACHE_BUDGET = "knime.table.cache.budget";
+
     /**
      * Java property to enable/disable table stream compression. Compression results in smaller temp-file sizes but also
      * (sometimes significant) longer runtime. By default {@code Gzip} is used.
@@ -179,6 +217,46 @@ public final class KNIMEConstants {
      */
     public static final String PROPERTY_TABLE_COMPRESSION = "knime.compress.io";
 
+    /**
+     * Java property to set the compression level of the {@code Chunked_lz4} table compression (see
+     * {@link #PROPERTY_TABLE_COMPRESSION}), ranging from 0 (fastest, the default) to 17 (best compression). The level
+     * only affects the speed of writing tables, not of reading them.
+     * @since 3.8
+     */
+    public static final String PROPERTY_TABLE_COMPRESSION_LEVEL = "knime.compress.io.level";
+
+    /**
+     * Java property to disable the parallel encoding of table rows when tables are written to disc, set to
+     * {@code false} in order to serialize rows on the writing thread only. Parallel encoding is enabled by default on
+     * machines with more than one core.
+     * @since 3.8
+     */
+    public static final String PROPERTY_TABLE_PARALLEL_ENCODING = "knime.table.encoding.parallel";
+
+    /**
+     * Java property to enable/disable memory-mapped reading of uncompressed tables (i.e. tables written with
+     * {@link #PROPERTY_TABLE_COMPRESSION} set to {@code None}). By default memory mapping is enabled on all systems
+     * except Windows, where mapped files cannot be deleted until the mapping is garbage collected.
+     * @since 3.8
+     */
+    public static final String PROPERTY_TABLE_MMAP = "knime.table.mmap";
+
+    /**
+     * Java property to set the number of nodes that are read or written concurrently when a workflow is loaded or
+     * saved (node settings, port objects and tables). Set to 1 in order to load and save nodes one after another.
+     * Defaults to the number of cores, but at most 4.
+     * @since 3.8
+     */
+    public static final String PROPERTY_WORKFLOW_PARALLEL_IO = "knime.workflow.io.parallel";
+
+    /**
+     * Java property to disable the deferred loading of port objects of executed nodes. By default the content of
+     * port objects other than data tables (models etc.) is only read when it is first accessed, e.g. when a view is
+     * opened or a downstream node is executed. Set to {@code false} to read them when the workflow is loaded.
+     * @since 3.8
+     */
+    public static final String PROPERTY_LAZY_PORT_OBJECTS = "knime.workflow.io.lazy";
+
     /**
      * @see #PROPERTY_TABLE_COMPRESSION
      * @deprecated replaced by {@link #PROPERTY_TABLE_COMPRESSION}
@@ -195,6 +273,15 @@ public final class KNIMEConstants {
     public static final String PROPERTY_DISABLE_ROWID_DUPLICATE_CHECK =
         "knime.disable.rowid.duplicatecheck";
 
+    /**
+     * Java property to use the in-memory, hash based {@link org.knime.core.util.HashDuplicateChecker} for the row ID
+     * duplicate checks of tables rather than the default {@link org.knime.core.util.DuplicateChecker}; set to
+     * {@code true} to enable it. Individual containers can choose the checker via
+     * {@link org.knime.core.data.container.DataContainerSettings#withDuplicateChecker(java.util.function.Supplier)}.
+     * @since 3.8
+     */
+    public static final String PROPERTY_HASH_ROWID_DUPLICATE_CHECK = "knime.rowid.duplicatecheck.hash";
+
     /** Java property to enable/disable workflow locks. As of KNIME v2.4
      * workflows will be locked when opened; this property will disable the
      * locking (allowing multiple instances to have the same workflow open).
@@ -322,6 +409,15 @@ public final class KNIMEConstants {
    public static final String PROPERTY_DISABLE_LOG4J_CONFIG =
        "knime.log4j.config.disabled";
 
+    /**
+     * Java property to enable asynchronous logging. If set to <code>true</code> log events are handed over to a
+     * background thread via a bounded ring buffer and passed to the Log4J appenders in batches instead of being
+     * written on the calling thread. Set to <code>false</code> (the default) for synchronous logging.
+     *
+     * @since 3.8
+     */
+    public static final String PROPERTY_ASYNC_LOGGING = "knime.logging.async";
+
    /**
     * Java property for doing all dialog operations automatically in the
     * AWT event dispatch thread.
@@ -475,7 +571,11 @@ public static Optional<ImageIcon> getKNIMEIcon16X16() {
                     + "\"org.knime.core.maxThreads\" (\"" + maxThreadsString
                     + "\") as number: " + nfe.getMessage());
         }
-        GLOBAL_THREAD_POOL = new ThreadPool(maxThreads);
+        // priorities of the critical path scheduling need the fair scheduler (in the global pool only)
+        GLOBAL_THREAD_POOL = Boolean.getBoolean(PROPERTY_CRITICAL_PATH_SCHEDULING) ? new ThreadPool(maxThreads, true)
+            : new ThreadPool(maxThreads);
+        // qualified, a simple name read of the field before its declaration is an illegal forward reference
+        KNIMEConstants.GLOBAL_THREAD_POOL.registerMBean("org.knime.core.util:type=ThreadPool,name=Global");
         boolean flag;
         try {
             assert false;
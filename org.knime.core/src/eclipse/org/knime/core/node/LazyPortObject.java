@@ -0,0 +1,148 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.workflow.NodeContext;
+
+/**
+ * Handle to a port object of a loaded, executed node whose content is read from its portobject.zip on first access
+ * rather than when the workflow is loaded. The (usually small) spec is read during load as it's needed to configure
+ * downstream nodes. Used by {@link FileNodePersistor} and {@link Node}, see
+ * {@link KNIMEConstants#PROPERTY_LAZY_PORT_OBJECTS}.
+ *
+ * <p>Failures reading the object are logged and cause {@link #get()} to return <code>null</code>; {@link Node}
+ * reports them as an error and no longer reports data at that port, so that the node needs to be reset.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+final class LazyPortObject {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(LazyPortObject.class);
+
+    private final Class<? extends PortObject> m_objectClass;
+
+    private final File m_objectFile;
+
+    private final PortObjectSpec m_spec;
+
+    /** The context of the node during load, the serializer is called in that context. */
+    private final NodeContext m_nodeContext;
+
+    private PortObject m_object;
+
+    private boolean m_isRead;
+
+    /**
+     * @param objectClass the class of the port object
+     * @param objectFile the portobject.zip
+     * @param spec the spec of the port object
+     * @param nodeContext the context of the node owning the port, may be <code>null</code>
+     */
+    LazyPortObject(final Class<? extends PortObject> objectClass, final File objectFile, final PortObjectSpec spec,
+        final NodeContext nodeContext) {
+        m_objectClass = objectClass;
+        m_objectFile = objectFile;
+        m_spec = spec;
+        m_nodeContext = nodeContext;
+    }
+
+    /** @return the spec of the port object, not <code>null</code> */
+    PortObjectSpec getSpec() {
+        return m_spec;
+    }
+
+    /** @return whether the object has been read already (successfully or not) */
+    synchronized boolean isRead() {
+        return m_isRead;
+    }
+
+    /**
+     * @return whether the object is not read yet or was read successfully, i.e. <code>false</code> if reading failed
+     */
+    synchronized boolean isAvailable() {
+        return !m_isRead || m_object != null;
+    }
+
+    /**
+     * Reads the port object on first call, subsequent calls return the same instance.
+     *
+     * @return the port object or <code>null</code> if it can't be read
+     */
+    synchronized PortObject get() {
+        if (!m_isRead) {
+            m_isRead = true;
+            if (m_nodeContext != null) {
+                NodeContext.pushContext(m_nodeContext);
+            }
+            try {
+                m_object = FileNodePersistor.readPortObject(m_objectClass, m_objectFile, m_spec,
+                    new ExecutionMonitor());
+            } catch (IOException | CanceledExecutionException | RuntimeException e) {
+                LOGGER.error("Unable to read port object from \"" + m_objectFile.getAbsolutePath() + "\": "
+                    + e.getMessage(), e);
+            } finally {
+                if (m_nodeContext != null) {
+                    NodeContext.removeLastContext();
+                }
+            }
+        }
+        return m_object;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "Lazy " + m_objectClass.getSimpleName() + " (" + m_objectFile.getAbsolutePath() + ")";
+    }
+
+}
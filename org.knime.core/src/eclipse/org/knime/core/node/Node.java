@@ -193,6 +193,8 @@ static class Output {
         PortType type;
         PortObjectSpec spec;
         PortObject object;
+        /** Set instead of {@link #object} for port objects of loaded nodes that are read on first access. */
+        LazyPortObject lazyObject;
         HiLiteHandler hiliteHdl;
         String summary;
     }
@@ -451,6 +453,8 @@ public void loadDataAndInternals(final NodeContentPersistor loader,
             }
 
             PortObject obj = loader.getPortObject(i);
+            m_outputs[i].lazyObject =
+                loader instanceof FileNodePersistor ? ((FileNodePersistor)loader).getLazyPortObject(i) : null;
             if (checkPortObjectClass(obj, i)) {
                 m_outputs[i].object = obj;
                 m_outputs[i].summary = loader.getPortObjectSummary(i);
@@ -468,6 +472,10 @@ public void loadDataAndInternals(final NodeContentPersistor loader,
                 m_outputs[i].spec = spec;
                 m_outputs[i].hiliteHdl =
                     (i == 0) ? null : m_model.getOutHiLiteHandler(i - 1);
+            } else if (m_outputs[i].lazyObject != null) {
+                // spec was read from the spec file, the object is read when first accessed
+                m_outputs[i].hiliteHdl =
+                    (i == 0) ? null : m_model.getOutHiLiteHandler(i - 1);
             }
         }
         m_model.restoreWarningMessage(loader.getWarningMessage());
@@ -772,7 +780,51 @@ public PortObjectSpec getOutputSpec(final int index) {
     }
 
     public PortObject getOutputObject(final int index) {
-        return m_outputs[index].object;
+        final Output output = m_outputs[index];
+        final PortObject object = output.object;
+        final LazyPortObject lazyObject = output.lazyObject;
+        if (object == null && lazyObject != null) {
+            final boolean wasRead = lazyObject.isRead();
+            final PortObject lazy = lazyObject.get();
+            if (lazy == null && !wasRead) {
+                // the node stays executed but reports no data at that port (see hasOutputObject), which prevents
+                // downstream nodes from executing and causes a reset of the node on the next state check/load
+                createErrorMessageAndNotify("Output data at port " + index
+                    + " could not be read (see log for details), reset and execute the node again");
+            }
+            return lazy;
+        }
+        return object;
+    }
+
+    /**
+     * Whether there is an output object at the given port. Unlike {@link #getOutputObject(int)} this does not read
+     * the object of a loaded node that is read on first access (see
+     * {@link KNIMEConstants#PROPERTY_LAZY_PORT_OBJECTS}). Returns <code>false</code> if such an object failed to
+     * read, i.e. the node needs to be reset.
+     *
+     * @param index of the port
+     * @return whether there is an object (possibly not read yet)
+     * @since 3.8
+     * @noreference This method is not intended to be referenced by clients.
+     */
+    public boolean hasOutputObject(final int index) {
+        final Output output = m_outputs[index];
+        final LazyPortObject lazyObject = output.lazyObject;
+        return output.object != null || (lazyObject != null && lazyObject.isAvailable());
+    }
+
+    /**
+     * Reads all output objects that have not been read yet after the node was loaded (see
+     * {@link KNIMEConstants#PROPERTY_LAZY_PORT_OBJECTS}). Called before the node's directory is overwritten.
+     *
+     * @since 3.8
+     * @noreference This method is not intended to be referenced by clients.
+     */
+    public void readLazyOutputObjects() {
+        for (int i = 0; i < m_outputs.length; i++) {
+            getOutputObject(i);
+        }
     }
 
     public String getOutputObjectSummary(final int index) {
@@ -1291,10 +1343,12 @@ private boolean setOutPortObjects(final PortObject[] newOutData,
                 BufferedDataTable t = thisTable;
                 t.setOwnerRecursively(this);
                 m_outputs[p].object = t;
+                m_outputs[p].lazyObject = null;
                 m_outputs[p].summary = t.getSummary();
                 m_outputs[p].spec = newPortSpec;
             } else {
                 m_outputs[p].object = newOutData[p];
+                m_outputs[p].lazyObject = null;
                 if (newOutData[p] != null) {
                     m_outputs[p].spec = newOutData[p].getSpec();
                     m_outputs[p].summary = newOutData[p].getSummary();
@@ -1550,6 +1604,7 @@ public void cleanOutPorts(final boolean isLoopRestart) {
             }
             m_outputs[i].spec = null;
             m_outputs[i].object = null;
+            m_outputs[i].lazyObject = null;
             m_outputs[i].summary = null;
         }
 
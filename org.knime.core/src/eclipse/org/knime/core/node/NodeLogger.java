@@ -60,7 +60,10 @@
 import java.util.HashMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.log4j.Appender;
 import org.apache.log4j.FileAppender;
@@ -198,19 +201,67 @@ public String toString() {
             if (m_msg == null) {
                 return "";
             }
-            String renderedMessage;
-            if (m_msg instanceof String) {
-                renderedMessage = (String)m_msg;
-            } else {
-                LoggerRepository repository = m_logger.getLoggerRepository();
-                if (repository instanceof RendererSupport) {
-                    RendererSupport rs = (RendererSupport)repository;
-                    renderedMessage = rs.getRendererMap().findAndRender(m_msg);
-                } else {
-                    renderedMessage = m_msg.toString();
+            return renderMessage(m_msg);
+        }
+
+        /** Renders the message unless it's immutable, so that it can be written later by another thread. */
+        void freeze() {
+            if (!FormattedMessage.isImmutable(m_msg)) {
+                m_msg = renderMessage(m_msg);
+            }
+        }
+    }
+
+    /**
+     * Message created by {@link String#format(String, Object...)}, which is formatted only when it is written by an
+     * appender (and then only once). Only used in asynchronous mode, synchronous logging formats on the calling thread.
+     */
+    private static final class FormattedMessage {
+
+        private final String m_format;
+
+        private final Object[] m_args;
+
+        private volatile String m_formatted;
+
+        private FormattedMessage(final String format, final Object[] args) {
+            m_format = Objects.requireNonNull(format, "Format must not be null");
+            m_args = args;
+        }
+
+        /** @return whether the message can be formatted by another thread at a later time */
+        private boolean hasImmutableArgs() {
+            if (m_args != null) {
+                for (Object arg : m_args) {
+                    if (!isImmutable(arg)) {
+                        return false;
+                    }
                 }
             }
-            return renderedMessage;
+            return true;
+        }
+
+        /**
+         * @param o a message or message argument
+         * @return whether the object is known to be immutable, i.e. it renders the same way at any later time
+         */
+        static boolean isImmutable(final Object o) {
+            return o == null || o instanceof String || o instanceof Integer || o instanceof Long
+                || o instanceof Double || o instanceof Float || o instanceof Short || o instanceof Byte
+                || o instanceof Boolean || o instanceof Character || o instanceof Enum || o instanceof NodeID
+                || o instanceof UUID || o instanceof File || o instanceof Class
+                || (o instanceof FormattedMessage && ((FormattedMessage)o).hasImmutableArgs());
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public String toString() {
+            String formatted = m_formatted;
+            if (formatted == null) {
+                formatted = String.format(m_format, m_args);
+                m_formatted = formatted;
+            }
+            return formatted;
         }
     }
 
@@ -275,7 +326,10 @@ public void workflowChanged(final WorkflowEvent event) {
     private static final Map<Writer, WriterAppender> WRITER =
             new HashMap<Writer, WriterAppender>();
 
-    private static final Map<String, Appender> WF_APPENDER = new HashMap<>();
+    private static final Map<String, Appender> WF_APPENDER = new ConcurrentHashMap<>();
+
+    /** Hands events over to the appenders if asynchronous logging is enabled, otherwise <code>null</code>. */
+    private static final AsyncLogDispatcher ASYNC_DISPATCHER;
 
     /**
      * Maximum number of chars (10000) printed on <code>System.out</code> and
@@ -307,6 +361,13 @@ public void workflowChanged(final WorkflowEvent event) {
      * <code>System.err</code>, and <i>knime.log</i> to it.
      */
     static {
+        if (Boolean.getBoolean(KNIMEConstants.PROPERTY_ASYNC_LOGGING)) {
+            ASYNC_DISPATCHER = new AsyncLogDispatcher(AsyncLogDispatcher.DEFAULT_CAPACITY, "KNIME Log Dispatcher");
+            Runtime.getRuntime().addShutdownHook(
+                new Thread(() -> ASYNC_DISPATCHER.close(5000), "KNIME Log Dispatcher Shutdown"));
+        } else {
+            ASYNC_DISPATCHER = null;
+        }
         if (!Boolean.getBoolean(KNIMEConstants.PROPERTY_DISABLE_LOG4J_CONFIG)) {
             try {
                 initLog4J();
@@ -327,6 +388,9 @@ public void workflowChanged(final WorkflowEvent event) {
         } else {
             LOG_FILE_APPENDER = new NullAppender();
         }
+        if (ASYNC_DISPATCHER != null && LOG_FILE_APPENDER instanceof LogfileAppender) {
+            ASYNC_DISPATCHER.addFlushAppender((LogfileAppender)LOG_FILE_APPENDER);
+        }
         startMessage();
     }
 
@@ -543,6 +607,10 @@ private static void copyrightMessage() {
     /**Listens to workflow changes e.g. when a workflow is closed to unregister all related workflow directory logger.*/
     private MyWorkflowListener m_listener;
 
+    /** Paths of the workflow directory appenders that are attached to {@link #m_logger}. Used to avoid re-adding
+     * them (which synchronizes on the logger) with every log call. */
+    private final Set<String> m_wfAppenderPaths = ConcurrentHashMap.newKeySet();
+
     /**
      * Hidden default constructor, logger created by
      * <code>java.lang.Class</code>.
@@ -604,7 +672,7 @@ public static NodeLogger getLogger(final String s) {
      * @param o The object to print.
      */
     public void warn(final Object o) {
-        getLoggerInternal().warn(getLogObject(o));
+        log(Level.WARN, o, null);
     }
 
     /**
@@ -613,7 +681,7 @@ public void warn(final Object o) {
      * @param o The object to print.
      */
     public void debug(final Object o) {
-        getLoggerInternal().debug(getLogObject(o));
+        log(Level.DEBUG, o, null);
     }
 
 
@@ -716,6 +784,50 @@ private Logger getLoggerInternal() {
         return m_logger;
     }
 
+    /**
+     * Logs the message with the given level. If asynchronous logging is enabled, the event is created on the calling
+     * thread (including the node and workflow information) but passed to the appenders by the dispatcher thread.
+     *
+     * @param level the log level
+     * @param o the message
+     * @param t an optional throwable, may be <code>null</code>
+     */
+    private void log(final Level level, final Object o, final Throwable t) {
+        final Logger logger = getLoggerInternal();
+        if (ASYNC_DISPATCHER == null) {
+            logger.log(level, getLogObject(o), t);
+        } else if (logger.isEnabledFor(level)) {
+            final Object msg = getLogObject(o);
+            // mutable messages are rendered now as they might have changed when the dispatcher writes them
+            final Object frozenMsg;
+            if (msg instanceof KNIMELogMessage) {
+                ((KNIMELogMessage)msg).freeze();
+                frozenMsg = msg;
+            } else if (FormattedMessage.isImmutable(msg)) {
+                frozenMsg = msg;
+            } else {
+                frozenMsg = renderMessage(msg);
+            }
+            ASYNC_DISPATCHER.dispatch(logger,
+                new LoggingEvent(NodeLogger.class.getName(), logger, level, frozenMsg, t));
+        }
+    }
+
+    /**
+     * @param msg a non-null message
+     * @return the message as rendered by the Log4J renderers
+     */
+    private String renderMessage(final Object msg) {
+        if (msg instanceof String) {
+            return (String)msg;
+        }
+        final LoggerRepository repository = m_logger.getLoggerRepository();
+        if (repository instanceof RendererSupport) {
+            return ((RendererSupport)repository).getRendererMap().findAndRender(msg);
+        }
+        return msg.toString();
+    }
+
     /**
      * Adds a new workflow directory logger for the given workflow directory if it doesn't exists yet.
      * @param workflowDir the directory of the workflow that should be logged to
@@ -733,7 +845,9 @@ private void addWorkflowDirAppender(final File workflowDir) {
         }
         Appender wfAppender = WF_APPENDER.get(workflowDirPath);
         if (wfAppender != null) {
-            logger.addAppender(wfAppender);
+            if (m_wfAppenderPaths.add(workflowDirPath)) {
+                logger.addAppender(wfAppender);
+            }
         } else {
             //we do the getAppender twice to prevent the synchronize block on subsequent calls!!!
             synchronized (WF_APPENDER) {
@@ -769,7 +883,11 @@ public int decide(final LoggingEvent event) {
                     });
                     //we have to call this function to activate the writer!!!
                     fileAppender.activateOptions();
+                    if (ASYNC_DISPATCHER != null) {
+                        ASYNC_DISPATCHER.addFlushAppender((LogfileAppender)fileAppender);
+                    }
                     logger.addAppender(fileAppender);
+                    m_wfAppenderPaths.add(workflowDirPath);
                     WF_APPENDER.put(workflowDirPath, fileAppender);
                     if (m_listener == null) {
                         m_listener = new MyWorkflowListener();
@@ -794,6 +912,11 @@ private void removeWorkflowDirAppender(final File workflowDir) {
             synchronized (WF_APPENDER) {
                 final Appender appender = WF_APPENDER.remove(workflowDirPath);
                 if (appender != null) {
+                    if (ASYNC_DISPATCHER != null) {
+                        //write the queued events of the workflow before the log file is closed
+                        ASYNC_DISPATCHER.flush();
+                        ASYNC_DISPATCHER.removeFlushAppender((LogfileAppender)appender);
+                    }
                     appender.close();
                     //Remove the appender from all open node loggers
                     @SuppressWarnings("unchecked")
@@ -801,6 +924,9 @@ private void removeWorkflowDirAppender(final File workflowDir) {
                     while (allLoggers.hasMoreElements()) {
                         allLoggers.nextElement().removeAppender(appender);
                     }
+                    synchronized (LOGGERS) {
+                        LOGGERS.values().forEach(l -> l.m_wfAppenderPaths.remove(workflowDirPath));
+                    }
                 }
             }
         }
@@ -812,7 +938,7 @@ private void removeWorkflowDirAppender(final File workflowDir) {
      * @param o The object to print.
      */
     public void info(final Object o) {
-        getLoggerInternal().info(getLogObject(o));
+        log(Level.INFO, o, null);
     }
 
     /**
@@ -821,7 +947,7 @@ public void info(final Object o) {
      * @param o The object to print.
      */
     public void error(final Object o) {
-        getLoggerInternal().error(getLogObject(o));
+        log(Level.ERROR, o, null);
     }
 
     /**
@@ -830,7 +956,7 @@ public void error(final Object o) {
      * @param o The object to print.
      */
     public void fatal(final Object o) {
-        getLoggerInternal().fatal(getLogObject(o));
+        log(Level.FATAL, o, null);
     }
 
     /**
@@ -840,7 +966,7 @@ public void fatal(final Object o) {
      * @param t The exception to log at debug level, including its stack trace.
      */
     public void warn(final Object o, final Throwable t) {
-        getLoggerInternal().warn(getLogObject(o), t);
+        log(Level.WARN, o, t);
     }
 
     /**
@@ -850,7 +976,7 @@ public void warn(final Object o, final Throwable t) {
      * @param t The exception to log, including its stack trace.
      */
     public void debug(final Object o, final Throwable t) {
-        getLoggerInternal().debug(getLogObject(o), t);
+        log(Level.DEBUG, o, t);
     }
 
     /**
@@ -860,7 +986,7 @@ public void debug(final Object o, final Throwable t) {
      * @param t The exception to log at debug level, including its stack trace.
      */
     public void info(final Object o, final Throwable t) {
-        getLoggerInternal().info(getLogObject(o), t);
+        log(Level.INFO, o, t);
     }
 
     /**
@@ -870,7 +996,7 @@ public void info(final Object o, final Throwable t) {
      * @param t The exception to log at debug level, including its stack trace.
      */
     public void error(final Object o, final Throwable t) {
-        getLoggerInternal().error(getLogObject(o), t);
+        log(Level.ERROR, o, t);
     }
 
     /**
@@ -911,7 +1037,7 @@ public void assertLog(final boolean b, final String m,
      */
     public void coding(final Object o) {
         if (KNIMEConstants.ASSERTIONS_ENABLED || EclipseUtil.isRunFromSDK()) {
-            getLoggerInternal().error(getLogObject("CODING PROBLEM\t" + o));
+            log(Level.ERROR, "CODING PROBLEM\t" + o, null);
         }
     }
 
@@ -924,7 +1050,7 @@ public void coding(final Object o) {
      */
     public void coding(final Object o, final Throwable t) {
         if (KNIMEConstants.ASSERTIONS_ENABLED || EclipseUtil.isRunFromSDK()) {
-            getLoggerInternal().error(getLogObject("CODING PROBLEM\t" + o), t);
+            log(Level.ERROR, "CODING PROBLEM\t" + o, t);
         }
     }
 
@@ -935,7 +1061,23 @@ public void coding(final Object o, final Throwable t) {
      * @param t The exception to log at debug level, including its stack trace.
      */
     public void fatal(final Object o, final Throwable t) {
-        getLoggerInternal().fatal(getLogObject(o), t);
+        log(Level.FATAL, o, t);
+    }
+
+    /**
+     * Formats a message for the <code>*WithFormat</code> methods. Formatting is deferred to the dispatcher thread only
+     * in asynchronous mode; otherwise the message is formatted right away such that appenders receive a
+     * <code>String</code> and invalid formats fail at the call site.
+     *
+     * @param format the format
+     * @param args the arguments
+     * @return the formatted message or, in asynchronous mode, a message that is formatted when written
+     */
+    private static Object format(final String format, final Object... args) {
+        if (ASYNC_DISPATCHER == null) {
+            return String.format(format, args);
+        }
+        return new FormattedMessage(format, args);
     }
 
     /**
@@ -949,7 +1091,7 @@ public void fatal(final Object o, final Throwable t) {
      */
     public void warnWithFormat(final String format, final Object... args) {
         if (isEnabledFor(LEVEL.WARN)) {
-            this.warn(String.format(format, args));
+            this.warn(format(format, args));
         }
     }
 
@@ -964,7 +1106,7 @@ public void warnWithFormat(final String format, final Object... args) {
      */
     public void debugWithFormat(final String format, final Object... args) {
         if (isEnabledFor(LEVEL.DEBUG)) {
-            this.debug(String.format(format, args));
+            this.debug(format(format, args));
         }
     }
 
@@ -979,7 +1121,7 @@ public void debugWithFormat(final String format, final Object... args) {
      */
     public void infoWithFormat(final String format, final Object... args) {
         if (isEnabledFor(LEVEL.INFO)) {
-            this.info(String.format(format, args));
+            this.info(format(format, args));
         }
     }
 
@@ -994,7 +1136,7 @@ public void infoWithFormat(final String format, final Object... args) {
      */
     public void errorWithFormat(final String format, final Object... args) {
         if (isEnabledFor(LEVEL.ERROR)) {
-            this.error(String.format(format, args));
+            this.error(format(format, args));
         }
     }
 
@@ -1009,7 +1151,7 @@ public void errorWithFormat(final String format, final Object... args) {
      */
     public void fatalWithFormat(final String format, final Object... args) {
         if (isEnabledFor(LEVEL.FATAL)) {
-            this.fatal(String.format(format, args));
+            this.fatal(format(format, args));
         }
     }
 
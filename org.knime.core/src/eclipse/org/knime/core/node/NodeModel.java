@@ -83,6 +83,7 @@
 import org.knime.core.node.streamable.RowOutput;
 import org.knime.core.node.streamable.StreamableOperator;
 import org.knime.core.node.streamable.StreamableOperatorInternals;
+import org.knime.core.node.streamable.StreamingPipelineExecutor;
 import org.knime.core.node.workflow.CredentialsProvider;
 import org.knime.core.node.workflow.ExecutionEnvironment;
 import org.knime.core.node.workflow.FlowLoopContext;
@@ -564,7 +565,10 @@ PortObject[] executeModel(final PortObject[] rawData, final ExecutionEnvironment
         // EXECUTE DERIVED MODEL
         PortObject[] outData;
         if (!exEnv.reExecute()) {
-            outData = execute(data, exec);
+            outData = executePartitioned(data, exec);
+            if (outData == null) {
+                outData = execute(data, exec);
+            }
         } else {
             //FIXME: implement reexecution with loading view content and execute
             if (this instanceof InteractiveNode) {
@@ -674,6 +678,27 @@ PortObject[] executeModel(final PortObject[] rawData, final ExecutionEnvironment
         return rawOutData;
     } // executeModel(PortObject[],ExecutionMonitor)
 
+    /**
+     * Executes this model on partitions of its input in parallel if
+     * {@link KNIMEConstants#PROPERTY_PARTITIONED_EXECUTION} is set and the node has a single data input and output,
+     * both distributed (see
+     * {@link StreamingPipelineExecutor#executePartitioned(NodeModel, BufferedDataTable, ExecutionContext, int)}).
+     *
+     * @return the output or <code>null</code> if the node is to be executed by {@link #execute(PortObject[],
+     *         ExecutionContext)}
+     */
+    private PortObject[] executePartitioned(final PortObject[] data, final ExecutionContext exec) throws Exception {
+        final int maxPartitions = Integer.getInteger(KNIMEConstants.PROPERTY_PARTITIONED_EXECUTION, 1);
+        if (maxPartitions < 2 || data.length != 1 || !(data[0] instanceof BufferedDataTable)
+            || getNrOutPorts() != 1 || !BufferedDataTable.TYPE.equals(getOutPortType(0))
+            || this instanceof LoopStartNode || this instanceof LoopEndNode) {
+            return null;
+        }
+        final BufferedDataTable result =
+            StreamingPipelineExecutor.executePartitioned(this, (BufferedDataTable)data[0], exec, maxPartitions);
+        return result == null ? null : new PortObject[]{result};
+    }
+
     /**
      * Sets the hasContent flag and fires a state change event.
      * @param hasContent Flag if this node is configured be executed or not.
@@ -53,7 +53,9 @@
 import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.port.PortObject;
 import org.knime.core.node.workflow.AbstractNodeExecutionJobManager;
+import org.knime.core.node.workflow.CriticalPathEstimator;
 import org.knime.core.node.workflow.NodeContainer;
+import org.knime.core.node.workflow.NodeContext;
 import org.knime.core.node.workflow.NodeExecutionJob;
 import org.knime.core.node.workflow.SingleNodeContainer;
 import org.knime.core.util.ThreadPool;
@@ -88,7 +90,18 @@ public NodeExecutionJob submitJob(final NodeContainer nc, final PortObject[] dat
                     + " is not able to execute a metanode: " + nc.getNameWithID());
         }
         LocalNodeExecutionJob job = new LocalNodeExecutionJob((SingleNodeContainer)nc, data);
-        Future<?> future = m_pool.enqueue(job);
+        Future<?> future;
+        // the context determines the workflow the job is accounted to by the pool's fair scheduler
+        NodeContext.pushContext(nc);
+        try {
+            if (CriticalPathEstimator.ENABLED) {
+                future = m_pool.enqueue(job, CriticalPathEstimator.getPriority(nc, data));
+            } else {
+                future = m_pool.enqueue(job);
+            }
+        } finally {
+            NodeContext.removeLastContext();
+        }
         job.setFuture(future);
         return job;
     }
@@ -78,6 +78,7 @@
 import org.knime.core.node.port.database.reader.DBReaderImpl;
 import org.knime.core.node.port.database.tablecreator.DBTableCreator;
 import org.knime.core.node.port.database.tablecreator.DBTableCreatorImpl;
+import org.knime.core.node.port.database.writer.DBBulkLoader;
 import org.knime.core.node.port.database.writer.DBWriter;
 import org.knime.core.node.port.database.writer.DBWriterImpl;
 
@@ -386,6 +387,16 @@ public DBWriter getWriter(final DatabaseConnectionSettings connSettings) {
         return new DBWriterImpl(connSettings);
     }
 
+    /**
+     * Returns the loader that writes rows using a database specific bulk load path (e.g. <code>COPY</code>) instead of
+     * batched <code>INSERT</code> statements. Used by the pipelined write of the {@link DBWriter}.
+     * @return the {@link DBBulkLoader} or <code>null</code> if the database has no such path (the default)
+     * @since 3.8
+     */
+    public DBBulkLoader getBulkLoader() {
+        return null;
+    }
+
     /**
      * {@link DBConnectionFactory} to use
      * @return {@link DBConnectionFactory}
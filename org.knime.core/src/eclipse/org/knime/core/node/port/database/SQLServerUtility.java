@@ -94,6 +94,15 @@ public String[] createTableAsSelect(final String tableName, final String query)
                     + getTempTableName()};
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected String modulo(final String expression, final int divisor) {
+            // no MOD function
+            return "(" + expression + " % " + divisor + ")";
+        }
+
         /**
          * {@inheritDoc}
          */
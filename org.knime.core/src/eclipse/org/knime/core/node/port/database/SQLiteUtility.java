@@ -103,6 +103,15 @@ public String randomRows(final String sql, final long count) {
             return limitRows(tmp, count);
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected String modulo(final String expression, final int divisor) {
+            // no MOD function
+            return "(" + expression + " % " + divisor + ")";
+        }
+
         /**
          * {@inheritDoc}
          */
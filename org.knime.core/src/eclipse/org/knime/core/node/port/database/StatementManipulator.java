@@ -162,6 +162,71 @@ public String forMetadataOnly(final String sql) {
         return "SELECT * FROM (" + sql + ") " + getTempTableName() + " WHERE (1 = 0)";
     }
 
+    /**
+     * Returns a query that determines the minimum and maximum value of a column in the result of the given query.
+     * Used to split a query into {@linkplain #forRangePartition(String, String, boolean, boolean) range partitions}.
+     *
+     * @param sql any valid SQL query
+     * @param column the (quoted) name of a numeric or date column in the query result
+     * @return an SQL query returning one row with the minimum and the maximum value
+     * @since 3.8
+     */
+    public String getMinMax(final String sql, final String column) {
+        return "SELECT MIN(" + column + "), MAX(" + column + ") FROM (" + sql + ") " + getTempTableName();
+    }
+
+    /**
+     * Modifies the query so that it only returns the rows whose value in the given column is in a range. The lower
+     * and upper bound are set as the first and second parameter of the (prepared) statement. This is used to read
+     * the result of a query in parallel on several connections.
+     *
+     * @param sql any valid SQL query
+     * @param column the (quoted) name of a numeric or date column in the query result
+     * @param includeUpperBound <code>true</code> if the upper bound is inclusive (last partition), otherwise it is
+     *            exclusive
+     * @param includeNulls <code>true</code> if the rows with a missing value in the column should also be returned
+     * @return an SQL query with two parameters
+     * @since 3.8
+     */
+    public String forRangePartition(final String sql, final String column, final boolean includeUpperBound,
+        final boolean includeNulls) {
+        return "SELECT * FROM (" + sql + ") " + getTempTableName() + " WHERE (" + column + " >= ? AND " + column
+            + (includeUpperBound ? " <= ?)" : " < ?)") + (includeNulls ? " OR " + column + " IS NULL" : "");
+    }
+
+    /**
+     * Modifies the query so that it only returns the rows whose value in the given integer column modulo the number
+     * of partitions equals the partition index. This is used to read the result of a query in parallel on several
+     * connections.
+     *
+     * @param sql any valid SQL query
+     * @param column the (quoted) name of an integer column in the query result
+     * @param partitionCount the number of partitions, &gt; 0
+     * @param partitionIndex the index of the partition to return
+     * @param includeNulls <code>true</code> if the rows with a missing value in the column should also be returned
+     * @return an SQL query
+     * @since 3.8
+     */
+    public String forModuloPartition(final String sql, final String column, final int partitionCount,
+        final int partitionIndex, final boolean includeNulls) {
+        // ABS as the sign of the remainder of negative values differs between databases
+        return "SELECT * FROM (" + sql + ") " + getTempTableName() + " WHERE ABS(" + modulo(column, partitionCount)
+            + ") = " + partitionIndex + (includeNulls ? " OR " + column + " IS NULL" : "");
+    }
+
+    /**
+     * Returns the expression that computes the remainder of the division of the argument expression by the divisor.
+     * The default implementation uses the <code>MOD</code> function.
+     *
+     * @param expression an integer SQL expression
+     * @param divisor the divisor
+     * @return an SQL expression
+     * @since 3.8
+     */
+    protected String modulo(final String expression, final int divisor) {
+        return "MOD(" + expression + ", " + divisor + ")";
+    }
+
     /**
      * @param tableName the name of the table to create
      * @param query the select statement
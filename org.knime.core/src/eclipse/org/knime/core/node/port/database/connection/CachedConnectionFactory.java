@@ -58,6 +58,7 @@
 import java.util.Objects;
 import java.util.Properties;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -85,8 +86,10 @@ public class CachedConnectionFactory implements DBConnectionFactory {
     private static final Map<ConnectionKey, Connection> CONNECTION_MAP = Collections.synchronizedMap(new HashMap<ConnectionKey, Connection>());
     /** Holding the database connection keys used to sync the open connection
      * process. */
-    private static final Map<ConnectionKey, ConnectionKey> CONNECTION_KEYS = new HashMap<ConnectionKey, ConnectionKey>();
+    private static final Map<ConnectionKey, ConnectionKey> CONNECTION_KEYS = new ConcurrentHashMap<ConnectionKey, ConnectionKey>();
     private static final ExecutorService CONNECTION_CREATOR_EXECUTOR = ThreadUtils.executorServiceWithContext(Executors.newCachedThreadPool());
+    /** Pool of the exclusive connections. */
+    private static final DBConnectionPool CONNECTION_POOL = DBConnectionPool.fromSystemProperties();
     private DBDriverFactory m_driverFactory;
 
     /**
@@ -181,12 +184,9 @@ public Connection getConnection(final CredentialsProvider cp, final DatabaseConn
 
         // retrieve original key and/or modify connection key map
         Connection conn = null;
-        synchronized (CONNECTION_KEYS) {
-            if (CONNECTION_KEYS.containsKey(databaseConnKey)) {
-                databaseConnKey = CONNECTION_KEYS.get(databaseConnKey);
-            } else {
-                CONNECTION_KEYS.put(databaseConnKey, databaseConnKey);
-            }
+        final ConnectionKey existingKey = CONNECTION_KEYS.putIfAbsent(databaseConnKey, databaseConnKey);
+        if (existingKey != null) {
+            databaseConnKey = existingKey;
         }
 
         //synchronize on the connection key only
@@ -205,44 +205,86 @@ public Connection getConnection(final CredentialsProvider cp, final DatabaseConn
                 CONNECTION_MAP.remove(databaseConnKey);
             }
             LOGGER.debug("Create new connection for key: " + databaseConnKey);
-            final Driver d;
-            try {
-                d = getDriverFactory().getDriver(settings);
-            } catch (Exception ex1) {
-                throw new InvalidSettingsException(ex1);
-            }
-            if (!d.acceptsURL(jdbcUrl)) {
-                throw new InvalidSettingsException("Driver \"" + d + "\" does not accept URL: " + jdbcUrl);
+            conn = openConnection(settings, jdbcUrl, user, pass, kerberos);
+            LOGGER.debug("Add connection to map for key: " + databaseConnKey);
+            CONNECTION_MAP.put(databaseConnKey, conn);
+            return conn;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>The connection is leased from a bounded pool per connection key, closing it returns it to the pool. If all
+     * connections of the key are leased, <code>null</code> is returned right away. See {@link DBConnectionPool} for
+     * the sizing.
+     */
+    @Override
+    public Connection getExclusiveConnection(final CredentialsProvider cp, final DatabaseConnectionSettings settings)
+        throws InvalidSettingsException, SQLException, IOException {
+        final String jdbcUrl = settings.getJDBCUrl();
+        final String user = settings.getUserName(cp);
+        final String pass = settings.getPassword(cp);
+        final boolean kerberos = settings.useKerberos();
+        return CONNECTION_POOL.tryLease(createConnectionKey(cp, settings),
+            () -> openConnection(settings, jdbcUrl, user, pass, kerberos), conn -> settings.getUtility().isValid(conn));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>This is the maximum size of the pool per connection key.
+     */
+    @Override
+    public int getMaxExclusiveConnections() {
+        return CONNECTION_POOL.getMaxSize();
+    }
+
+    /**
+     * @return the pool of the {@linkplain #getExclusiveConnection(CredentialsProvider, DatabaseConnectionSettings)
+     *         exclusive connections}, e.g. to query its statistics
+     * @since 3.8
+     */
+    public static DBConnectionPool getConnectionPool() {
+        return CONNECTION_POOL;
+    }
+
+    /** Opens a new connection (in a separate thread to apply the database timeout). */
+    private Connection openConnection(final DatabaseConnectionSettings settings, final String jdbcUrl,
+        final String user, final String pass, final boolean kerberos)
+        throws InvalidSettingsException, SQLException, IOException {
+        final Driver d;
+        try {
+            d = getDriverFactory().getDriver(settings);
+        } catch (Exception ex1) {
+            throw new InvalidSettingsException(ex1);
+        }
+        if (!d.acceptsURL(jdbcUrl)) {
+            throw new InvalidSettingsException("Driver \"" + d + "\" does not accept URL: " + jdbcUrl);
+        }
+        // if a connection is not available
+        Callable<Connection> callable = new Callable<Connection>() {
+            /** {@inheritDoc} */
+            @Override
+            public Connection call() throws Exception {
+                LOGGER.debug("Opening database connection to \"" + jdbcUrl + "\"...");
+                return createConnection(settings, jdbcUrl, user, pass, kerberos, d);
             }
-            // if a connection is not available
-            Callable<Connection> callable = new Callable<Connection>() {
-                /** {@inheritDoc} */
-                @Override
-                public Connection call() throws Exception {
-                    LOGGER.debug("Opening database connection to \"" + jdbcUrl + "\"...");
-                    return createConnection(settings, jdbcUrl, user, pass, kerberos, d);
-                }
-            };
-            //TODO:this has to be more robust e.g. the thread should terminate when KNIME terminates and should be
-            //cancelable if the user presses cancel. If no credentials are present for Phoenix the thread keeps KNIME
-            //alive for ages
-            Future<Connection> task = CONNECTION_CREATOR_EXECUTOR.submit(callable);
-            try {
-                conn = task.get(DatabaseConnectionSettings.getDatabaseTimeout() + 1, TimeUnit.SECONDS);
-                LOGGER.debug("Add connection to map for key: " + databaseConnKey);
-                CONNECTION_MAP.put(databaseConnKey, conn);
-                return conn;
-            } catch (ExecutionException ee) {
-                if (ee.getCause() instanceof SQLException) {
-                    throw (SQLException) ee.getCause();
-                } else {
-                    throw new SQLException(ee.getCause());
-                }
-            } catch (InterruptedException ex) {
-                throw new SQLException("Thread was interrupted while waiting for database to respond");
-            } catch (TimeoutException ex) {
-                throw new IOException("Connection to database '" + jdbcUrl + "' timed out");
+        };
+        //TODO:this has to be more robust e.g. the thread should terminate when KNIME terminates and should be
+        //cancelable if the user presses cancel. If no credentials are present for Phoenix the thread keeps KNIME
+        //alive for ages
+        Future<Connection> task = CONNECTION_CREATOR_EXECUTOR.submit(callable);
+        try {
+            return task.get(DatabaseConnectionSettings.getDatabaseTimeout() + 1, TimeUnit.SECONDS);
+        } catch (ExecutionException ee) {
+            if (ee.getCause() instanceof SQLException) {
+                throw (SQLException) ee.getCause();
+            } else {
+                throw new SQLException(ee.getCause());
             }
+        } catch (InterruptedException ex) {
+            throw new SQLException("Thread was interrupted while waiting for database to respond");
+        } catch (TimeoutException ex) {
+            throw new IOException("Connection to database '" + jdbcUrl + "' timed out");
         }
     }
 
@@ -264,9 +306,7 @@ private static ConnectionKey createConnectionKey(final CredentialsProvider cp, f
     public static ConnectionKey getConnectionKey(final CredentialsProvider cp,
         final DatabaseConnectionSettings settings) {
         ConnectionKey key = createConnectionKey(cp, settings);
-        synchronized (CONNECTION_KEYS) {
-            return CONNECTION_KEYS.get(key);
-        }
+        return CONNECTION_KEYS.get(key);
     }
 
     private static boolean isOpenAndValid(final DatabaseConnectionSettings settings, final Connection conn,
@@ -74,6 +74,35 @@ public interface DBConnectionFactory {
     Connection getConnection(final CredentialsProvider cp,
         final DatabaseConnectionSettings settings) throws InvalidSettingsException, SQLException, IOException;
 
+    /**
+     * Creates a new connection that is not shared with other callers, e.g. to execute several statements in parallel.
+     * The caller owns the connection and must close it after usage.
+     *
+     * @param cp {@link CredentialsProvider}
+     * @param settings {@link DatabaseConnectionSettings}
+     * @return a new {@link Connection} or <code>null</code> if the factory does not support exclusive connections
+     *         (the default) or none is available at the moment, callers then need to use
+     *         {@link #getConnection(CredentialsProvider, DatabaseConnectionSettings)}
+     * @throws InvalidSettingsException
+     * @throws SQLException
+     * @throws IOException
+     * @since 3.8
+     */
+    default Connection getExclusiveConnection(final CredentialsProvider cp,
+        final DatabaseConnectionSettings settings) throws InvalidSettingsException, SQLException, IOException {
+        return null;
+    }
+
+    /**
+     * @return the maximum number of {@linkplain #getExclusiveConnection(CredentialsProvider,
+     *         DatabaseConnectionSettings) exclusive connections} with the same settings that can be open at the same
+     *         time, 0 if the factory does not support exclusive connections (the default)
+     * @since 3.8
+     */
+    default int getMaxExclusiveConnections() {
+        return 0;
+    }
+
     /**
      * @return the {@link DBDriverFactory} the connection factory uses
      */
@@ -0,0 +1,888 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node.port.database.connection;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * A bounded pool of database connections, one sub pool per key (e.g. a {@link CachedConnectionFactory.ConnectionKey}).
+ * At most {@link #getMaxSize() max size} connections per key are leased at the same time, further requests wait up to
+ * the lease timeout. Closing a leased connection returns it to the pool, whereby uncommitted changes are rolled back
+ * and the auto-commit flag is reset. A background task validates idle connections, closes connections that have been
+ * idle for longer than the idle timeout while keeping at least {@link #getMinSize() min size} connections per key.
+ *
+ * <p>Prepared statements that are created via {@link Connection#prepareStatement(String)} are kept open in a LRU
+ * cache per connection when they are closed and handed out again for the same SQL.
+ *
+ * <p>The pool of the {@link CachedConnectionFactory} is configured via the system properties
+ * {@value #PROPERTY_MIN_SIZE}, {@value #PROPERTY_MAX_SIZE}, {@value #PROPERTY_LEASE_TIMEOUT} (seconds),
+ * {@value #PROPERTY_IDLE_TIMEOUT} (seconds) and {@value #PROPERTY_STATEMENT_CACHE_SIZE} (0 disables the cache).
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public final class DBConnectionPool {
+
+    /** System property for the minimum number of connections kept open per key. */
+    public static final String PROPERTY_MIN_SIZE = "knime.database.pool.min";
+
+    /** System property for the maximum number of connections per key. */
+    public static final String PROPERTY_MAX_SIZE = "knime.database.pool.max";
+
+    /** System property for the time in seconds to wait for a free connection. */
+    public static final String PROPERTY_LEASE_TIMEOUT = "knime.database.pool.lease.timeout";
+
+    /** System property for the time in seconds after which an idle connection is closed. */
+    public static final String PROPERTY_IDLE_TIMEOUT = "knime.database.pool.idle.timeout";
+
+    /** System property for the number of prepared statements cached per connection. */
+    public static final String PROPERTY_STATEMENT_CACHE_SIZE = "knime.database.pool.statement.cache";
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(DBConnectionPool.class);
+
+    /** Delay between two runs of the background validation in milliseconds. */
+    private static final long MAINTENANCE_INTERVAL = 30000;
+
+    private static final ScheduledExecutorService MAINTENANCE_EXECUTOR =
+        Executors.newSingleThreadScheduledExecutor(r -> {
+            final Thread t = new Thread(r, "KNIME-DB-Connection-Pool");
+            t.setDaemon(true);
+            return t;
+        });
+
+    /** Opens a new physical connection. */
+    @FunctionalInterface
+    public interface ConnectionOpener {
+        /**
+         * @return a new connection
+         * @throws InvalidSettingsException if the settings are invalid
+         * @throws SQLException if the connection can't be opened
+         * @throws IOException if the database doesn't respond in time
+         */
+        Connection open() throws InvalidSettingsException, SQLException, IOException;
+    }
+
+    /** Checks whether an idle connection can still be used. */
+    @FunctionalInterface
+    public interface ConnectionValidator {
+        /**
+         * @param conn the physical connection
+         * @return <code>true</code> if the connection is valid
+         * @throws SQLException if the validation fails
+         */
+        boolean isValid(Connection conn) throws SQLException;
+    }
+
+    private final int m_minSize;
+
+    private final int m_maxSize;
+
+    private final long m_leaseTimeout;
+
+    private final long m_idleTimeout;
+
+    private final int m_statementCacheSize;
+
+    private final Map<Object, KeyPool> m_pools = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean m_maintenanceScheduled = new AtomicBoolean();
+
+    /**
+     * @param minSize the minimum number of connections kept open per key (once a key has been used)
+     * @param maxSize the maximum number of connections per key
+     * @param leaseTimeout the time in milliseconds to wait for a free connection
+     * @param idleTimeout the time in milliseconds after which an idle connection is closed
+     * @param statementCacheSize the number of prepared statements cached per connection, 0 to disable the cache
+     */
+    DBConnectionPool(final int minSize, final int maxSize, final long leaseTimeout, final long idleTimeout,
+        final int statementCacheSize) {
+        if (maxSize < 1 || minSize < 0 || minSize > maxSize) {
+            throw new IllegalArgumentException("Invalid pool size, min: " + minSize + ", max: " + maxSize);
+        }
+        m_minSize = minSize;
+        m_maxSize = maxSize;
+        m_leaseTimeout = leaseTimeout;
+        m_idleTimeout = idleTimeout;
+        m_statementCacheSize = statementCacheSize;
+    }
+
+    /** @return a pool configured via the system properties */
+    static DBConnectionPool fromSystemProperties() {
+        final int maxSize = getIntProperty(PROPERTY_MAX_SIZE, 16, 1);
+        final int minSize = Math.min(maxSize, getIntProperty(PROPERTY_MIN_SIZE, 0, 0));
+        return new DBConnectionPool(minSize, maxSize,
+            TimeUnit.SECONDS.toMillis(getIntProperty(PROPERTY_LEASE_TIMEOUT, 600, 0)),
+            TimeUnit.SECONDS.toMillis(getIntProperty(PROPERTY_IDLE_TIMEOUT, 300, 0)),
+            getIntProperty(PROPERTY_STATEMENT_CACHE_SIZE, 32, 0));
+    }
+
+    private static int getIntProperty(final String name, final int defaultValue, final int minValue) {
+        final String value = System.getProperty(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            final int result = Integer.parseInt(value.trim());
+            if (result >= minValue) {
+                return result;
+            }
+        } catch (NumberFormatException nfe) {
+            // warning below
+        }
+        LOGGER.warn("Value of system property " + name + " not valid '" + value + "' using default " + defaultValue);
+        return defaultValue;
+    }
+
+    /** @return the minimum number of connections kept open per key */
+    public int getMinSize() {
+        return m_minSize;
+    }
+
+    /** @return the maximum number of connections per key */
+    public int getMaxSize() {
+        return m_maxSize;
+    }
+
+    /**
+     * Leases a connection of the given key, either an idle one or a new one if no idle connection is available. If
+     * all connections of the key are leased, the method waits up to the lease timeout for a connection to be closed.
+     * The returned connection must be closed after usage, which returns it to the pool.
+     *
+     * @param key the key identifying database and credentials
+     * @param opener opens a new connection of the key
+     * @param validator validates idle connections of the key
+     * @return the leased connection
+     * @throws InvalidSettingsException if a new connection can't be opened due to invalid settings
+     * @throws SQLException if no connection became free within the lease timeout or a new connection can't be opened
+     * @throws IOException if the database didn't respond in time
+     */
+    public Connection lease(final Object key, final ConnectionOpener opener, final ConnectionValidator validator)
+        throws InvalidSettingsException, SQLException, IOException {
+        final KeyPool pool = getPool(key, opener, validator);
+        final long start = System.nanoTime();
+        try {
+            if (!pool.m_permits.tryAcquire(m_leaseTimeout, TimeUnit.MILLISECONDS)) {
+                pool.m_leaseTimeouts.incrementAndGet();
+                throw new SQLException("No free database connection for " + key + " within " + m_leaseTimeout
+                    + "ms (at most " + m_maxSize + " connections)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Thread was interrupted while waiting for a free database connection", e);
+        } finally {
+            pool.m_waitNanos.addAndGet(System.nanoTime() - start);
+        }
+        return leaseAcquired(pool);
+    }
+
+    /**
+     * Leases a connection of the given key like {@link #lease(Object, ConnectionOpener, ConnectionValidator)}, but
+     * doesn't wait if all connections of the key are leased. Callers that hold several connections of the same key at
+     * once should use this method, waiting for further connections while holding some may deadlock.
+     *
+     * @param key the key identifying database and credentials
+     * @param opener opens a new connection of the key
+     * @param validator validates idle connections of the key
+     * @return the leased connection or <code>null</code> if all connections of the key are currently leased
+     * @throws InvalidSettingsException if a new connection can't be opened due to invalid settings
+     * @throws SQLException if a new connection can't be opened
+     * @throws IOException if the database didn't respond in time
+     */
+    public Connection tryLease(final Object key, final ConnectionOpener opener, final ConnectionValidator validator)
+        throws InvalidSettingsException, SQLException, IOException {
+        final KeyPool pool = getPool(key, opener, validator);
+        if (!pool.m_permits.tryAcquire()) {
+            return null;
+        }
+        return leaseAcquired(pool);
+    }
+
+    private KeyPool getPool(final Object key, final ConnectionOpener opener, final ConnectionValidator validator) {
+        final KeyPool pool = m_pools.computeIfAbsent(key, KeyPool::new);
+        pool.m_opener = opener;
+        pool.m_validator = validator;
+        if (m_maintenanceScheduled.compareAndSet(false, true)) {
+            MAINTENANCE_EXECUTOR.scheduleWithFixedDelay(this::maintain, MAINTENANCE_INTERVAL, MAINTENANCE_INTERVAL,
+                TimeUnit.MILLISECONDS);
+        }
+        return pool;
+    }
+
+    /** Leases an idle or new connection of the pool, the caller must have acquired a permit of the pool. */
+    private static Connection leaseAcquired(final KeyPool pool)
+        throws InvalidSettingsException, SQLException, IOException {
+        try {
+            PooledConnection pc;
+            while ((pc = pool.m_idle.pollFirst()) != null) {
+                if (!pc.m_conn.isClosed()) {
+                    break;
+                }
+                pool.discard(pc);
+            }
+            if (pc == null) {
+                pc = pool.open();
+            }
+            pool.m_leases.incrementAndGet();
+            return pc.lease();
+        } catch (InvalidSettingsException | SQLException | IOException | RuntimeException | Error e) {
+            pool.m_permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Validates idle connections, closes connections that have been idle for too long and opens connections to keep
+     * the minimum pool size. Called periodically in the background.
+     */
+    void maintain() {
+        for (KeyPool pool : m_pools.values()) {
+            try {
+                pool.maintain();
+            } catch (Throwable t) {
+                LOGGER.debug("Maintenance of connection pool for " + pool.m_key + " failed: " + t.getMessage(), t);
+            }
+        }
+    }
+
+    /**
+     * @return a snapshot of the statistics per key
+     */
+    public Map<Object, Statistics> getStatistics() {
+        final Map<Object, Statistics> result = new LinkedHashMap<>();
+        m_pools.forEach((key, pool) -> result.put(key, pool.getStatistics()));
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Closes all idle connections. Leased connections are closed when they are returned.
+     */
+    public void clear() {
+        for (KeyPool pool : m_pools.values()) {
+            PooledConnection pc;
+            while ((pc = pool.m_idle.pollFirst()) != null) {
+                pool.discard(pc);
+            }
+        }
+    }
+
+    private static void closeQuietly(final AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception ex) {
+            LOGGER.debug("Error closing " + closeable + ": " + ex.getMessage(), ex);
+        }
+    }
+
+    private static Object invoke(final Object target, final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /** Statistics of the connections of one key. */
+    public static final class Statistics {
+
+        private final int m_leased;
+
+        private final int m_idle;
+
+        private final long m_created;
+
+        private final long m_closed;
+
+        private final long m_leases;
+
+        private final long m_leaseTimeouts;
+
+        private final long m_waitMillis;
+
+        private final long m_invalid;
+
+        private final long m_statementCacheHits;
+
+        private final long m_statementCacheMisses;
+
+        private Statistics(final KeyPool pool) {
+            m_leased = pool.m_maxSize - pool.m_permits.availablePermits();
+            m_idle = pool.m_idle.size();
+            m_created = pool.m_created.get();
+            m_closed = pool.m_closed.get();
+            m_leases = pool.m_leases.get();
+            m_leaseTimeouts = pool.m_leaseTimeouts.get();
+            m_waitMillis = TimeUnit.NANOSECONDS.toMillis(pool.m_waitNanos.get());
+            m_invalid = pool.m_invalid.get();
+            m_statementCacheHits = pool.m_statementCacheHits.get();
+            m_statementCacheMisses = pool.m_statementCacheMisses.get();
+        }
+
+        /** @return the number of currently leased connections */
+        public int getLeased() {
+            return m_leased;
+        }
+
+        /** @return the number of currently idle connections */
+        public int getIdle() {
+            return m_idle;
+        }
+
+        /** @return the number of connections opened so far */
+        public long getCreated() {
+            return m_created;
+        }
+
+        /** @return the number of connections closed so far (invalid, broken or idle for too long) */
+        public long getClosed() {
+            return m_closed;
+        }
+
+        /** @return the number of leases so far */
+        public long getLeases() {
+            return m_leases;
+        }
+
+        /** @return the number of lease requests that timed out */
+        public long getLeaseTimeouts() {
+            return m_leaseTimeouts;
+        }
+
+        /** @return the total time in milliseconds lease requests waited for a free connection */
+        public long getWaitMillis() {
+            return m_waitMillis;
+        }
+
+        /** @return the number of idle connections that failed the validation */
+        public long getInvalid() {
+            return m_invalid;
+        }
+
+        /** @return the number of prepared statements taken from the cache */
+        public long getStatementCacheHits() {
+            return m_statementCacheHits;
+        }
+
+        /** @return the number of prepared statements that were not in the cache */
+        public long getStatementCacheMisses() {
+            return m_statementCacheMisses;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            return "leased=" + m_leased + ", idle=" + m_idle + ", created=" + m_created + ", closed=" + m_closed
+                + ", leases=" + m_leases + ", lease timeouts=" + m_leaseTimeouts + ", wait=" + m_waitMillis
+                + "ms, invalid=" + m_invalid + ", statement cache hits=" + m_statementCacheHits + ", misses="
+                + m_statementCacheMisses;
+        }
+    }
+
+    /** The connections of one key. */
+    private final class KeyPool {
+
+        private final Object m_key;
+
+        private final int m_maxSize = DBConnectionPool.this.m_maxSize;
+
+        /** One permit per connection that can be leased. */
+        private final Semaphore m_permits = new Semaphore(m_maxSize, true);
+
+        /** Idle connections, the most recently used first. */
+        private final Deque<PooledConnection> m_idle = new ConcurrentLinkedDeque<>();
+
+        /** The opener and validator of the latest lease, used by the maintenance. */
+        private volatile ConnectionOpener m_opener;
+
+        private volatile ConnectionValidator m_validator;
+
+        private final AtomicLong m_created = new AtomicLong();
+
+        private final AtomicLong m_closed = new AtomicLong();
+
+        private final AtomicLong m_leases = new AtomicLong();
+
+        private final AtomicLong m_leaseTimeouts = new AtomicLong();
+
+        private final AtomicLong m_waitNanos = new AtomicLong();
+
+        private final AtomicLong m_invalid = new AtomicLong();
+
+        private final AtomicLong m_statementCacheHits = new AtomicLong();
+
+        private final AtomicLong m_statementCacheMisses = new AtomicLong();
+
+        KeyPool(final Object key) {
+            m_key = key;
+        }
+
+        PooledConnection open() throws InvalidSettingsException, SQLException, IOException {
+            LOGGER.debug("Open new pooled connection for key: " + m_key);
+            final Connection conn = m_opener.open();
+            if (conn == null) {
+                throw new SQLException("Could not open database connection for key: " + m_key);
+            }
+            m_created.incrementAndGet();
+            return new PooledConnection(this, conn);
+        }
+
+        void discard(final PooledConnection pc) {
+            m_closed.incrementAndGet();
+            pc.close();
+        }
+
+        void maintain() {
+            final long now = System.currentTimeMillis();
+            // take all idle connections out first, re-offering them while iterating the live deque would visit
+            // them again and never terminate; leases in the meantime open new connections if needed
+            final List<PooledConnection> idle = new ArrayList<>();
+            for (PooledConnection pc = m_idle.pollFirst(); pc != null; pc = m_idle.pollFirst()) {
+                idle.add(pc);
+            }
+            int open = m_maxSize - m_permits.availablePermits() + idle.size();
+            for (PooledConnection pc : idle) {
+                if (now - pc.m_lastUsed > m_idleTimeout && open > m_minSize) {
+                    LOGGER.debug("Closing idle connection for key: " + m_key);
+                    discard(pc);
+                    open--;
+                } else if (isValid(pc)) {
+                    m_idle.offerLast(pc);
+                } else {
+                    LOGGER.debug("Closing invalid connection for key: " + m_key);
+                    m_invalid.incrementAndGet();
+                    discard(pc);
+                    open--;
+                }
+            }
+            for (; open < m_minSize && m_opener != null; open++) {
+                try {
+                    m_idle.offerLast(open());
+                } catch (Exception e) {
+                    LOGGER.debug("Could not open connection for key " + m_key + ": " + e.getMessage(), e);
+                    break;
+                }
+            }
+        }
+
+        private boolean isValid(final PooledConnection pc) {
+            try {
+                final ConnectionValidator validator = m_validator;
+                return !pc.m_conn.isClosed() && (validator == null || validator.isValid(pc.m_conn));
+            } catch (Exception e) {
+                LOGGER.debug("Invalid connection with key '" + m_key + "': " + e.getMessage(), e);
+                return false;
+            }
+        }
+
+        Statistics getStatistics() {
+            return new Statistics(this);
+        }
+    }
+
+    /** A physical connection of the pool along with its statement cache. */
+    private final class PooledConnection {
+
+        private final KeyPool m_pool;
+
+        private final Connection m_conn;
+
+        private final boolean m_autoCommit;
+
+        /** Idle prepared statements by their SQL in access order, <code>null</code> if caching is disabled. */
+        private final Map<String, PreparedStatement> m_statements;
+
+        private volatile long m_lastUsed = System.currentTimeMillis();
+
+        PooledConnection(final KeyPool pool, final Connection conn) throws SQLException {
+            m_pool = pool;
+            m_conn = conn;
+            m_autoCommit = conn.getAutoCommit();
+            if (m_statementCacheSize > 0) {
+                m_statements = new LinkedHashMap<String, PreparedStatement>(16, 0.75f, true) {
+                    private static final long serialVersionUID = 1L;
+
+                    @Override
+                    protected boolean removeEldestEntry(final Map.Entry<String, PreparedStatement> eldest) {
+                        if (size() > m_statementCacheSize) {
+                            closeQuietly(eldest.getValue());
+                            return true;
+                        }
+                        return false;
+                    }
+                };
+            } else {
+                m_statements = null;
+            }
+        }
+
+        Connection lease() {
+            final Lease lease = new Lease(this);
+            lease.m_proxy = (Connection)Proxy.newProxyInstance(DBConnectionPool.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, lease);
+            return lease.m_proxy;
+        }
+
+        /** Returns the connection to the pool (or closes it if it can't be re-used) and frees the permit. */
+        void giveBack() {
+            boolean reusable = false;
+            try {
+                if (!m_conn.isClosed()) {
+                    if (!m_conn.getAutoCommit()) {
+                        m_conn.rollback();
+                    }
+                    if (m_conn.getAutoCommit() != m_autoCommit) {
+                        m_conn.setAutoCommit(m_autoCommit);
+                    }
+                    m_conn.clearWarnings();
+                    reusable = true;
+                }
+            } catch (SQLException e) {
+                LOGGER.debug("Could not reset connection for key " + m_pool.m_key + ": " + e.getMessage(), e);
+            }
+            m_lastUsed = System.currentTimeMillis();
+            if (reusable) {
+                m_pool.m_idle.offerFirst(this);
+            } else {
+                m_pool.discard(this);
+            }
+            m_pool.m_permits.release();
+        }
+
+        PreparedStatement takeStatement(final String sql) throws SQLException {
+            PreparedStatement stmt;
+            synchronized (m_statements) {
+                stmt = m_statements.remove(sql);
+            }
+            if (stmt != null && !stmt.isClosed()) {
+                m_pool.m_statementCacheHits.incrementAndGet();
+                return stmt;
+            }
+            m_pool.m_statementCacheMisses.incrementAndGet();
+            return m_conn.prepareStatement(sql);
+        }
+
+        void returnStatement(final String sql, final PreparedStatement stmt) {
+            final PreparedStatement replaced;
+            synchronized (m_statements) {
+                replaced = m_statements.put(sql, stmt);
+            }
+            if (replaced != null && replaced != stmt) {
+                closeQuietly(replaced);
+            }
+        }
+
+        void close() {
+            if (m_statements != null) {
+                synchronized (m_statements) {
+                    m_statements.values().forEach(DBConnectionPool::closeQuietly);
+                    m_statements.clear();
+                }
+            }
+            closeQuietly(m_conn);
+        }
+    }
+
+    /** Handler of the connection proxy handed out for one lease. */
+    private static final class Lease implements InvocationHandler {
+
+        private final PooledConnection m_pooled;
+
+        private Connection m_proxy;
+
+        /** Statements created during the lease, closed when the connection is returned. */
+        private final List<AutoCloseable> m_statements = new ArrayList<>();
+
+        private boolean m_closed;
+
+        Lease(final PooledConnection pooled) {
+            m_pooled = pooled;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    close();
+                    return null;
+                case "isClosed":
+                    if (isClosed()) {
+                        return true;
+                    }
+                    break;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Pooled connection (" + m_pooled.m_pool.m_key + ")";
+                default:
+                    break;
+            }
+            if (isClosed()) {
+                throw new SQLException("Connection has been closed");
+            }
+            if (m_pooled.m_statements != null && "prepareStatement".equals(method.getName()) && args.length == 1) {
+                final String sql = (String)args[0];
+                final CachedStatement handler = new CachedStatement(this, sql, m_pooled.takeStatement(sql));
+                track(handler);
+                return Proxy.newProxyInstance(DBConnectionPool.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class}, handler);
+            }
+            final Object result = DBConnectionPool.invoke(m_pooled.m_conn, method, args);
+            if (result instanceof Statement) {
+                track((Statement)result);
+            }
+            return result;
+        }
+
+        private synchronized boolean isClosed() {
+            return m_closed;
+        }
+
+        private synchronized void track(final AutoCloseable statement) {
+            if (m_statements.size() >= 64) {
+                m_statements.removeIf(s -> s instanceof Statement && isClosedQuietly((Statement)s)
+                    || s instanceof CachedStatement && ((CachedStatement)s).isClosed());
+            }
+            m_statements.add(statement);
+        }
+
+        private static boolean isClosedQuietly(final Statement statement) {
+            try {
+                return statement.isClosed();
+            } catch (SQLException e) {
+                return true;
+            }
+        }
+
+        private void close() {
+            final List<AutoCloseable> statements;
+            synchronized (this) {
+                if (m_closed) {
+                    return;
+                }
+                m_closed = true;
+                statements = new ArrayList<>(m_statements);
+                m_statements.clear();
+            }
+            statements.forEach(DBConnectionPool::closeQuietly);
+            m_pooled.giveBack();
+        }
+    }
+
+    /**
+     * Handler of a cached prepared statement, closing it returns it to the cache. Statement settings changed during
+     * the lease are reset to their previous values before, statements with settings that can't be reset are closed
+     * instead.
+     */
+    private static final class CachedStatement implements InvocationHandler, AutoCloseable {
+
+        /** The getters of the statement settings that are reset when the statement is returned, by setter name. */
+        private static final Map<String, Method> SETTING_GETTERS = initSettingGetters();
+
+        /** The setters of statement settings that can't be read, statements using them aren't cached again. */
+        private static final Set<String> UNRESETTABLE_SETTERS =
+            new HashSet<>(Arrays.asList("setCursorName", "setEscapeProcessing", "closeOnCompletion"));
+
+        private final Lease m_lease;
+
+        private final String m_sql;
+
+        private final PreparedStatement m_stmt;
+
+        private boolean m_closed;
+
+        /** The values of the settings before they were first changed in this lease, by setter. */
+        private final Map<Method, Object> m_originalSettings = new LinkedHashMap<>();
+
+        private boolean m_unresettable;
+
+        CachedStatement(final Lease lease, final String sql, final PreparedStatement stmt) {
+            m_lease = lease;
+            m_sql = sql;
+            m_stmt = stmt;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    close();
+                    return null;
+                case "isClosed":
+                    if (isClosed()) {
+                        return true;
+                    }
+                    break;
+                case "getConnection":
+                    return m_lease.m_proxy;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return m_stmt.toString();
+                default:
+                    break;
+            }
+            if (isClosed()) {
+                throw new SQLException("Statement has been closed");
+            }
+            recordSetting(method);
+            return DBConnectionPool.invoke(m_stmt, method, args);
+        }
+
+        private static Map<String, Method> initSettingGetters() {
+            final Map<String, Method> getters = new HashMap<>();
+            try {
+                for (String setting : new String[]{"MaxRows", "LargeMaxRows", "FetchSize", "FetchDirection",
+                    "QueryTimeout", "MaxFieldSize"}) {
+                    getters.put("set" + setting, Statement.class.getMethod("get" + setting));
+                }
+                getters.put("setPoolable", Statement.class.getMethod("isPoolable"));
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException(e);
+            }
+            return getters;
+        }
+
+        /** Remembers the current value of the setting changed by the argument method, if it is a setting. */
+        private synchronized void recordSetting(final Method method) {
+            final Method getter = SETTING_GETTERS.get(method.getName());
+            if (getter != null) {
+                if (!m_originalSettings.containsKey(method)) {
+                    try {
+                        m_originalSettings.put(method, DBConnectionPool.invoke(m_stmt, getter, null));
+                    } catch (Throwable e) {
+                        // e.g. not supported by the driver, the statement can't be reset
+                        m_unresettable = true;
+                    }
+                }
+            } else if (UNRESETTABLE_SETTERS.contains(method.getName())) {
+                m_unresettable = true;
+            }
+        }
+
+        /** @return whether all changed settings have been reset */
+        private synchronized boolean resetSettings() {
+            if (m_unresettable) {
+                return false;
+            }
+            try {
+                for (Map.Entry<Method, Object> setting : m_originalSettings.entrySet()) {
+                    DBConnectionPool.invoke(m_stmt, setting.getKey(), new Object[]{setting.getValue()});
+                }
+                return true;
+            } catch (Throwable e) {
+                // the statement is not cached again
+                return false;
+            }
+        }
+
+        synchronized boolean isClosed() {
+            return m_closed;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void close() {
+            synchronized (this) {
+                if (m_closed) {
+                    return;
+                }
+                m_closed = true;
+            }
+            try {
+                m_stmt.clearParameters();
+                m_stmt.clearBatch();
+                if (resetSettings()) {
+                    m_lease.m_pooled.returnStatement(m_sql, m_stmt);
+                } else {
+                    closeQuietly(m_stmt);
+                }
+            } catch (SQLException e) {
+                // e.g. batches not supported
+                closeQuietly(m_stmt);
+            }
+        }
+    }
+
+}
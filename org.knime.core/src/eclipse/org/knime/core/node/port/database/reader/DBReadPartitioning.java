@@ -0,0 +1,128 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node.port.database.reader;
+
+import org.knime.core.node.util.CheckUtils;
+
+/**
+ * Describes how the result of a database query is split into sub-queries that are read in parallel, each on its own
+ * connection (see {@link DBReader#createTable(org.knime.core.node.ExecutionContext,
+ * org.knime.core.node.workflow.CredentialsProvider, boolean, DBReadPartitioning)}).
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public final class DBReadPartitioning {
+
+    /** The way the rows are assigned to the partitions. */
+    public enum Mode {
+        /** Equally sized value ranges between the minimum and maximum of a numeric or date column. */
+        RANGE,
+        /** The value of an integer column modulo the number of partitions. */
+        MODULO;
+    }
+
+    private final Mode m_mode;
+
+    private final String m_column;
+
+    private final int m_partitionCount;
+
+    private DBReadPartitioning(final Mode mode, final String column, final int partitionCount) {
+        m_mode = CheckUtils.checkArgumentNotNull(mode, "Mode must not be null");
+        m_column = CheckUtils.checkArgumentNotNull(column, "Column must not be null");
+        CheckUtils.checkArgument(partitionCount > 0, "Partition count must be larger than 0: %d", partitionCount);
+        m_partitionCount = partitionCount;
+    }
+
+    /**
+     * Splits the query into ranges of the values of a numeric or date column.
+     *
+     * @param column the name of the column in the query result
+     * @param partitionCount the number of partitions, &gt; 0
+     * @return a new partitioning
+     */
+    public static DBReadPartitioning range(final String column, final int partitionCount) {
+        return new DBReadPartitioning(Mode.RANGE, column, partitionCount);
+    }
+
+    /**
+     * Splits the query by the value of an integer column modulo the number of partitions.
+     *
+     * @param column the name of the column in the query result
+     * @param partitionCount the number of partitions, &gt; 0
+     * @return a new partitioning
+     */
+    public static DBReadPartitioning modulo(final String column, final int partitionCount) {
+        return new DBReadPartitioning(Mode.MODULO, column, partitionCount);
+    }
+
+    /** @return the mode, not null */
+    public Mode getMode() {
+        return m_mode;
+    }
+
+    /** @return the name of the column used to partition the query result, not null */
+    public String getColumn() {
+        return m_column;
+    }
+
+    /** @return the number of partitions, &gt; 0 */
+    public int getPartitionCount() {
+        return m_partitionCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return m_mode + " partitioning on \"" + m_column + "\" (" + m_partitionCount + " partitions)";
+    }
+
+}
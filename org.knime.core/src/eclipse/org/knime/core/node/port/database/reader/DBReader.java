@@ -155,6 +155,27 @@ default BufferedDataTable createTable(final ExecutionContext exec, final Credent
         return exec.createBufferedDataTable(table, exec);
     }
 
+    /**
+     * Read data from database, splitting the query into several sub-queries that are read in parallel on separate
+     * connections. The rows of the partitions are concatenated in partition order, i.e. the row order of the query
+     * result is not retained and the KNIME row ids are unique per partition (the row ids returned by the database are
+     * not used). The default implementation ignores the partitioning and reads the query result sequentially.
+     * @param exec used for progress info
+     * @param cp {@link CredentialsProvider} providing user/password
+     * @param useDbRowId <code>true</code> if the row id returned by the database should be used to generate the
+     * KNIME row id (only applies to the sequential read)
+     * @param partitioning how the query is split, not null
+     * @return buffered data table read from database
+     * @throws CanceledExecutionException if canceled in between
+     * @throws SQLException if the connection could not be opened
+     * @since 3.8
+     */
+    default BufferedDataTable createTable(final ExecutionContext exec, final CredentialsProvider cp,
+        final boolean useDbRowId, final DBReadPartitioning partitioning)
+        throws CanceledExecutionException, SQLException {
+        return createTable(exec, cp, useDbRowId);
+    }
+
     /**
      * Read data from database.
      * @param exec used for progress info
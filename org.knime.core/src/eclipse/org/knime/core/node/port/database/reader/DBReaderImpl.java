@@ -44,14 +44,32 @@
  */
 package org.knime.core.node.port.database.reader;
 
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 import java.util.TimeZone;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
 
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.knime.core.data.DataCell;
@@ -73,13 +91,18 @@
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.port.database.DatabaseConnectionSettings;
 import org.knime.core.node.port.database.DatabaseHelper;
 import org.knime.core.node.port.database.DatabaseQueryConnectionSettings;
+import org.knime.core.node.port.database.StatementManipulator;
+import org.knime.core.node.port.database.connection.DBConnectionFactory;
 import org.knime.core.node.streamable.BufferedDataTableRowOutput;
 import org.knime.core.node.streamable.RowInput;
 import org.knime.core.node.workflow.CredentialsProvider;
+import org.knime.core.util.ThreadPool;
 import org.knime.core.util.UniqueNameGenerator;
 
 /**
@@ -258,6 +281,343 @@ public RowIterator iterator() {
 
 
 
+    /**
+     * {@inheritDoc}
+     * <p>Each partition is read on its own {@linkplain DBConnectionFactory#getExclusiveConnection(CredentialsProvider,
+     * DatabaseConnectionSettings) exclusive connection}, hence the number of partitions is limited by the {@linkplain
+     * DBConnectionFactory#getMaxExclusiveConnections() maximum number of exclusive connections}. The connections don't
+     * share a transaction or snapshot, hence concurrent modifications of the queried tables may be visible to some
+     * partitions but not to others. The query is read sequentially if the database row id should be used (partitions
+     * would produce duplicate or differently numbered row ids), if the connection factory doesn't provide (right away)
+     * an exclusive connection for every partition, if the query consists of several statements (which may create
+     * session state that is not visible to other connections), or if the partition bounds can't be determined.
+     * @since 3.8
+     */
+    @Override
+    public BufferedDataTable createTable(final ExecutionContext exec, final CredentialsProvider cp,
+        final boolean useDbRowId, final DBReadPartitioning partitioning)
+        throws CanceledExecutionException, SQLException {
+        final DatabaseQueryConnectionSettings dbConn = getQueryConnection();
+        final String query = dbConn.getQuery();
+        final DBConnectionFactory connectionFactory = dbConn.getUtility().getConnectionFactory();
+        // each partition needs its own exclusive connection
+        final int partitionCount =
+            Math.min(partitioning.getPartitionCount(), connectionFactory.getMaxExclusiveConnections());
+        if (partitionCount < 2 || useDbRowId || query.contains(SQL_QUERY_SEPARATOR)) {
+            return createTable(exec, cp, useDbRowId);
+        }
+        final StatementManipulator manipulator = dbConn.getUtility().getStatementManipulator();
+        final String column = manipulator.quoteIdentifier(partitioning.getColumn());
+        final String[] queries = new String[partitionCount];
+        final Object[][] params = new Object[partitionCount][];
+        if (partitioning.getMode() == DBReadPartitioning.Mode.MODULO) {
+            for (int i = 0; i < partitionCount; i++) {
+                queries[i] = manipulator.forModuloPartition(query, column, partitionCount, i, i == 0);
+                params[i] = new Object[0];
+            }
+        } else {
+            final Object[] minMax = dbConn.execute(cp, conn -> readMinMax(conn, manipulator.getMinMax(query, column)));
+            final Object[] bounds = minMax == null ? null : computeRangeBounds(minMax[0], minMax[1], partitionCount);
+            if (bounds == null) {
+                LOGGER.debug("Can't determine partition bounds of column " + column + ", reading sequentially");
+                return createTable(exec, cp, useDbRowId);
+            }
+            for (int i = 0; i < partitionCount; i++) {
+                queries[i] = manipulator.forRangePartition(query, column, i == partitionCount - 1, i == 0);
+                params[i] = new Object[]{bounds[i], bounds[i + 1]};
+            }
+        }
+
+        // all connections are opened upfront so that the query can still be read sequentially if the factory
+        // doesn't provide (enough) exclusive connections; each task takes over and closes its connection
+        final AtomicReferenceArray<Connection> connections = new AtomicReferenceArray<>(partitionCount);
+        try {
+            for (int i = 0; i < partitionCount; i++) {
+                final Connection conn = getExclusiveConnection(connectionFactory, cp, dbConn);
+                if (conn == null) {
+                    LOGGER.debug("No exclusive connection available for partition " + i + ", reading sequentially");
+                    closeAll(connections);
+                    return createTable(exec, cp, useDbRowId);
+                }
+                connections.set(i, conn);
+            }
+            final DataTableSpec spec = getDataTableSpec(cp);
+            exec.setMessage("Start reading rows from database (" + partitioning + ")...");
+            // containers are created, closed and cleared on this thread only, as this modifies the (not thread-safe)
+            // table repository of the execution context
+            final BufferedDataContainer[] containers = new BufferedDataContainer[partitionCount];
+            boolean success = false;
+            try {
+                for (int i = 0; i < partitionCount; i++) {
+                    containers[i] = exec.createDataContainer(spec);
+                }
+                final AtomicLong rowCount = new AtomicLong();
+                final AtomicBoolean aborted = new AtomicBoolean();
+                final List<Callable<Void>> tasks = new ArrayList<>(partitionCount);
+                for (int i = 0; i < partitionCount; i++) {
+                    final int partition = i;
+                    tasks.add(() -> {
+                        try (Connection c = connections.getAndSet(partition, null)) {
+                            readPartition(exec, c, containers[partition], queries[partition], params[partition],
+                                partition, rowCount, aborted);
+                        }
+                        return null;
+                    });
+                }
+                invokeAll(tasks, partitionCount, aborted);
+                final BufferedDataTable[] tables = new BufferedDataTable[partitionCount];
+                for (int i = 0; i < partitionCount; i++) {
+                    containers[i].close();
+                    tables[i] = containers[i].getTable();
+                }
+                m_spec = spec;
+                final BufferedDataTable result = exec.createConcatenateTable(exec, Optional.empty(), false, tables);
+                success = true;
+                return result;
+            } finally {
+                if (!success) {
+                    clearAll(exec, containers);
+                }
+            }
+        } finally {
+            closeAll(connections);
+        }
+    }
+
+    /** Closes and clears the containers of a failed partitioned read. */
+    private static void clearAll(final ExecutionContext exec, final BufferedDataContainer[] containers) {
+        for (BufferedDataContainer container : containers) {
+            if (container != null) {
+                try {
+                    if (!container.isClosed()) {
+                        container.close();
+                    }
+                    exec.clearTable(container.getTable());
+                } catch (RuntimeException ex) {
+                    LOGGER.debug("Unable to clear partition table: " + ex.getMessage(), ex);
+                }
+            }
+        }
+    }
+
+    private static Connection getExclusiveConnection(final DBConnectionFactory connectionFactory,
+        final CredentialsProvider cp, final DatabaseConnectionSettings dbConn) throws SQLException {
+        try {
+            return connectionFactory.getExclusiveConnection(cp, dbConn);
+        } catch (InvalidSettingsException | IOException ex) {
+            throw new SQLException(ex);
+        }
+    }
+
+    /** Closes the connections that have not been taken over by a partition task. */
+    private static void closeAll(final AtomicReferenceArray<Connection> connections) throws SQLException {
+        SQLException firstException = null;
+        for (int i = 0; i < connections.length(); i++) {
+            final Connection unused = connections.getAndSet(i, null);
+            if (unused != null) {
+                try {
+                    unused.close();
+                } catch (SQLException ex) {
+                    if (firstException == null) {
+                        firstException = ex;
+                    } else {
+                        firstException.addSuppressed(ex);
+                    }
+                }
+            }
+        }
+        if (firstException != null) {
+            throw firstException;
+        }
+    }
+
+    /**
+     * Reads the result of one partition query into the argument container, which is not closed. Stops if another
+     * partition failed.
+     */
+    private void readPartition(final ExecutionContext exec, final Connection conn,
+        final BufferedDataContainer container, final String sql, final Object[] params, final int partition,
+        final AtomicLong rowCount, final AtomicBoolean aborted) throws SQLException, CanceledExecutionException {
+        final DatabaseQueryConnectionSettings dbConn = getQueryConnection();
+        LOGGER.debug("Executing SQL statement as executeQuery (partition " + partition + "): " + sql);
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            final int fetchsize =
+                (DatabaseConnectionSettings.FETCH_SIZE != null) ? DatabaseConnectionSettings.FETCH_SIZE : -1;
+            dbConn.getUtility().getStatementManipulator().setFetchSize(stmt, fetchsize);
+            for (int i = 0; i < params.length; i++) {
+                stmt.setObject(i + 1, params[i]);
+            }
+            try (ResultSet result = stmt.executeQuery()) {
+                final RowIterator it = createDBRowIterator(container.getTableSpec(), dbConn,
+                    new BinaryObjectCellFactory(exec), false, result, 0);
+                // row ids are only unique within a partition
+                final String keyPrefix = "Row" + partition + "_";
+                long row = 0;
+                while (it.hasNext()) {
+                    container.addRowToTable(new DefaultRow(new RowKey(keyPrefix + row), it.next()));
+                    row++;
+                    if (row % 1000 == 0) {
+                        exec.checkCanceled();
+                        if (aborted.get()) {
+                            throw new CanceledExecutionException("Reading of another partition failed");
+                        }
+                        final long total = rowCount.addAndGet(1000);
+                        exec.setMessage(() -> "Row " + total);
+                    }
+                }
+            }
+            if (!conn.getAutoCommit()) {
+                conn.commit();
+            }
+        }
+    }
+
+    /**
+     * Runs the tasks in a sub pool of the global thread pool and waits for them to finish. If a task fails, the other
+     * tasks are aborted (see the flag) and the failure is only thrown once none of them is running anymore, so that
+     * the caller can safely clean up the data they write.
+     */
+    private static void invokeAll(final List<Callable<Void>> tasks, final int parallelism,
+        final AtomicBoolean aborted) throws CanceledExecutionException, SQLException {
+        final ThreadPool executor = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(parallelism);
+        final List<Future<Void>> futures = new ArrayList<>(tasks.size());
+        // number of started tasks that haven't finished yet, guarded by the lock on the flag
+        final AtomicInteger running = new AtomicInteger();
+        final Callable<Void> submitAndWait = () -> {
+            for (Callable<Void> task : tasks) {
+                futures.add(executor.enqueue(() -> {
+                    synchronized (aborted) {
+                        if (aborted.get()) {
+                            return null;
+                        }
+                        running.incrementAndGet();
+                    }
+                    try {
+                        return task.call();
+                    } finally {
+                        synchronized (aborted) {
+                            running.decrementAndGet();
+                            aborted.notifyAll();
+                        }
+                    }
+                }));
+            }
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+            return null;
+        };
+        try {
+            // don't occupy a thread of the pool while waiting (the caller is usually a node's execution thread)
+            final ThreadPool currentPool = ThreadPool.currentPool();
+            if (currentPool != null) {
+                currentPool.runInvisible(submitAndWait);
+            } else {
+                submitAndWait.call();
+            }
+        } catch (Exception e) {
+            awaitAborted(futures, running, aborted);
+            Throwable cause = e;
+            while (cause instanceof ExecutionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof CanceledExecutionException) {
+                throw (CanceledExecutionException)cause;
+            } else if (cause instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+                throw new CanceledExecutionException("Reading from database has been interrupted");
+            } else if (cause instanceof SQLException) {
+                throw (SQLException)cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            }
+            throw new SQLException(cause);
+        }
+    }
+
+    /** Aborts the tasks of {@link #invokeAll(List, int, AtomicBoolean)} and waits until none of them is running. */
+    private static void awaitAborted(final List<Future<Void>> futures, final AtomicInteger running,
+        final AtomicBoolean aborted) {
+        boolean interrupted = false;
+        synchronized (aborted) {
+            aborted.set(true);
+            futures.forEach(f -> f.cancel(true));
+            while (running.get() > 0) {
+                try {
+                    aborted.wait();
+                } catch (InterruptedException ex) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** @return the minimum and maximum returned by the argument query or null if the result is empty */
+    private static Object[] readMinMax(final Connection conn, final String sql) throws SQLException {
+        LOGGER.debug("Executing SQL statement as executeQuery: " + sql);
+        try (Statement stmt = conn.createStatement(); ResultSet result = stmt.executeQuery(sql)) {
+            if (!result.next()) {
+                return null;
+            }
+            final Object min = result.getObject(1);
+            final Object max = result.getObject(2);
+            return min == null || max == null ? null : new Object[]{min, max};
+        } finally {
+            if (!conn.getAutoCommit()) {
+                conn.commit();
+            }
+        }
+    }
+
+    /**
+     * Splits the range between the argument minimum and maximum (as returned by the database for a numeric or date
+     * column) into equally sized ranges.
+     *
+     * @return the bounds (length <code>partitionCount + 1</code>, with the minimum as first and the maximum as last
+     *         element) or null if the type of the values is not supported
+     */
+    static Object[] computeRangeBounds(final Object min, final Object max, final int partitionCount) {
+        final BigDecimal lower;
+        final BigDecimal upper;
+        final Function<BigDecimal, Object> toValue;
+        try {
+            if (min instanceof java.util.Date && max instanceof java.util.Date) {
+                lower = BigDecimal.valueOf(((java.util.Date)min).getTime());
+                upper = BigDecimal.valueOf(((java.util.Date)max).getTime());
+                if (min instanceof java.sql.Date) {
+                    toValue = v -> new java.sql.Date(v.longValue());
+                } else if (min instanceof Time) {
+                    toValue = v -> new Time(v.longValue());
+                } else {
+                    toValue = v -> new Timestamp(v.longValue());
+                }
+            } else if (min instanceof Number && max instanceof Number) {
+                lower = new BigDecimal(min.toString());
+                upper = new BigDecimal(max.toString());
+                final boolean isIntegral = min instanceof Byte || min instanceof Short || min instanceof Integer
+                    || min instanceof Long || min instanceof BigInteger;
+                toValue = isIntegral ? v -> v.setScale(0, RoundingMode.FLOOR) : v -> v;
+            } else {
+                return null;
+            }
+        } catch (NumberFormatException e) {
+            // NaN or infinity
+            return null;
+        }
+        final Object[] bounds = new Object[partitionCount + 1];
+        bounds[0] = min;
+        bounds[partitionCount] = max;
+        final BigDecimal width = upper.subtract(lower);
+        for (int i = 1; i < partitionCount; i++) {
+            bounds[i] = toValue.apply(lower.add(width.multiply(BigDecimal.valueOf(i))
+                .divide(BigDecimal.valueOf(partitionCount), MathContext.DECIMAL128)));
+        }
+        return bounds;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -126,6 +126,12 @@ public class DBRowIteratorImpl extends RowIterator {
 
     protected final BinaryObjectCellFactory m_blobFactory;
 
+    /** The reader per column, created with the first row. */
+    private ColumnReader[] m_readers;
+
+    /** The SQL type per column as reported by the result set meta data. */
+    private int[] m_dbTypes;
+
     /**
      * @param spec {@link DataTableSpec}
      * @param conn {@link DatabaseConnectionSettings}
@@ -189,141 +195,163 @@ public boolean hasNext() {
      */
     @Override
     public DataRow next() {
-        DataCell[] cells = new DataCell[m_spec.getNumColumns()];
+        if (m_readers == null) {
+            m_readers = createColumnReaders();
+        }
+        DataCell[] cells = new DataCell[m_readers.length];
         for (int i = 0; i < cells.length; i++) {
-            DataType type = m_spec.getColumnSpec(i).getType();
-            int dbType = Types.NULL;
-            final DataCell cell;
             try {
-                dbType = m_result.getMetaData().getColumnType(i + 1);
-                if (type.isCompatible(BooleanValue.class)) {
-                    switch (dbType) {
-                        // all types that can be interpreted as boolean
-                        case Types.BIT:
-                        case Types.BOOLEAN:
-                            cell = readBoolean(i);
-                            break;
-                        default: cell = readBoolean(i);
-                    }
-                } else if (type.isCompatible(IntValue.class)) {
-                    switch (dbType) {
-                        // all types that can be interpreted as integer
-                        case Types.TINYINT:
-                            cell = readByte(i);
-                            break;
-                        case Types.SMALLINT:
-                            cell = readShort(i);
-                            break;
-                        case Types.INTEGER:
-                            cell = readInt(i);
-                            break;
-                        default: cell = readInt(i);
-                    }
-                } else if (type.isCompatible(LongValue.class)) {
-                    switch (dbType) {
-                        // all types that can be interpreted as long
-                        case Types.BIGINT:
-                            cell = readLong(i);
-                            break;
-                        default: cell = readLong(i);
-                    }
-                } else if (type.isCompatible(DoubleValue.class)) {
-                    switch (dbType) {
-                        // all types that can be interpreted as double
-                        case Types.REAL:
-                            cell = readFloat(i);
-                            break;
-                        default: cell = readDouble(i);
-                    }
-                } else if (type.isCompatible(DateAndTimeValue.class)) {
-                    switch (dbType) {
-                        case Types.DATE:
-                            cell = readDate(i); break;
-                        case Types.TIME:
-                            cell = readTime(i); break;
-                        case Types.TIMESTAMP:
-                            cell = readTimestamp(i); break;
-                        default: cell = readString(i);
-                    }
-                } else if (type.isCompatible(BinaryObjectDataValue.class)) {
-                    switch (dbType) {
-                        case Types.BLOB:
-                            DataCell c = null;
-                            try {
-                                c = readBlob(i);
-                            } catch (SQLException ex) {
-                                // probably not supported (e.g. SQLite), therefore try another method
-                                c = readBytesAsBLOB(i);
-                            }
-                            cell = c;
-                            break;
-                        case Types.LONGVARCHAR:
-                        case Types.LONGNVARCHAR:
-                            cell = readAsciiStream(i); break;
-                        case Types.BINARY:
-                        case Types.LONGVARBINARY:
-                        case Types.VARBINARY:
-                            cell = readBinaryStream(i); break;
-                        default: cell = readString(i);
-                    }
-                } else {
-                    switch (dbType) {
-                        case Types.CLOB:
-                            cell = readClob(i); break;
-                        case Types.ARRAY:
-                            cell = readArray(i); break;
-                        case Types.CHAR:
-                        case Types.VARCHAR:
-                        case Types.LONGVARCHAR:
-                            cell = readString(i); break;
-                        case Types.VARBINARY:
-                            cell = readBytesAsString(i); break;
-                        case Types.REF:
-                            cell = readRef(i); break;
-                        case Types.NCHAR:
-                        case Types.NVARCHAR:
-                        case Types.LONGNVARCHAR:
-                            cell = readNString(i); break;
-                        case Types.NCLOB:
-                            cell = readNClob(i); break;
-                        case Types.DATALINK:
-                            cell = readURL(i); break;
-                        case Types.STRUCT:
-                        case Types.JAVA_OBJECT:
-                            cell = readObject(i); break;
-                        default:
-                            cell = readObject(i); break;
-
-                    }
-                }
-                // finally set the new cell into the array of cells
-                cells[i] = cell;
+                cells[i] = m_readers[i].read(i);
             } catch (SQLException sqle) {
-                handlerException("SQL Exception reading Object of type \"" + dbType + "\": ", sqle);
+                handlerException("SQL Exception reading Object of type \"" + m_dbTypes[i] + "\": ", sqle);
                 cells[i] = new MissingCell(sqle.getMessage());
             } catch (IOException ioe) {
-                handlerException("I/O Exception reading Object of type \"" + dbType + "\": ", ioe);
+                handlerException("I/O Exception reading Object of type \"" + m_dbTypes[i] + "\": ", ioe);
                 cells[i] = new MissingCell(ioe.getMessage());
             }
         }
-        long rowId;
-        try {
-            rowId = m_result.getRow();
-            // Bug 2729: ResultSet#getRow return 0 if there is no row id
-            if (rowId <= 0 || !m_useDbRowId ) {
-                // use row counter
-                rowId = m_rowCounter;
-            } else if (m_rowIdsStartWithZero) {
-                rowId--; // first row in SQL always is 1, KNIME starts with 0
+        long rowId = m_rowCounter;
+        if (m_useDbRowId) {
+            try {
+                final long dbRowId = m_result.getRow();
+                // Bug 2729: ResultSet#getRow return 0 if there is no row id
+                if (dbRowId > 0) {
+                    rowId = m_rowIdsStartWithZero ? dbRowId - 1 : dbRowId; // first row in SQL always is 1
+                }
+            } catch (SQLException sqle) {
+                // ignored: use m_rowCounter
             }
-        } catch (SQLException sqle) {
-             // ignored: use m_rowCounter
-            rowId = m_rowCounter;
         }
         m_rowCounter++;
         return new DefaultRow(RowKey.createRowKey(rowId), cells);
     }
 
+    /**
+     * Reads the cell of one column in the current row of the result set.
+     * @since 3.8
+     */
+    @FunctionalInterface
+    protected interface ColumnReader {
+        /**
+         * @param i the column index (0-based)
+         * @return the cell, not null
+         * @throws SQLException if the value can't be read
+         * @throws IOException if the value can't be read
+         */
+        DataCell read(int i) throws SQLException, IOException;
+    }
+
+    /**
+     * Determines the reader of each column once per result set (instead of once per cell). If the SQL type of a
+     * column can't be read from the meta data, the reader of that column is determined per cell, i.e. only the cells
+     * whose SQL type can't be read are missing.
+     */
+    private ColumnReader[] createColumnReaders() {
+        final int nrColumns = m_spec.getNumColumns();
+        final ColumnReader[] readers = new ColumnReader[nrColumns];
+        m_dbTypes = new int[nrColumns];
+        for (int i = 0; i < nrColumns; i++) {
+            final DataType type = m_spec.getColumnSpec(i).getType();
+            try {
+                m_dbTypes[i] = m_result.getMetaData().getColumnType(i + 1);
+                readers[i] = createColumnReader(type, m_dbTypes[i]);
+            } catch (SQLException sqle) {
+                m_dbTypes[i] = Types.NULL;
+                readers[i] = col -> createColumnReader(type, m_result.getMetaData().getColumnType(col + 1)).read(col);
+            }
+        }
+        return readers;
+    }
+
+    /**
+     * Returns the reader for a column, called once per result set and column. The default implementation maps the
+     * KNIME and SQL type to one of the <code>read...</code> methods of this class.
+     *
+     * @param type the KNIME type of the column
+     * @param dbType the SQL type of the column as defined in {@link Types}
+     * @return the reader, not null
+     * @since 3.8
+     */
+    protected ColumnReader createColumnReader(final DataType type, final int dbType) {
+        if (type.isCompatible(BooleanValue.class)) {
+            // all types that can be interpreted as boolean
+            return this::readBoolean;
+        } else if (type.isCompatible(IntValue.class)) {
+            switch (dbType) {
+                // all types that can be interpreted as integer
+                case Types.TINYINT:
+                    return this::readByte;
+                case Types.SMALLINT:
+                    return this::readShort;
+                default:
+                    return this::readInt;
+            }
+        } else if (type.isCompatible(LongValue.class)) {
+            // all types that can be interpreted as long
+            return this::readLong;
+        } else if (type.isCompatible(DoubleValue.class)) {
+            // all types that can be interpreted as double
+            return dbType == Types.REAL ? this::readFloat : this::readDouble;
+        } else if (type.isCompatible(DateAndTimeValue.class)) {
+            switch (dbType) {
+                case Types.DATE:
+                    return this::readDate;
+                case Types.TIME:
+                    return this::readTime;
+                case Types.TIMESTAMP:
+                    return this::readTimestamp;
+                default:
+                    return this::readString;
+            }
+        } else if (type.isCompatible(BinaryObjectDataValue.class)) {
+            switch (dbType) {
+                case Types.BLOB:
+                    return i -> {
+                        try {
+                            return readBlob(i);
+                        } catch (SQLException ex) {
+                            // probably not supported (e.g. SQLite), therefore try another method
+                            return readBytesAsBLOB(i);
+                        }
+                    };
+                case Types.LONGVARCHAR:
+                case Types.LONGNVARCHAR:
+                    return this::readAsciiStream;
+                case Types.BINARY:
+                case Types.LONGVARBINARY:
+                case Types.VARBINARY:
+                    return this::readBinaryStream;
+                default:
+                    return this::readString;
+            }
+        } else {
+            switch (dbType) {
+                case Types.CLOB:
+                    return this::readClob;
+                case Types.ARRAY:
+                    return this::readArray;
+                case Types.CHAR:
+                case Types.VARCHAR:
+                case Types.LONGVARCHAR:
+                    return this::readString;
+                case Types.VARBINARY:
+                    return this::readBytesAsString;
+                case Types.REF:
+                    return this::readRef;
+                case Types.NCHAR:
+                case Types.NVARCHAR:
+                case Types.LONGNVARCHAR:
+                    return this::readNString;
+                case Types.NCLOB:
+                    return this::readNClob;
+                case Types.DATALINK:
+                    return this::readURL;
+                default:
+                    return this::readObject;
+            }
+        }
+    }
+
     protected DataCell readClob(final int i)
             throws IOException, SQLException {
         Clob clob = m_result.getClob(i + 1);
@@ -0,0 +1,86 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node.port.database.writer;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.TimeZone;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+
+/**
+ * Database specific path to load rows into a table that is faster than batched <code>INSERT</code> statements, such
+ * as <code>COPY</code> in PostgreSQL or direct path loads in Oracle. Returned by
+ * {@link org.knime.core.node.port.database.DatabaseUtility#getBulkLoader()}.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public interface DBBulkLoader {
+
+    /**
+     * Loads a batch of rows into the table. The method may be called concurrently on different connections.
+     *
+     * @param conn the connection to use; auto-commit is disabled, the transaction is committed (or rolled back) by
+     *            the caller
+     * @param table the (schema qualified) name of the table
+     * @param columnNames the column list of the corresponding <code>INSERT</code> statement, e.g. "(a,b,c)"
+     * @param spec the spec of the rows
+     * @param mapping for each column of the table the index of the corresponding column in the rows or -1 if the
+     *            rows don't contain the column (such columns are only part of the column list if <code>null</code>
+     *            is to be inserted for them)
+     * @param rows the rows to load
+     * @param count the number of rows to load (from index 0)
+     * @param timeZone the time zone used to convert date and time values
+     * @throws SQLException if loading fails
+     */
+    void load(Connection conn, String table, String columnNames, DataTableSpec spec, int[] mapping, DataRow[] rows,
+        int count, TimeZone timeZone) throws SQLException;
+
+}
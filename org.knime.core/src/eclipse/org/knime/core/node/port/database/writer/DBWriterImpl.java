@@ -44,6 +44,7 @@
  */
 package org.knime.core.node.port.database.writer;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
@@ -52,8 +53,17 @@
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.knime.core.data.BooleanValue;
 import org.knime.core.data.DataCell;
@@ -69,11 +79,14 @@
 import org.knime.core.data.date.DateAndTimeValue;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.port.database.DatabaseConnectionSettings;
 import org.knime.core.node.port.database.DatabaseHelper;
+import org.knime.core.node.port.database.connection.DBConnectionFactory;
 import org.knime.core.node.streamable.RowInput;
 import org.knime.core.node.workflow.CredentialsProvider;
+import org.knime.core.util.ThreadPool;
 
 /**
  * Creates a connection to write to database.
@@ -103,6 +116,25 @@ public DBWriterImpl(final DatabaseConnectionSettings conn) {
     public String writeData(final String table, final RowInput input, final long rowCount, final boolean appendData,
         final ExecutionMonitor exec, final Map<String, String> sqlTypes, final CredentialsProvider cp,
         final int batchSize, final boolean insertNullForMissingCols, final boolean failOnError) throws Exception {
+        return writeData(table, input, rowCount, appendData, exec, sqlTypes, cp, batchSize, insertNullForMissingCols,
+            failOnError, 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>If the parallelism is positive or the database provides a {@link DBBulkLoader} (and batches are written),
+     * the batches are handed over to writer threads while the input is read. The first writer uses the connection
+     * of the node, the others use {@linkplain DBConnectionFactory#getExclusiveConnection(CredentialsProvider,
+     * DatabaseConnectionSettings) exclusive connections} (as far as the connection factory provides them right away).
+     * Each writer
+     * commits its own transaction once all rows are written, hence the rows are not written atomically.
+     * @since 3.8
+     */
+    @Override
+    public String writeData(final String table, final RowInput input, final long rowCount, final boolean appendData,
+        final ExecutionMonitor exec, final Map<String, String> sqlTypes, final CredentialsProvider cp,
+        final int batchSize, final boolean insertNullForMissingCols, final boolean failOnError, final int parallelism)
+        throws Exception {
         final DatabaseConnectionSettings conSettings = getDatabaseConnectionSettings();
 //        final Connection conn = conSettings.createConnection(cp);
         return conSettings.execute(cp, conn -> {
@@ -311,6 +343,13 @@ public String writeData(final String table, final RowInput input, final long row
             final String insertStamtement =
                     createInsertStatment(table, columnNamesForInsertStatement.toString(), mapping, insertNullForMissingCols);
 
+            final DBBulkLoader bulkLoader = conSettings.getUtility().getBulkLoader();
+            if (batchSize > 1 && (parallelism > 0 || bulkLoader != null)) {
+                return new PipelinedWriter(conSettings, exec, table, columnNamesForInsertStatement.toString(),
+                    insertStamtement, spec, mapping, columnTypes, bulkLoader, insertNullForMissingCols, failOnError)
+                        .write(cp, conn, input, rowCount, batchSize, Math.max(1, parallelism));
+            }
+
             // problems writing more than 13 columns. the prepare statement
             // ensures that we can set the columns directly row-by-row, the
             // database will handle the commit
@@ -439,6 +478,286 @@ public String writeData(final String table, final RowInput input, final long row
         });
     }
 
+    /** A batch of rows handed over from the reading thread to the writer threads. */
+    private static final class Batch {
+
+        private final DataRow[] m_rows;
+
+        private final int m_count;
+
+        /** Number of the first row in the batch (starting with 1). */
+        private final long m_first;
+
+        Batch(final DataRow[] rows, final int count, final long first) {
+            m_rows = rows;
+            m_count = count;
+            m_first = first;
+        }
+    }
+
+    /**
+     * Writes the rows of a {@link RowInput} in batches, whereby the batches are executed by writer threads
+     * concurrently to reading the input. Each writer (lane) writes on its own connection in its own transaction.
+     * The lanes run in a sub pool of the {@link KNIMEConstants#GLOBAL_THREAD_POOL}. Package-visible for tests.
+     */
+    final class PipelinedWriter {
+
+        private final DatabaseConnectionSettings m_conSettings;
+
+        private final ExecutionMonitor m_exec;
+
+        private final String m_table;
+
+        private final String m_columnNames;
+
+        private final String m_insertStatement;
+
+        private final DataTableSpec m_spec;
+
+        private final int[] m_mapping;
+
+        private final Map<Integer, Integer> m_columnTypes;
+
+        /** The bulk loader or <code>null</code> if the insert statement is used. */
+        private final DBBulkLoader m_bulkLoader;
+
+        private final boolean m_insertNullForMissingCols;
+
+        private final boolean m_failOnError;
+
+        private final TimeZone m_timeZone;
+
+        private final AtomicLong m_allErrors = new AtomicLong();
+
+        /** Set if writing fails or is canceled, all lanes roll back their transaction. */
+        private final AtomicBoolean m_aborted = new AtomicBoolean();
+
+        /** Set by the reading thread after the last batch has been queued. */
+        private final AtomicBoolean m_inputDone = new AtomicBoolean();
+
+        PipelinedWriter(final DatabaseConnectionSettings conSettings, final ExecutionMonitor exec, final String table,
+            final String columnNames, final String insertStatement, final DataTableSpec spec, final int[] mapping,
+            final Map<Integer, Integer> columnTypes, final DBBulkLoader bulkLoader,
+            final boolean insertNullForMissingCols, final boolean failOnError) {
+            m_conSettings = conSettings;
+            m_exec = exec;
+            m_table = table;
+            m_columnNames = columnNames;
+            m_insertStatement = insertStatement;
+            m_spec = spec;
+            m_mapping = mapping;
+            m_columnTypes = columnTypes;
+            m_bulkLoader = bulkLoader;
+            m_insertNullForMissingCols = insertNullForMissingCols;
+            m_failOnError = failOnError;
+            m_timeZone = conSettings.getTimeZone();
+        }
+
+        String write(final CredentialsProvider cp, final Connection conn, final RowInput input, final long rowCount,
+            final int batchSize, final int parallelism) throws Exception {
+            final List<Connection> connections = new ArrayList<>(parallelism);
+            connections.add(conn);
+            try {
+                final DBConnectionFactory connectionFactory = m_conSettings.getUtility().getConnectionFactory();
+                final int maxConnections = Math.min(parallelism, 1 + connectionFactory.getMaxExclusiveConnections());
+                for (int i = 1; i < maxConnections; i++) {
+                    final Connection exclusiveConn = connectionFactory.getExclusiveConnection(cp, m_conSettings);
+                    if (exclusiveConn == null) {
+                        break;
+                    }
+                    connections.add(exclusiveConn);
+                }
+                LOGGER.debug("Writing batches of " + batchSize + " rows on " + connections.size() + " connection(s)"
+                    + (m_bulkLoader != null ? " using bulk loader" : ""));
+                final BlockingQueue<Batch> queue = new ArrayBlockingQueue<>(2 * connections.size());
+                final ThreadPool lanePool = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(connections.size());
+                final List<Future<Void>> lanes = new ArrayList<>(connections.size());
+                for (Connection laneConn : connections) {
+                    lanes.add(lanePool.enqueue(() -> runLane(laneConn, queue)));
+                }
+                final Callable<Long> readAndWait = () -> readAndWait(input, rowCount, batchSize, queue, lanes);
+                final ThreadPool currentPool = ThreadPool.currentPool();
+                final long cnt;
+                if (currentPool != null) {
+                    // don't occupy a thread of the pool while the lanes are running (the caller is usually a node's
+                    // execution thread), otherwise the lanes may not get a thread
+                    try {
+                        cnt = currentPool.runInvisible(readAndWait);
+                    } catch (ExecutionException e) {
+                        throw (Exception)e.getCause();
+                    }
+                } else {
+                    cnt = readAndWait.call();
+                }
+                final long allErrors = m_allErrors.get();
+                return allErrors == 0 ? null : "Errors \"" + allErrors + "\" writing " + cnt + " rows.";
+            } finally {
+                for (Connection exclusiveConn : connections.subList(1, connections.size())) {
+                    try {
+                        exclusiveConn.close();
+                    } catch (SQLException e) {
+                        LOGGER.debug("Could not close connection: " + e.getMessage(), e);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Reads the input and queues its rows in batches, then waits for all lanes to finish.
+         * @return the number of rows read
+         */
+        private long readAndWait(final RowInput input, final long rowCount, final int batchSize,
+            final BlockingQueue<Batch> queue, final List<Future<Void>> lanes) throws Exception {
+            Throwable failure = null;
+            long cnt = 0;
+            try {
+                DataRow[] rows = new DataRow[batchSize];
+                int count = 0;
+                DataRow row;
+                while (!m_aborted.get() && (row = input.poll()) != null) {
+                    rows[count++] = row;
+                    cnt++;
+                    m_exec.checkCanceled();
+                    if (rowCount > 0) {
+                        m_exec.setProgress(1.0 * cnt / rowCount, "Row " + "#" + cnt);
+                    } else {
+                        m_exec.setProgress("Writing Row#" + cnt);
+                    }
+                    if (count == batchSize) {
+                        put(queue, new Batch(rows, count, cnt - count + 1));
+                        rows = new DataRow[batchSize];
+                        count = 0;
+                    }
+                }
+                if (count > 0) {
+                    put(queue, new Batch(rows, count, cnt - count + 1));
+                }
+            } catch (Throwable t) {
+                failure = t;
+                m_aborted.set(true);
+            } finally {
+                m_inputDone.set(true);
+            }
+            for (Future<Void> lane : lanes) {
+                try {
+                    lane.get();
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause();
+                    }
+                } catch (InterruptedException e) {
+                    m_aborted.set(true);
+                    throw e;
+                }
+            }
+            if (failure instanceof Error) {
+                throw (Error)failure;
+            } else if (failure != null) {
+                throw (Exception)failure;
+            }
+            return cnt;
+        }
+
+        /** Queues the batch, waits as long as all lanes are busy. */
+        private void put(final BlockingQueue<Batch> queue, final Batch batch) throws Exception {
+            while (!queue.offer(batch, 100, TimeUnit.MILLISECONDS)) {
+                m_exec.checkCanceled();
+                if (m_aborted.get()) {
+                    return;
+                }
+            }
+        }
+
+        /** Writes queued batches until the input is done (then commits) or writing is aborted (then rolls back). */
+        private Void runLane(final Connection conn, final BlockingQueue<Batch> queue) throws Exception {
+            final boolean autoCommit = conn.getAutoCommit();
+            DatabaseConnectionSettings.setAutoCommit(conn, false);
+            try (PreparedStatement stmt = m_bulkLoader == null ? conn.prepareStatement(m_insertStatement) : null) {
+                while (!m_aborted.get()) {
+                    // check the flag before the queue: no batch is queued once the input is done
+                    final boolean inputDone = m_inputDone.get();
+                    final Batch batch = queue.poll(100, TimeUnit.MILLISECONDS);
+                    if (batch != null) {
+                        writeBatch(conn, stmt, batch);
+                    } else if (inputDone) {
+                        break;
+                    }
+                }
+                if (m_aborted.get()) {
+                    rollback(conn);
+                } else if (!conn.getAutoCommit()) {
+                    conn.commit();
+                }
+                return null;
+            } catch (Throwable t) {
+                m_aborted.set(true);
+                rollback(conn);
+                throw t;
+            } finally {
+                DatabaseConnectionSettings.setAutoCommit(conn, autoCommit);
+            }
+        }
+
+        private void writeBatch(final Connection conn, final PreparedStatement stmt, final Batch batch)
+            throws Exception {
+            try {
+                if (m_bulkLoader != null) {
+                    m_bulkLoader.load(conn, m_table, m_columnNames, m_spec, m_mapping, batch.m_rows, batch.m_count,
+                        m_timeZone);
+                } else {
+                    for (int r = 0; r < batch.m_count; r++) {
+                        int dbIdx = 1;
+                        for (int i = 0; i < m_mapping.length; i++) {
+                            if (m_mapping[i] < 0) {
+                                if (m_insertNullForMissingCols) {
+                                    stmt.setNull(dbIdx++, Types.NULL);
+                                }
+                            } else {
+                                fillStatement(stmt, dbIdx++, m_spec.getColumnSpec(m_mapping[i]),
+                                    batch.m_rows[r].getCell(m_mapping[i]), m_timeZone, m_columnTypes);
+                            }
+                        }
+                        stmt.addBatch();
+                    }
+                    stmt.executeBatch();
+                }
+            } catch (Throwable t) {
+                final String errorMsg = "Error while adding rows #" + batch.m_first + " - #"
+                    + (batch.m_first + batch.m_count - 1) + ", reason: " + t.getMessage();
+                if (m_failOnError) {
+                    // the lane rolls back all changes
+                    throw new Exception(errorMsg, t);
+                }
+                // Postgres will refuse any more commands in this transaction after errors
+                if (!conn.getAutoCommit()) {
+                    conn.commit();
+                }
+                final long errors = m_allErrors.incrementAndGet();
+                if (errors <= 10) {
+                    m_exec.setMessage(errorMsg);
+                    LOGGER.warn(errorMsg);
+                } else if (errors == 11) {
+                    m_exec.setMessage(errorMsg);
+                    LOGGER.warn(errorMsg + " - more errors...", t);
+                }
+            } finally {
+                if (stmt != null) {
+                    stmt.clearBatch();
+                }
+            }
+        }
+
+        private void rollback(final Connection conn) {
+            try {
+                if (!conn.getAutoCommit()) {
+                    conn.rollback();
+                }
+            } catch (Throwable ex) {
+                LOGGER.info("Failed rollback after db exception. Rollback error: " + ex.getMessage(), ex);
+            }
+        }
+    }
+
     /** Create connection to update table in database.
      * @param data The data to write.
      * @param setColumns columns part of the SET clause
@@ -59,6 +59,9 @@
  * requests, answers, queries, and notifies registered listeners.
  * <p>
  * This implementation keeps a list of row keys only for the hilit items.
+ * The keys are kept in a compact, immutable bitmap set that is replaced on
+ * each change (only the modified parts are copied), so that reading the hilite
+ * status doesn't require any locking or copying.
  * Furthermore, an event is only sent for items whose status actually changed.
  * The list of hilite keys is modified (delete or add keys) before the actual
  * event is send.
@@ -101,8 +104,8 @@ public class HiLiteHandler {
     /** List of registered <code>HiLiteListener</code>s to fire event to. */
     private final CopyOnWriteArrayList<HiLiteListener> m_listenerList;
 
-    /** Set of non-<code>null</code> hilit items. */
-    private Set<RowKey> m_hiLitKeys;
+    /** Set of non-<code>null</code> hilit items, replaced (not modified) by the synchronized fire methods. */
+    private volatile RowKeyBitSet m_hiLitKeys;
 
     /** Not-null if this {@link HiLiteHandler} is associated with one or more {@link HiLiteTranslator}s */
     private Set<HiLiteTranslator> m_hiliteTranslators;
@@ -118,7 +121,7 @@ public HiLiteHandler() {
         m_hiliteHandlerID = UUID.randomUUID();
         m_listenerList = new CopyOnWriteArrayList<>();
         // initialize item list
-        m_hiLitKeys = new LinkedHashSet<>();
+        m_hiLitKeys = RowKeyBitSet.empty();
         m_hiliteTranslators = new LinkedHashSet<>();
         m_hiliteManagers = new LinkedHashSet<>();
     }
@@ -247,12 +250,13 @@ public boolean isHiLit(final RowKey... ids) {
         if (ids == null) {
             throw new IllegalArgumentException("Key array must not be null.");
         }
+        final Set<RowKey> hiLitKeys = m_hiLitKeys;
         for (final RowKey c : ids) {
             if (c == null) {
                 throw new IllegalArgumentException(
                         "Key array must not contain null elements.");
             }
-            if (!m_hiLitKeys.contains(c)) {
+            if (!hiLitKeys.contains(c)) {
                 return false;
             }
         }
@@ -352,8 +356,6 @@ public synchronized void fireHiLiteEvent(final KeyEvent event) {
             throw new NullPointerException("KeyEvent must not be null");
         }
 
-        Set<RowKey> newHilitKeys = new LinkedHashSet<RowKey>(m_hiLitKeys);
-
         /*
          * Do not change this implementation, unless you are aware of the
          * following problem:
@@ -371,19 +373,11 @@ public synchronized void fireHiLiteEvent(final KeyEvent event) {
         if (ids.isEmpty()) {
             return;
         }
+        checkNoNullKeys(ids);
         // create list of row keys from input key array
         final Set<RowKey> changedIDs = new LinkedHashSet<RowKey>();
-        // iterates over all keys and adds them to the changed set
-        for (final RowKey id : ids) {
-            if (id == null) {
-                throw new IllegalArgumentException(
-                        "Key array must not contains null elements.");
-            }
-            // if the key is already hilit, do not add it
-            if (newHilitKeys.add(id)) {
-                changedIDs.add(id);
-            }
-        }
+        // adds all keys that are not hilit yet to the changed set
+        final RowKeyBitSet newHilitKeys = m_hiLitKeys.add(ids, changedIDs);
 
         // if at least on key changed
         if (!changedIDs.isEmpty()) {
@@ -440,20 +434,11 @@ public synchronized void fireUnHiLiteEvent(final KeyEvent event) {
             return;
         }
 
-        Set<RowKey> newHilitKeys = new LinkedHashSet<RowKey>(m_hiLitKeys);
-
+        checkNoNullKeys(ids);
         // create list of row keys from input key array
         final Set<RowKey> changedIDs = new LinkedHashSet<RowKey>();
-        // iterate over all keys and removes all not hilit ones
-        for (final RowKey id : ids) {
-            if (id == null) {
-                throw new IllegalArgumentException(
-                        "Key array must not contains null elements.");
-            }
-            if (newHilitKeys.remove(id)) {
-                changedIDs.add(id);
-            }
-        }
+        // removes all hilit keys and adds them to the changed set
+        final RowKeyBitSet newHilitKeys = m_hiLitKeys.remove(ids, changedIDs);
         // if at least on key changed
         if (!changedIDs.isEmpty()) {
             m_hiLitKeys = newHilitKeys;
@@ -501,7 +486,7 @@ public synchronized void fireClearHiLiteEvent(final KeyEvent event) {
          * more details.
          */
         if (!m_hiLitKeys.isEmpty()) {
-            m_hiLitKeys = new LinkedHashSet<RowKey>();
+            m_hiLitKeys = RowKeyBitSet.empty();
             final Runnable r = new Runnable() {
                 @Override
                 public void run() {
@@ -521,11 +506,21 @@ public void run() {
     }
 
     /**
-     * Returns a copy of all hilit keys.
+     * Returns a copy of all hilit keys. The returned set is a snapshot of the
+     * current hilite status which is only copied if it is modified by the caller.
      * @return a set of hilit row keys
      * @see HiLiteHandler#getHiLitKeys()
      */
     public Set<RowKey> getHiLitKeys() {
-        return new LinkedHashSet<RowKey>(m_hiLitKeys);
+        return m_hiLitKeys.copy();
+    }
+
+    private static void checkNoNullKeys(final Set<RowKey> ids) {
+        for (final RowKey id : ids) {
+            if (id == null) {
+                throw new IllegalArgumentException(
+                        "Key array must not contains null elements.");
+            }
+        }
     }
 }
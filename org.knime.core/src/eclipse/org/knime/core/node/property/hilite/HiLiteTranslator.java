@@ -46,9 +46,11 @@
  */
 package org.knime.core.node.property.hilite;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.knime.core.data.RowKey;
@@ -167,22 +169,26 @@ public void hiLite(final KeyEvent event) {
                 return;
             }
             if (m_mapper != null) {
-                // add all hilite keys from the event and all hilite keys
-                // from the target hilite handlers
-                final Set<RowKey> all = new LinkedHashSet<RowKey>(
-                        event.keys());
+                // the hilite keys from the event and all hilite keys from
+                // the target hilite handlers (snapshots, not copied)
+                final List<Set<RowKey>> all = new ArrayList<Set<RowKey>>();
+                all.add(event.keys());
                 for (HiLiteHandler hdl : m_targetHandlers) {
-                    all.addAll(hdl.getHiLitKeys());
+                    all.add(hdl.getHiLitKeys());
                 }
                 // check overlap with all mappings
+                final Set<RowKey> fireSet = new LinkedHashSet<RowKey>();
                 for (RowKey key : m_mapper.keySet()) {
                     final Set<RowKey> keys = m_mapper.getKeys(key);
                     // if all mapped keys are hilite then fire event
-                    if (all.containsAll(keys)) {
-                        m_sourceHandler.fireHiLiteEvent(
-                            new KeyEvent(m_eventSource, key));
+                    if (containsAll(all, keys)) {
+                        fireSet.add(key);
                     }
                 }
+                if (!fireSet.isEmpty()) {
+                    m_sourceHandler.fireHiLiteEvent(
+                        new KeyEvent(m_eventSource, fireSet));
+                }
             }
         }
         /**
@@ -195,17 +201,18 @@ public void unHiLite(final KeyEvent event) {
             }
             if (m_mapper != null) {
                 // check all mappings
+                final Set<RowKey> fireSet = new LinkedHashSet<RowKey>();
                 for (RowKey key : m_mapper.keySet()) {
                     final Set<RowKey> keys = m_mapper.getKeys(key);
                     // if at least one item is unhilite then fire event
-                    for (RowKey hilite : event.keys()) {
-                        if (keys.contains(hilite)) {
-                            m_sourceHandler.fireUnHiLiteEvent(
-                                new KeyEvent(m_eventSource, key));
-                            break;
-                        }
+                    if (!Collections.disjoint(keys, event.keys())) {
+                        fireSet.add(key);
                     }
                 }
+                if (!fireSet.isEmpty()) {
+                    m_sourceHandler.fireUnHiLiteEvent(
+                        new KeyEvent(m_eventSource, fireSet));
+                }
             }
         }
         /**
@@ -220,6 +227,28 @@ public void unHiLiteAll(final KeyEvent event) {
         }
     };
 
+    /**
+     * @param sets the sets to check
+     * @param keys the keys
+     * @return <code>true</code> if each key is contained in at least one set
+     */
+    private static boolean containsAll(final List<Set<RowKey>> sets,
+            final Set<RowKey> keys) {
+        for (RowKey key : keys) {
+            boolean contained = false;
+            for (Set<RowKey> set : sets) {
+                if (set.contains(key)) {
+                    contained = true;
+                    break;
+                }
+            }
+            if (!contained) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Creates a translator with an empty mapping and a default hilite
      * handler.
@@ -0,0 +1,382 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node.property.hilite;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.knime.core.data.RowKey;
+
+/**
+ * Immutable set of row keys used by the {@link HiLiteHandler} to keep the hilit keys. Each key is assigned a dense
+ * index (in the order keys are first hilit) by a dictionary that is shared by successive versions of the set; the
+ * membership is stored as a bitmap over these indices. The bitmap is split into blocks of 2^16 bits, similar to the
+ * containers of a roaring bitmap, so that {@link #add(Collection, Set)} and {@link #remove(Collection, Set)} only
+ * copy the blocks that are actually modified rather than the entire set. Reading methods don't need any locking;
+ * the modifying methods must not be called concurrently (the handler calls them in its synchronized methods).
+ *
+ * <p>Iteration order is the dictionary order, i.e. the order in which keys were first hilit.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+final class RowKeyBitSet extends AbstractSet<RowKey> {
+
+    private static final int BLOCK_SHIFT = 16;
+
+    private static final int BLOCK_MASK = (1 << BLOCK_SHIFT) - 1;
+
+    private static final int BLOCK_WORDS = (1 << BLOCK_SHIFT) >>> 6;
+
+    /** Dictionaries are rebuilt if they contain more than this many unused keys (and twice as many as used). */
+    private static final int MIN_UNUSED_KEYS_FOR_COMPACTION = 1 << 12;
+
+    /** Append-only dictionary assigning dense indices to row keys. */
+    private static final class Index {
+
+        private final ConcurrentHashMap<RowKey, Integer> m_indices = new ConcurrentHashMap<>();
+
+        /** Keys by index; replaced by a larger copy when full. Only the filled part is ever read. */
+        private RowKey[] m_keys = new RowKey[16];
+
+        private int m_size;
+
+        private int indexOf(final Object key) {
+            final Integer index = m_indices.get(key);
+            return index == null ? -1 : index;
+        }
+
+        /** Not thread-safe, called by the (single) modifying thread only. */
+        private int getOrAdd(final RowKey key) {
+            final int index = indexOf(key);
+            if (index >= 0) {
+                return index;
+            }
+            if (m_size == m_keys.length) {
+                m_keys = Arrays.copyOf(m_keys, m_size * 2);
+            }
+            m_keys[m_size] = key;
+            m_indices.put(key, m_size);
+            return m_size++;
+        }
+    }
+
+    private final Index m_index;
+
+    /** The dictionary's key array at the time this set was created; it contains all keys of this set, keys added
+     * to the dictionary later on are never looked up as their bits are not set in this set. */
+    private final RowKey[] m_keys;
+
+    /** Bitmap blocks, <code>null</code> elements represent empty blocks. */
+    private final long[][] m_blocks;
+
+    private final int m_size;
+
+    private RowKeyBitSet(final Index index, final long[][] blocks, final int size) {
+        m_index = index;
+        m_keys = index.m_keys;
+        m_blocks = blocks;
+        m_size = size;
+    }
+
+    /** @return a new empty set with its own dictionary */
+    static RowKeyBitSet empty() {
+        return new RowKeyBitSet(new Index(), new long[0][], 0);
+    }
+
+    /**
+     * Returns a set that additionally contains the given keys.
+     *
+     * @param keys the keys to add, not <code>null</code> and without <code>null</code> elements
+     * @param changed to which the keys are added that were not contained in this set
+     * @return the new set, or this set if nothing has changed
+     */
+    RowKeyBitSet add(final Collection<RowKey> keys, final Set<RowKey> changed) {
+        long[][] blocks = m_blocks;
+        int size = m_size;
+        for (RowKey key : keys) {
+            final int index = m_index.getOrAdd(key);
+            final long bit = 1L << index;
+            final int word = (index & BLOCK_MASK) >>> 6;
+            final int b = index >>> BLOCK_SHIFT;
+            if (b < blocks.length && blocks[b] != null && (blocks[b][word] & bit) != 0) {
+                continue;
+            }
+            if (blocks == m_blocks) {
+                blocks = Arrays.copyOf(m_blocks, Math.max(m_blocks.length, b + 1));
+            } else if (b >= blocks.length) {
+                blocks = Arrays.copyOf(blocks, b + 1);
+            }
+            writableBlock(blocks, b)[word] |= bit;
+            size++;
+            changed.add(key);
+        }
+        return blocks == m_blocks ? this : new RowKeyBitSet(m_index, blocks, size);
+    }
+
+    /**
+     * Returns a set that doesn't contain the given keys.
+     *
+     * @param keys the keys to remove, not <code>null</code> and without <code>null</code> elements
+     * @param changed to which the keys are added that were contained in this set
+     * @return the new set, or this set if nothing has changed
+     */
+    RowKeyBitSet remove(final Collection<RowKey> keys, final Set<RowKey> changed) {
+        long[][] blocks = m_blocks;
+        int size = m_size;
+        for (RowKey key : keys) {
+            final int index = m_index.indexOf(key);
+            if (index < 0) {
+                continue;
+            }
+            final long bit = 1L << index;
+            final int word = (index & BLOCK_MASK) >>> 6;
+            final int b = index >>> BLOCK_SHIFT;
+            if (b >= blocks.length || blocks[b] == null || (blocks[b][word] & bit) == 0) {
+                continue;
+            }
+            if (blocks == m_blocks) {
+                blocks = m_blocks.clone();
+            }
+            writableBlock(blocks, b)[word] &= ~bit;
+            size--;
+            changed.add(key);
+        }
+        if (blocks == m_blocks) {
+            return this;
+        }
+        if (size == 0) {
+            return empty();
+        }
+        final RowKeyBitSet result = new RowKeyBitSet(m_index, blocks, size);
+        final int unused = m_index.m_size - size;
+        if (unused > MIN_UNUSED_KEYS_FOR_COMPACTION && unused > 2 * size) {
+            // the dictionary mostly consists of keys that have been unhilit meanwhile
+            return empty().add(result, new LinkedHashSet<>());
+        }
+        return result;
+    }
+
+    /** Returns the block, which is copied first if it's shared with this set. */
+    private long[] writableBlock(final long[][] blocks, final int b) {
+        final long[] block = blocks[b];
+        if (block == null || (b < m_blocks.length && block == m_blocks[b])) {
+            blocks[b] = block == null ? new long[BLOCK_WORDS] : block.clone();
+        }
+        return blocks[b];
+    }
+
+    /**
+     * @return a modifiable set with the keys of this set, which is copied when it's modified for the first time
+     */
+    Set<RowKey> copy() {
+        return new CopyOnWriteSet(this);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean contains(final Object o) {
+        final int index = m_index.indexOf(o);
+        if (index < 0) {
+            return false;
+        }
+        final int b = index >>> BLOCK_SHIFT;
+        return b < m_blocks.length && m_blocks[b] != null
+            && (m_blocks[b][(index & BLOCK_MASK) >>> 6] & (1L << index)) != 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int size() {
+        return m_size;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isEmpty() {
+        return m_size == 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Iterator<RowKey> iterator() {
+        return new Iterator<RowKey>() {
+            private int m_block = 0;
+
+            private int m_word = -1;
+
+            private long m_bits = 0L;
+
+            /** {@inheritDoc} */
+            @Override
+            public boolean hasNext() {
+                while (m_bits == 0L) {
+                    if (m_block >= m_blocks.length) {
+                        return false;
+                    }
+                    final long[] block = m_blocks[m_block];
+                    if (block == null || ++m_word >= BLOCK_WORDS) {
+                        m_block++;
+                        m_word = -1;
+                    } else {
+                        m_bits = block[m_word];
+                    }
+                }
+                return true;
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public RowKey next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final int bit = Long.numberOfTrailingZeros(m_bits);
+                m_bits &= m_bits - 1;
+                return m_keys[(m_block << BLOCK_SHIFT) + (m_word << 6) + bit];
+            }
+        };
+    }
+
+    /**
+     * Modifiable set that delegates to a {@link RowKeyBitSet} until it's modified for the first time and then
+     * works on a copy of it. Used to hand out the hilit keys without copying them if the caller only reads them.
+     */
+    private static final class CopyOnWriteSet extends AbstractSet<RowKey> {
+
+        private final RowKeyBitSet m_snapshot;
+
+        private Set<RowKey> m_copy;
+
+        private CopyOnWriteSet(final RowKeyBitSet snapshot) {
+            m_snapshot = snapshot;
+        }
+
+        private Set<RowKey> read() {
+            return m_copy == null ? m_snapshot : m_copy;
+        }
+
+        private Set<RowKey> write() {
+            if (m_copy == null) {
+                m_copy = new LinkedHashSet<>(m_snapshot);
+            }
+            return m_copy;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean contains(final Object o) {
+            return read().contains(o);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int size() {
+            return read().size();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean add(final RowKey e) {
+            return (m_copy != null || !m_snapshot.contains(e)) && write().add(e);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean remove(final Object o) {
+            return (m_copy != null || m_snapshot.contains(o)) && write().remove(o);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void clear() {
+            m_copy = new LinkedHashSet<>();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Iterator<RowKey> iterator() {
+            if (m_copy != null) {
+                return m_copy.iterator();
+            }
+            // the snapshot doesn't change, removals go to the copy
+            final Iterator<RowKey> it = m_snapshot.iterator();
+            return new Iterator<RowKey>() {
+                private RowKey m_last;
+
+                /** {@inheritDoc} */
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                /** {@inheritDoc} */
+                @Override
+                public RowKey next() {
+                    m_last = it.next();
+                    return m_last;
+                }
+
+                /** {@inheritDoc} */
+                @Override
+                public void remove() {
+                    if (m_last == null) {
+                        throw new IllegalStateException();
+                    }
+                    write().remove(m_last);
+                    m_last = null;
+                }
+            };
+        }
+    }
+}
@@ -93,6 +93,16 @@ public DataRow poll() throws InterruptedException {
         return null;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public int poll(final DataRow[] rows) throws InterruptedException {
+        int count = 0;
+        while (count < rows.length && m_iterator.hasNext()) {
+            rows[count++] = m_iterator.next();
+        }
+        return count;
+    }
+
     /** {@inheritDoc} */
     @Override
     public void close() {
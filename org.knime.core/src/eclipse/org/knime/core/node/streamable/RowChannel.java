@@ -0,0 +1,317 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node.streamable;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.util.CheckUtils;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * A bounded single-producer/single-consumer channel that connects the {@link RowOutput} of one streamable operator
+ * with the {@link RowInput} of its successor. Rows are kept in a fixed size ring buffer, the producer blocks in
+ * {@link RowOutput#push(DataRow)} while the buffer is full and the consumer blocks in {@link RowInput#poll()} while
+ * it is empty. No data is written to disc, i.e. the memory footprint is bounded by the capacity of the channel.
+ * Threads of a {@link ThreadPool} don't count as running while they are blocked, so that the operators on both sides
+ * of the channel can run in the same (bounded) pool.
+ *
+ * <p>Closing the output signals the end of the stream (the consumer receives <code>null</code> once all buffered rows
+ * are polled). Closing the input indicates that the consumer is not interested in more data, subsequent (or pending)
+ * calls to {@link RowOutput#push(DataRow)} then throw an {@link RowOutput.OutputClosedException}.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public final class RowChannel {
+
+    /** Default number of rows that can be buffered in a channel. */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private final DataTableSpec m_spec;
+
+    private final DataRow[] m_buffer;
+
+    private final ReentrantLock m_lock = new ReentrantLock();
+
+    private final Condition m_notEmpty = m_lock.newCondition();
+
+    private final Condition m_notFull = m_lock.newCondition();
+
+    /** Index of the next row to be polled. */
+    private int m_head;
+
+    /** Number of rows currently in the buffer. */
+    private int m_size;
+
+    /** Set by the producer, no more rows will be pushed. */
+    private boolean m_isOutputClosed;
+
+    /** Set by the consumer (or on abort), no more rows will be polled. */
+    private boolean m_isInputClosed;
+
+    private final RowInput m_input = new ChannelRowInput();
+
+    private final RowOutput m_output = new ChannelRowOutput();
+
+    /**
+     * Creates a new channel with {@link #DEFAULT_CAPACITY}.
+     *
+     * @param spec the spec of the rows transported through this channel, not null
+     */
+    public RowChannel(final DataTableSpec spec) {
+        this(spec, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new channel.
+     *
+     * @param spec the spec of the rows transported through this channel, not null
+     * @param capacity the maximum number of rows buffered in the channel, &gt; 0
+     */
+    public RowChannel(final DataTableSpec spec, final int capacity) {
+        m_spec = CheckUtils.checkArgumentNotNull(spec, "Spec must not be null");
+        CheckUtils.checkArgument(capacity > 0, "Capacity must be larger than 0: %d", capacity);
+        m_buffer = new DataRow[capacity];
+    }
+
+    /** @return the consumer side of the channel. */
+    public RowInput getInput() {
+        return m_input;
+    }
+
+    /** @return the producer side of the channel. */
+    public RowOutput getOutput() {
+        return m_output;
+    }
+
+    /**
+     * Closes both sides of the channel and discards all buffered rows. Threads blocked in
+     * {@link RowInput#poll()} receive <code>null</code>, threads blocked in {@link RowOutput#push(DataRow)} an
+     * {@link RowOutput.OutputClosedException}. Used to tear down a pipeline after a failure or cancelation.
+     */
+    public void abort() {
+        m_lock.lock();
+        try {
+            m_isOutputClosed = true;
+            closeInputInternal();
+            m_notEmpty.signalAll();
+        } finally {
+            m_lock.unlock();
+        }
+    }
+
+    /**
+     * Waits for the argument condition of the lock, which must be held. If the current thread is taken out of a thread
+     * pool it is invisible to the pool while waiting. Otherwise the operator on the other side of the channel might
+     * never be started if all threads of the pool are blocked by channels.
+     */
+    private static void await(final Condition condition) throws InterruptedException {
+        if (ThreadPool.currentPool() == null) {
+            condition.await();
+            return;
+        }
+        try {
+            // the root pool also counts the threads of its sub pools
+            KNIMEConstants.GLOBAL_THREAD_POOL.runInvisible(() -> {
+                condition.await();
+                return null;
+            });
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof InterruptedException) {
+                throw (InterruptedException)e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /** Requires the lock to be held. */
+    private void closeInputInternal() {
+        m_isInputClosed = true;
+        for (int i = 0; i < m_size; i++) {
+            m_buffer[(m_head + i) % m_buffer.length] = null;
+        }
+        m_head = 0;
+        m_size = 0;
+        m_notFull.signalAll();
+    }
+
+    private final class ChannelRowInput extends RowInput {
+
+        /** {@inheritDoc} */
+        @Override
+        public DataTableSpec getDataTableSpec() {
+            return m_spec;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public DataRow poll() throws InterruptedException {
+            m_lock.lockInterruptibly();
+            try {
+                while (m_size == 0 && !m_isOutputClosed && !m_isInputClosed) {
+                    await(m_notEmpty);
+                }
+                if (m_size == 0) {
+                    return null;
+                }
+                final DataRow row = m_buffer[m_head];
+                m_buffer[m_head] = null;
+                m_head = (m_head + 1) % m_buffer.length;
+                m_size -= 1;
+                m_notFull.signal();
+                return row;
+            } finally {
+                m_lock.unlock();
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int poll(final DataRow[] rows) throws InterruptedException {
+            m_lock.lockInterruptibly();
+            try {
+                while (m_size == 0 && !m_isOutputClosed && !m_isInputClosed) {
+                    await(m_notEmpty);
+                }
+                final int count = Math.min(m_size, rows.length);
+                for (int i = 0; i < count; i++) {
+                    rows[i] = m_buffer[m_head];
+                    m_buffer[m_head] = null;
+                    m_head = (m_head + 1) % m_buffer.length;
+                }
+                m_size -= count;
+                if (count > 0) {
+                    m_notFull.signal();
+                }
+                return count;
+            } finally {
+                m_lock.unlock();
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void close() {
+            m_lock.lock();
+            try {
+                closeInputInternal();
+            } finally {
+                m_lock.unlock();
+            }
+        }
+    }
+
+    private final class ChannelRowOutput extends RowOutput {
+
+        /** {@inheritDoc} */
+        @Override
+        public void push(final DataRow row) throws InterruptedException {
+            m_lock.lockInterruptibly();
+            try {
+                while (m_size == m_buffer.length && !m_isInputClosed) {
+                    await(m_notFull);
+                }
+                if (m_isInputClosed) {
+                    throw new OutputClosedException();
+                }
+                CheckUtils.checkState(!m_isOutputClosed, "Output has already been closed");
+                m_buffer[(m_head + m_size) % m_buffer.length] = row;
+                m_size += 1;
+                m_notEmpty.signal();
+            } finally {
+                m_lock.unlock();
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void push(final DataRow[] rows, final int count) throws InterruptedException {
+            int offset = 0;
+            while (offset < count) {
+                m_lock.lockInterruptibly();
+                try {
+                    while (m_size == m_buffer.length && !m_isInputClosed) {
+                        await(m_notFull);
+                    }
+                    if (m_isInputClosed) {
+                        throw new OutputClosedException();
+                    }
+                    CheckUtils.checkState(!m_isOutputClosed, "Output has already been closed");
+                    final int chunk = Math.min(count - offset, m_buffer.length - m_size);
+                    for (int i = 0; i < chunk; i++) {
+                        m_buffer[(m_head + m_size + i) % m_buffer.length] = rows[offset + i];
+                    }
+                    m_size += chunk;
+                    offset += chunk;
+                    m_notEmpty.signal();
+                } finally {
+                    m_lock.unlock();
+                }
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void close() {
+            m_lock.lock();
+            try {
+                m_isOutputClosed = true;
+                m_notEmpty.signalAll();
+            } finally {
+                m_lock.unlock();
+            }
+        }
+    }
+
+}
@@ -83,6 +83,39 @@ public abstract class RowInput extends PortInput {
      */
     public abstract DataRow poll() throws InterruptedException;
 
+    /**
+     * Gets the next rows from the input stream, filling the argument array from index 0. The call blocks until at
+     * least one row is available or the end of the stream has been reached but it does not wait for the array to be
+     * completely filled. Implementations that need to synchronize or dispatch on each call should override this
+     * method to transfer all rows that are available without waiting at once; the default implementation calls
+     * {@link #poll()} once and hence returns at most one row (it can't tell whether another row is available without
+     * blocking).
+     *
+     * <pre>
+     * DataRow[] batch = new DataRow[64];
+     * int count;
+     * while ((count = rowInput.poll(batch)) &gt; 0) {
+     *     for (int i = 0; i &lt; count; i++) {
+     *         // do something with batch[i]
+     *     }
+     * }
+     * rowInput.close();
+     * </pre>
+     *
+     * @param rows the non-empty array to fill
+     * @return the number of rows written into the array, 0 if the end of the stream has been reached
+     * @throws InterruptedException If canceled.
+     * @since 3.8
+     */
+    public int poll(final DataRow[] rows) throws InterruptedException {
+        final DataRow row = poll();
+        if (row == null) {
+            return 0;
+        }
+        rows[0] = row;
+        return 1;
+    }
+
     /** Indicates that no more input is needed. Upstream nodes may stop
      * generating data (unless there are other consumers). */
     public abstract void close();
@@ -69,6 +69,23 @@ public abstract class RowOutput extends PortOutput {
      */
     public abstract void push(final DataRow row) throws InterruptedException;
 
+    /**
+     * Adds the first <code>count</code> rows of the argument array to the output, in order. Implementations that need
+     * to synchronize or dispatch on each call should override this method to transfer a batch of rows at once; the
+     * default implementation calls {@link #push(DataRow)} for each row.
+     *
+     * @param rows the rows to add, the array is not modified and may be reused after the call returns
+     * @param count the number of rows to add (from index 0)
+     * @throws InterruptedException If canceled.
+     * @throws OutputClosedException If no consumer is to consume the generated output.
+     * @since 3.8
+     */
+    public void push(final DataRow[] rows, final int count) throws InterruptedException {
+        for (int i = 0; i < count; i++) {
+            push(rows[i]);
+        }
+    }
+
     /** Fully sets the table and closes the output. Only valid to call if no other rows were added previously through
      * {@link #push(DataRow)}.
      * @param table The non-null table to set.
@@ -0,0 +1,600 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node.streamable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowIterator;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.util.CheckUtils;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Executes a linear chain of streamable node models as one fused pipeline. The data output of each node is directly
+ * connected to the data input of its successor by a bounded {@link RowChannel}, i.e. no intermediate table is
+ * created; only the output of the last node is written into a {@link BufferedDataTable}.
+ *
+ * <p>Every node in the chain must have exactly one (data) input, which is {@linkplain InputPortRole#isStreamable()
+ * streamable}, and one data output, and must not require {@linkplain NodeModel#iterate(StreamableOperatorInternals)
+ * iterations} on its input (see {@link #isFusable(NodeModel)}). The operators of the chain run concurrently, each in
+ * a job of a sub pool of the {@link KNIMEConstants#GLOBAL_THREAD_POOL}; operators blocked by a channel don't occupy a
+ * thread of the pool.
+ *
+ * <p>If all nodes of the chain have distributable inputs and outputs the source table is additionally split into
+ * contiguous row ranges that are processed by independent copies of the pipeline (one
+ * {@link StreamableOperator} per node and partition, see {@link PartitionInfo}). The partial results are
+ * concatenated in partition order and the internals of the operators are combined using the nodes'
+ * {@link MergeOperator#mergeFinal(StreamableOperatorInternals[]) merge operators}.
+ *
+ * <p>The executor only runs the operators, it doesn't change the state of the nodes. The framework uses it to execute
+ * a single node on partitions of its input if {@link KNIMEConstants#PROPERTY_PARTITIONED_EXECUTION} is set, see
+ * {@link #executePartitioned(NodeModel, BufferedDataTable, ExecutionContext, int)}.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public final class StreamingPipelineExecutor {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(StreamingPipelineExecutor.class);
+
+    /** Interval in which the calling thread checks for cancelation while waiting for the pipeline. */
+    private static final long CANCEL_CHECK_INTERVAL_MS = 200;
+
+    /** Minimum number of rows per partition if a single node is executed on partitions of its input. */
+    private static final long MIN_PARTITION_SIZE = 10000;
+
+    private final NodeModel[] m_models;
+
+    private final int m_channelCapacity;
+
+    /**
+     * Creates a new executor using channels with {@link RowChannel#DEFAULT_CAPACITY}.
+     *
+     * @param models the node models of the chain in execution order, each must be {@linkplain #isFusable(NodeModel)
+     *            fusable}
+     * @throws IllegalArgumentException if the list is empty or contains a non-fusable model
+     */
+    public StreamingPipelineExecutor(final List<? extends NodeModel> models) {
+        this(models, RowChannel.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new executor.
+     *
+     * @param models the node models of the chain in execution order, each must be {@linkplain #isFusable(NodeModel)
+     *            fusable}
+     * @param channelCapacity the number of rows buffered between two adjacent nodes
+     * @throws IllegalArgumentException if the list is empty or contains a non-fusable model
+     */
+    public StreamingPipelineExecutor(final List<? extends NodeModel> models, final int channelCapacity) {
+        CheckUtils.checkArgument(models != null && !models.isEmpty(), "Pipeline must contain at least one node");
+        CheckUtils.checkArgument(channelCapacity > 0, "Channel capacity must be larger than 0: %d", channelCapacity);
+        for (NodeModel m : models) {
+            CheckUtils.checkArgument(isFusable(m), "Node model \"%s\" can't be fused into a streaming pipeline",
+                m.getClass().getName());
+        }
+        m_models = models.toArray(new NodeModel[models.size()]);
+        m_channelCapacity = channelCapacity;
+    }
+
+    /**
+     * Whether the argument model can be part of a fused streaming pipeline. This is the case if it has one streamable
+     * input and one output, and it does not need to iterate on its input before computing the output.
+     *
+     * @param model the model to test, not null
+     * @return that property
+     */
+    public static boolean isFusable(final NodeModel model) {
+        final InputPortRole[] inRoles = model.getInputPortRoles();
+        final OutputPortRole[] outRoles = model.getOutputPortRoles();
+        if (inRoles.length != 1 || outRoles.length != 1 || !inRoles[0].isStreamable()) {
+            return false;
+        }
+        if (inRoles[0].isDistributable() && !outRoles[0].isDistributable() && model.createMergeOperator() == null) {
+            // output is created in finishStreamableExecution, which requires merged internals
+            return false;
+        }
+        final StreamableOperatorInternals internals = model.createInitialStreamableOperatorInternals();
+        return internals == null || !model.iterate(internals);
+    }
+
+    /**
+     * Whether the pipeline can be run on several partitions of the input, i.e. whether all nodes have distributable
+     * inputs and outputs.
+     *
+     * @return that property
+     */
+    public boolean isPartitionable() {
+        for (NodeModel m : m_models) {
+            if (!m.getInputPortRoles()[0].isDistributable() || !m.getOutputPortRoles()[0].isDistributable()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Executes a single node on partitions of its input table in parallel, each partition containing at least 10000
+     * rows. Called by the framework instead of {@link NodeModel#execute(BufferedDataTable[], ExecutionContext)} if
+     * {@link KNIMEConstants#PROPERTY_PARTITIONED_EXECUTION} is set.
+     *
+     * @param model the model of the node
+     * @param input the (only) input table of the node
+     * @param exec the execution context of the node
+     * @param maxPartitions the maximum number of partitions
+     * @return the output table of the node or <code>null</code> if the node can't be executed on partitions of its
+     *         input, i.e. if it is not fusable, its input or output is not distributed, its output spec is not known
+     *         prior execution or the table is too small
+     * @throws CanceledExecutionException if canceled
+     * @throws Exception any exception thrown by the operators
+     * @since 3.8
+     */
+    public static BufferedDataTable executePartitioned(final NodeModel model, final BufferedDataTable input,
+        final ExecutionContext exec, final int maxPartitions) throws Exception {
+        final long partitionCount = Math.min(maxPartitions, input.size() / MIN_PARTITION_SIZE);
+        if (partitionCount < 2 || !isFusable(model)) {
+            return null;
+        }
+        final StreamingPipelineExecutor executor = new StreamingPipelineExecutor(Collections.singletonList(model));
+        if (!executor.isPartitionable()
+            || executor.computeSpecs(input.getDataTableSpec(), new StreamableOperatorInternals[1]) == null) {
+            return null;
+        }
+        return executor.execute(input, new ExecutionContext[]{exec}, (int)partitionCount);
+    }
+
+    /**
+     * Runs the pipeline on the argument table.
+     *
+     * @param input the input of the first node in the chain
+     * @param execs the execution contexts of the nodes, in the same order as the models (the last context creates
+     *            the output table and is used for cancelation checks)
+     * @param maxPartitions the maximum number of partitions processed in parallel; ignored (i.e. 1) unless the
+     *            pipeline is {@linkplain #isPartitionable() partitionable}
+     * @return the output of the last node in the chain
+     * @throws InvalidSettingsException if a node fails to determine its output spec prior execution
+     * @throws CanceledExecutionException if canceled
+     * @throws Exception any exception thrown by one of the operators
+     */
+    public BufferedDataTable execute(final BufferedDataTable input, final ExecutionContext[] execs,
+        final int maxPartitions) throws Exception {
+        CheckUtils.checkArgument(execs.length == m_models.length, "Expected %d execution contexts, got %d",
+            m_models.length, execs.length);
+        final int nrStages = m_models.length;
+        final StreamableOperatorInternals[] initialInternals = new StreamableOperatorInternals[nrStages];
+        final DataTableSpec[] specs = computeSpecs(input.getDataTableSpec(), initialInternals);
+        if (specs == null) {
+            throw new InvalidSettingsException(
+                "Output spec of a node is not known prior execution, it can't be part of a streaming pipeline");
+        }
+
+        final long rowCount = input.size();
+        final int partitionCount =
+            isPartitionable() ? (int)Math.max(1, Math.min(Math.max(1, maxPartitions), rowCount)) : 1;
+        final ExecutionContext resultExec = execs[nrStages - 1];
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final List<Pipeline> pipelines = new ArrayList<>(partitionCount);
+        // created and closed in this thread, the containers share the table repository of the execution context
+        final List<BufferedDataContainer> results = new ArrayList<>(partitionCount);
+        try {
+            long from = 0;
+            for (int p = 0; p < partitionCount; p++) {
+                final long to = rowCount * (p + 1) / partitionCount;
+                final RowInput source =
+                    partitionCount == 1 ? new DataTableRowInput(input) : new RangeRowInput(input, from, to);
+                results.add(resultExec.createDataContainer(specs[nrStages]));
+                pipelines.add(new Pipeline(new PartitionInfo(p, partitionCount), source, specs, initialInternals,
+                    results.get(p)));
+                from = to;
+            }
+            LOGGER.debugWithFormat("Running streaming pipeline of %d node(s) on %d partition(s)", nrStages,
+                partitionCount);
+            final StageJobs jobs = new StageJobs(pipelines, nrStages);
+            for (Pipeline pipeline : pipelines) {
+                pipeline.submit(jobs, execs, failure);
+            }
+            final ThreadPool currentPool = ThreadPool.currentPool();
+            if (currentPool == null) {
+                jobs.await(resultExec, failure);
+            } else {
+                try {
+                    // don't occupy a thread of the pool while waiting (the caller is usually a node's execution thread)
+                    currentPool.runInvisible(() -> {
+                        jobs.await(resultExec, failure);
+                        return null;
+                    });
+                } catch (ExecutionException e) {
+                    throw (Exception)e.getCause();
+                }
+            }
+            final Throwable t = failure.get();
+            if (t instanceof Exception) {
+                throw (Exception)t;
+            } else if (t != null) {
+                throw (Error)t;
+            }
+
+            final BufferedDataTable[] tables = new BufferedDataTable[partitionCount];
+            for (int p = 0; p < partitionCount; p++) {
+                results.get(p).close();
+                tables[p] = results.get(p).getTable();
+            }
+            if (partitionCount > 1) {
+                finishPartitioned(pipelines, execs);
+                return resultExec.createConcatenateTable(resultExec, tables);
+            }
+            return tables[0];
+        } catch (Exception | Error e) {
+            clearAll(resultExec, results);
+            throw e;
+        }
+    }
+
+    /**
+     * Determines the output specs of all nodes, prior execution.
+     *
+     * @param inSpec the spec of the input of the first node
+     * @param initialInternals filled with the initial internals of the nodes
+     * @return the input spec followed by the output specs of the nodes or <code>null</code> if the output spec of a
+     *         node is not known prior execution
+     */
+    private DataTableSpec[] computeSpecs(final DataTableSpec inSpec,
+        final StreamableOperatorInternals[] initialInternals) throws InvalidSettingsException {
+        final DataTableSpec[] specs = new DataTableSpec[m_models.length + 1];
+        specs[0] = inSpec;
+        for (int i = 0; i < m_models.length; i++) {
+            initialInternals[i] = m_models[i].createInitialStreamableOperatorInternals();
+            final PortObjectSpec[] outSpecs =
+                m_models[i].computeFinalOutputSpecs(initialInternals[i], new PortObjectSpec[]{specs[i]});
+            if (outSpecs == null || !(outSpecs[0] instanceof DataTableSpec)) {
+                return null;
+            }
+            specs[i + 1] = (DataTableSpec)outSpecs[0];
+        }
+        return specs;
+    }
+
+    /** Closes and clears the result containers of a failed or canceled execution. */
+    private static void clearAll(final ExecutionContext exec, final List<BufferedDataContainer> results) {
+        for (BufferedDataContainer container : results) {
+            try {
+                if (!container.isClosed()) {
+                    container.close();
+                }
+                exec.clearTable(container.getTable());
+            } catch (RuntimeException ex) {
+                LOGGER.debug("Unable to clear partition table: " + ex.getMessage(), ex);
+            }
+        }
+    }
+
+    /** Merges the internals of all partitions and calls {@link NodeModel#finishStreamableExecution(
+     * StreamableOperatorInternals, ExecutionContext, PortOutput[])} (all outputs are distributed). */
+    private void finishPartitioned(final List<Pipeline> pipelines, final ExecutionContext[] execs) throws Exception {
+        for (int i = 0; i < m_models.length; i++) {
+            final MergeOperator merge = m_models[i].createMergeOperator();
+            if (merge != null) {
+                final StreamableOperatorInternals[] internals = new StreamableOperatorInternals[pipelines.size()];
+                for (int p = 0; p < internals.length; p++) {
+                    internals[p] = pipelines.get(p).m_operators[i].saveInternals();
+                }
+                m_models[i].finishStreamableExecution(merge.mergeFinal(internals), execs[i], new PortOutput[1]);
+            }
+        }
+    }
+
+    /** The operators and channels processing one partition. */
+    private final class Pipeline {
+
+        private final PartitionInfo m_partitionInfo;
+
+        private final StreamableOperator[] m_operators;
+
+        private final RowInput[] m_inputs;
+
+        private final RowOutput[] m_outputs;
+
+        private final RowChannel[] m_channels;
+
+        Pipeline(final PartitionInfo partitionInfo, final RowInput source, final DataTableSpec[] specs,
+            final StreamableOperatorInternals[] initialInternals, final BufferedDataContainer result)
+            throws InvalidSettingsException {
+            final int nrStages = m_models.length;
+            m_partitionInfo = partitionInfo;
+            m_operators = new StreamableOperator[nrStages];
+            m_inputs = new RowInput[nrStages];
+            m_outputs = new RowOutput[nrStages];
+            m_channels = new RowChannel[nrStages - 1];
+            m_inputs[0] = source;
+            for (int i = 0; i < nrStages - 1; i++) {
+                m_channels[i] = new RowChannel(specs[i + 1], m_channelCapacity);
+                m_outputs[i] = m_channels[i].getOutput();
+                m_inputs[i + 1] = m_channels[i].getInput();
+            }
+            m_outputs[nrStages - 1] = new ResultRowOutput(result);
+            for (int i = 0; i < nrStages; i++) {
+                m_operators[i] =
+                    m_models[i].createStreamableOperator(partitionInfo, new PortObjectSpec[]{specs[i]});
+                if (initialInternals[i] != null) {
+                    m_operators[i].loadInternals(initialInternals[i]);
+                }
+            }
+        }
+
+        void submit(final StageJobs jobs, final ExecutionContext[] execs, final AtomicReference<Throwable> failure) {
+            for (int i = 0; i < m_operators.length; i++) {
+                final int stage = i;
+                jobs.submit(() -> runStage(stage, execs[stage], failure));
+            }
+        }
+
+        private void runStage(final int stage, final ExecutionContext exec,
+            final AtomicReference<Throwable> failure) {
+            final NodeModel model = m_models[stage];
+            final boolean isDistributedInput = model.getInputPortRoles()[0].isDistributable();
+            final boolean isDistributedOutput = model.getOutputPortRoles()[0].isDistributable();
+            // see NodeModel#getOutputPortRoles: if only the input is distributed the output is written on finish
+            final boolean isOutputInFinish = isDistributedInput && !isDistributedOutput;
+            try {
+                final PortOutput[] outputs = new PortOutput[]{isOutputInFinish ? null : m_outputs[stage]};
+                try {
+                    m_operators[stage].runFinal(new PortInput[]{m_inputs[stage]}, outputs, exec);
+                } catch (RowOutput.OutputClosedException oce) {
+                    // downstream node does not need any more data
+                }
+                final MergeOperator merge = model.createMergeOperator();
+                if (merge != null && m_partitionInfo.getPartitionCount() == 1) {
+                    final StreamableOperatorInternals merged =
+                        merge.mergeFinal(new StreamableOperatorInternals[]{m_operators[stage].saveInternals()});
+                    try {
+                        model.finishStreamableExecution(merged, exec,
+                            new PortOutput[]{isOutputInFinish ? m_outputs[stage] : null});
+                    } catch (RowOutput.OutputClosedException oce) {
+                        // as above
+                    }
+                }
+                m_outputs[stage].close();
+            } catch (Throwable t) {
+                if (failure.compareAndSet(null, t)) {
+                    LOGGER.debug("Streaming operator of \"" + model.getClass().getSimpleName() + "\" failed: "
+                        + t.getMessage(), t);
+                }
+                abort();
+            } finally {
+                // unblock upstream operators in case not all input was consumed
+                m_inputs[stage].close();
+            }
+        }
+
+        /** Tears down all channels, the operators blocked by one of them return. */
+        void abort() {
+            for (RowChannel c : m_channels) {
+                c.abort();
+            }
+        }
+    }
+
+    /** The operator jobs of all pipelines, run in a sub pool of the global thread pool. */
+    private static final class StageJobs {
+
+        private final List<Pipeline> m_pipelines;
+
+        private final ThreadPool m_pool;
+
+        private final List<Future<?>> m_futures = new ArrayList<>();
+
+        /** Number of jobs that have started but not finished yet, guarded by this. */
+        private int m_running;
+
+        /** Number of jobs that have finished, guarded by this. */
+        private int m_finished;
+
+        /** Set when the pipelines are torn down, jobs that haven't started yet then don't run; guarded by this. */
+        private boolean m_isAborted;
+
+        StageJobs(final List<Pipeline> pipelines, final int nrStages) {
+            m_pipelines = pipelines;
+            // all operators of all partitions must be able to run at the same time
+            m_pool = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(pipelines.size() * nrStages);
+        }
+
+        void submit(final Runnable stage) {
+            m_futures.add(m_pool.enqueue(() -> {
+                synchronized (this) {
+                    if (m_isAborted) {
+                        return;
+                    }
+                    m_running += 1;
+                }
+                try {
+                    stage.run();
+                } finally {
+                    synchronized (this) {
+                        m_running -= 1;
+                        m_finished += 1;
+                        notifyAll();
+                    }
+                }
+            }));
+        }
+
+        /**
+         * Waits until all jobs have finished. Tears down all pipelines as soon as one of the operators fails or if the
+         * execution is canceled.
+         */
+        void await(final ExecutionContext exec, final AtomicReference<Throwable> failure)
+            throws CanceledExecutionException, InterruptedException {
+            try {
+                synchronized (this) {
+                    while (m_finished < m_futures.size() && failure.get() == null) {
+                        exec.checkCanceled();
+                        wait(CANCEL_CHECK_INTERVAL_MS);
+                    }
+                }
+            } catch (CanceledExecutionException | InterruptedException e) {
+                abort();
+                throw e;
+            }
+            if (failure.get() != null) {
+                abort();
+            }
+        }
+
+        /** Tears down all pipelines, interrupts the running jobs and waits until none of them is running. */
+        private void abort() {
+            boolean isInterrupted = false;
+            synchronized (this) {
+                m_isAborted = true;
+                m_pipelines.forEach(Pipeline::abort);
+                m_futures.forEach(f -> f.cancel(true));
+                while (m_running > 0) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        isInterrupted = true;
+                    }
+                }
+            }
+            if (isInterrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Adds the rows of the last operator of a pipeline to the result container. Closing it has no effect, the container
+     * is closed by the calling thread once all operators have finished.
+     */
+    private static final class ResultRowOutput extends RowOutput {
+
+        private final BufferedDataContainer m_container;
+
+        ResultRowOutput(final BufferedDataContainer container) {
+            m_container = container;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void push(final DataRow row) {
+            m_container.addRowToTable(row);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void close() {
+            // closed in the calling thread, see StreamingPipelineExecutor#execute
+        }
+    }
+
+    /**
+     * Reads the rows of a table within a given index range. The leading rows are skipped by the table's iterator
+     * builder, which avoids decoding them for tables read from disc. The iterator is created on first access, i.e. in
+     * the operator thread.
+     */
+    private static final class RangeRowInput extends RowInput {
+
+        private final BufferedDataTable m_table;
+
+        private final long m_to;
+
+        private RowIterator m_iterator;
+
+        private long m_from;
+
+        RangeRowInput(final BufferedDataTable table, final long from, final long to) {
+            m_table = table;
+            m_from = from;
+            m_to = to;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public DataTableSpec getDataTableSpec() {
+            return m_table.getDataTableSpec();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public DataRow poll() throws InterruptedException {
+            if (m_iterator == null) {
+                if (m_from >= m_to) {
+                    return null;
+                }
+                m_iterator = m_table.iteratorBuilder().filterRowsFromIndex(m_from).filterRowsToIndex(m_to - 1).build();
+            }
+            return m_iterator.hasNext() ? m_iterator.next() : null;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void close() {
+            m_from = m_to;
+            if (m_iterator instanceof CloseableRowIterator) {
+                ((CloseableRowIterator)m_iterator).close();
+            }
+        }
+    }
+
+}
@@ -367,6 +367,13 @@ protected static class WorkflowConfiguration {
         /** If the execution should fail if the workflow cannot be loaded sucessfully. */
         public boolean failOnLoadError;
 
+        /**
+         * If the resources used by each node should be logged after execution.
+         *
+         * @since 3.8
+         */
+        public boolean profile;
+
         /** The master key. */
         public String masterKey;
 
@@ -490,6 +497,8 @@ protected void handleCommandlineArgument(final String[] parts, final String s, f
             config.noExecute = true;
         } else if ("-failonloaderror".equals(parts[0])) {
             config.failOnLoadError = true;
+        } else if ("-profile".equals(parts[0])) {
+            config.profile = true;
         } else if ("-masterkey".equals(parts[0])) {
             if (parts.length > 1) {
                 if (parts[1].length() == 0) {
@@ -610,6 +619,8 @@ public static String getOptionsString() {
                 + " -reset            => reset workflow prior to execution\n"
                 + " -failonloaderror  => don't execute if there are errors during workflow loading\n"
                 + " -updateLinks      => update metanode links to latest version\n"
+                + " -profile          => log the resources (CPU time, allocated memory, rows, ...)\n"
+                + "                      used by each node after execution\n"
                 + " -credential=name[;login[;password]] => for each credential enter credential\n"
                 + "                      name and optional login/password, otherwise its prompted for\n"
                 + " -masterkey[=...]  => prompt for master password (used in e.g. database nodes),\n"
@@ -829,6 +840,18 @@ public void run() {
         return successful;
     }
 
+    /**
+     * Logs the resources used by each executed node.
+     *
+     * @param wfm the executed workflow
+     */
+    private static void logExecutionProfiles(final WorkflowManager wfm) {
+        LOGGER.info("Execution profile of the nodes:");
+        for (Map.Entry<NodeContainer, NodeExecutionProfile> e : NodeExecutionProfile.collectProfiles(wfm).entrySet()) {
+            LOGGER.info("  " + e.getKey().getNameWithID() + ": " + e.getValue());
+        }
+    }
+
     /**
      * Saves the workflow after execution.
      *
@@ -938,6 +961,9 @@ private int runOne(final WorkflowConfiguration config) {
                 String niceTime = StringFormat.formatElapsedTime(elapsedTimeMillis);
                 String timeString = "Finished in " + niceTime + " (" + elapsedTimeMillis + "ms)";
                 LOGGER.info("Workflow execution done " + timeString);
+                if (config.profile) {
+                    logExecutionProfiles(wfm);
+                }
                 LOGGER.debug("Status of workflow after execution:");
                 LOGGER.debug("------------------------------------");
                 dumpWorkflowToDebugLog(wfm);
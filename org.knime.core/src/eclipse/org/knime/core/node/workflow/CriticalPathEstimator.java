@@ -0,0 +1,265 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node.workflow;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Estimates the remaining execution time of the downstream path of a node that is about to be executed and turns it
+ * into a {@link ThreadPool} priority, so that nodes on the longest remaining path are started first when threads are
+ * scarce. The cost of a node is its average execution time as recorded by its {@link NodeTimer}, or the average of
+ * all nodes of the same type if the node hasn't been executed yet. The cost of the node to be executed is scaled by
+ * the ratio of its current input rows and the input rows of its last execution. Only successors within the same
+ * workflow level are considered; metanodes and components count as single nodes.
+ *
+ * <p>The costs of the downstream paths are cached per workflow, so that submitting a node usually neither requires
+ * the workflow lock nor a traversal of the workflow. The cache of a workflow is dropped when nodes or connections are
+ * added or removed, and it is refreshed every 10 seconds as the node costs change with each execution.
+ *
+ * <p>Enabled by {@link KNIMEConstants#PROPERTY_CRITICAL_PATH_SCHEDULING}.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public final class CriticalPathEstimator {
+
+    /** Whether critical path scheduling is enabled. */
+    public static final boolean ENABLED = Boolean.getBoolean(KNIMEConstants.PROPERTY_CRITICAL_PATH_SCHEDULING);
+
+    /** Assumed cost (in ms) of nodes without any recorded execution. */
+    private static final long DEFAULT_NODE_COST = 10;
+
+    /** Bounds for the scaling of a node's historical cost by its current input row count. */
+    private static final double MIN_ROW_SCALE = 0.01;
+
+    private static final double MAX_ROW_SCALE = 100;
+
+    /** Maximum age of cached downstream costs. */
+    private static final long MAX_COST_AGE_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    /** The cached downstream costs of the workflows in which nodes were submitted. */
+    private static final Map<WorkflowManager, WorkflowCosts> COSTS =
+        Collections.synchronizedMap(new WeakHashMap<WorkflowManager, WorkflowCosts>());
+
+    private CriticalPathEstimator() {
+    }
+
+    /**
+     * Computes the priority of the node about to be executed, see class description. Also remembers the input row
+     * count with the node's timer for future estimates.
+     *
+     * @param nc the node that is about to be executed
+     * @param inData the node's input data, may contain <code>null</code>s
+     * @return a priority between {@link ThreadPool#DEFAULT_PRIORITY} and 63, higher values for longer remaining paths
+     */
+    public static int getPriority(final NodeContainer nc, final PortObject[] inData) {
+        final long inputRows = countRows(inData);
+        long remainingCost = estimateCost(nc, inputRows);
+        nc.getNodeTimer().setInputRowCount(inputRows);
+        final WorkflowManager parent = nc.getParent();
+        if (parent != null) {
+            remainingCost += COSTS.computeIfAbsent(parent, WorkflowCosts::new).getMaxSuccessorCost(parent, nc.getID());
+        }
+        return toPriority(remainingCost);
+    }
+
+    /**
+     * Maps the cost to a priority on a logarithmic scale (the number of significant bits), so that nodes with
+     * similar costs share the same priority and are scheduled fairly.
+     */
+    static int toPriority(final long cost) {
+        return Long.SIZE - Long.numberOfLeadingZeros(Math.max(0, cost));
+    }
+
+    /**
+     * Returns the cost of the most expensive downstream path of a node, executed nodes don't add to the cost. The
+     * caller must hold the lock of the workflow.
+     *
+     * @param wfm the workflow containing the node
+     * @param id the node's id
+     * @param costFunction the cost of a single (not executed) node
+     * @return the cost of the most expensive path of successors, 0 if there are none
+     */
+    static long getMaxSuccessorCost(final WorkflowManager wfm, final NodeID id,
+        final ToLongFunction<NodeContainer> costFunction) {
+        return getMaxSuccessorCost(wfm, id, costFunction, new HashMap<NodeID, Long>());
+    }
+
+    /** As above, the successor costs of all visited nodes are put into the argument map. */
+    private static long getMaxSuccessorCost(final WorkflowManager wfm, final NodeID id,
+        final ToLongFunction<NodeContainer> costFunction, final Map<NodeID, Long> successorCosts) {
+        Long cost = successorCosts.get(id);
+        if (cost != null) {
+            return cost;
+        }
+        // guard against cycles, which shouldn't exist
+        successorCosts.put(id, 0L);
+        long max = 0;
+        for (ConnectionContainer cc : wfm.getOutgoingConnectionsFor(id)) {
+            if (!cc.getType().isLeavingWorkflow()) {
+                final NodeContainer dest = wfm.getNodeContainer(cc.getDest());
+                final long remaining = dest.getInternalState().isExecuted() ? 0 : costFunction.applyAsLong(dest);
+                max = Math.max(max, remaining + getMaxSuccessorCost(wfm, cc.getDest(), costFunction, successorCosts));
+            }
+        }
+        successorCosts.put(id, max);
+        return max;
+    }
+
+    private static long estimateCost(final NodeContainer nc, final long inputRows) {
+        final NodeTimer timer = nc.getNodeTimer();
+        final long cost;
+        if (timer.getNrExecsSinceStart() > 0) {
+            cost = timer.getExecutionDurationSinceStart() / timer.getNrExecsSinceStart();
+        } else {
+            cost = NodeTimer.GLOBAL_TIMER.getAverageExecutionTime(nc);
+            if (cost < 0) {
+                return DEFAULT_NODE_COST;
+            }
+        }
+        return Math.max(1, scaleByInputRows(cost, inputRows, timer.getInputRowsOfLastExecution()));
+    }
+
+    /**
+     * Scales the cost of a node's past execution by the ratio of its current and past input rows (bounded to
+     * a factor between 0.01 and 100).
+     *
+     * @param cost the cost of the past execution
+     * @param inputRows the current number of input rows, negative if unknown
+     * @param lastInputRows the number of input rows of the past execution, negative if unknown
+     * @return the scaled cost, the argument cost if either row count is unknown or the past row count is 0
+     */
+    static long scaleByInputRows(final long cost, final long inputRows, final long lastInputRows) {
+        if (inputRows < 0 || lastInputRows <= 0) {
+            return cost;
+        }
+        double scale = Math.min(MAX_ROW_SCALE, Math.max(MIN_ROW_SCALE, inputRows / (double)lastInputRows));
+        return Math.round(cost * scale);
+    }
+
+    private static long countRows(final PortObject[] inData) {
+        long rows = -1;
+        if (inData != null) {
+            for (PortObject po : inData) {
+                if (po instanceof BufferedDataTable) {
+                    rows = Math.max(rows, 0) + ((BufferedDataTable)po).size();
+                }
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * The successor costs of the nodes of one workflow, computed on demand. The successors of a node that is about to
+     * be executed are never executed, hence the cached values don't depend on the execution state of the workflow.
+     * Structural changes are delivered asynchronously, i.e. the cache may briefly return outdated costs. Doesn't
+     * reference the workflow, which is the weak key of its cache.
+     */
+    private static final class WorkflowCosts implements WorkflowListener {
+
+        private volatile Map<NodeID, Long> m_successorCosts;
+
+        private volatile long m_createdNanos;
+
+        WorkflowCosts(final WorkflowManager wfm) {
+            invalidate();
+            wfm.addListener(this);
+        }
+
+        long getMaxSuccessorCost(final WorkflowManager wfm, final NodeID id) {
+            if (System.nanoTime() - m_createdNanos > MAX_COST_AGE_NANOS) {
+                invalidate();
+            }
+            final Map<NodeID, Long> successorCosts = m_successorCosts;
+            final Long cached = successorCosts.get(id);
+            if (cached != null) {
+                return cached;
+            }
+            final Map<NodeID, Long> computed = new HashMap<>();
+            final long cost;
+            try (WorkflowLock lock = wfm.lock()) {
+                cost = CriticalPathEstimator.getMaxSuccessorCost(wfm, id, n -> estimateCost(n, -1), computed);
+            }
+            // values computed concurrently with an invalidation end up in the discarded map
+            successorCosts.putAll(computed);
+            return cost;
+        }
+
+        private void invalidate() {
+            m_successorCosts = new ConcurrentHashMap<>();
+            m_createdNanos = System.nanoTime();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void workflowChanged(final WorkflowEvent event) {
+            switch (event.getType()) {
+                case NODE_ADDED:
+                case NODE_REMOVED:
+                case CONNECTION_ADDED:
+                case CONNECTION_REMOVED:
+                    invalidate();
+                    break;
+                default:
+                    // annotations and the dirty flag don't change the costs
+            }
+        }
+    }
+}
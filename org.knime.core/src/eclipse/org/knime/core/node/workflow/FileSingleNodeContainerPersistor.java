@@ -544,6 +544,10 @@ protected static String save(final SingleNodeContainer singleNC, final Reference
         }
         boolean nodeDirDeleted = true;
         if (singleNC instanceof NativeNodeContainer) {
+            if (nodeDirExists) {
+                // port objects that haven't been accessed since load are still to be read from that directory
+                ((NativeNodeContainer)singleNC).getNode().readLazyOutputObjects();
+            }
             nodeDirDeleted = deleteChildren(nodeDir, SingleNodeContainer.DROP_DIR_NAME);
         }
         nodeDir.mkdirs();
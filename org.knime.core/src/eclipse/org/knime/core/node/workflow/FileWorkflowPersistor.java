@@ -114,6 +114,27 @@ public String toString() {
         }
     }
 
+    /** A node read from the workflow settings whose persistor is pre-loaded (possibly concurrently). */
+    private static final class NodePreLoad {
+        private final int m_nodeIDSuffix;
+        private final NodeUIInformation m_nodeUIInfo;
+        private final ReferencedFile m_nodeFile;
+        private final FromFileNodeContainerPersistor m_persistor;
+        private final NodeSettingsRO m_nodeSetting;
+        private final LoadResult m_childResult;
+
+        NodePreLoad(final int nodeIDSuffix, final NodeUIInformation nodeUIInfo, final ReferencedFile nodeFile,
+            final FromFileNodeContainerPersistor persistor, final NodeSettingsRO nodeSetting,
+            final LoadResult childResult) {
+            m_nodeIDSuffix = nodeIDSuffix;
+            m_nodeUIInfo = nodeUIInfo;
+            m_nodeFile = nodeFile;
+            m_persistor = persistor;
+            m_nodeSetting = nodeSetting;
+            m_childResult = childResult;
+        }
+    }
+
     static final LoadVersion VERSION_LATEST = LoadVersion.V3080;
 
     /** Format used to save author/edit infos. */
@@ -849,6 +870,7 @@ public void loadNodeContainer(final Map<Integer, BufferedDataTable> tblRep, fina
         exec.setMessage("node information");
         final ReferencedFile workflowDirRef = workflowKNIMEFile.getParent();
         /* Load nodes */
+        final List<NodePreLoad> preLoads = new ArrayList<>();
         for (String nodeKey : nodes.keySet()) {
             exec.checkCanceled();
             NodeSettingsRO nodeSetting;
@@ -927,7 +949,7 @@ public void loadNodeContainer(final Map<Integer, BufferedDataTable> tblRep, fina
                 failingNodeIDSet.add(nodeIDSuffix);
                 continue;
             }
-            FromFileNodeContainerPersistor persistor;
+            final FromFileNodeContainerPersistor persistor;
             switch (nodeType) {
                 case MetaNode:
                     persistor = createWorkflowPersistorLoad(nodeFile); break;
@@ -938,11 +960,27 @@ public void loadNodeContainer(final Map<Integer, BufferedDataTable> tblRep, fina
                 default:
                     throw new IllegalStateException("Unknown node type: " + nodeType);
             }
-            try {
-                LoadResult childResult = new LoadResult(nodeType.toString() + " with ID suffix " + nodeIDSuffix);
-                persistor.preLoadNodeContainer(this, nodeSetting, childResult);
-                loadResult.addChildError(childResult);
-            } catch (Throwable e) {
+            preLoads.add(new NodePreLoad(nodeIDSuffix, nodeUIInfo, nodeFile, persistor, nodeSetting,
+                new LoadResult(nodeType.toString() + " with ID suffix " + nodeIDSuffix)));
+        }
+
+        // reading the node settings (and instantiating the node factories) of different nodes is independent
+        final List<ParallelWorkflowIO.IOTask> preLoadTasks = new ArrayList<>(preLoads.size());
+        for (NodePreLoad preLoad : preLoads) {
+            preLoadTasks.add(
+                () -> preLoad.m_persistor.preLoadNodeContainer(this, preLoad.m_nodeSetting, preLoad.m_childResult));
+        }
+        final Throwable[] preLoadFailures = ParallelWorkflowIO.invokeAll(preLoadTasks, false);
+        exec.checkCanceled();
+
+        for (int i = 0; i < preLoads.size(); i++) {
+            final NodePreLoad preLoad = preLoads.get(i);
+            final FromFileNodeContainerPersistor persistor = preLoad.m_persistor;
+            int nodeIDSuffix = preLoad.m_nodeIDSuffix;
+            final Throwable e = preLoadFailures[i];
+            if (e == null) {
+                loadResult.addChildError(preLoad.m_childResult);
+            } else {
                 String error =
                     "Unable to load node with ID suffix " + nodeIDSuffix + " into workflow, skipping it: "
                         + e.getMessage();
@@ -966,7 +1004,7 @@ public void loadNodeContainer(final Map<Integer, BufferedDataTable> tblRep, fina
                     setDirtyAfterLoad();
                     failingNodeIDSet.add(nodeIDSuffix);
                     // node directory is the parent of the settings.xml
-                    m_obsoleteNodeDirectories.add(nodeFile.getParent());
+                    m_obsoleteNodeDirectories.add(preLoad.m_nodeFile.getParent());
                     continue;
                 }
             }
@@ -979,7 +1017,7 @@ public void loadNodeContainer(final Map<Integer, BufferedDataTable> tblRep, fina
                 nodeIDSuffix = randomID;
             }
             meta.setNodeIDSuffix(nodeIDSuffix);
-            meta.setUIInfo(nodeUIInfo);
+            meta.setUIInfo(preLoad.m_nodeUIInfo);
             if (persistor.isDirtyAfterLoad()) {
                 setDirtyAfterLoad();
             }
@@ -1917,18 +1955,39 @@ private static void saveContent(final WorkflowManager wm, final NodeSettings pre
             Collection<NodeContainer> nodes = wm.getNodeContainers();
             double progRatio = 1.0 / (nodes.size() + 1);
 
+            // native nodes only write into their own directory and settings, they are saved concurrently
+            final boolean isParallel = ParallelWorkflowIO.isParallel(nodes.size());
+            final List<ParallelWorkflowIO.IOTask> nativeNodeSaves = new ArrayList<>();
             for (NodeContainer nextNode : nodes) {
                 int id = nextNode.getID().getIndex();
                 ExecutionMonitor subExec = execMon.createSubProgress(progRatio);
-                execMon.setMessage(nextNode.getNameWithID());
                 NodeSettingsWO sub = nodesSettings.addNodeSettings("node_" + id);
-                NodeContext.pushContext(nextNode);
-                try {
-                    saveNodeContainer(sub, workflowDirRef, nextNode, subExec, saveHelper);
-                } finally {
-                    NodeContext.removeLastContext();
+                final ReferencedFile dirRef = workflowDirRef;
+                if (isParallel && nextNode instanceof NativeNodeContainer) {
+                    nativeNodeSaves.add(() -> saveNodeContainerInContext(sub, dirRef, nextNode, subExec, saveHelper));
+                } else {
+                    execMon.setMessage(nextNode.getNameWithID());
+                    saveNodeContainerInContext(sub, dirRef, nextNode, subExec, saveHelper);
+                }
+            }
+            if (!nativeNodeSaves.isEmpty()) {
+                // the message is only set by this thread, the monitor is shared by all concurrent saves
+                execMon.setMessage(nativeNodeSaves.size() + " nodes");
+            }
+            for (Throwable t : ParallelWorkflowIO.invokeAll(nativeNodeSaves, true)) {
+                if (t instanceof IOException) {
+                    throw (IOException)t;
+                } else if (t instanceof CanceledExecutionException) {
+                    throw (CanceledExecutionException)t;
+                } else if (t instanceof LockFailedException) {
+                    throw (LockFailedException)t;
+                } else if (t instanceof RuntimeException) {
+                    throw (RuntimeException)t;
+                } else if (t instanceof Error) {
+                    throw (Error)t;
+                } else if (t != null) {
+                    throw new IOException(t.getMessage(), t);
                 }
-                subExec.setProgress(1.0);
             }
 
             execMon.setMessage("connection information");
@@ -2139,6 +2198,18 @@ protected static NodeSettingsWO saveSettingsForConnections(final NodeSettingsWO
         return settings.addNodeSettings(KEY_CONNECTIONS);
     }
 
+    private static void saveNodeContainerInContext(final NodeSettingsWO settings,
+        final ReferencedFile workflowDirRef, final NodeContainer container, final ExecutionMonitor subExec,
+        final WorkflowSaveHelper saveHelper) throws CanceledExecutionException, IOException, LockFailedException {
+        NodeContext.pushContext(container);
+        try {
+            saveNodeContainer(settings, workflowDirRef, container, subExec, saveHelper);
+        } finally {
+            NodeContext.removeLastContext();
+        }
+        subExec.setProgress(1.0);
+    }
+
     protected static void saveNodeContainer(final NodeSettingsWO settings, final ReferencedFile workflowDirRef,
         final NodeContainer container, final ExecutionMonitor exec, final WorkflowSaveHelper saveHelper)
         throws CanceledExecutionException, IOException, LockFailedException {
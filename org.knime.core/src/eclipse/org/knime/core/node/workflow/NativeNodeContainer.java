@@ -553,12 +553,19 @@ public NodeContainerExecutionStatus performExecuteNode(final PortObject[] inObje
             setNodeMessage(new NodeMessage(NodeMessage.Type.WARNING, errorString));
             success = false;
         }
+        final NodeExecutionProfiler profiler = getNodeTimer().getProfiler();
+        profiler.start();
         NodeContext.pushContext(this);
         try {
             // execute node outside any synchronization!
             success = success && m_node.execute(inObjects, ev, ec);
         } finally {
             NodeContext.removeLastContext();
+            final PortObject[] outObjects = new PortObject[m_node.getNrOutPorts()];
+            for (int i = 0; i < outObjects.length; i++) {
+                outObjects[i] = m_node.getOutputObject(i);
+            }
+            profiler.finish(inObjects, outObjects);
         }
         if (success) {
             // output tables are made publicly available (for blobs)
@@ -1168,6 +1175,12 @@ public PortObject getOutputObject(final int portIndex) {
         return getNode().getOutputObject(portIndex);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasOutputObject(final int portIndex) {
+        return getNode().hasOutputObject(portIndex);
+    }
+
     /**
      * {@inheritDoc}
      */
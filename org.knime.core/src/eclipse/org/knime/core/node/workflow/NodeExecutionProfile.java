@@ -0,0 +1,189 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node.workflow;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+
+/**
+ * Resources used by one execution of a node, recorded by the {@link NodeExecutionProfiler} of its {@link NodeTimer}.
+ * CPU time and allocated bytes are measured for the thread executing the node only (work done in other threads,
+ * e.g. by parallel cell factories, is not included); the other counters include the work of all threads that run in
+ * the {@linkplain NodeContext context} of the node.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public final class NodeExecutionProfile {
+
+    private final long m_wallNanos;
+
+    private final long m_cpuNanos;
+
+    private final long m_allocatedBytes;
+
+    private final long[] m_rowsIn;
+
+    private final long[] m_rowsOut;
+
+    private final long m_spilledBytes;
+
+    private final long m_asyncWriteBlockedNanos;
+
+    private final long m_threadPoolWaitNanos;
+
+    NodeExecutionProfile(final long wallNanos, final long cpuNanos, final long allocatedBytes, final long[] rowsIn,
+        final long[] rowsOut, final long spilledBytes, final long asyncWriteBlockedNanos,
+        final long threadPoolWaitNanos) {
+        m_wallNanos = wallNanos;
+        m_cpuNanos = cpuNanos;
+        m_allocatedBytes = allocatedBytes;
+        m_rowsIn = rowsIn;
+        m_rowsOut = rowsOut;
+        m_spilledBytes = spilledBytes;
+        m_asyncWriteBlockedNanos = asyncWriteBlockedNanos;
+        m_threadPoolWaitNanos = threadPoolWaitNanos;
+    }
+
+    /** @return the wall-clock duration of the execution in nanoseconds */
+    public long getWallNanos() {
+        return m_wallNanos;
+    }
+
+    /** @return the CPU time of the executing thread in nanoseconds or -1 if not supported by the JVM */
+    public long getCpuNanos() {
+        return m_cpuNanos;
+    }
+
+    /** @return the bytes allocated by the executing thread or -1 if not supported by the JVM */
+    public long getAllocatedBytes() {
+        return m_allocatedBytes;
+    }
+
+    /**
+     * @return the number of rows per input port (including the flow variable port at index 0), -1 for ports that
+     *         aren't connected or don't carry a table
+     */
+    public long[] getRowsIn() {
+        return m_rowsIn.clone();
+    }
+
+    /**
+     * @return the number of rows per output port (including the flow variable port at index 0), -1 for ports that
+     *         don't carry a table
+     */
+    public long[] getRowsOut() {
+        return m_rowsOut.clone();
+    }
+
+    /** @return the number of bytes of tables written to temporary files */
+    public long getSpilledBytes() {
+        return m_spilledBytes;
+    }
+
+    /** @return the time in nanoseconds spent waiting for the asynchronous writing of data containers */
+    public long getAsyncWriteBlockedNanos() {
+        return m_asyncWriteBlockedNanos;
+    }
+
+    /** @return the time in nanoseconds jobs of the node waited in the queue of the thread pool */
+    public long getThreadPoolWaitNanos() {
+        return m_threadPoolWaitNanos;
+    }
+
+    /**
+     * Collects the last execution profiles of all executed nodes in the workflow, including the nodes in metanodes
+     * and components.
+     *
+     * @param wfm the workflow
+     * @return the profiles by node, in the order of the nodes in the workflow
+     */
+    public static Map<NodeContainer, NodeExecutionProfile> collectProfiles(final WorkflowManager wfm) {
+        final Map<NodeContainer, NodeExecutionProfile> profiles = new LinkedHashMap<>();
+        collectProfiles(wfm, profiles);
+        return profiles;
+    }
+
+    private static void collectProfiles(final WorkflowManager wfm,
+        final Map<NodeContainer, NodeExecutionProfile> profiles) {
+        for (NodeContainer nc : wfm.getNodeContainers()) {
+            if (nc instanceof WorkflowManager) {
+                collectProfiles((WorkflowManager)nc, profiles);
+            } else if (nc instanceof SubNodeContainer) {
+                collectProfiles(((SubNodeContainer)nc).getWorkflowManager(), profiles);
+            } else {
+                final NodeExecutionProfile profile = nc.getNodeTimer().getLastExecutionProfile();
+                if (profile != null) {
+                    profiles.put(nc, profile);
+                }
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "wall=" + millis(m_wallNanos) + ", cpu=" + (m_cpuNanos < 0 ? "n/a" : millis(m_cpuNanos))
+            + ", allocated=" + (m_allocatedBytes < 0 ? "n/a" : FileUtils.byteCountToDisplaySize(m_allocatedBytes))
+            + ", rows in=" + Arrays.toString(m_rowsIn) + ", rows out=" + Arrays.toString(m_rowsOut) + ", spilled="
+            + FileUtils.byteCountToDisplaySize(m_spilledBytes) + ", async write blocked="
+            + millis(m_asyncWriteBlockedNanos) + ", thread pool wait=" + millis(m_threadPoolWaitNanos);
+    }
+
+    private static String millis(final long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos) + "ms";
+    }
+
+}
@@ -0,0 +1,216 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node.workflow;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.port.PortObject;
+
+/**
+ * Records the resources used by the executions of a node, the result of an execution is a
+ * {@link NodeExecutionProfile}. Each {@link NodeTimer} has its own profiler. The static <code>record</code> methods
+ * are called by the framework classes (buffers, data containers, thread pool job listener) and attribute the counts to
+ * the node of the current {@link NodeContext}.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public final class NodeExecutionProfiler {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(NodeExecutionProfiler.class);
+
+    private static final ThreadMXBean THREAD_BEAN = ManagementFactory.getThreadMXBean();
+
+    /** com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long), <code>null</code> if not available. */
+    private static final Method ALLOCATED_BYTES_METHOD = initAllocatedBytesMethod();
+
+    private final LongAdder m_spilledBytes = new LongAdder();
+
+    private final LongAdder m_asyncWriteBlockedNanos = new LongAdder();
+
+    private final LongAdder m_threadPoolWaitNanos = new LongAdder();
+
+    private long m_startNanos = -1;
+
+    private long m_startCpuNanos;
+
+    private long m_startAllocatedBytes;
+
+    private volatile NodeExecutionProfile m_lastProfile;
+
+    NodeExecutionProfiler() {
+    }
+
+    private static Method initAllocatedBytesMethod() {
+        try {
+            final Method method =
+                Class.forName("com.sun.management.ThreadMXBean").getMethod("getThreadAllocatedBytes", long.class);
+            if (method.getDeclaringClass().isInstance(THREAD_BEAN)) {
+                return method;
+            }
+        } catch (ReflectiveOperationException | LinkageError e) {
+            LOGGER.debug("Allocated bytes per thread can't be measured: " + e.getMessage(), e);
+        }
+        return null;
+    }
+
+    private static long currentThreadCpuNanos() {
+        try {
+            return THREAD_BEAN.isCurrentThreadCpuTimeSupported() ? THREAD_BEAN.getCurrentThreadCpuTime() : -1;
+        } catch (UnsupportedOperationException e) {
+            return -1;
+        }
+    }
+
+    private static long currentThreadAllocatedBytes() {
+        if (ALLOCATED_BYTES_METHOD != null) {
+            try {
+                return (Long)ALLOCATED_BYTES_METHOD.invoke(THREAD_BEAN, Thread.currentThread().getId());
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                // fall through
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Called in the thread that executes the node before the execution starts. Discards all counts recorded since the
+     * last execution, e.g. by jobs of the previous run that outlived it.
+     */
+    void start() {
+        m_spilledBytes.reset();
+        m_asyncWriteBlockedNanos.reset();
+        m_threadPoolWaitNanos.reset();
+        m_startCpuNanos = currentThreadCpuNanos();
+        m_startAllocatedBytes = currentThreadAllocatedBytes();
+        m_startNanos = System.nanoTime();
+    }
+
+    /**
+     * Called in the thread that executed the node after the execution has finished (successfully or not).
+     *
+     * @param inputs the input port objects, elements may be <code>null</code>
+     * @param outputs the output port objects, elements may be <code>null</code>
+     */
+    void finish(final PortObject[] inputs, final PortObject[] outputs) {
+        if (m_startNanos < 0) {
+            return;
+        }
+        final long wallNanos = System.nanoTime() - m_startNanos;
+        final long cpuNanos = currentThreadCpuNanos();
+        final long allocatedBytes = currentThreadAllocatedBytes();
+        m_lastProfile = new NodeExecutionProfile(wallNanos,
+            cpuNanos < 0 || m_startCpuNanos < 0 ? -1 : cpuNanos - m_startCpuNanos,
+            allocatedBytes < 0 || m_startAllocatedBytes < 0 ? -1 : allocatedBytes - m_startAllocatedBytes,
+            rowCounts(inputs), rowCounts(outputs), m_spilledBytes.sumThenReset(),
+            m_asyncWriteBlockedNanos.sumThenReset(), m_threadPoolWaitNanos.sumThenReset());
+        m_startNanos = -1;
+    }
+
+    private static long[] rowCounts(final PortObject[] portObjects) {
+        final long[] counts = new long[portObjects.length];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = portObjects[i] instanceof BufferedDataTable ? ((BufferedDataTable)portObjects[i]).size() : -1;
+        }
+        return counts;
+    }
+
+    /** @return the profile of the last execution or <code>null</code> if the node hasn't been executed yet */
+    NodeExecutionProfile getLastProfile() {
+        return m_lastProfile;
+    }
+
+    /**
+     * Records the bytes of a table that was written to a temporary file.
+     *
+     * @param bytes the size of the file
+     */
+    public static void recordSpilledBytes(final long bytes) {
+        final NodeExecutionProfiler profiler = forContext(NodeContext.getContext());
+        if (profiler != null) {
+            profiler.m_spilledBytes.add(bytes);
+        }
+    }
+
+    /**
+     * Records the time a data container waited for its asynchronous writer.
+     *
+     * @param nanos the time in nanoseconds
+     */
+    public static void recordAsyncWriteBlockedNanos(final long nanos) {
+        final NodeExecutionProfiler profiler = forContext(NodeContext.getContext());
+        if (profiler != null) {
+            profiler.m_asyncWriteBlockedNanos.add(nanos);
+        }
+    }
+
+    /**
+     * Records the time a job waited in the queue of the thread pool.
+     *
+     * @param context the context of the thread that submitted the job, may be <code>null</code>
+     * @param nanos the time in nanoseconds
+     */
+    static void recordThreadPoolWaitNanos(final NodeContext context, final long nanos) {
+        final NodeExecutionProfiler profiler = forContext(context);
+        if (profiler != null) {
+            profiler.m_threadPoolWaitNanos.add(nanos);
+        }
+    }
+
+    private static NodeExecutionProfiler forContext(final NodeContext context) {
+        final NodeContainer nc = context == null ? null : context.getNodeContainer();
+        return nc == null ? null : nc.getNodeTimer().getProfiler();
+    }
+
+}
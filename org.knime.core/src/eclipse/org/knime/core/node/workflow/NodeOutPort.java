@@ -76,6 +76,19 @@ public interface NodeOutPort extends NodePort, NodeStateChangeListener, NodeCont
      */
     public PortObject getPortObject();
 
+    /**
+     * Whether this port has a port object, i.e. whether {@link #getPortObject()} would return a non-null object.
+     * Unlike {@link #getPortObject()} this does not read the object of a loaded node from disc (see
+     * {@link org.knime.core.node.KNIMEConstants#PROPERTY_LAZY_PORT_OBJECTS}), it's used by the framework to
+     * check for available data.
+     *
+     * @return whether there is a port object
+     * @since 3.8
+     */
+    public default boolean hasPortObject() {
+        return getPortObject() != null;
+    }
+
     /** Get summary of the underlying port object as provided by
      * {@link PortObject#getSummary()}. It's a separate method since calling
      * getPortObject().getSummary() may force the underlying table (if it is
@@ -160,6 +160,12 @@ public PortObject getPortObject() {
         return m_underlyingPort.getPortObject();
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasPortObject() {
+        return m_underlyingPort != null && m_underlyingPort.hasPortObject();
+    }
+
     /** {@inheritDoc} */
     @Override
     public String getPortSummary() {
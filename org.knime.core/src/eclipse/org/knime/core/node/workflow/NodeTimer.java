@@ -132,6 +132,13 @@ public final class NodeTimer {
     private long m_executionDurationOverall;
     private int m_numberOfExecutionsSinceReset;
     private int m_numberOfExecutionsOverall;
+    /** Number of input rows of the last successful execution, -1 if unknown. Guarded by this timer, it is written by
+     * the executing thread and read by threads estimating the cost of other nodes. */
+    private long m_inputRowsOfLastExecution = -1;
+    /** Number of input rows of the current execution, -1 if unknown. Guarded by this timer. */
+    private long m_inputRowsOfCurrentExecution = -1;
+    /** Records the resources used by the executions. */
+    private final NodeExecutionProfiler m_profiler = new NodeExecutionProfiler();
 
     /**
      * Container holding stats for the entire instance and all nodes that have been used/timed.
@@ -197,6 +204,20 @@ void addExecutionTime(final String cname, final boolean success, final long exec
                 processStatChanges();
             }
         }
+        /**
+         * Returns the average execution time of nodes of the same type as the argument node.
+         *
+         * @param nc the node
+         * @return the average execution time in milliseconds or -1 if no execution has been recorded
+         */
+        synchronized long getAverageExecutionTime(final NodeContainer nc) {
+            NodeStats ns = m_globalNodeStats.get(getCanonicalName(nc));
+            if (ns == null || ns.executionCount == 0) {
+                return -1;
+            }
+            return ns.executionTime / ns.executionCount;
+        }
+
         public void addNodeCreation(final NodeContainer nc) {
             if (DISABLE_GLOBAL_TIMER) {
                 return;
@@ -726,6 +747,40 @@ public int getNrExecsSinceStart() {
         return m_numberOfExecutionsOverall;
     }
 
+    /**
+     * @return the number of input rows of the last successful execution or -1 if unknown
+     */
+    synchronized long getInputRowsOfLastExecution() {
+        return m_inputRowsOfLastExecution;
+    }
+
+    /**
+     * Sets the number of input rows of the upcoming execution, remembered as
+     * {@link #getInputRowsOfLastExecution()} if the execution is successful.
+     *
+     * @param inputRows the number of input rows or -1 if unknown
+     */
+    synchronized void setInputRowCount(final long inputRows) {
+        m_inputRowsOfCurrentExecution = inputRows;
+    }
+
+    /**
+     * @return the profiler recording the resources used by the executions of the node
+     * @since 3.8
+     */
+    NodeExecutionProfiler getProfiler() {
+        return m_profiler;
+    }
+
+    /**
+     * @return the resources used by the last execution of the node or <code>null</code> if the node hasn't been
+     *         executed since it was loaded (or the node isn't a native node)
+     * @since 3.8
+     */
+    public NodeExecutionProfile getLastExecutionProfile() {
+        return m_profiler.getLastProfile();
+    }
+
     private void initialize() {
         m_startTime = -1;
         m_lastExecutionDuration = -1;
@@ -746,7 +801,8 @@ public void startExec() {
 
     public void endExec(final boolean success) {
         long currentTime = System.currentTimeMillis();
-        if (m_startTime > 0) {
+        final boolean wasStarted = m_startTime > 0;
+        if (wasStarted) {
             // only do this if startExec() was called before (which it should...)
             m_lastExecutionDuration = currentTime - m_startTime;
             m_executionDurationSinceReset += m_lastExecutionDuration;
@@ -757,6 +813,15 @@ public void endExec(final boolean success) {
             GLOBAL_TIMER.addExecutionTime(cname, success, m_lastExecutionDuration);
         }
         m_startTime = -1;
+        endInputRowCount(wasStarted && success);
+    }
+
+    /** Remembers the input rows of the current execution if it was successful, called at the end of an execution. */
+    private synchronized void endInputRowCount(final boolean success) {
+        if (success) {
+            m_inputRowsOfLastExecution = m_inputRowsOfCurrentExecution;
+        }
+        m_inputRowsOfCurrentExecution = -1;
     }
 
 }
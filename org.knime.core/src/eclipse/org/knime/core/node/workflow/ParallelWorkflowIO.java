@@ -0,0 +1,216 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node.workflow;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Runs independent per-node I/O tasks of the workflow persistors (reading settings and port data, writing node
+ * directories) concurrently on a bounded sub pool of the {@link KNIMEConstants#GLOBAL_THREAD_POOL}. The degree of
+ * parallelism is controlled by {@link KNIMEConstants#PROPERTY_WORKFLOW_PARALLEL_IO}; if it is 1 the tasks are run
+ * in the calling thread, in order.
+ *
+ * <p>Failures are not propagated but returned per task so that callers can apply the same error handling as for a
+ * sequential load or save. Callers must do all bookkeeping that depends on the order of the nodes after the tasks
+ * have completed.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+final class ParallelWorkflowIO {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ParallelWorkflowIO.class);
+
+    /** Upper bound for the default parallelism, the tasks are mostly waiting for I/O. */
+    private static final int MAX_DEFAULT_PARALLELISM = 4;
+
+    /** The number of tasks run concurrently, 1 if disabled. Only changed by tests. */
+    private static volatile int parallelism = initParallelism();
+
+    /** A task reading or writing the files of a single node. */
+    @FunctionalInterface
+    interface IOTask {
+        /** @throws Exception any failure, returned by {@link ParallelWorkflowIO#invokeAll(List, boolean)} */
+        void run() throws Exception;
+    }
+
+    private ParallelWorkflowIO() {
+    }
+
+    private static int initParallelism() {
+        final int defaultValue = Math.min(MAX_DEFAULT_PARALLELISM, Runtime.getRuntime().availableProcessors());
+        final String value = System.getProperty(KNIMEConstants.PROPERTY_WORKFLOW_PARALLEL_IO);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            final int result = Integer.parseInt(value.trim());
+            if (result >= 1) {
+                return result;
+            }
+        } catch (NumberFormatException e) {
+            // fall through
+        }
+        LOGGER.warn("Invalid value for system property \"" + KNIMEConstants.PROPERTY_WORKFLOW_PARALLEL_IO + "\": \""
+            + value + "\", using " + defaultValue + " instead");
+        return defaultValue;
+    }
+
+    /**
+     * Changes the parallelism, used by tests to compare parallel with sequential loads and saves.
+     *
+     * @param newParallelism the number of tasks run concurrently, 1 to disable
+     * @return the previous parallelism
+     */
+    static int setParallelism(final int newParallelism) {
+        if (newParallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be > 0: " + newParallelism);
+        }
+        final int previous = parallelism;
+        parallelism = newParallelism;
+        return previous;
+    }
+
+    /**
+     * @param taskCount the number of tasks about to be run
+     * @return whether {@link #invokeAll(List, boolean)} runs the tasks concurrently
+     */
+    static boolean isParallel(final int taskCount) {
+        return parallelism > 1 && taskCount > 1;
+    }
+
+    /**
+     * Runs all tasks and waits for their completion.
+     *
+     * @param tasks the tasks, non-null
+     * @param failFast if <code>true</code>, tasks that have not been started when another task fails are skipped
+     * @return the failure of each task by index, <code>null</code> elements for successful (or skipped) tasks
+     * @throws CanceledExecutionException if the calling thread is interrupted while waiting; not yet started tasks
+     *             are skipped then
+     */
+    static Throwable[] invokeAll(final List<? extends IOTask> tasks, final boolean failFast)
+        throws CanceledExecutionException {
+        final Throwable[] failures = new Throwable[tasks.size()];
+        if (!isParallel(tasks.size())) {
+            for (int i = 0; i < failures.length; i++) {
+                failures[i] = run(tasks.get(i));
+                if (failFast && failures[i] != null) {
+                    break;
+                }
+            }
+            return failures;
+        }
+        final AtomicBoolean skipRemaining = new AtomicBoolean();
+        final ThreadPool pool = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(Math.min(parallelism, tasks.size()));
+        final List<Future<Void>> futures = new ArrayList<>(tasks.size());
+        for (int i = 0; i < failures.length; i++) {
+            final int index = i;
+            final IOTask task = tasks.get(i);
+            futures.add(pool.enqueue(() -> {
+                if (!skipRemaining.get()) {
+                    failures[index] = run(task);
+                    if (failFast && failures[index] != null) {
+                        skipRemaining.set(true);
+                    }
+                }
+                return null;
+            }));
+        }
+        final Callable<Void> awaitAll = () -> {
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+            return null;
+        };
+        try {
+            final ThreadPool currentPool = ThreadPool.currentPool();
+            if (currentPool != null) {
+                // don't occupy a thread of the pool while waiting for the tasks (nested metanodes)
+                currentPool.runInvisible(awaitAll);
+            } else {
+                awaitAll.call();
+            }
+        } catch (Exception e) {
+            Throwable cause = e;
+            while (cause instanceof ExecutionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            skipRemaining.set(true);
+            for (Future<Void> future : futures) {
+                future.cancel(true);
+            }
+            if (cause instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            final CanceledExecutionException cee =
+                new CanceledExecutionException("Interrupted while waiting for workflow I/O tasks");
+            cee.initCause(cause);
+            throw cee;
+        }
+        return failures;
+    }
+
+    private static Throwable run(final IOTask task) {
+        try {
+            task.run();
+            return null;
+        } catch (Throwable t) {
+            return t;
+        }
+    }
+
+}
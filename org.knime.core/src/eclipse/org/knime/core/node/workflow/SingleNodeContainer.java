@@ -1229,6 +1229,19 @@ public final MemoryPolicy getOutDataMemoryPolicy() {
      */
     public abstract PortObject getOutputObject(final int portIndex);
 
+    /**
+     * Whether there is an output object at the given port. Other than {@link #getOutputObject(int)} this doesn't read
+     * port objects of loaded nodes that are read on first access.
+     *
+     * @param portIndex ...
+     * @return whether {@link #getOutputObject(int)} returns a non-null object
+     * @since 3.8
+     * @noreference This method is not intended to be referenced by clients.
+     */
+    public boolean hasOutputObject(final int portIndex) {
+        return getOutputObject(portIndex) != null;
+    }
+
     /**
      * @param portIndex ...
      * @return ...
@@ -191,6 +191,7 @@
 import org.knime.core.util.LoadVersion;
 import org.knime.core.util.LockFailedException;
 import org.knime.core.util.Pair;
+import org.knime.core.util.ThreadPool;
 import org.knime.core.util.VMFileLocker;
 import org.knime.core.util.pathresolve.ResolverUtil;
 import org.knime.core.util.workflowalizer.AuthorInformation;
@@ -355,6 +356,7 @@ public Thread newThread(final Runnable r) {
     private File m_tmpDir = null;
 
     static {
+        ThreadPool.setJobListener(new WorkflowJobListener());
         executeEarlyStartup();
     }
 
@@ -2769,7 +2771,7 @@ private boolean markAndQueueNodeAndPredecessors(final NodeID id, final int outPo
                 if (portIt != null) {
                     // allowed to be null: could be optional and if not it
                     // was tested above
-                    if (!portIt.getNodeState().isExecutionInProgress() && portIt.getPortObject() == null) {
+                    if (!portIt.getNodeState().isExecutionInProgress() && !portIt.hasPortObject()) {
                         // if not executing anymore then we should have
                         // a port object otherwise we can't mark:
                         canBeMarked = false;
@@ -5522,7 +5524,7 @@ InternalNodeContainerState computeNewState() {
                 if (nop == null) {
                     allPopulated = false;
                     inportState = IDLE;
-                } else if (nop.getPortObject() == null) {
+                } else if (!nop.hasPortObject()) {
                     allPopulated = false;
                     switch (nop.getNodeState()) {
                         case IDLE:
@@ -7756,195 +7758,200 @@ private void postLoad(final Map<NodeID, NodeContainerPersistor> persistorMap,
         // had NPE below - adding this line to get better debug information
         CheckUtils.checkArgumentNotNull(nodeIDsInPersistorSet,
             "NodeID list from persistor must not be null for workflow %s", getNameWithID());
-        for (NodeID bfsID : m_workflow.createBreadthFirstSortedList(nodeIDsInPersistorSet, true).keySet()) {
-            NodeContainer cont = getNodeContainer(bfsID);
-            // initialize node container with CredentialsStore
-            if (cont instanceof SingleNodeContainer) {
-                SingleNodeContainer snc = (SingleNodeContainer)cont;
-                snc.setCredentialsStore(m_credentialsStore);
-            }
-            LoadResult subResult = new LoadResult(cont.getNameWithID());
-            boolean isFullyConnected = isFullyConnected(bfsID);
-            boolean needsReset;
-            switch (cont.getInternalState()) {
-                case IDLE:
-                case UNCONFIGURED_MARKEDFOREXEC:
-                    needsReset = false;
-                    break;
-                default:
-                    // we reset everything which is not fully connected
-                    needsReset = !isFullyConnected;
-                    break;
-            }
-            NodeOutPort[] predPorts = assemblePredecessorOutPorts(bfsID);
-            final int predCount = predPorts.length;
-            PortObject[] portObjects = new PortObject[predCount];
-            boolean inPortsContainNull = false;
-            FlowObjectStack[] predStacks = new FlowObjectStack[predCount];
-            for (int i = 0; i < predCount; i++) {
-                NodeOutPort p = predPorts[i];
-                if (cont instanceof SingleNodeContainer && p != null) {
+        final List<NodeID> bfsList =
+            new ArrayList<>(m_workflow.createBreadthFirstSortedList(nodeIDsInPersistorSet, true).keySet());
+        for (List<NodeID> wave : createLoadWaves(bfsList)) {
+            final List<NodeLoad> nodeLoads = new ArrayList<>(wave.size());
+            for (NodeID bfsID : wave) {
+                NodeContainer cont = getNodeContainer(bfsID);
+                // initialize node container with CredentialsStore
+                if (cont instanceof SingleNodeContainer) {
                     SingleNodeContainer snc = (SingleNodeContainer)cont;
-                    snc.setInHiLiteHandler(i, p.getHiLiteHandler());
+                    snc.setCredentialsStore(m_credentialsStore);
                 }
-                if (p != null) {
-                    predStacks[i] = p.getFlowObjectStack();
-                    portObjects[i] = p.getPortObject();
-                    inPortsContainNull &= portObjects[i] == null;
+                LoadResult subResult = new LoadResult(cont.getNameWithID());
+                boolean isFullyConnected = isFullyConnected(bfsID);
+                boolean needsReset;
+                switch (cont.getInternalState()) {
+                    case IDLE:
+                    case UNCONFIGURED_MARKEDFOREXEC:
+                        needsReset = false;
+                        break;
+                    default:
+                        // we reset everything which is not fully connected
+                        needsReset = !isFullyConnected;
+                        break;
                 }
-            }
-            FlowObjectStack inStack;
-            try {
-                if (isSourceNode(bfsID)) {
-                    predStacks = new FlowObjectStack[]{getWorkflowVariableStack()};
-                }
-                inStack = new FlowObjectStack(cont.getID(), predStacks);
-            } catch (IllegalFlowObjectStackException ex) {
-                subResult.addError("Errors creating flow object stack for " + "node \"" + cont.getNameWithID()
-                    + "\", (resetting " + "flow variables): " + ex.getMessage());
-                needsReset = true;
-                inStack = new FlowObjectStack(cont.getID());
-            }
-            NodeContainerPersistor persistor = persistorMap.get(bfsID);
-            InternalNodeContainerState loadState = persistor.getMetaPersistor().getState();
-            exec.setMessage(cont.getNameWithID());
-            exec.checkCanceled();
-            // two steps below: loadNodeContainer and loadContent
-            ExecutionMonitor sub1 = exec.createSubProgress(1.0 / (2 * m_workflow.getNrNodes()));
-            ExecutionMonitor sub2 = exec.createSubProgress(1.0 / (2 * m_workflow.getNrNodes()));
-            NodeContext.pushContext(cont);
-            try {
-                persistor.loadNodeContainer(tblRep, sub1, subResult);
-            } catch (CanceledExecutionException e) {
-                throw e;
-            } catch (Exception e) {
-                if (!(e instanceof InvalidSettingsException) && !(e instanceof IOException)) {
-                    LOGGER.error("Caught unexpected \"" + e.getClass().getSimpleName() + "\" during node loading", e);
+                NodeOutPort[] predPorts = assemblePredecessorOutPorts(bfsID);
+                final int predCount = predPorts.length;
+                boolean inPortsContainNull = false;
+                FlowObjectStack[] predStacks = new FlowObjectStack[predCount];
+                for (int i = 0; i < predCount; i++) {
+                    NodeOutPort p = predPorts[i];
+                    if (cont instanceof SingleNodeContainer && p != null) {
+                        SingleNodeContainer snc = (SingleNodeContainer)cont;
+                        snc.setInHiLiteHandler(i, p.getHiLiteHandler());
+                    }
+                    if (p != null) {
+                        predStacks[i] = p.getFlowObjectStack();
+                        // don't access the object, it might not be read yet (lazy port objects)
+                        inPortsContainNull &= !p.hasPortObject();
+                    }
                 }
-                subResult.addError("Errors loading, skipping it: " + e.getMessage());
-                needsReset = true;
-            } finally {
-                NodeContext.removeLastContext();
-            }
-            sub1.setProgress(1.0);
-            // if cont == isolated metanodes, then we need to block that metanode as well
-            // (that is being asserted in methods which get called indirectly)
-            try (WorkflowLock lock = cont instanceof WorkflowManager ? ((WorkflowManager)cont).lock() : lock()) {
-                cont.loadContent(persistor, tblRep, inStack, sub2, subResult, keepNodeMessage);
-            }
-            sub2.setProgress(1.0);
-            if (persistor.isDirtyAfterLoad()) {
-                cont.setDirty();
-            }
-            boolean hasPredecessorFailed = false;
-            for (ConnectionContainer cc : m_workflow.getConnectionsByDest(bfsID)) {
-                NodeID s = cc.getSource();
-                if (s.equals(getID())) {
-                    continue; // don't consider WFM_IN connections
+                FlowObjectStack inStack;
+                try {
+                    if (isSourceNode(bfsID)) {
+                        predStacks = new FlowObjectStack[]{getWorkflowVariableStack()};
+                    }
+                    inStack = new FlowObjectStack(cont.getID(), predStacks);
+                } catch (IllegalFlowObjectStackException ex) {
+                    subResult.addError("Errors creating flow object stack for " + "node \"" + cont.getNameWithID()
+                        + "\", (resetting " + "flow variables): " + ex.getMessage());
+                    needsReset = true;
+                    inStack = new FlowObjectStack(cont.getID());
+                }
+                NodeContainerPersistor persistor = persistorMap.get(bfsID);
+                InternalNodeContainerState loadState = persistor.getMetaPersistor().getState();
+                exec.setMessage(cont.getNameWithID());
+                exec.checkCanceled();
+                // two steps below: loadNodeContainer and loadContent
+                ExecutionMonitor sub1 = exec.createSubProgress(1.0 / (2 * m_workflow.getNrNodes()));
+                ExecutionMonitor sub2 = exec.createSubProgress(1.0 / (2 * m_workflow.getNrNodes()));
+                nodeLoads.add(new NodeLoad(bfsID, cont, persistor, loadState, subResult, inStack, inPortsContainNull,
+                    needsReset, sub1, sub2));
+            }
+            loadNodeContainers(nodeLoads, tblRep);
+            for (NodeLoad nodeLoad : nodeLoads) {
+                final NodeID bfsID = nodeLoad.m_id;
+                final NodeContainer cont = nodeLoad.m_cont;
+                final NodeContainerPersistor persistor = nodeLoad.m_persistor;
+                final InternalNodeContainerState loadState = nodeLoad.m_loadState;
+                final LoadResult subResult = nodeLoad.m_subResult;
+                final FlowObjectStack inStack = nodeLoad.m_inStack;
+                final boolean inPortsContainNull = nodeLoad.m_inPortsContainNull;
+                final ExecutionMonitor sub2 = nodeLoad.m_sub2;
+                boolean needsReset = nodeLoad.m_needsReset;
+                nodeLoad.m_sub1.setProgress(1.0);
+                // if cont == isolated metanodes, then we need to block that metanode as well
+                // (that is being asserted in methods which get called indirectly)
+                try (WorkflowLock lock = cont instanceof WorkflowManager ? ((WorkflowManager)cont).lock() : lock()) {
+                    cont.loadContent(persistor, tblRep, inStack, sub2, subResult, keepNodeMessage);
+                }
+                sub2.setProgress(1.0);
+                if (persistor.isDirtyAfterLoad()) {
+                    cont.setDirty();
                 }
-                if (failedNodes.contains(s)) {
-                    hasPredecessorFailed = true;
+                boolean hasPredecessorFailed = false;
+                for (ConnectionContainer cc : m_workflow.getConnectionsByDest(bfsID)) {
+                    NodeID s = cc.getSource();
+                    if (s.equals(getID())) {
+                        continue; // don't consider WFM_IN connections
+                    }
+                    if (failedNodes.contains(s)) {
+                        hasPredecessorFailed = true;
+                    }
                 }
-            }
-            needsReset |= persistor.needsResetAfterLoad();
-            needsReset |= hasPredecessorFailed;
-            boolean isExecuted = cont.getInternalState().equals(EXECUTED);
-            boolean remoteExec = persistor.getMetaPersistor().getExecutionJobSettings() != null;
+                needsReset |= persistor.needsResetAfterLoad();
+                needsReset |= hasPredecessorFailed;
+                boolean isExecuted = cont.getInternalState().equals(EXECUTED);
+                boolean remoteExec = persistor.getMetaPersistor().getExecutionJobSettings() != null;
 
-            // if node is executed and some input data is missing we need
-            // to reset that node as there is obviously a conflict (e.g.
-            // predecessors has been loaded as IDLE
-            if (!needsReset && isExecuted && inPortsContainNull) {
-                needsReset = true;
-                subResult.addError("Predecessor ports have no data", true);
-            }
-            if (needsReset && cont instanceof SingleNodeContainer && cont.isResetable()) {
-                // we don't care for successors because they are not loaded yet
-                invokeResetOnSingleNodeContainer((SingleNodeContainer)cont);
-                isExecuted = false;
-            }
-            if (needsReset) {
-                failedNodes.add(bfsID);
-            }
-            if (!isExecuted && cont instanceof SingleNodeContainer) {
-                configureSingleNodeContainer((SingleNodeContainer)cont, keepNodeMessage);
-            }
-            if (persistor.mustComplainIfStateDoesNotMatch() && !cont.getInternalState().equals(loadState)
-                && !hasPredecessorFailed) {
-                isStateChangePredictable = true;
-                String warning = "State has changed from " + loadState + " to " + cont.getInternalState();
-                switch (subResult.getType()) {
-                    case DataLoadError:
-                        // data load errors cause state changes
-                        subResult.addError(warning, true);
-                        break;
-                    default:
-                        subResult.addWarning(warning);
-                }
-                cont.setDirty();
-            }
-            // saved in executing state (e.g. grid job), request to reconnect
-            if (remoteExec) {
-                if (needsReset) {
-                    subResult.addError("Can't continue execution " + "due to load errors");
+                // if node is executed and some input data is missing we need
+                // to reset that node as there is obviously a conflict (e.g.
+                // predecessors has been loaded as IDLE
+                if (!needsReset && isExecuted && inPortsContainNull) {
+                    needsReset = true;
+                    subResult.addError("Predecessor ports have no data", true);
                 }
-                if (inPortsContainNull) {
-                    subResult.addError("Can't continue execution; no data in inport");
+                if (needsReset && cont instanceof SingleNodeContainer && cont.isResetable()) {
+                    // we don't care for successors because they are not loaded yet
+                    invokeResetOnSingleNodeContainer((SingleNodeContainer)cont);
+                    isExecuted = false;
                 }
-                if (!cont.getInternalState().equals(EXECUTINGREMOTELY)) {
-                    subResult.addError(
-                        "Can't continue execution; node is not " + "configured but " + cont.getInternalState());
+                if (needsReset) {
+                    failedNodes.add(bfsID);
+                }
+                if (!isExecuted && cont instanceof SingleNodeContainer) {
+                    configureSingleNodeContainer((SingleNodeContainer)cont, keepNodeMessage);
+                }
+                if (persistor.mustComplainIfStateDoesNotMatch() && !cont.getInternalState().equals(loadState)
+                    && !hasPredecessorFailed) {
+                    isStateChangePredictable = true;
+                    String warning = "State has changed from " + loadState + " to " + cont.getInternalState();
+                    switch (subResult.getType()) {
+                        case DataLoadError:
+                            // data load errors cause state changes
+                            subResult.addError(warning, true);
+                            break;
+                        default:
+                            subResult.addWarning(warning);
+                    }
+                    cont.setDirty();
                 }
-                try {
-                    if (!continueExecutionOnLoad(cont, persistor)) {
+                // saved in executing state (e.g. grid job), request to reconnect
+                if (remoteExec) {
+                    if (needsReset) {
+                        subResult.addError("Can't continue execution " + "due to load errors");
+                    }
+                    if (inPortsContainNull) {
+                        subResult.addError("Can't continue execution; no data in inport");
+                    }
+                    if (!cont.getInternalState().equals(EXECUTINGREMOTELY)) {
+                        subResult.addError(
+                            "Can't continue execution; node is not " + "configured but " + cont.getInternalState());
+                    }
+                    try {
+                        if (!continueExecutionOnLoad(cont, persistor)) {
+                            cont.cancelExecution();
+                            cont.setDirty();
+                            subResult.addError("Can't continue execution; unknown reason");
+                        }
+                    } catch (Exception exc) {
+                        StringBuilder error = new StringBuilder("Can't continue execution");
+                        if (exc instanceof NodeExecutionJobReconnectException
+                            || exc instanceof InvalidSettingsException) {
+                            error.append(": ").append(exc.getMessage());
+                        } else {
+                            error.append(" due to ");
+                            error.append(exc.getClass().getSimpleName());
+                            error.append(": ").append(exc.getMessage());
+                        }
+                        LOGGER.error(error, exc);
                         cont.cancelExecution();
                         cont.setDirty();
-                        subResult.addError("Can't continue execution; unknown reason");
+                        subResult.addError(error.toString());
                     }
-                } catch (Exception exc) {
-                    StringBuilder error = new StringBuilder("Can't continue execution");
-                    if (exc instanceof NodeExecutionJobReconnectException || exc instanceof InvalidSettingsException) {
-                        error.append(": ").append(exc.getMessage());
-                    } else {
-                        error.append(" due to ");
-                        error.append(exc.getClass().getSimpleName());
-                        error.append(": ").append(exc.getMessage());
-                    }
-                    LOGGER.error(error, exc);
-                    cont.cancelExecution();
-                    cont.setDirty();
-                    subResult.addError(error.toString());
                 }
-            }
-            loadResult.addChildError(subResult);
-            // set warning message on node if we have loading errors
-            // do this only if these are critical errors or data-load errors,
-            // which must be reported.
-            switch (subResult.getType()) {
-                case Ok:
-                case Warning:
-                    break;
-                case DataLoadError:
-                    if (!mustWarnOnDataLoadError) {
+                loadResult.addChildError(subResult);
+                // set warning message on node if we have loading errors
+                // do this only if these are critical errors or data-load errors,
+                // which must be reported.
+                switch (subResult.getType()) {
+                    case Ok:
+                    case Warning:
                         break;
-                    }
-                default:
-                    NodeMessage oldMessage = cont.getNodeMessage();
-                    StringBuilder messageBuilder = new StringBuilder(oldMessage.getMessage());
-                    if (messageBuilder.length() != 0) {
-                        messageBuilder.append("\n");
-                    }
-                    NodeMessage.Type type;
-                    switch (oldMessage.getMessageType()) {
-                        case RESET:
-                        case WARNING:
-                            type = NodeMessage.Type.WARNING;
+                    case DataLoadError:
+                        if (!mustWarnOnDataLoadError) {
                             break;
-                        default:
-                            type = NodeMessage.Type.ERROR;
-                    }
-                    messageBuilder.append(subResult.getFilteredError("", LoadResultEntryType.Warning));
-                    cont.setNodeMessage(new NodeMessage(type, messageBuilder.toString()));
+                        }
+                    default:
+                        NodeMessage oldMessage = cont.getNodeMessage();
+                        StringBuilder messageBuilder = new StringBuilder(oldMessage.getMessage());
+                        if (messageBuilder.length() != 0) {
+                            messageBuilder.append("\n");
+                        }
+                        NodeMessage.Type type;
+                        switch (oldMessage.getMessageType()) {
+                            case RESET:
+                            case WARNING:
+                                type = NodeMessage.Type.WARNING;
+                                break;
+                            default:
+                                type = NodeMessage.Type.ERROR;
+                        }
+                        messageBuilder.append(subResult.getFilteredError("", LoadResultEntryType.Warning));
+                        cont.setNodeMessage(new NodeMessage(type, messageBuilder.toString()));
+                }
             }
         }
         if (!sweep(nodeIDsInPersistorSet, false) && !isStateChangePredictable) {
@@ -7952,6 +7959,106 @@ private void postLoad(final Map<NodeID, NodeContainerPersistor> persistorMap,
         }
     }
 
+    /**
+     * Splits the nodes to be loaded into waves of nodes that don't depend on each other, i.e. all predecessors of a
+     * node are in a previous wave. The data of the nodes of a wave can be read concurrently. If
+     * {@link ParallelWorkflowIO} is disabled each wave contains a single node, in breadth first order.
+     */
+    private List<List<NodeID>> createLoadWaves(final List<NodeID> bfsList) {
+        final List<List<NodeID>> waves = new ArrayList<>();
+        if (!ParallelWorkflowIO.isParallel(bfsList.size())) {
+            for (NodeID id : bfsList) {
+                waves.add(Collections.singletonList(id));
+            }
+            return waves;
+        }
+        final Map<NodeID, Integer> levels = new HashMap<>();
+        for (NodeID id : bfsList) {
+            int level = 0;
+            for (ConnectionContainer cc : m_workflow.getConnectionsByDest(id)) {
+                final Integer sourceLevel = levels.get(cc.getSource());
+                if (sourceLevel != null) {
+                    level = Math.max(level, sourceLevel + 1);
+                }
+            }
+            levels.put(id, level);
+            while (waves.size() <= level) {
+                waves.add(new ArrayList<>());
+            }
+            waves.get(level).add(id);
+        }
+        return waves;
+    }
+
+    /** Calls {@link NodeLoad#loadNodeContainer(Map)} on all nodes of a wave, concurrently if enabled. */
+    private static void loadNodeContainers(final List<NodeLoad> nodeLoads,
+        final Map<Integer, BufferedDataTable> tblRep) throws CanceledExecutionException {
+        final Map<Integer, BufferedDataTable> loadTblRep =
+            ParallelWorkflowIO.isParallel(nodeLoads.size()) ? Collections.synchronizedMap(tblRep) : tblRep;
+        final List<ParallelWorkflowIO.IOTask> tasks = new ArrayList<>(nodeLoads.size());
+        for (NodeLoad nodeLoad : nodeLoads) {
+            tasks.add(() -> nodeLoad.loadNodeContainer(loadTblRep));
+        }
+        for (Throwable t : ParallelWorkflowIO.invokeAll(tasks, true)) {
+            if (t instanceof CanceledExecutionException) {
+                throw (CanceledExecutionException)t;
+            } else if (t instanceof Error) {
+                throw (Error)t;
+            } else if (t != null) {
+                throw new IllegalStateException("Unexpected failure loading node: " + t.getMessage(), t);
+            }
+        }
+    }
+
+    /** State of a single node while its content is loaded in {@link #postLoad(Map, Map, boolean,
+     * ExecutionMonitor, LoadResult, boolean)}. */
+    private static final class NodeLoad {
+        private final NodeID m_id;
+        private final NodeContainer m_cont;
+        private final NodeContainerPersistor m_persistor;
+        private final InternalNodeContainerState m_loadState;
+        private final LoadResult m_subResult;
+        private final FlowObjectStack m_inStack;
+        private final boolean m_inPortsContainNull;
+        private final ExecutionMonitor m_sub1;
+        private final ExecutionMonitor m_sub2;
+        private boolean m_needsReset;
+
+        NodeLoad(final NodeID id, final NodeContainer cont, final NodeContainerPersistor persistor,
+            final InternalNodeContainerState loadState, final LoadResult subResult, final FlowObjectStack inStack,
+            final boolean inPortsContainNull, final boolean needsReset, final ExecutionMonitor sub1,
+            final ExecutionMonitor sub2) {
+            m_id = id;
+            m_cont = cont;
+            m_persistor = persistor;
+            m_loadState = loadState;
+            m_subResult = subResult;
+            m_inStack = inStack;
+            m_inPortsContainNull = inPortsContainNull;
+            m_needsReset = needsReset;
+            m_sub1 = sub1;
+            m_sub2 = sub2;
+        }
+
+        /** Reads the node's settings and data, errors other than cancelation are added to the load result. */
+        void loadNodeContainer(final Map<Integer, BufferedDataTable> tblRep) throws CanceledExecutionException {
+            NodeContext.pushContext(m_cont);
+            try {
+                m_persistor.loadNodeContainer(tblRep, m_sub1, m_subResult);
+            } catch (CanceledExecutionException e) {
+                throw e;
+            } catch (Exception e) {
+                if (!(e instanceof InvalidSettingsException) && !(e instanceof IOException)) {
+                    LOGGER.error("Caught unexpected \"" + e.getClass().getSimpleName() + "\" during node loading", e);
+                }
+                m_subResult.addError("Errors loading, skipping it: " + e.getMessage());
+                m_needsReset = true;
+            } finally {
+                NodeContext.removeLastContext();
+            }
+        }
+    }
+
     private Map<Integer, NodeID> loadNodesAndConnections(final Map<Integer, ? extends NodeContainerPersistor> loaderMap,
         final Set<ConnectionContainerTemplate> connections, final LoadResult loadResult) {
         // id suffix are made unique by using the entries in this map
@@ -8323,7 +8430,7 @@ boolean sweep(final Set<NodeID> nodes, final boolean propagate) {
                     if (nc instanceof SingleNodeContainer) {
                         for (int i = 0; i < nc.getNrOutPorts(); i++) {
                             NodeOutPort p = nc.getOutPort(i);
-                            hasData &= p != null && p.getPortObject() != null && p.getPortObjectSpec() != null;
+                            hasData &= p != null && p.hasPortObject() && p.getPortObjectSpec() != null;
                         }
                     }
                     if (!hasData && nc.getInternalState().equals(EXECUTED)) {
@@ -81,7 +81,8 @@
  * @author Thorsten Meinl, University of Konstanz
  */
 public class DuplicateChecker implements IDuplicateChecker {
-    private static class Chunk {
+    /** A file with keys, also used by the {@link HashDuplicateChecker} to spill keys. */
+    static class Chunk {
         private final File m_file;
         private DataOutputStream m_out;
         private long m_count = 0;
@@ -199,7 +200,7 @@ public boolean dispose() {
      * "DuplicateChecker always writes to disc (even for small tables) + temp
      * file names are hashed in core java (increased mem consumption for loops)"
      * for details. */
-    private static final Collection<Chunk> ALL_CHUNKS = new ArrayList<Chunk>();
+    static final Collection<Chunk> ALL_CHUNKS = new ArrayList<Chunk>();
 
     static {
         ShutdownHelper.getInstance().appendShutdownHook(() -> removeTempFiles());
@@ -0,0 +1,570 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.util;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+import org.knime.core.data.util.memory.MemoryAlertSystem;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Duplicate checker that keeps all keys in memory in a compact form and only writes to disk if the
+ * {@link MemoryAlertSystem} reports a low memory condition. Keys are processed in three stages:
+ * <ol>
+ * <li>As long as keys consist of a common prefix followed by consecutive numbers (e.g. <tt>Row0, Row1, ...</tt>
+ * as generated by {@link org.knime.core.data.RowKey#createRowKey(long)}) only the prefix and the number range are
+ * kept. No hashing is needed for these keys.</li>
+ * <li>All other keys are stored in an open-addressing hash table of 64-bit fingerprints. The characters of the keys
+ * are copied into large byte blocks so that no string objects are retained. The characters are only compared if two
+ * fingerprints match, i.e. for real duplicates or (very rarely) for fingerprint collisions.</li>
+ * <li>If memory gets low, the keys in the table are written to disk and the table is cleared. The fingerprints of the
+ * spilled keys are added to a Bloom filter, each subsequent key that may be contained in the filter is remembered as
+ * suspect. Only these suspects are checked against the spilled keys in {@link #checkForDuplicates()}.</li>
+ * </ol>
+ * If there are too many suspects to keep in memory (many keys after a spill, or many Bloom filter collisions) they are
+ * discarded and {@link #checkForDuplicates()} checks all keys using a disk based {@link DuplicateChecker} instead.
+ *
+ * <p>Note: This implementation is not thread-safe, it's supposed to be used by a single thread only.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public class HashDuplicateChecker implements IDuplicateChecker {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(HashDuplicateChecker.class);
+
+    private static final boolean DISABLE_DUPLICATE_CHECK =
+        Boolean.getBoolean(KNIMEConstants.PROPERTY_DISABLE_ROWID_DUPLICATE_CHECK);
+
+    /** Initial capacity of the hash table, must be a power of 2. */
+    private static final int INITIAL_CAPACITY = 1 << 10;
+
+    /** Size of the blocks holding the key characters. */
+    private static final int BLOCK_SIZE = 1 << 20;
+
+    /** The memory state is checked every <code>MEMORY_CHECK_INTERVAL</code> keys, must be a power of 2. */
+    private static final int MEMORY_CHECK_INTERVAL = 1 << 12;
+
+    /** Keys are only spilled if there are at least that many in memory. */
+    private static final int MIN_SPILL_SIZE = 10000;
+
+    /** Number of bits per spilled key in the Bloom filter (sized on first spill). */
+    private static final int BLOOM_BITS_PER_KEY = 16;
+
+    /** Maximum number of bits in the Bloom filter (16MB). */
+    private static final long MAX_BLOOM_BITS = 1L << 27;
+
+    /** Number of bits set per key in the Bloom filter. */
+    private static final int BLOOM_HASH_COUNT = 4;
+
+    /** Default maximum number of suspects kept in memory. */
+    private static final int DEF_MAX_SUSPECTS = 100000;
+
+    /** Maximum number of digits in the number suffix of keys in the monotone range. */
+    private static final int MAX_RANGE_DIGITS = 18;
+
+    private final BooleanSupplier m_isMemoryLow;
+
+    private final int m_maxSuspects;
+
+    /** Common prefix of the keys in the monotone range, null if there is no range. */
+    private String m_rangePrefix;
+
+    private long m_rangeFirst;
+
+    private long m_rangeLast;
+
+    /** Whether new keys may still extend the range, only true as long as no other key has been added. */
+    private boolean m_isRangeOpen = true;
+
+    private long[] m_fingerprints;
+
+    private long[] m_offsets;
+
+    private int m_size;
+
+    private byte[][] m_blocks;
+
+    private int m_blockCount;
+
+    private int m_blockPos;
+
+    private long m_addCount;
+
+    private long[] m_bloom;
+
+    private final Set<String> m_suspects = new HashSet<String>();
+
+    /** Whether there were more than {@link #m_maxSuspects} suspects, all keys are then checked on disk. */
+    private boolean m_isSuspectOverflow;
+
+    private final List<DuplicateChecker.Chunk> m_spilledChunks = new ArrayList<DuplicateChecker.Chunk>();
+
+    /**
+     * Creates a new duplicate checker.
+     */
+    public HashDuplicateChecker() {
+        this(() -> MemoryAlertSystem.getInstance().isMemoryLow());
+    }
+
+    /**
+     * Creates a new duplicate checker that uses a custom check for low memory conditions.
+     *
+     * @param isMemoryLow returns <code>true</code> if in-memory keys should be written to disk
+     */
+    HashDuplicateChecker(final BooleanSupplier isMemoryLow) {
+        this(isMemoryLow, DEF_MAX_SUSPECTS);
+    }
+
+    /**
+     * Creates a new duplicate checker that uses a custom check for low memory conditions and a custom limit for the
+     * suspects kept in memory.
+     *
+     * @param isMemoryLow returns <code>true</code> if in-memory keys should be written to disk
+     * @param maxSuspects the maximum number of suspects kept in memory
+     */
+    HashDuplicateChecker(final BooleanSupplier isMemoryLow, final int maxSuspects) {
+        m_isMemoryLow = isMemoryLow;
+        m_maxSuspects = maxSuspects;
+        initTable();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void addKey(final String s) throws DuplicateKeyException, IOException {
+        if (DISABLE_DUPLICATE_CHECK) {
+            return;
+        }
+        if (m_isRangeOpen) {
+            if (extendRange(s)) {
+                return;
+            }
+            m_isRangeOpen = false;
+        }
+        if (isInRange(s)) {
+            throw new DuplicateKeyException(s);
+        }
+        final long fingerprint = fingerprint(s);
+        if (m_bloom != null && !m_isSuspectOverflow && bloomMightContain(fingerprint)) {
+            m_suspects.add(s);
+            if (m_suspects.size() > m_maxSuspects) {
+                LOGGER.debugWithFormat("More than %d row keys possibly contained in the keys written to disk, "
+                    + "checking all keys on disk", m_maxSuspects);
+                m_suspects.clear();
+                m_isSuspectOverflow = true;
+            }
+        }
+        if (!insert(fingerprint, s)) {
+            throw new DuplicateKeyException(s);
+        }
+        if ((++m_addCount & (MEMORY_CHECK_INTERVAL - 1)) == 0 && m_size >= MIN_SPILL_SIZE
+            && m_isMemoryLow.getAsBoolean()) {
+            spill();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void checkForDuplicates() throws DuplicateKeyException, IOException {
+        if (m_isSuspectOverflow) {
+            checkAllOnDisk();
+            return;
+        }
+        if (m_suspects.isEmpty()) {
+            // keys in memory have been checked in addKey and
+            // no later key may be contained in the spilled keys
+            return;
+        }
+        Map<String, int[]> occurrences = new HashMap<String, int[]>();
+        for (String s : m_suspects) {
+            occurrences.put(s, new int[]{contains(s) ? 1 : 0});
+        }
+        for (DuplicateChecker.Chunk c : m_spilledChunks) {
+            for (Iterator<String> it = c.iterator(); it.hasNext();) {
+                String s = it.next();
+                int[] count = occurrences.get(s);
+                if (count != null && ++count[0] > 1) {
+                    throw new DuplicateKeyException(s);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks the spilled keys and the keys in memory using a {@link DuplicateChecker}, which sorts the keys on disk.
+     * Keys of the monotone range have been checked in {@link #addKey(String)} already.
+     */
+    private void checkAllOnDisk() throws DuplicateKeyException, IOException {
+        final DuplicateChecker checker = new DuplicateChecker();
+        try {
+            for (DuplicateChecker.Chunk c : m_spilledChunks) {
+                for (Iterator<String> it = c.iterator(); it.hasNext();) {
+                    checker.addKey(it.next());
+                }
+            }
+            for (int i = 0; i < m_fingerprints.length; i++) {
+                if (m_fingerprints[i] != 0) {
+                    checker.addKey(load(m_offsets[i]));
+                }
+            }
+            checker.checkForDuplicates();
+        } finally {
+            checker.clear();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void clear() {
+        for (DuplicateChecker.Chunk c : m_spilledChunks) {
+            c.dispose();
+        }
+        synchronized (DuplicateChecker.ALL_CHUNKS) {
+            DuplicateChecker.ALL_CHUNKS.removeAll(m_spilledChunks);
+        }
+        m_spilledChunks.clear();
+        m_suspects.clear();
+        m_isSuspectOverflow = false;
+        m_bloom = null;
+        m_rangePrefix = null;
+        m_isRangeOpen = true;
+        m_addCount = 0;
+        initTable();
+    }
+
+    /**
+     * Tries to append the key to the monotone range.
+     *
+     * @param s the key
+     * @return <code>true</code> if the key was added to the range, <code>false</code> if the key doesn't continue it
+     */
+    private boolean extendRange(final String s) {
+        if (m_rangePrefix == null) {
+            int start = s.length();
+            while (start > 0 && Character.isDigit(s.charAt(start - 1))) {
+                start--;
+            }
+            long number = parseNumber(s, start);
+            if (number < 0) {
+                return false;
+            }
+            m_rangePrefix = s.substring(0, start);
+            m_rangeFirst = number;
+            m_rangeLast = number;
+            return true;
+        }
+        if (s.startsWith(m_rangePrefix) && parseNumber(s, m_rangePrefix.length()) == m_rangeLast + 1) {
+            m_rangeLast++;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean isInRange(final String s) {
+        if (m_rangePrefix == null || !s.startsWith(m_rangePrefix)) {
+            return false;
+        }
+        long number = parseNumber(s, m_rangePrefix.length());
+        return number >= m_rangeFirst && number <= m_rangeLast;
+    }
+
+    /**
+     * Parses the number at the end of the key. Only numbers in canonical form (no leading zeros) are accepted as
+     * different strings would otherwise map to the same number.
+     *
+     * @param s the key
+     * @param start the index of the first digit
+     * @return the number or -1 if the suffix is not a canonical number
+     */
+    private static long parseNumber(final String s, final int start) {
+        final int length = s.length() - start;
+        if (length < 1 || length > MAX_RANGE_DIGITS || (length > 1 && s.charAt(start) == '0')) {
+            return -1;
+        }
+        long number = 0;
+        for (int i = start; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            number = number * 10 + (c - '0');
+        }
+        return number;
+    }
+
+    /**
+     * Computes the 64-bit fingerprint of the key (FNV-1a over the characters followed by the murmur3 finalizer).
+     * 0 is reserved to mark empty slots in the hash table.
+     */
+    private static long fingerprint(final String s) {
+        long h = 0xcbf29ce484222325L ^ s.length();
+        for (int i = 0; i < s.length(); i++) {
+            h = (h ^ s.charAt(i)) * 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h == 0 ? 1 : h;
+    }
+
+    private void initTable() {
+        m_fingerprints = new long[INITIAL_CAPACITY];
+        m_offsets = new long[INITIAL_CAPACITY];
+        m_size = 0;
+        m_blocks = new byte[4][];
+        m_blockCount = 0;
+        m_blockPos = BLOCK_SIZE;
+    }
+
+    /**
+     * Adds the key to the hash table.
+     *
+     * @return <code>false</code> if the key was already contained
+     */
+    private boolean insert(final long fingerprint, final String s) {
+        final int mask = m_fingerprints.length - 1;
+        int slot = (int)fingerprint & mask;
+        while (m_fingerprints[slot] != 0) {
+            if (m_fingerprints[slot] == fingerprint && storedEquals(m_offsets[slot], s)) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        m_fingerprints[slot] = fingerprint;
+        m_offsets[slot] = store(s);
+        if (++m_size > (m_fingerprints.length >>> 2) * 3) {
+            resize();
+        }
+        return true;
+    }
+
+    private boolean contains(final String s) {
+        final long fingerprint = fingerprint(s);
+        final int mask = m_fingerprints.length - 1;
+        for (int slot = (int)fingerprint & mask; m_fingerprints[slot] != 0; slot = (slot + 1) & mask) {
+            if (m_fingerprints[slot] == fingerprint && storedEquals(m_offsets[slot], s)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void resize() {
+        final long[] oldFingerprints = m_fingerprints;
+        final long[] oldOffsets = m_offsets;
+        m_fingerprints = new long[oldFingerprints.length << 1];
+        m_offsets = new long[oldFingerprints.length << 1];
+        final int mask = m_fingerprints.length - 1;
+        for (int i = 0; i < oldFingerprints.length; i++) {
+            if (oldFingerprints[i] != 0) {
+                int slot = (int)oldFingerprints[i] & mask;
+                while (m_fingerprints[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                m_fingerprints[slot] = oldFingerprints[i];
+                m_offsets[slot] = oldOffsets[i];
+            }
+        }
+    }
+
+    /**
+     * Copies the characters of the key into the blocks. Keys are stored as a variable length header (length and a
+     * flag whether chars need two bytes) followed by the characters.
+     *
+     * @return the offset of the key, block index in the upper and position in the lower 32 bits
+     */
+    private long store(final String s) {
+        final int length = s.length();
+        boolean wide = false;
+        for (int i = 0; i < length && !wide; i++) {
+            wide = s.charAt(i) > 0xFF;
+        }
+        int header = (length << 1) | (wide ? 1 : 0);
+        int size = varIntSize(header) + (wide ? 2 * length : length);
+        if (m_blockPos + size > BLOCK_SIZE) {
+            if (m_blockCount == m_blocks.length) {
+                m_blocks = Arrays.copyOf(m_blocks, m_blockCount << 1);
+            }
+            m_blocks[m_blockCount++] = new byte[Math.max(BLOCK_SIZE, size)];
+            m_blockPos = 0;
+        }
+        final byte[] block = m_blocks[m_blockCount - 1];
+        final long offset = ((long)(m_blockCount - 1) << 32) | m_blockPos;
+        int pos = m_blockPos;
+        while ((header & ~0x7F) != 0) {
+            block[pos++] = (byte)((header & 0x7F) | 0x80);
+            header >>>= 7;
+        }
+        block[pos++] = (byte)header;
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+            if (wide) {
+                block[pos++] = (byte)(c >>> 8);
+            }
+            block[pos++] = (byte)c;
+        }
+        // oversized keys get a block on their own
+        m_blockPos = size > BLOCK_SIZE ? BLOCK_SIZE : pos;
+        return offset;
+    }
+
+    private static int varIntSize(final int value) {
+        int size = 1;
+        for (int v = value >>> 7; v != 0; v >>>= 7) {
+            size++;
+        }
+        return size;
+    }
+
+    private boolean storedEquals(final long offset, final String s) {
+        final byte[] block = m_blocks[(int)(offset >>> 32)];
+        int pos = (int)offset;
+        int header = 0;
+        for (int shift = 0;; shift += 7) {
+            byte b = block[pos++];
+            header |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                break;
+            }
+        }
+        final int length = header >>> 1;
+        if (length != s.length()) {
+            return false;
+        }
+        final boolean wide = (header & 1) != 0;
+        for (int i = 0; i < length; i++) {
+            char c = wide ? (char)(((block[pos++] & 0xFF) << 8) | (block[pos++] & 0xFF)) : (char)(block[pos++] & 0xFF);
+            if (c != s.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String load(final long offset) {
+        final byte[] block = m_blocks[(int)(offset >>> 32)];
+        int pos = (int)offset;
+        int header = 0;
+        for (int shift = 0;; shift += 7) {
+            byte b = block[pos++];
+            header |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                break;
+            }
+        }
+        final char[] chars = new char[header >>> 1];
+        final boolean wide = (header & 1) != 0;
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] =
+                wide ? (char)(((block[pos++] & 0xFF) << 8) | (block[pos++] & 0xFF)) : (char)(block[pos++] & 0xFF);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Writes all keys in the hash table to disk, adds their fingerprints to the Bloom filter and clears the table.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    private void spill() throws IOException {
+        if (m_bloom == null) {
+            long bits = Long.highestOneBit(Math.min(MAX_BLOOM_BITS, (long)m_size * BLOOM_BITS_PER_KEY) - 1) << 1;
+            m_bloom = new long[(int)Math.max(1, bits >>> 6)];
+        }
+        LOGGER.debugWithFormat("Memory is low, writing %d row keys to disk", m_size);
+        DuplicateChecker.Chunk chunk = new DuplicateChecker.Chunk();
+        synchronized (DuplicateChecker.ALL_CHUNKS) {
+            DuplicateChecker.ALL_CHUNKS.add(chunk);
+        }
+        m_spilledChunks.add(chunk);
+        try {
+            for (int i = 0; i < m_fingerprints.length; i++) {
+                if (m_fingerprints[i] != 0) {
+                    chunk.addKey(load(m_offsets[i]));
+                    bloomAdd(m_fingerprints[i]);
+                }
+            }
+        } finally {
+            chunk.close();
+        }
+        initTable();
+    }
+
+    private void bloomAdd(final long fingerprint) {
+        final long mask = ((long)m_bloom.length << 6) - 1;
+        final long step = (fingerprint >>> 32) | 1;
+        for (int i = 0; i < BLOOM_HASH_COUNT; i++) {
+            long bit = (fingerprint + i * step) & mask;
+            m_bloom[(int)(bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    private boolean bloomMightContain(final long fingerprint) {
+        final long mask = ((long)m_bloom.length << 6) - 1;
+        final long step = (fingerprint >>> 32) | 1;
+        for (int i = 0; i < BLOOM_HASH_COUNT; i++) {
+            long bit = (fingerprint + i * step) & mask;
+            if ((m_bloom[(int)(bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
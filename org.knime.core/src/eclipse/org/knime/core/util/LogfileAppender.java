@@ -188,6 +188,19 @@ private void compressRotatedLog() {
         }
     }
 
+    /**
+     * Flushes buffered log events to the log file. Used by the asynchronous logging mode of the {@link NodeLogger},
+     * which disables the immediate flush and flushes once per batch of events instead.
+     *
+     * @since 3.8
+     * @noreference This method is not intended to be referenced by clients.
+     */
+    public synchronized void flush() {
+        if (qw != null) {
+            qw.flush();
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -48,13 +48,24 @@
  */
 package org.knime.core.util;
 
+import java.lang.management.ManagementFactory;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Queue;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
@@ -63,26 +74,104 @@
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
 
 import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeLogger;
 
 /**
  * Implements a sophisticated thread pool.
  *
+ * <p>Jobs that cannot be started immediately are queued in a queue shared by the root pool and all its sub pools.
+ * Depending on {@link KNIMEConstants#PROPERTY_THREAD_POOL_SCHEDULER} the queue is either processed in FIFO order or
+ * by priority and, within the same priority, in favor of workflows with fewer running jobs (see
+ * {@link #enqueue(Callable, int)}).
+ *
  * @author Thorsten Meinl, University of Konstanz
  */
 public class ThreadPool {
 
+    /** The default priority of jobs. */
+    public static final int DEFAULT_PRIORITY = 0;
+
+    /** Name of the fair scheduler, see {@link KNIMEConstants#PROPERTY_THREAD_POOL_SCHEDULER}. */
+    private static final String FAIR_SCHEDULER = "fair";
+
+    /** Name of the default scheduler, see {@link KNIMEConstants#PROPERTY_THREAD_POOL_SCHEDULER}. */
+    private static final String FIFO_SCHEDULER = "fifo";
+
+    /** Attributes jobs to workflows and nodes, <code>null</code> until installed by the workflow framework. */
+    private static volatile JobListener jobListener;
+
+    /**
+     * Attributes the jobs of all thread pools to the workflows and nodes that submitted them. The workflow framework
+     * installs its implementation via {@link ThreadPool#setJobListener(JobListener)}.
+     *
+     * @since 3.8
+     * @noimplement This interface is not intended to be implemented by clients.
+     * @noreference This interface is not intended to be referenced by clients.
+     */
+    public interface JobListener {
+
+        /**
+         * Called in the submitting thread when a job is created.
+         *
+         * @return the origin of the job (e.g. the submitting node), passed to {@link #queuedJobStarted(Object, long)},
+         *         may be <code>null</code>
+         */
+        Object getOrigin();
+
+        /**
+         * Called in the submitting thread when a job is created for a pool with fair scheduling.
+         *
+         * @return the workflow the job belongs to or <code>null</code> if unknown; jobs of workflows with fewer running
+         *         jobs are started first
+         */
+        Object getWorkflow();
+
+        /**
+         * Called in the worker thread when a job that had to wait in the queue is started.
+         *
+         * @param origin the origin of the job as returned by {@link #getOrigin()}
+         * @param waitNanos the time the job waited in the queue in nanoseconds
+         */
+        void queuedJobStarted(Object origin, long waitNanos);
+    }
+
     private class MyFuture<T> extends FutureTask<T> {
         private final CountDownLatch m_startWaiter = new CountDownLatch(1);
         private final ClassLoader m_contextClassloader = Thread.currentThread().getContextClassLoader();
 
+        private final int m_priority;
+
+        /** The project workflow the job belongs to, only determined for the fair scheduler. */
+        private final Object m_workflow;
+
+        private final long m_creationTime = System.nanoTime();
+
+        private final JobListener m_listener = jobListener;
+
+        /** The origin of the job as determined by the listener, the queue wait time is attributed to it. */
+        private final Object m_origin = m_listener == null ? null : m_listener.getOrigin();
+
+        private boolean m_wasQueued;
+
         /**
          * @see FutureTask#FutureTask(Callable)
          */
         public MyFuture(final Callable<T> callable) {
+            this(callable, currentPriority());
+        }
+
+        MyFuture(final Callable<T> callable, final int priority) {
             super(ThreadUtils.callableWithContext(callable, false));
+            m_priority = priority;
+            m_workflow = m_queuedFutures.isFair() ? currentWorkflow() : null;
         }
 
         /**
@@ -98,7 +187,13 @@ public MyFuture(final Callable<T> callable) {
          * @throws NullPointerException if runnable is null
          */
         public MyFuture(final Runnable runnable, final T result) {
+            this(runnable, result, currentPriority());
+        }
+
+        MyFuture(final Runnable runnable, final T result, final int priority) {
             super(ThreadUtils.runnableWithContext(runnable, false), result);
+            m_priority = priority;
+            m_workflow = m_queuedFutures.isFair() ? currentWorkflow() : null;
         }
 
         /**
@@ -116,6 +211,14 @@ public ThreadPool getPool() {
         @Override
         public void run() {
             m_startWaiter.countDown();
+            if (m_wasQueued) {
+                final long waitNanos = System.nanoTime() - m_creationTime;
+                m_statistics.m_queueWaitNanos.add(waitNanos);
+                if (m_listener != null) {
+                    m_listener.queuedJobStarted(m_origin, waitNanos);
+                }
+            }
+            m_queuedFutures.jobStarted(this);
             // set context classloader of thread that created this task
             ClassLoader previousContextClassloader = Thread.currentThread().getContextClassLoader();
             Thread.currentThread().setContextClassLoader(m_contextClassloader);
@@ -123,6 +226,7 @@ public void run() {
                 super.run();
             } finally {
                 Thread.currentThread().setContextClassLoader(previousContextClassloader);
+                m_queuedFutures.jobFinished(this);
             }
         }
 
@@ -205,6 +309,9 @@ private static class Worker extends Thread {
 
         private boolean m_stopped;
 
+        /** The pool of the previous job, used to count pool switches. */
+        private ThreadPool m_lastPool;
+
         // set context class loader after each runnable#run -- we had problems with some cxf web service client that
         // hijacked the current thread and subsequent runnables were using some URL class loader set by cxf
         private final ClassLoader m_contextClassLoaderAtInit;
@@ -241,6 +348,10 @@ public void run() {
                         }
                     }
                     startedFrom = m_startedFrom;
+                    if (m_lastPool != null && m_lastPool != startedFrom) {
+                        startedFrom.m_statistics.m_poolSwitches.increment();
+                    }
+                    m_lastPool = startedFrom;
 
                     try {
                         m_runnable.run();
@@ -301,22 +412,39 @@ public boolean wakeup(final MyFuture<?> r, final ThreadPool pool) {
 
     private final ThreadPool m_parent;
 
-    private final Queue<MyFuture<?>> m_queuedFutures;
+    private final FutureQueue m_queuedFutures;
+
+    private final Statistics m_statistics;
 
     private final Set<Worker> m_runningWorkers = new HashSet<Worker>();
 
     /**
-     * Creates a new ThreadPool with a maximum number of threads.
+     * Creates a new ThreadPool with a maximum number of threads. Queued jobs are scheduled as defined by
+     * {@link KNIMEConstants#PROPERTY_THREAD_POOL_SCHEDULER}.
      *
      * @param maxThreads the maximum number of threads
      */
     public ThreadPool(final int maxThreads) {
+        this(maxThreads, FAIR_SCHEDULER.equalsIgnoreCase(
+            System.getProperty(KNIMEConstants.PROPERTY_THREAD_POOL_SCHEDULER, FIFO_SCHEDULER).trim()));
+    }
+
+    /**
+     * Creates a new ThreadPool with a maximum number of threads.
+     *
+     * @param maxThreads the maximum number of threads
+     * @param fairScheduling <code>true</code> if queued jobs should be started by priority and in favor of workflows
+     *            with fewer running jobs, <code>false</code> if queued jobs should be started in FIFO order
+     * @since 3.8
+     */
+    public ThreadPool(final int maxThreads, final boolean fairScheduling) {
         if (maxThreads < 1) {
             throw new IllegalArgumentException("Thread count must be > 0");
         }
         m_maxThreads.set(maxThreads);
         m_parent = null;
-        m_queuedFutures = new LinkedList<MyFuture<?>>();
+        m_queuedFutures = fairScheduling ? new FairQueue() : new FifoQueue();
+        m_statistics = new Statistics();
         m_availableWorkers = new ConcurrentLinkedQueue<Worker>();
     }
 
@@ -333,11 +461,14 @@ protected ThreadPool(final int maxThreads, final ThreadPool parent) {
         m_parent = parent;
         m_maxThreads.set(maxThreads);
         m_queuedFutures = m_parent.m_queuedFutures;
+        m_statistics = m_parent.m_statistics;
         m_availableWorkers = null;
     }
 
     private boolean checkQueue() {
         synchronized (m_queuedFutures) {
+            // pools that could not start a job in this pass, their remaining jobs can be skipped
+            Set<ThreadPool> saturatedPools = null;
             for (Iterator<MyFuture<?>> it = m_queuedFutures.iterator(); it
                     .hasNext();) {
                 MyFuture<?> f = it.next();
@@ -345,16 +476,81 @@ private boolean checkQueue() {
                     it.remove();
                 } else {
                     ThreadPool pool = f.getPool();
+                    if (saturatedPools != null && saturatedPools.contains(pool)) {
+                        continue;
+                    }
                     if (pool.wakeupWorker(f, pool) != null) {
                         it.remove();
                         return true;
                     }
+                    if (saturatedPools == null) {
+                        saturatedPools = new HashSet<ThreadPool>();
+                    }
+                    saturatedPools.add(pool);
+                    if (pool.m_parent != null && pool.getRoot().getRunningThreads() < pool.getRoot().getMaxThreads()) {
+                        m_statistics.m_subPoolLimitHits.increment();
+                    }
                 }
             }
         }
         return false;
     }
 
+    private ThreadPool getRoot() {
+        ThreadPool root = this;
+        while (root.m_parent != null) {
+            root = root.m_parent;
+        }
+        return root;
+    }
+
+    /**
+     * Adds a job to the queue, must be called while holding the lock on the queue.
+     *
+     * @param f the job
+     */
+    private void addToQueue(final MyFuture<?> f) {
+        f.m_wasQueued = true;
+        m_queuedFutures.add(f);
+        m_statistics.m_queuedJobs.increment();
+        m_statistics.m_maxQueueDepth = Math.max(m_statistics.m_maxQueueDepth, m_queuedFutures.size());
+    }
+
+    /**
+     * Returns the priority of the job running in the current thread or {@link #DEFAULT_PRIORITY} if the current
+     * thread is not taken out of a thread pool. Jobs submitted without explicit priority inherit this priority.
+     */
+    private static int currentPriority() {
+        if (Thread.currentThread() instanceof Worker) {
+            MyFuture<?> current = ((Worker)Thread.currentThread()).m_runnable;
+            if (current != null) {
+                return current.m_priority;
+            }
+        }
+        return DEFAULT_PRIORITY;
+    }
+
+    /**
+     * Returns the workflow of the submitting thread as determined by the job listener or <code>null</code> if there
+     * is none.
+     */
+    private static Object currentWorkflow() {
+        final JobListener listener = jobListener;
+        return listener == null ? null : listener.getWorkflow();
+    }
+
+    /**
+     * Installs the listener that attributes the jobs of all thread pools to workflows and nodes. Jobs created before
+     * are not attributed.
+     *
+     * @param listener the listener, may be <code>null</code>
+     * @since 3.8
+     * @noreference This method is not intended to be referenced by clients.
+     */
+    public static void setJobListener(final JobListener listener) {
+        jobListener = listener;
+    }
+
     /**
      * Creates a sub pool that shares the threads with this (parent) pool.
      *
@@ -404,12 +600,49 @@ public <T> Future<T> enqueue(final Callable<T> task) {
             throw new IllegalArgumentException("Task must not be null");
         }
 
-        MyFuture<T> ftask = new MyFuture<T>(task);
+        return enqueue(new MyFuture<T>(task));
+    }
+
+    /**
+     * Submits a value-returning task with the given priority for execution and returns a Future representing the
+     * pending results of the task. The method immediately returns and puts the runnable into a queue. If the pool
+     * uses fair scheduling (see {@link KNIMEConstants#PROPERTY_THREAD_POOL_SCHEDULER}) queued jobs with higher
+     * priority are started first, otherwise the priority is ignored. Jobs submitted from within a job without explicit
+     * priority inherit the priority of the submitting job.
+     *
+     * @param task the task to submit
+     * @param priority the priority, {@link #DEFAULT_PRIORITY} for normal jobs
+     * @param <T> any result type
+     * @return a Future representing pending completion of the task
+     * @since 3.8
+     */
+    public <T> Future<T> enqueue(final Callable<T> task, final int priority) {
+        if (task == null) {
+            throw new IllegalArgumentException("Task must not be null");
+        }
 
+        return enqueue(new MyFuture<T>(task, priority));
+    }
+
+    /**
+     * Submits a Runnable task with the given priority for execution, see {@link #enqueue(Callable, int)}.
+     *
+     * @param r the task to submit
+     * @param priority the priority, {@link #DEFAULT_PRIORITY} for normal jobs
+     * @return a Future representing pending completion of the task, and whose <tt>get()</tt> method will return
+     *         <tt>null</tt> upon completion.
+     * @since 3.8
+     */
+    public Future<?> enqueue(final Runnable r, final int priority) {
+        return enqueue(new MyFuture<Object>(r, null, priority));
+    }
+
+    private <T> MyFuture<T> enqueue(final MyFuture<T> ftask) {
+        m_statistics.m_submittedJobs.increment();
         synchronized (m_queuedFutures) {
             incrementPendingJobs();
             if (wakeupWorker(ftask, this) == null) {
-                m_queuedFutures.add(ftask);
+                addToQueue(ftask);
             }
         }
 
@@ -446,16 +679,7 @@ private void decrementPendingJobs() {
      * @see #submit(Runnable)
      */
     public Future<?> enqueue(final Runnable r) {
-        MyFuture<?> ftask = new MyFuture<Object>(r, null);
-
-        synchronized (m_queuedFutures) {
-            incrementPendingJobs();
-            if (wakeupWorker(ftask, this) == null) {
-                m_queuedFutures.add(ftask);
-            }
-        }
-
-        return ftask;
+        return enqueue(new MyFuture<Object>(r, null));
     }
 
     /**
@@ -492,6 +716,7 @@ public <T> Future<T> trySubmit(final Callable<T> t) {
                 return null;
             }
         }
+        m_statistics.m_submittedJobs.increment();
 
         return ftask;
     }
@@ -518,6 +743,7 @@ public Future<?> trySubmit(final Runnable r) {
                 return null;
             }
         }
+        m_statistics.m_submittedJobs.increment();
 
         return ftask;
     }
@@ -810,4 +1036,256 @@ public static ThreadPool currentPool() {
     int getQueueSize() {
         return m_queuedFutures.size();
     }
+
+    /**
+     * Returns the statistics of this pool's root pool, which includes all its sub pools.
+     *
+     * @return the statistics
+     * @since 3.8
+     */
+    public ThreadPoolMXBean getStatistics() {
+        return getRoot().new StatisticsView();
+    }
+
+    /**
+     * Registers the statistics of this pool with the platform MBean server. Failures are logged but otherwise
+     * ignored.
+     *
+     * @param name the object name under which the statistics are registered
+     * @since 3.8
+     * @noreference This method is not intended to be referenced by clients.
+     */
+    public void registerMBean(final String name) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(
+                new StandardMBean(getStatistics(), ThreadPoolMXBean.class, true), new ObjectName(name));
+        } catch (JMException | RuntimeException e) {
+            NodeLogger.getLogger(ThreadPool.class).debug(
+                "Unable to register thread pool statistics with MBean server: " + e.getMessage(), e);
+        }
+    }
+
+    /** Counters shared by a root pool and all its sub pools. */
+    private static final class Statistics {
+        private final LongAdder m_submittedJobs = new LongAdder();
+
+        private final LongAdder m_queuedJobs = new LongAdder();
+
+        private final LongAdder m_queueWaitNanos = new LongAdder();
+
+        private final LongAdder m_subPoolLimitHits = new LongAdder();
+
+        private final LongAdder m_poolSwitches = new LongAdder();
+
+        /** Only updated while holding the lock on the queue. */
+        private volatile int m_maxQueueDepth;
+    }
+
+    /** Read-only view on the statistics of a root pool. */
+    private final class StatisticsView implements ThreadPoolMXBean {
+
+        @Override
+        public String getScheduler() {
+            return m_queuedFutures.isFair() ? FAIR_SCHEDULER : FIFO_SCHEDULER;
+        }
+
+        @Override
+        public int getMaxThreads() {
+            return ThreadPool.this.getMaxThreads();
+        }
+
+        @Override
+        public int getRunningThreads() {
+            return ThreadPool.this.getRunningThreads();
+        }
+
+        @Override
+        public int getQueueDepth() {
+            synchronized (m_queuedFutures) {
+                return m_queuedFutures.size();
+            }
+        }
+
+        @Override
+        public int getMaxQueueDepth() {
+            return m_statistics.m_maxQueueDepth;
+        }
+
+        @Override
+        public long getSubmittedJobs() {
+            return m_statistics.m_submittedJobs.sum();
+        }
+
+        @Override
+        public long getQueuedJobs() {
+            return m_statistics.m_queuedJobs.sum();
+        }
+
+        @Override
+        public long getQueueWaitMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(m_statistics.m_queueWaitNanos.sum());
+        }
+
+        @Override
+        public long getSubPoolLimitHits() {
+            return m_statistics.m_subPoolLimitHits.sum();
+        }
+
+        @Override
+        public long getPoolSwitches() {
+            return m_statistics.m_poolSwitches.sum();
+        }
+    }
+
+    /**
+     * The queue of jobs waiting for a thread, shared by a root pool and all its sub pools. All methods except
+     * {@link #jobStarted(MyFuture)} and {@link #jobFinished(MyFuture)} are only called while holding the lock on the
+     * queue. The iterator returns the jobs in the order in which they should be started and supports removal.
+     */
+    private interface FutureQueue extends Iterable<MyFuture<?>> {
+
+        void add(MyFuture<?> future);
+
+        int size();
+
+        boolean isFair();
+
+        /** Called when a job (queued or not) starts running. */
+        default void jobStarted(final MyFuture<?> future) {
+        }
+
+        /** Called when a job has finished running. */
+        default void jobFinished(final MyFuture<?> future) {
+        }
+    }
+
+    /** Queue that starts jobs in the order in which they were submitted. */
+    private static final class FifoQueue implements FutureQueue {
+        private final Queue<MyFuture<?>> m_futures = new LinkedList<MyFuture<?>>();
+
+        @Override
+        public void add(final MyFuture<?> future) {
+            m_futures.add(future);
+        }
+
+        @Override
+        public int size() {
+            return m_futures.size();
+        }
+
+        @Override
+        public boolean isFair() {
+            return false;
+        }
+
+        @Override
+        public Iterator<MyFuture<?>> iterator() {
+            return m_futures.iterator();
+        }
+    }
+
+    /**
+     * Queue that keeps a deque per priority and workflow. Jobs with higher priority are started first; within the
+     * same priority the deques of workflows with fewer running jobs are processed first, each deque in FIFO order.
+     */
+    private static final class FairQueue implements FutureQueue {
+
+        /** Key for jobs not associated with a workflow. */
+        private static final Object NO_WORKFLOW = new Object();
+
+        private final TreeMap<Integer, Map<Object, ArrayDeque<MyFuture<?>>>> m_futures =
+            new TreeMap<Integer, Map<Object, ArrayDeque<MyFuture<?>>>>(Collections.reverseOrder());
+
+        private final Map<Object, Integer> m_runningJobs = new ConcurrentHashMap<Object, Integer>();
+
+        private int m_size;
+
+        private static Object getWorkflowKey(final MyFuture<?> future) {
+            return future.m_workflow == null ? NO_WORKFLOW : future.m_workflow;
+        }
+
+        @Override
+        public void add(final MyFuture<?> future) {
+            m_futures.computeIfAbsent(future.m_priority, p -> new HashMap<Object, ArrayDeque<MyFuture<?>>>())
+                .computeIfAbsent(getWorkflowKey(future), w -> new ArrayDeque<MyFuture<?>>()).add(future);
+            m_size++;
+        }
+
+        @Override
+        public int size() {
+            return m_size;
+        }
+
+        @Override
+        public boolean isFair() {
+            return true;
+        }
+
+        @Override
+        public void jobStarted(final MyFuture<?> future) {
+            m_runningJobs.merge(getWorkflowKey(future), 1, Integer::sum);
+        }
+
+        @Override
+        public void jobFinished(final MyFuture<?> future) {
+            m_runningJobs.computeIfPresent(getWorkflowKey(future), (w, count) -> count == 1 ? null : count - 1);
+        }
+
+        private int getRunningJobs(final Object workflowKey) {
+            Integer count = m_runningJobs.get(workflowKey);
+            return count == null ? 0 : count;
+        }
+
+        @Override
+        public Iterator<MyFuture<?>> iterator() {
+            final List<ArrayDeque<MyFuture<?>>> deques = new ArrayList<ArrayDeque<MyFuture<?>>>();
+            for (Iterator<Map<Object, ArrayDeque<MyFuture<?>>>> pIt = m_futures.values().iterator(); pIt.hasNext();) {
+                Map<Object, ArrayDeque<MyFuture<?>>> byWorkflow = pIt.next();
+                byWorkflow.values().removeIf(d -> d.isEmpty());
+                if (byWorkflow.isEmpty()) {
+                    pIt.remove();
+                    continue;
+                }
+                List<Object> workflows = new ArrayList<Object>(byWorkflow.keySet());
+                if (workflows.size() > 1) {
+                    // snapshot the counts so that the sort order is stable
+                    Map<Object, Integer> running = new HashMap<Object, Integer>();
+                    for (Object w : workflows) {
+                        running.put(w, getRunningJobs(w));
+                    }
+                    workflows.sort(Comparator.comparing(running::get));
+                }
+                for (Object w : workflows) {
+                    deques.add(byWorkflow.get(w));
+                }
+            }
+            return new Iterator<MyFuture<?>>() {
+                private int m_dequeIndex = -1;
+
+                private Iterator<MyFuture<?>> m_current = Collections.emptyIterator();
+
+                @Override
+                public boolean hasNext() {
+                    while (!m_current.hasNext() && m_dequeIndex + 1 < deques.size()) {
+                        m_current = deques.get(++m_dequeIndex).iterator();
+                    }
+                    return m_current.hasNext();
+                }
+
+                @Override
+                public MyFuture<?> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return m_current.next();
+                }
+
+                @Override
+                public void remove() {
+                    m_current.remove();
+                    m_size--;
+                }
+            };
+        }
+    }
 }
@@ -0,0 +1,96 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.util;
+
+/**
+ * Statistics of a {@link ThreadPool} and all its sub pools. The statistics of the global thread pool are registered
+ * with the platform MBean server under the name {@code org.knime.core.util:type=ThreadPool,name=Global}.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ * @noimplement This interface is not intended to be implemented by clients.
+ * @noreference This interface is not intended to be referenced by clients.
+ */
+public interface ThreadPoolMXBean {
+
+    /** @return the scheduling policy for queued jobs, either {@code fifo} or {@code fair} */
+    String getScheduler();
+
+    /** @return the maximum number of threads of the root pool */
+    int getMaxThreads();
+
+    /** @return the number of currently running (and not invisible) threads */
+    int getRunningThreads();
+
+    /** @return the number of jobs currently waiting for a thread */
+    int getQueueDepth();
+
+    /** @return the maximum number of jobs that were waiting for a thread at the same time */
+    int getMaxQueueDepth();
+
+    /** @return the number of jobs submitted to the pool */
+    long getSubmittedJobs();
+
+    /** @return the number of jobs that could not be started immediately and had to be queued */
+    long getQueuedJobs();
+
+    /** @return the accumulated time (in milliseconds) queued jobs waited for a thread */
+    long getQueueWaitMillis();
+
+    /**
+     * @return the number of times a queued job could not be started because the thread limit of its sub pool was
+     *         reached while the root pool still had free threads
+     */
+    long getSubPoolLimitHits();
+
+    /**
+     * @return the number of jobs a worker thread took from another (sub) pool than the one of its previous job, i.e.
+     *         how often idle threads moved between pools
+     */
+    long getPoolSwitches();
+}